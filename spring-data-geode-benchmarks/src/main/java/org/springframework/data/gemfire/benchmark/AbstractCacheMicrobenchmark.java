@@ -0,0 +1,94 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.CacheFactory;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionShortcut;
+
+import org.springframework.data.gemfire.GemfireUtils;
+
+/**
+ * Abstract base class for Spring Data for Apache Geode JMH microbenchmarks running against an embedded,
+ * standalone peer {@link Cache} with {@link RegionShortcut#LOCAL LOCAL} {@link Region Regions}.
+ *
+ * The peer {@link Cache} is created once per benchmark trial and closed when the trial ends.  Subclasses customize
+ * the {@link Cache} by overriding {@link #configure(CacheFactory)} and create the {@link Region Regions} along with
+ * the state under test in {@link #setup()}.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.Cache
+ * @see org.apache.geode.cache.CacheFactory
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.benchmark.AbstractMicrobenchmark
+ * @since 3.0.0
+ */
+public abstract class AbstractCacheMicrobenchmark extends AbstractMicrobenchmark {
+
+	protected Cache cache;
+
+	@Setup(Level.Trial)
+	public void createCache() throws Exception {
+
+		this.cache = configure(new CacheFactory()
+			.set("name", getClass().getSimpleName())
+			.set("locators", "")
+			.set("log-level", "error")
+			.set("mcast-port", "0"))
+			.create();
+
+		setup();
+	}
+
+	@TearDown(Level.Trial)
+	public void closeCache() {
+		GemfireUtils.close(this.cache);
+	}
+
+	/**
+	 * Configures the {@link CacheFactory} used to create the embedded, peer {@link Cache}.
+	 *
+	 * @param cacheFactory {@link CacheFactory} to configure.
+	 * @return the given {@link CacheFactory}.
+	 */
+	protected CacheFactory configure(CacheFactory cacheFactory) {
+		return cacheFactory;
+	}
+
+	/**
+	 * Creates the {@link Region Regions} and the state under test after the peer {@link Cache} has been created.
+	 *
+	 * @throws Exception if the benchmark state could not be initialized.
+	 */
+	protected void setup() throws Exception { }
+
+	/**
+	 * Creates a {@link RegionShortcut#LOCAL LOCAL} {@link Region} with the given {@link String name}.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param name {@link String} containing the name of the {@link Region}.
+	 * @return the new {@link RegionShortcut#LOCAL LOCAL} {@link Region}.
+	 */
+	protected <K, V> Region<K, V> createLocalRegion(String name) {
+		return this.cache.<K, V>createRegionFactory(RegionShortcut.LOCAL).create(name);
+	}
+}
@@ -0,0 +1,273 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Copy of the {@link org.springframework.data.gemfire.listener.adapter.ContinuousQueryListenerAdapter} as it was
+ * before the listener methods were bound when the adapter is first used, serving as the baseline
+ * of the {@link ContinuousQueryListenerAdapterBenchmark}.
+ *
+ * The listener method arguments are resolved from the {@link Method#getParameterTypes() parameter types}
+ * and the listener method is invoked reflectively on every {@link CqEvent}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.benchmark.ContinuousQueryListenerAdapterBenchmark
+ * @see org.springframework.data.gemfire.listener.adapter.ContinuousQueryListenerAdapter
+ * @since 3.0.0
+ */
+class BaselineContinuousQueryListenerAdapter implements ContinuousQueryListener {
+
+	// Out-of-the-box value for the default listener handler method "handleEvent".
+	public static final String DEFAULT_LISTENER_METHOD_NAME = "handleEvent";
+
+	protected final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private MethodInvoker invoker;
+
+	private Object delegate;
+
+	private String defaultListenerMethod = DEFAULT_LISTENER_METHOD_NAME;
+
+	BaselineContinuousQueryListenerAdapter() {
+		setDelegate(this);
+	}
+
+	BaselineContinuousQueryListenerAdapter(Object delegate) {
+		setDelegate(delegate);
+	}
+
+	public final void setDelegate(Object delegate) {
+
+		Assert.notNull(delegate, "Delegate is required");
+
+		this.delegate = delegate;
+		this.invoker = null;
+	}
+
+	public Object getDelegate() {
+		return this.delegate;
+	}
+
+	public void setDefaultListenerMethod(String defaultListenerMethod) {
+		this.defaultListenerMethod = defaultListenerMethod;
+		this.invoker = null;
+	}
+
+	protected String getDefaultListenerMethod() {
+		return this.defaultListenerMethod;
+	}
+
+	@SuppressWarnings("unused")
+	protected String getListenerMethodName(CqEvent event) {
+		return getDefaultListenerMethod();
+	}
+
+	@Override
+	public void onEvent(CqEvent event) {
+
+		try {
+
+			Object delegate = getDelegate();
+
+			// Determine whether the delegate is a ContinuousQueryListener implementation;
+			// If so, this adapter will simply act as a pass-through
+			if (delegate != this && delegate instanceof ContinuousQueryListener) {
+				((ContinuousQueryListener) delegate).onEvent(event);
+			}
+			// Else, find the listener method handler reflectively
+			else {
+
+				String methodName = Optional.ofNullable(getListenerMethodName(event))
+					.filter(StringUtils::hasText)
+					.orElseThrow(() -> new InvalidDataAccessApiUsageException("No default listener method specified;"
+						+ " Either specify a non-null value for the 'defaultListenerMethod' property"
+						+ " or override the 'getListenerMethodName' method."));
+
+				this.invoker = Optional.ofNullable(this.invoker)
+					.orElseGet(() -> new MethodInvoker(this.delegate, methodName));
+
+				invokeListenerMethod(event, methodName);
+			}
+
+		}
+		catch (Throwable cause) {
+			handleListenerException(cause);
+		}
+	}
+
+	protected void handleListenerException(Throwable cause) {
+		logger.error("Listener method execution failed", cause);
+	}
+
+	protected void invokeListenerMethod(CqEvent event, String methodName) {
+
+		try {
+			this.invoker.invoke(event);
+		}
+		catch (InvocationTargetException cause) {
+			if (cause.getTargetException() instanceof DataAccessException) {
+				throw (DataAccessException) cause.getTargetException();
+			}
+			else {
+				throw new GemfireListenerExecutionFailedException(
+					String.format("Listener method [%s] threw Exception", methodName), cause.getTargetException());
+			}
+		}
+		catch (Throwable cause) {
+			throw new GemfireListenerExecutionFailedException(
+				String.format("Failed to invoke the target listener method [%s]", methodName), cause);
+		}
+	}
+
+	private static class MethodInvoker {
+
+		private final Object delegate;
+
+		private final List<Method> methods;
+
+		MethodInvoker(Object delegate, String methodName) {
+
+			Class<?> delegateType = delegate.getClass();
+
+			this.delegate = delegate;
+			this.methods = new ArrayList<>();
+
+			ReflectionUtils.doWithMethods(delegateType, method -> {
+				ReflectionUtils.makeAccessible(method);
+				this.methods.add(method);
+			}, method -> isValidEventHandlerMethodSignature(method, methodName));
+
+			Assert.isTrue(!this.methods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
+				+ " Is the method public and does it have the proper arguments?",
+					delegateType.getName(), methodName));
+		}
+
+		private boolean isValidEventHandlerMethodSignature(Method method, String methodName) {
+			return isValidEventHandlerMethodWithName(method, methodName)
+				&& isValidEventHandlerMethodWithSignature(method);
+		}
+
+		private boolean isValidEventHandlerMethodWithName(Method method, String methodName) {
+
+			return Optional.ofNullable(method)
+				.filter(it -> Modifier.isPublic(it.getModifiers()))
+				.filter(it -> method.getName().equals(methodName))
+				.isPresent();
+		}
+
+		@SuppressWarnings("all")
+		private boolean isValidEventHandlerMethodWithSignature(Method method) {
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			int objects = 0;
+			int operations = 0;
+
+			if (parameterTypes.length > 0) {
+				for (Class<?> parameterType : parameterTypes) {
+					if (Object.class.equals(parameterType)) {
+						if (++objects > 2) {
+							return false;
+						}
+					}
+					else if (Operation.class.equals(parameterType)) {
+						if (++operations > 2) {
+							return false;
+						}
+					}
+					else if (byte[].class.equals(parameterType)) { }
+					else if (CqEvent.class.equals(parameterType)) { }
+					else if (CqQuery.class.equals(parameterType)) { }
+					else if (Throwable.class.equals(parameterType)) { }
+					else {
+						return false;
+					}
+				}
+
+				return true;
+			}
+
+			return false;
+		}
+
+		void invoke(CqEvent event) throws IllegalAccessException, InvocationTargetException {
+
+			for (Method method : this.methods) {
+				method.invoke(this.delegate, getMethodArguments(method, event));
+			}
+		}
+
+		private Object[] getMethodArguments(Method method, CqEvent event) {
+
+			Class<?>[] parameterTypes = method.getParameterTypes();
+
+			Object[] args = new Object[parameterTypes.length];
+
+			boolean query = false;
+			boolean value = false;
+
+			for (int index = 0; index < parameterTypes.length; index++) {
+
+				Class<?> parameterType = parameterTypes[index];
+
+				if (Object.class.equals(parameterType)) {
+					args[index] = value ? event.getNewValue() : event.getKey();
+					value = true;
+				}
+				else if (Operation.class.equals(parameterType)) {
+					args[index] = query ? event.getQueryOperation() : event.getBaseOperation();
+					query = true;
+				}
+				else if (byte[].class.equals(parameterType)) {
+					args[index] = event.getDeltaValue();
+				}
+				else if (CqEvent.class.equals(parameterType)) {
+					args[index] = event;
+				}
+				else if (CqQuery.class.equals(parameterType)) {
+					args[index] = event.getCq();
+				}
+				else if (Throwable.class.equals(parameterType)) {
+					args[index] = event.getThrowable();
+				}
+			}
+
+			return args;
+		}
+	}
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.io.File;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the Spring Data for Apache Geode JMH microbenchmarks and writes the results in machine-readable,
+ * JSON format, for example to compare with the results of a baseline run.
+ *
+ * Standard JMH command-line options are supported (e.g. {@literal -wi 3 -i 3 MappingPdxSerializer}).  Unless
+ * a result format or file is given with {@literal -rf} or {@literal -rff}, the results are written to
+ * {@literal jmh-results.json} in the directory named by the {@literal benchmarks.results.directory} System property,
+ * which defaults to {@literal target/benchmark-results}.
+ *
+ * <pre class="code">
+ * ./mvnw -Pbenchmarks -pl spring-data-geode-benchmarks -am package -DskipTests
+ * java -jar spring-data-geode-benchmarks/target/benchmarks.jar
+ * </pre>
+ *
+ * @author agent
+ * @see org.openjdk.jmh.runner.Runner
+ * @see org.openjdk.jmh.runner.options.CommandLineOptions
+ * @since 3.0.0
+ */
+public class BenchmarkRunner {
+
+	static final String RESULTS_DIRECTORY_PROPERTY = "benchmarks.results.directory";
+	static final String DEFAULT_RESULTS_DIRECTORY = "target/benchmark-results";
+	static final String RESULTS_FILENAME = "jmh-results.json";
+
+	public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+
+		CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+		ChainedOptionsBuilder options = new OptionsBuilder()
+			.parent(commandLineOptions);
+
+		if (commandLineOptions.getIncludes().isEmpty()) {
+			options.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+		}
+
+		if (!commandLineOptions.getResult().hasValue() && !commandLineOptions.getResultFormat().hasValue()) {
+
+			File resultsDirectory = new File(System.getProperty(RESULTS_DIRECTORY_PROPERTY, DEFAULT_RESULTS_DIRECTORY));
+
+			resultsDirectory.mkdirs();
+
+			options.resultFormat(ResultFormatType.JSON)
+				.result(new File(resultsDirectory, RESULTS_FILENAME).getAbsolutePath());
+		}
+
+		new Runner(options.build()).run();
+	}
+}
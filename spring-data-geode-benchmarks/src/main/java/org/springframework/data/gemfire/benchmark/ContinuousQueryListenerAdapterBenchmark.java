@@ -0,0 +1,202 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import org.apache.geode.cache.Operation;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+
+import org.springframework.data.gemfire.listener.adapter.ContinuousQueryListenerAdapter;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * JMH microbenchmark measuring the dispatch of {@link CqEvent CqEvents} to POJO listener methods.
+ *
+ * The {@literal baselineAdapter} and {@literal adapter} benchmarks measure the complete
+ * {@link ContinuousQueryListenerAdapter#onEvent(CqEvent)} path of the {@link BaselineContinuousQueryListenerAdapter}
+ * and the current {@link ContinuousQueryListenerAdapter}.
+ *
+ * The remaining benchmarks isolate the invocation of the listener method with the arguments already resolved:
+ * {@link Method#invoke(Object, Object...)}, {@link MethodHandle#invokeExact(Object...)} of a {@link MethodHandle}
+ * held in an instance field, as an adapter has to, and of a {@link MethodHandle} held in a
+ * {@literal static final} field, which the JIT compiler treats as a constant and inlines.
+ *
+ * This benchmark does not require a cache.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.benchmark.AbstractMicrobenchmark
+ * @see org.springframework.data.gemfire.benchmark.BaselineContinuousQueryListenerAdapter
+ * @see org.springframework.data.gemfire.listener.adapter.ContinuousQueryListenerAdapter
+ * @since 3.0.0
+ */
+public class ContinuousQueryListenerAdapterBenchmark extends AbstractMicrobenchmark {
+
+	private static final MethodHandle CONSTANT_LISTENER_METHOD_HANDLE = newListenerMethodHandle();
+
+	private BaselineContinuousQueryListenerAdapter baselineAdapter;
+
+	private ContinuousQueryListenerAdapter adapter;
+
+	private CqEvent event;
+
+	private Method listenerMethod;
+
+	private MethodHandle listenerMethodHandle;
+
+	private TickListener listener;
+
+	private static MethodHandle newListenerMethodHandle() {
+
+		try {
+			return MethodHandles.publicLookup().findVirtual(TickListener.class, "handleEvent",
+				MethodType.methodType(void.class, Object.class, Object.class, Operation.class));
+		}
+		catch (ReflectiveOperationException cause) {
+			throw new IllegalStateException("Cannot resolve TickListener.handleEvent(..)", cause);
+		}
+	}
+
+	@Setup
+	public void setup() {
+
+		this.listener = new TickListener();
+		this.baselineAdapter = new BaselineContinuousQueryListenerAdapter(this.listener);
+		this.adapter = new ContinuousQueryListenerAdapter(this.listener);
+		this.event = new BenchmarkCqEvent(1L, "VMW", Operation.UPDATE);
+		this.listenerMethod = ReflectionUtils.findMethod(TickListener.class, "handleEvent",
+			Object.class, Object.class, Operation.class);
+
+		// bound and spread the same way the ContinuousQueryListenerAdapter binds a listener method
+		this.listenerMethodHandle = newListenerMethodHandle()
+			.bindTo(this.listener)
+			.asSpreader(Object[].class, 3)
+			.asType(MethodType.methodType(void.class, Object[].class));
+	}
+
+	@Benchmark
+	public long baselineAdapter() {
+
+		this.baselineAdapter.onEvent(this.event);
+
+		return this.listener.events;
+	}
+
+	@Benchmark
+	public long adapter() {
+
+		this.adapter.onEvent(this.event);
+
+		return this.listener.events;
+	}
+
+	@Benchmark
+	public long reflectiveInvoke() throws Exception {
+
+		this.listenerMethod.invoke(this.listener, resolveArguments(this.event));
+
+		return this.listener.events;
+	}
+
+	@Benchmark
+	public long methodHandleInvokeExact() throws Throwable {
+
+		this.listenerMethodHandle.invokeExact(resolveArguments(this.event));
+
+		return this.listener.events;
+	}
+
+	@Benchmark
+	public long constantMethodHandleInvokeExact() throws Throwable {
+
+		Object[] arguments = resolveArguments(this.event);
+
+		CONSTANT_LISTENER_METHOD_HANDLE.invokeExact(this.listener, arguments[0], arguments[1],
+			(Operation) arguments[2]);
+
+		return this.listener.events;
+	}
+
+	private Object[] resolveArguments(CqEvent event) {
+		return new Object[] { event.getKey(), event.getNewValue(), event.getBaseOperation() };
+	}
+
+	public static class TickListener {
+
+		private long events;
+
+		public void handleEvent(Object key, Object newValue, Operation operation) {
+			this.events++;
+		}
+	}
+
+	static class BenchmarkCqEvent implements CqEvent {
+
+		private final Object key;
+		private final Object newValue;
+
+		private final Operation operation;
+
+		BenchmarkCqEvent(Object key, Object newValue, Operation operation) {
+			this.key = key;
+			this.newValue = newValue;
+			this.operation = operation;
+		}
+
+		@Override
+		public CqQuery getCq() {
+			return null;
+		}
+
+		@Override
+		public Operation getBaseOperation() {
+			return this.operation;
+		}
+
+		@Override
+		public Operation getQueryOperation() {
+			return this.operation;
+		}
+
+		@Override
+		public Object getKey() {
+			return this.key;
+		}
+
+		@Override
+		public Object getNewValue() {
+			return this.newValue;
+		}
+
+		@Override
+		public Throwable getThrowable() {
+			return null;
+		}
+
+		@Override
+		public byte[] getDeltaValue() {
+			return null;
+		}
+	}
+}
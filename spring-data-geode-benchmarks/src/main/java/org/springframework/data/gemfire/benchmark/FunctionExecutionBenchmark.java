@@ -0,0 +1,162 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Setup;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+import org.springframework.data.gemfire.function.PojoFunctionWrapper;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * JMH microbenchmark measuring the execution of POJO methods as Apache Geode
+ * {@link org.apache.geode.cache.execute.Function Functions} with the {@link PojoFunctionWrapper},
+ * including the resolution of the {@link org.apache.geode.cache.execute.Function} arguments
+ * from the {@link FunctionContext}.
+ *
+ * This benchmark does not require a cache.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.execute.FunctionContext
+ * @see org.springframework.data.gemfire.benchmark.AbstractMicrobenchmark
+ * @see org.springframework.data.gemfire.function.PojoFunctionWrapper
+ * @since 3.0.0
+ */
+public class FunctionExecutionBenchmark extends AbstractMicrobenchmark {
+
+	private CapturingResultSender resultSender;
+
+	private FunctionContext<Object[]> addFunctionContext;
+	private FunctionContext<Object[]> greetFunctionContext;
+
+	private PojoFunctionWrapper addFunction;
+	private PojoFunctionWrapper greetFunction;
+
+	@Setup
+	public void setup() {
+
+		Functions functions = new Functions();
+
+		this.resultSender = new CapturingResultSender();
+
+		this.addFunction = new PojoFunctionWrapper(functions,
+			ReflectionUtils.findMethod(Functions.class, "add", Integer.TYPE, Integer.TYPE));
+
+		this.addFunctionContext = new BenchmarkFunctionContext("add", this.resultSender, 2, 3);
+
+		this.greetFunction = new PojoFunctionWrapper(functions,
+			ReflectionUtils.findMethod(Functions.class, "greet", FunctionContext.class, String.class));
+
+		this.greetFunctionContext = new BenchmarkFunctionContext("greet", this.resultSender, "Jon");
+	}
+
+	@Benchmark
+	public Object executeWithArguments() {
+
+		this.addFunction.execute(this.addFunctionContext);
+
+		return this.resultSender.result;
+	}
+
+	@Benchmark
+	public Object executeWithInjectedFunctionContext() {
+
+		this.greetFunction.execute(this.greetFunctionContext);
+
+		return this.resultSender.result;
+	}
+
+	public static class Functions {
+
+		public int add(int one, int two) {
+			return one + two;
+		}
+
+		public String greet(FunctionContext<?> functionContext, String name) {
+			return functionContext.getFunctionId() + " " + name;
+		}
+	}
+
+	static class BenchmarkFunctionContext implements FunctionContext<Object[]> {
+
+		private final Object[] arguments;
+
+		private final ResultSender<?> resultSender;
+
+		private final String functionId;
+
+		BenchmarkFunctionContext(String functionId, ResultSender<?> resultSender, Object... arguments) {
+			this.functionId = functionId;
+			this.resultSender = resultSender;
+			this.arguments = arguments;
+		}
+
+		@Override
+		public Object[] getArguments() {
+			return this.arguments;
+		}
+
+		@Override
+		public Cache getCache() {
+			throw new UnsupportedOperationException("Cache is not available");
+		}
+
+		@Override
+		public String getFunctionId() {
+			return this.functionId;
+		}
+
+		@Override
+		public Object getPrincipal() {
+			return null;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> ResultSender<T> getResultSender() {
+			return (ResultSender<T>) this.resultSender;
+		}
+
+		@Override
+		public boolean isPossibleDuplicate() {
+			return false;
+		}
+	}
+
+	static class CapturingResultSender implements ResultSender<Object> {
+
+		private Object result;
+
+		@Override
+		public void lastResult(Object result) {
+			this.result = result;
+		}
+
+		@Override
+		public void sendResult(Object result) {
+			this.result = result;
+		}
+
+		@Override
+		public void sendException(Throwable cause) {
+			this.result = cause;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.infra.ThreadParams;
+
+import org.springframework.data.gemfire.cache.GemfireCache;
+
+/**
+ * JMH microbenchmark measuring {@link GemfireCache#get(Object, java.util.concurrent.Callable)} under contention
+ * from concurrent threads, both for cache hits and for cache misses on distinct keys, where each miss loads
+ * the value with a value loader simulating a costly computation.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.benchmark.AbstractCacheMicrobenchmark
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @since 3.0.0
+ */
+@Threads(8)
+public class GemfireCacheContentionBenchmark extends AbstractCacheMicrobenchmark {
+
+	private static final int CACHED_KEYS = 1024;
+
+	private static final long VALUE_LOAD_TOKENS = 1000L;
+
+	private GemfireCache gemfireCache;
+
+	@Override
+	protected void setup() {
+
+		this.gemfireCache = GemfireCache.wrap(createLocalRegion("Cache"));
+
+		for (int key = 0; key < CACHED_KEYS; key++) {
+			this.gemfireCache.put(key, "value-" + key);
+		}
+	}
+
+	@Benchmark
+	public Object getHit() {
+
+		int key = ThreadLocalRandom.current().nextInt(CACHED_KEYS);
+
+		return this.gemfireCache.get(key, () -> "value-" + key);
+	}
+
+	@Benchmark
+	public Object getMissOnDistinctKeys(ThreadState threadState) {
+
+		String key = threadState.nextKey();
+
+		Object value = this.gemfireCache.get(key, () -> {
+			Blackhole.consumeCPU(VALUE_LOAD_TOKENS);
+			return key;
+		});
+
+		this.gemfireCache.evict(key);
+
+		return value;
+	}
+
+	@State(Scope.Thread)
+	public static class ThreadState {
+
+		private long sequence;
+
+		private String keyPrefix;
+
+		@Setup
+		public void setup(ThreadParams threadParams) {
+			this.keyPrefix = "thread-" + threadParams.getThreadIndex() + "-key-";
+		}
+
+		String nextKey() {
+			return this.keyPrefix + this.sequence++;
+		}
+	}
+}
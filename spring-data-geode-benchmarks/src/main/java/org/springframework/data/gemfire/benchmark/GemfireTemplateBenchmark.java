@@ -0,0 +1,88 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.benchmark.model.Person;
+
+/**
+ * JMH microbenchmark measuring {@link GemfireTemplate} CRUD and OQL query operations
+ * on a {@link org.apache.geode.cache.RegionShortcut#LOCAL LOCAL} {@link Region}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.benchmark.AbstractCacheMicrobenchmark
+ * @since 3.0.0
+ */
+public class GemfireTemplateBenchmark extends AbstractCacheMicrobenchmark {
+
+	static final int PEOPLE = 1000;
+
+	private static final String[] LASTNAMES = { "Doe", "Handy", "Smith", "Jones", "Baker" };
+
+	private GemfireTemplate template;
+
+	private long sequence;
+
+	@Override
+	protected void setup() {
+
+		Region<Long, Person> people = createLocalRegion("People");
+
+		for (long id = 1; id <= PEOPLE; id++) {
+			people.put(id, newPerson(id));
+		}
+
+		this.template = new GemfireTemplate(people);
+		this.template.afterPropertiesSet();
+	}
+
+	private static Person newPerson(long id) {
+		return new Person(id, "Person" + id, LASTNAMES[(int) (id % LASTNAMES.length)]);
+	}
+
+	private long nextId() {
+		return this.sequence++ % PEOPLE + 1;
+	}
+
+	@Benchmark
+	public Object get() {
+		return this.template.get(nextId());
+	}
+
+	@Benchmark
+	public Object put() {
+
+		long id = nextId();
+
+		return this.template.put(id, newPerson(id));
+	}
+
+	@Benchmark
+	public SelectResults<Person> find() {
+		return this.template.find("SELECT * FROM /People p WHERE p.lastname = $1", "Smith");
+	}
+
+	@Benchmark
+	public Person findUnique() {
+		return this.template.findUnique("SELECT * FROM /People p WHERE p.id = $1", nextId());
+	}
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.geode.DataSerializer;
+import org.apache.geode.cache.CacheFactory;
+
+import org.springframework.data.gemfire.benchmark.model.Address;
+import org.springframework.data.gemfire.benchmark.model.Person;
+import org.springframework.data.gemfire.benchmark.model.Tick;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+
+/**
+ * JMH microbenchmark measuring PDX serialization and deserialization of representative entities
+ * with the {@link MappingPdxSerializer}.
+ *
+ * {@link Person} is mostly composed of {@link String} properties and a nested {@link Address}, while {@link Tick}
+ * is mostly composed of primitive and primitive array properties.
+ *
+ * @author agent
+ * @see org.apache.geode.DataSerializer
+ * @see org.springframework.data.gemfire.benchmark.AbstractCacheMicrobenchmark
+ * @see org.springframework.data.gemfire.mapping.MappingPdxSerializer
+ * @since 3.0.0
+ */
+public class MappingPdxSerializerBenchmark extends AbstractCacheMicrobenchmark {
+
+	private byte[] serializedPerson;
+	private byte[] serializedTick;
+
+	private Person person;
+
+	private Tick tick;
+
+	@Override
+	protected CacheFactory configure(CacheFactory cacheFactory) {
+
+		MappingPdxSerializer pdxSerializer = MappingPdxSerializer.newMappingPdxSerializer();
+
+		pdxSerializer.setIncludeTypeFilters(type -> type.getPackage().getName()
+			.startsWith(Person.class.getPackage().getName()));
+
+		return cacheFactory.setPdxSerializer(pdxSerializer);
+	}
+
+	@Override
+	protected void setup() throws IOException {
+
+		this.person = new Person(1L, "Jon", "Doe");
+		this.person.setAddress(new Address("100 Main St.", "Portland", "97205"));
+
+		this.tick = new Tick(1L);
+		this.tick.setSymbol("VMW");
+		this.tick.setTimestamp(System.currentTimeMillis());
+		this.tick.setTrade(false);
+		this.tick.setSide('B');
+		this.tick.setAskPrice(101.25d);
+		this.tick.setAskSize(500);
+		this.tick.setBidPrice(101.125d);
+		this.tick.setBidSize(300);
+		this.tick.setDepthPrices(new double[] { 101.125d, 101.0d, 100.875d, 100.75d, 100.625d });
+		this.tick.setDepthSizes(new long[] { 300L, 1200L, 800L, 2500L, 400L });
+
+		this.serializedPerson = serialize(this.person);
+		this.serializedTick = serialize(this.tick);
+	}
+
+	@Benchmark
+	public byte[] serializePerson() throws IOException {
+		return serialize(this.person);
+	}
+
+	@Benchmark
+	public Object deserializePerson() throws IOException, ClassNotFoundException {
+		return deserialize(this.serializedPerson);
+	}
+
+	@Benchmark
+	public byte[] serializeTick() throws IOException {
+		return serialize(this.tick);
+	}
+
+	@Benchmark
+	public Object deserializeTick() throws IOException, ClassNotFoundException {
+		return deserialize(this.serializedTick);
+	}
+
+	private byte[] serialize(Object value) throws IOException {
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+
+		DataSerializer.writeObject(value, new DataOutputStream(bytes));
+
+		return bytes.toByteArray();
+	}
+
+	private Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+		return DataSerializer.readObject(new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+}
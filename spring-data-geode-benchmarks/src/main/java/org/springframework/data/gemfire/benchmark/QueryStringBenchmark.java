@@ -0,0 +1,66 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.repository.query.QueryString;
+
+/**
+ * JMH microbenchmark measuring {@link QueryString} manipulation performed while preparing OQL queries
+ * for Spring Data Repository query methods.
+ *
+ * This benchmark does not require a cache.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.benchmark.AbstractMicrobenchmark
+ * @see org.springframework.data.gemfire.repository.query.QueryString
+ * @since 3.0.0
+ */
+public class QueryStringBenchmark extends AbstractMicrobenchmark {
+
+	private static final String QUERY = "SELECT * FROM /People p WHERE p.lastname = $1 AND p.firstname IN SET $2";
+
+	private final List<String> firstnames = Arrays.asList("Jon", "Jane", "Pie", "Cookie", "Sour");
+
+	private final Sort sort = Sort.by("lastname").ascending().and(Sort.by("firstname").descending());
+
+	@Benchmark
+	public String bindIn() {
+		return QueryString.of(QUERY).bindIn(this.firstnames).toString();
+	}
+
+	@Benchmark
+	public String decorate() {
+
+		return QueryString.of(QUERY)
+			.asDistinct()
+			.orderBy(this.sort)
+			.withHints("LastnameIdx")
+			.withLimit(10)
+			.withTrace()
+			.toString();
+	}
+
+	@Benchmark
+	public String adjustLimit() {
+		return QueryString.of(QUERY).withLimit(100).adjustLimit(10).toString();
+	}
+}
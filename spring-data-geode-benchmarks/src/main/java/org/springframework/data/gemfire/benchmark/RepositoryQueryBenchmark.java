@@ -0,0 +1,97 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.benchmark.model.Person;
+import org.springframework.data.gemfire.benchmark.model.PersonRepository;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory;
+
+/**
+ * JMH microbenchmark measuring Spring Data {@link PersonRepository Repository} query method execution,
+ * for both derived and {@link org.springframework.data.gemfire.repository.Query} annotated (string-based)
+ * query methods, along with {@link PersonRepository Repository} creation, which prepares the query methods.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.benchmark.AbstractCacheMicrobenchmark
+ * @see org.springframework.data.gemfire.repository.query.PartTreeGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory
+ * @since 3.0.0
+ */
+public class RepositoryQueryBenchmark extends AbstractCacheMicrobenchmark {
+
+	private GemfireMappingContext mappingContext;
+
+	private Iterable<Region<?, ?>> regions;
+
+	private PersonRepository repository;
+
+	private long sequence;
+
+	@Override
+	protected void setup() {
+
+		Region<Long, Person> people = createLocalRegion("People");
+
+		for (long id = 1; id <= GemfireTemplateBenchmark.PEOPLE; id++) {
+			people.put(id, new Person(id, "Person" + id, id % 2 == 0 ? "Doe" : "Handy"));
+		}
+
+		this.mappingContext = new GemfireMappingContext();
+		this.regions = Collections.singletonList(people);
+		this.repository = newRepository();
+	}
+
+	private PersonRepository newRepository() {
+		return new GemfireRepositoryFactory(this.regions, this.mappingContext).getRepository(PersonRepository.class);
+	}
+
+	private long nextId() {
+		return this.sequence++ % GemfireTemplateBenchmark.PEOPLE + 1;
+	}
+
+	@Benchmark
+	public PersonRepository createRepository() {
+		return newRepository();
+	}
+
+	@Benchmark
+	public Optional<Person> findById() {
+		return this.repository.findById(nextId());
+	}
+
+	@Benchmark
+	public Collection<Person> derivedQuery() {
+
+		long id = nextId();
+
+		return this.repository.findByFirstnameAndLastname("Person" + id, id % 2 == 0 ? "Doe" : "Handy");
+	}
+
+	@Benchmark
+	public Collection<Person> stringBasedQuery() {
+		return this.repository.findByFirstnameAnnotated("Person" + nextId());
+	}
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark.model;
+
+import java.util.Collection;
+
+import org.springframework.data.gemfire.repository.GemfireRepository;
+import org.springframework.data.gemfire.repository.Query;
+
+/**
+ * Benchmark Spring Data {@link GemfireRepository} managing {@link Person People} with both derived
+ * and {@link Query} annotated query methods.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.benchmark.model.Person
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @see org.springframework.data.gemfire.repository.Query
+ * @since 3.0.0
+ */
+public interface PersonRepository extends GemfireRepository<Person, Long> {
+
+	@Query("SELECT * FROM /People p WHERE p.firstname = $1")
+	Collection<Person> findByFirstnameAnnotated(String firstname);
+
+	Collection<Person> findByFirstnameAndLastname(String firstname, String lastname);
+
+	Collection<Person> findByLastname(String lastname);
+
+}
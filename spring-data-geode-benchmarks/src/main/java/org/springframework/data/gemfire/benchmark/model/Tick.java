@@ -0,0 +1,140 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.benchmark.model;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.gemfire.mapping.annotation.Region;
+
+/**
+ * Benchmark model type representing a market data tick, an entity mostly composed of primitive
+ * and primitive array properties.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.mapping.annotation.Region
+ * @since 3.0.0
+ */
+@Region("Ticks")
+public class Tick {
+
+	@Id
+	private final long sequence;
+
+	private boolean trade;
+
+	private char side;
+
+	private double askPrice;
+	private double bidPrice;
+
+	private double[] depthPrices;
+
+	private int askSize;
+	private int bidSize;
+
+	private long timestamp;
+
+	private long[] depthSizes;
+
+	private String symbol;
+
+	public Tick(long sequence) {
+		this.sequence = sequence;
+	}
+
+	public long getSequence() {
+		return this.sequence;
+	}
+
+	public double getAskPrice() {
+		return this.askPrice;
+	}
+
+	public void setAskPrice(double askPrice) {
+		this.askPrice = askPrice;
+	}
+
+	public int getAskSize() {
+		return this.askSize;
+	}
+
+	public void setAskSize(int askSize) {
+		this.askSize = askSize;
+	}
+
+	public double getBidPrice() {
+		return this.bidPrice;
+	}
+
+	public void setBidPrice(double bidPrice) {
+		this.bidPrice = bidPrice;
+	}
+
+	public int getBidSize() {
+		return this.bidSize;
+	}
+
+	public void setBidSize(int bidSize) {
+		this.bidSize = bidSize;
+	}
+
+	public double[] getDepthPrices() {
+		return this.depthPrices;
+	}
+
+	public void setDepthPrices(double[] depthPrices) {
+		this.depthPrices = depthPrices;
+	}
+
+	public long[] getDepthSizes() {
+		return this.depthSizes;
+	}
+
+	public void setDepthSizes(long[] depthSizes) {
+		this.depthSizes = depthSizes;
+	}
+
+	public char getSide() {
+		return this.side;
+	}
+
+	public void setSide(char side) {
+		this.side = side;
+	}
+
+	public String getSymbol() {
+		return this.symbol;
+	}
+
+	public void setSymbol(String symbol) {
+		this.symbol = symbol;
+	}
+
+	public long getTimestamp() {
+		return this.timestamp;
+	}
+
+	public void setTimestamp(long timestamp) {
+		this.timestamp = timestamp;
+	}
+
+	public boolean isTrade() {
+		return this.trade;
+	}
+
+	public void setTrade(boolean trade) {
+		this.trade = trade;
+	}
+}
@@ -37,6 +37,7 @@ import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.support.CompiledQueryCache;
 import org.springframework.data.gemfire.util.RegionUtils;
 import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.NonNull;
@@ -73,14 +74,19 @@ import org.springframework.util.StringUtils;
  * @see org.apache.geode.cache.query.SelectResults
  * @see org.springframework.data.gemfire.GemfireAccessor
  * @see org.springframework.data.gemfire.GemfireOperations
+ * @see org.springframework.data.gemfire.support.CompiledQueryCache
  */
 @SuppressWarnings("unused")
 public class GemfireTemplate extends GemfireAccessor implements GemfireOperations {
 
 	private boolean exposeNativeRegion = false;
 
+	private CompiledQueryCache queryCache = new CompiledQueryCache();
+
 	private Region<?, ?> regionProxy;
 
+	private volatile ResolvedQueryService resolvedQueryService;
+
 	/**
 	 * Constructs a new, uninitialized instance of {@link GemfireTemplate}.
 	 *
@@ -145,6 +151,44 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 		return this.exposeNativeRegion;
 	}
 
+	/**
+	 * Configures the {@link Integer maximum number} of compiled OQL {@link Query Queries} cached by this template
+	 * and reused across invocations of the {@link #find(String, Object...)} and {@link #findUnique(String, Object...)}
+	 * methods.
+	 *
+	 * <p>Default is {@link CompiledQueryCache#DEFAULT_CAPACITY}. Setting the size to {@literal 0} disables caching
+	 * and a new {@link Query} is compiled on every invocation.
+	 *
+	 * @param queryCacheSize {@link Integer maximum number} of compiled OQL {@link Query Queries} to cache;
+	 * must be greater than equal to {@literal 0}.
+	 * @throws IllegalArgumentException if {@link Integer queryCacheSize} is less than {@literal 0}.
+	 * @see org.springframework.data.gemfire.support.CompiledQueryCache
+	 */
+	public void setQueryCacheSize(int queryCacheSize) {
+		this.queryCache = new CompiledQueryCache(queryCacheSize);
+	}
+
+	/**
+	 * Returns the {@link CompiledQueryCache} used by this template to cache compiled OQL {@link Query Queries}.
+	 *
+	 * The returned {@link CompiledQueryCache} can be used to inspect cache hit, miss and eviction counts.
+	 *
+	 * @return the {@link CompiledQueryCache} used by this template.
+	 * @see org.springframework.data.gemfire.support.CompiledQueryCache
+	 */
+	public @NonNull CompiledQueryCache getQueryCache() {
+		return this.queryCache;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public void setRegion(Region<?, ?> region) {
+		super.setRegion(region);
+		this.resolvedQueryService = null;
+	}
+
 	@Override
 	public boolean containsKey(Object key) {
 		return getRegion().containsKey(key);
@@ -308,7 +352,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 			QueryService queryService = resolveQueryService(getRegion());
 
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = getQueryCache().getQuery(queryService, query);
 
 			Object result = compiledQuery.execute(arguments);
 
@@ -351,7 +395,7 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 
 			QueryService queryService = resolveQueryService(getRegion());
 
-			Query compiledQuery = queryService.newQuery(query);
+			Query compiledQuery = getQueryCache().getQuery(queryService, query);
 
 			Object result = compiledQuery.execute(arguments);
 
@@ -397,15 +441,38 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 	/**
 	 * Returns the {@link QueryService} used by this template in its query/finder methods.
 	 *
+	 * The {@link QueryService} resolved for a {@link Region} is remembered and returned on subsequent invocations
+	 * with the same {@link Region}, avoiding the cost of resolving the {@link QueryService} on every query.
+	 *
 	 * @param region {@link Region} used to acquire the {@link QueryService}.
 	 * @return the {@link QueryService} that will perform the {@link Query}.
 	 * @see org.apache.geode.cache.Region
 	 * @see org.apache.geode.cache.Region#getRegionService()
 	 * @see org.apache.geode.cache.RegionService#getQueryService()
 	 * @see org.apache.geode.cache.client.ClientCache#getLocalQueryService()
+	 * @see #doResolveQueryService(Region)
 	 */
 	protected QueryService resolveQueryService(Region<?, ?> region) {
 
+		ResolvedQueryService resolvedQueryService = this.resolvedQueryService;
+
+		if (resolvedQueryService == null || resolvedQueryService.region != region) {
+			resolvedQueryService = new ResolvedQueryService(region, doResolveQueryService(region));
+			this.resolvedQueryService = resolvedQueryService;
+		}
+
+		return resolvedQueryService.queryService;
+	}
+
+	/**
+	 * Resolves the {@link QueryService} used to perform {@link Query Queries} on the given {@link Region}.
+	 *
+	 * @param region {@link Region} used to acquire the {@link QueryService}.
+	 * @return the {@link QueryService} that will perform the {@link Query}.
+	 * @see #resolveQueryService(Region)
+	 */
+	QueryService doResolveQueryService(Region<?, ?> region) {
+
 		return region.getRegionService() instanceof ClientCache
 			? resolveClientQueryService(region)
 			: queryServiceFrom(region);
@@ -535,6 +602,21 @@ public class GemfireTemplate extends GemfireAccessor implements GemfireOperation
 				new RegionCloseSuppressingInvocationHandler(region));
 	}
 
+	/**
+	 * Pairs a {@link Region} with the {@link QueryService} resolved for the {@link Region}.
+	 */
+	private static final class ResolvedQueryService {
+
+		private final Region<?, ?> region;
+
+		private final QueryService queryService;
+
+		private ResolvedQueryService(Region<?, ?> region, QueryService queryService) {
+			this.region = region;
+			this.queryService = queryService;
+		}
+	}
+
 	/**
 	 * {@link InvocationHandler} that suppresses the {@link Region#close()} call on a target {@link Region}.
 	 *
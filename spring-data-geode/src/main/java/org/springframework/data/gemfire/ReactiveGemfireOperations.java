@@ -0,0 +1,122 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link ReactiveGemfireOperations} defines the {@link Region} data access operations that can be performed
+ * using the {@literal Template software design pattern} in a non-blocking, {@literal Reactive} fashion
+ * with {@link Mono} and {@link Flux}.
+ *
+ * Operations are lazy; no {@link Region} data access is performed until the returned {@link Mono} or {@link Flux}
+ * is subscribed to.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireOperations
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 3.0.0
+ */
+public interface ReactiveGemfireOperations {
+
+	Mono<Boolean> containsKey(Object key);
+
+	Mono<Boolean> containsKeyOnServer(Object key);
+
+	Mono<Boolean> containsValue(Object value);
+
+	Mono<Boolean> containsValueForKey(Object key);
+
+	<K, V> Mono<Void> create(K key, V value);
+
+	<K, V> Mono<V> get(K key);
+
+	<K, V> Mono<Map<K, V>> getAll(Collection<?> keys);
+
+	<K, V> Mono<V> put(K key, V value);
+
+	<K, V> Mono<Void> putAll(Map<? extends K, ? extends V> map);
+
+	<K, V> Mono<V> putIfAbsent(K key, V value);
+
+	<K, V> Mono<V> remove(K key);
+
+	Mono<Void> removeAll(Collection<?> keys);
+
+	<K, V> Mono<V> replace(K key, V value);
+
+	<K, V> Mono<Boolean> replace(K key, V oldValue, V newValue);
+
+	/**
+	 * Executes a GemFire query with the given (optional) parameters and emits the query results.
+	 *
+	 * The OQL query is executed in full when the {@link Flux} is subscribed to and the complete result set
+	 * is held in memory while the results are emitted. Use a {@literal LIMIT} clause to bound the result set.
+	 *
+	 * @param <E> {@link Class type} of the query results.
+	 * @param query {@link String OQL query}.
+	 * @param arguments array of {@link Object arguments} for the OQL query bind in parameters.
+	 * @return a {@link Flux} of the query results.
+	 * @see GemfireOperations#find(String, Object...)
+	 */
+	<E> Flux<E> find(String query, Object... arguments);
+
+	/**
+	 * Executes a GemFire query with the given (optional) parameters and emits the single, unique result.
+	 *
+	 * The {@link Mono} signals an {@link org.springframework.dao.InvalidDataAccessApiUsageException}
+	 * if the query does not return exactly one result.
+	 *
+	 * @param <T> {@link Class type} of the query result.
+	 * @param query {@link String OQL query}.
+	 * @param arguments array of {@link Object arguments} for the OQL query bind in parameters.
+	 * @return a {@link Mono} of the unique query result.
+	 * @see GemfireOperations#findUnique(String, Object...)
+	 */
+	<T> Mono<T> findUnique(String query, Object... arguments);
+
+	/**
+	 * Executes the given OQL query predicate against the {@link Region} and emits the results.
+	 *
+	 * @param <E> {@link Class type} of the query results.
+	 * @param query {@link String OQL query predicate}.
+	 * @return a {@link Flux} of the query results.
+	 * @see GemfireOperations#query(String)
+	 */
+	<E> Flux<E> query(String query);
+
+	/**
+	 * Executes the given {@link GemfireCallback} and emits the result, if any.
+	 *
+	 * @param <T> {@link Class type} of the result returned by the {@link GemfireCallback}.
+	 * @param action {@link GemfireCallback} defining the data access operation to execute;
+	 * must not be {@literal null}.
+	 * @return a {@link Mono} of the result.
+	 * @see GemfireOperations#execute(GemfireCallback)
+	 */
+	<T> Mono<T> execute(@NonNull GemfireCallback<T> action);
+
+}
@@ -0,0 +1,313 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * {@link ReactiveGemfireOperations} implementation adapting a blocking {@link GemfireTemplate} to {@link Mono}
+ * and {@link Flux} by running each {@link Region} data access operation on a dedicated, bounded {@link Scheduler}.
+ *
+ * The {@link Scheduler} caps the number of {@link Thread Threads} performing (possibly remote) {@link Region}
+ * data access operations along with the number of queued operations, so that a burst of requests cannot starve
+ * the application of {@link Thread Threads}. Queued operations are run in the order in which they were subscribed.
+ * OQL queries are executed in full on the {@link Scheduler} when subscribed to, and the complete
+ * {@link SelectResults result set} is held in memory while the results are emitted to the
+ * {@link org.reactivestreams.Subscriber}.
+ *
+ * Unless configured otherwise, all {@link ReactiveGemfireTemplate ReactiveGemfireTemplates} share a single,
+ * default {@link Scheduler} configured with the {@link #SCHEDULER_THREAD_CAP_PROPERTY}
+ * and {@link #SCHEDULER_QUEUED_TASK_CAP_PROPERTY} {@link System#getProperties() System properties}.
+ *
+ * Since operations run on the {@link Scheduler}, they do not participate in any cache transaction bound to
+ * the subscribing {@link Thread}.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.ReactiveGemfireOperations
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @see reactor.core.scheduler.Scheduler
+ * @since 3.0.0
+ */
+public class ReactiveGemfireTemplate implements ReactiveGemfireOperations {
+
+	public static final String SCHEDULER_QUEUED_TASK_CAP_PROPERTY =
+		"spring.data.gemfire.reactive.scheduler.queued-task-cap";
+
+	public static final String SCHEDULER_THREAD_CAP_PROPERTY = "spring.data.gemfire.reactive.scheduler.thread-cap";
+
+	protected static final String DEFAULT_SCHEDULER_NAME = "gemfire-reactive";
+
+	private final GemfireTemplate template;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Returns the default, shared {@link Scheduler} used by {@link ReactiveGemfireTemplate ReactiveGemfireTemplates}
+	 * that were not configured with a {@link Scheduler}.
+	 *
+	 * The {@link Scheduler} is created on first use as a {@literal bounded elastic} {@link Scheduler}
+	 * with daemon {@link Thread Threads}.
+	 *
+	 * @return the default, shared {@link Scheduler}.
+	 * @see reactor.core.scheduler.Schedulers#newBoundedElastic(int, int, String, int, boolean)
+	 */
+	public static @NonNull Scheduler getDefaultScheduler() {
+		return DefaultSchedulerHolder.SCHEDULER;
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} initialized with the given {@link Region}
+	 * using the {@link #getDefaultScheduler() default Scheduler}.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @param region {@link Region} on which data access operations will be performed; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Region} is {@literal null}.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public <K, V> ReactiveGemfireTemplate(@NonNull Region<K, V> region) {
+		this(new GemfireTemplate(region));
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} initialized with the given {@link GemfireTemplate}
+	 * using the {@link #getDefaultScheduler() default Scheduler}.
+	 *
+	 * @param template {@link GemfireTemplate} performing the blocking data access operations;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireTemplate
+	 */
+	public ReactiveGemfireTemplate(@NonNull GemfireTemplate template) {
+		this(template, getDefaultScheduler());
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireTemplate} initialized with the given {@link GemfireTemplate}
+	 * and {@link Scheduler}.
+	 *
+	 * @param template {@link GemfireTemplate} performing the blocking data access operations;
+	 * must not be {@literal null}.
+	 * @param scheduler {@link Scheduler} on which the blocking data access operations are run;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link GemfireTemplate} or {@link Scheduler} is {@literal null}.
+	 * @see org.springframework.data.gemfire.GemfireTemplate
+	 * @see reactor.core.scheduler.Scheduler
+	 */
+	public ReactiveGemfireTemplate(@NonNull GemfireTemplate template, @NonNull Scheduler scheduler) {
+
+		Assert.notNull(template, "GemfireTemplate must not be null");
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.template = template;
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the {@link Region} on which data access operations are performed.
+	 *
+	 * @param <K> {@link Class type} of the {@link Region} key.
+	 * @param <V> {@link Class type} of the {@link Region} value.
+	 * @return the {@link Region} on which data access operations are performed.
+	 * @see org.apache.geode.cache.Region
+	 */
+	public @NonNull <K, V> Region<K, V> getRegion() {
+		return getTemplate().getRegion();
+	}
+
+	/**
+	 * Returns the {@link Scheduler} on which the blocking data access operations are run.
+	 *
+	 * @return the {@link Scheduler} on which the blocking data access operations are run.
+	 * @see reactor.core.scheduler.Scheduler
+	 */
+	public @NonNull Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Returns the {@link GemfireTemplate} performing the blocking data access operations.
+	 *
+	 * @return the {@link GemfireTemplate} performing the blocking data access operations.
+	 * @see org.springframework.data.gemfire.GemfireTemplate
+	 */
+	public @NonNull GemfireTemplate getTemplate() {
+		return this.template;
+	}
+
+	@Override
+	public Mono<Boolean> containsKey(Object key) {
+		return toMono(() -> getTemplate().containsKey(key));
+	}
+
+	@Override
+	public Mono<Boolean> containsKeyOnServer(Object key) {
+		return toMono(() -> getTemplate().containsKeyOnServer(key));
+	}
+
+	@Override
+	public Mono<Boolean> containsValue(Object value) {
+		return toMono(() -> getTemplate().containsValue(value));
+	}
+
+	@Override
+	public Mono<Boolean> containsValueForKey(Object key) {
+		return toMono(() -> getTemplate().containsValueForKey(key));
+	}
+
+	@Override
+	public <K, V> Mono<Void> create(K key, V value) {
+		return toMono(() -> getTemplate().create(key, value));
+	}
+
+	@Override
+	public <K, V> Mono<V> get(K key) {
+		return toMono(() -> getTemplate().get(key));
+	}
+
+	@Override
+	public <K, V> Mono<Map<K, V>> getAll(Collection<?> keys) {
+		return toMono(() -> getTemplate().getAll(CollectionUtils.nullSafeCollection(keys)));
+	}
+
+	@Override
+	public <K, V> Mono<V> put(K key, V value) {
+		return toMono(() -> getTemplate().put(key, value));
+	}
+
+	@Override
+	public <K, V> Mono<Void> putAll(Map<? extends K, ? extends V> map) {
+		return toMono(() -> getTemplate().putAll(map));
+	}
+
+	@Override
+	public <K, V> Mono<V> putIfAbsent(K key, V value) {
+		return toMono(() -> getTemplate().putIfAbsent(key, value));
+	}
+
+	@Override
+	public <K, V> Mono<V> remove(K key) {
+		return toMono(() -> getTemplate().remove(key));
+	}
+
+	@Override
+	public Mono<Void> removeAll(Collection<?> keys) {
+		return toMono(() -> getTemplate().removeAll(keys));
+	}
+
+	@Override
+	public <K, V> Mono<V> replace(K key, V value) {
+		return toMono(() -> getTemplate().replace(key, value));
+	}
+
+	@Override
+	public <K, V> Mono<Boolean> replace(K key, V oldValue, V newValue) {
+		return toMono(() -> getTemplate().replace(key, oldValue, newValue));
+	}
+
+	@Override
+	public <E> Flux<E> find(String query, Object... arguments) {
+		return toFlux(() -> getTemplate().<E>find(query, arguments));
+	}
+
+	@Override
+	public <T> Mono<T> findUnique(String query, Object... arguments) {
+		return toMono(() -> getTemplate().findUnique(query, arguments));
+	}
+
+	@Override
+	public <E> Flux<E> query(String query) {
+		return toFlux(() -> getTemplate().<E>query(query));
+	}
+
+	@Override
+	public <T> Mono<T> execute(@NonNull GemfireCallback<T> action) {
+
+		Assert.notNull(action, "GemfireCallback must not be null");
+
+		return toMono(() -> getTemplate().execute(action));
+	}
+
+	/**
+	 * Adapts the given, blocking data access operation returning a single result to a {@link Mono}
+	 * subscribed on the {@link #getScheduler() Scheduler}.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param operation {@link Callable} performing the blocking data access operation.
+	 * @return a {@link Mono} emitting the result, or completing empty if the result is {@literal null}.
+	 */
+	protected <T> Mono<T> toMono(@NonNull Callable<T> operation) {
+		return Mono.fromCallable(operation).subscribeOn(getScheduler());
+	}
+
+	/**
+	 * Adapts the given, blocking data access operation returning no result to a {@link Mono}
+	 * subscribed on the {@link #getScheduler() Scheduler}.
+	 *
+	 * @param operation {@link Runnable} performing the blocking data access operation.
+	 * @return a {@link Mono} completing when the data access operation completes.
+	 */
+	protected Mono<Void> toMono(@NonNull Runnable operation) {
+		return Mono.fromRunnable(operation).subscribeOn(getScheduler()).then();
+	}
+
+	/**
+	 * Adapts the given, blocking OQL query to a {@link Flux} subscribed on the {@link #getScheduler() Scheduler}
+	 * emitting the query results.
+	 *
+	 * The query is executed in full on subscription; the results are then emitted from the materialized
+	 * {@link SelectResults}.
+	 *
+	 * @param <E> {@link Class type} of the query results.
+	 * @param query {@link Supplier} executing the blocking OQL query.
+	 * @return a {@link Flux} emitting the query results.
+	 */
+	protected <E> Flux<E> toFlux(@NonNull Supplier<SelectResults<E>> query) {
+		return Flux.defer(() -> Flux.fromIterable(nullSafeSelectResults(query.get()))).subscribeOn(getScheduler());
+	}
+
+	private static <E> Iterable<E> nullSafeSelectResults(@Nullable SelectResults<E> selectResults) {
+		return selectResults != null ? selectResults.asList() : CollectionUtils.emptyIterable();
+	}
+
+	private static abstract class DefaultSchedulerHolder {
+
+		static final Scheduler SCHEDULER = Schedulers.newBoundedElastic(
+			Integer.getInteger(SCHEDULER_THREAD_CAP_PROPERTY, Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE),
+			Integer.getInteger(SCHEDULER_QUEUED_TASK_CAP_PROPERTY, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE),
+			DEFAULT_SCHEDULER_NAME, 60, true);
+
+	}
+}
@@ -17,12 +17,25 @@
 package org.springframework.data.gemfire.cache;
 
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 
 import org.springframework.cache.Cache;
 import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -37,6 +50,14 @@ import org.springframework.util.Assert;
 @SuppressWarnings("rawtypes")
 public class GemfireCache implements Cache {
 
+	private final ConcurrentMap<Object, CompletableFuture<Object>> asyncValueLoads = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Object, ValueLoad> valueLoads = new ConcurrentHashMap<>();
+
+	private volatile Executor asyncExecutor;
+
+	private volatile NearCache nearCache;
+
 	private final Region region;
 
 	/**
@@ -76,6 +97,75 @@ public class GemfireCache implements Cache {
 		return this.region;
 	}
 
+	/**
+	 * Sets the {@link Executor} used to run the blocking Apache Geode {@link Region} operations
+	 * backing the asynchronous {@literal retrieve} operations of this Spring {@link Cache}.
+	 *
+	 * Defaults to a bounded {@link Executor} shared by all {@link GemfireCache GemfireCaches}.
+	 *
+	 * @param asyncExecutor {@link Executor} used to run the asynchronous {@literal retrieve} operations.
+	 * @see #retrieve(Object)
+	 * @see java.util.concurrent.Executor
+	 */
+	public void setAsyncExecutor(@Nullable Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to run the asynchronous {@literal retrieve} operations
+	 * of this Spring {@link Cache}.
+	 *
+	 * @return the {@link Executor} used to run the asynchronous {@literal retrieve} operations.
+	 * @see #setAsyncExecutor(Executor)
+	 * @see java.util.concurrent.Executor
+	 */
+	public @NonNull Executor getAsyncExecutor() {
+
+		Executor asyncExecutor = this.asyncExecutor;
+
+		return asyncExecutor != null ? asyncExecutor : DefaultAsyncExecutor.INSTANCE;
+	}
+
+	/**
+	 * Enables a bounded, JVM-local near cache in front of the client {@literal PROXY} {@link Region}
+	 * backing this Spring {@link Cache}.
+	 *
+	 * The near cache is kept coherent by registering interest in all keys of the {@link Region}, which requires
+	 * subscriptions to be enabled on the {@link org.apache.geode.cache.client.Pool} used by the {@link Region}.
+	 *
+	 * @param maximumSize {@link Integer maximum number} of values held in the near cache;
+	 * must be greater than {@literal 0}.
+	 * @return this {@link GemfireCache}.
+	 * @throws IllegalArgumentException if the {@link Region} is not a client {@literal PROXY} {@link Region}
+	 * or the {@link Integer maximum size} is less than equal to {@literal 0}.
+	 * @see #isNearCacheSupported(Region)
+	 */
+	public GemfireCache withNearCache(int maximumSize) {
+		this.nearCache = NearCache.create(getNativeCache(), maximumSize);
+		return this;
+	}
+
+	/**
+	 * Determines whether a near cache can be enabled in front of the given {@link Region}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether the {@link Region} is a client {@literal PROXY} {@link Region}.
+	 * @see #withNearCache(int)
+	 */
+	public static boolean isNearCacheSupported(@Nullable Region<?, ?> region) {
+		return NearCache.isSupported(region);
+	}
+
+	/**
+	 * Determines whether a near cache is enabled in front of the {@link Region} backing this Spring {@link Cache}.
+	 *
+	 * @return a boolean value indicating whether a near cache is enabled.
+	 * @see #withNearCache(int)
+	 */
+	public boolean isNearCacheEnabled() {
+		return this.nearCache != null;
+	}
+
 	/**
 	 * Returns the name of this Spring {@link Cache}.
 	 *
@@ -92,7 +182,14 @@ public class GemfireCache implements Cache {
 	 * @see org.apache.geode.cache.Region#clear()
 	 */
 	public void clear() {
+
 		getNativeCache().clear();
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+			nearCache.clear();
+		}
 	}
 
 	/**
@@ -102,7 +199,14 @@ public class GemfireCache implements Cache {
 	 * @see org.apache.geode.cache.Region#destroy(Object)
 	 */
 	public void evict(Object key) {
+
 		getNativeCache().remove(key);
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+			nearCache.invalidate(key);
+		}
 	}
 
 	/**
@@ -116,7 +220,7 @@ public class GemfireCache implements Cache {
 	 */
 	public ValueWrapper get(Object key) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		return value != null ? new SimpleValueWrapper(value) : null;
 	}
@@ -134,7 +238,7 @@ public class GemfireCache implements Cache {
 	@SuppressWarnings("unchecked")
 	public <T> T get(Object key, Class<T> type) {
 
-		Object value = getNativeCache().get(key);
+		Object value = lookup(key);
 
 		if (value != null && type != null && !type.isInstance(value)) {
 			throw new IllegalStateException(String.format(
@@ -145,11 +249,149 @@ public class GemfireCache implements Cache {
 		return (T) value;
 	}
 
+	/**
+	 * Asynchronously returns the cache value for the given key.
+	 *
+	 * The returned {@link CompletableFuture} is already completed if the value is held in the near cache.
+	 * Otherwise, the value is retrieved from the {@link Region} using the {@link #getAsyncExecutor() async Executor}
+	 * and the {@link CompletableFuture} completes with {@literal null} if the {@link Region} contains no value
+	 * for the given key. The {@link CompletableFuture} completes exceptionally with
+	 * a {@link RejectedExecutionException} if the {@link #getAsyncExecutor() async Executor} is saturated.
+	 *
+	 * Implements the {@literal retrieve(key)} operation of the Spring {@link Cache} interface introduced in
+	 * Spring Framework 6.1. Don't add the {@link Override} annotation otherwise this will break the compilation
+	 * on 6.0.
+	 *
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @return a {@link CompletableFuture} completing with the cache value for the given key,
+	 * or {@literal null} if the cache contains no value for the given key.
+	 * @see #setAsyncExecutor(Executor)
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	public CompletableFuture<?> retrieve(Object key) {
+
+		NearCache nearCache = this.nearCache;
+
+		Object value = nearCache != null ? nearCache.get(key) : null;
+
+		if (value != null) {
+			return CompletableFuture.completedFuture(value);
+		}
+
+		try {
+			return CompletableFuture.supplyAsync(() -> lookup(key), getAsyncExecutor());
+		}
+		catch (RejectedExecutionException cause) {
+			return CompletableFuture.failedFuture(cause);
+		}
+	}
+
+	/**
+	 * Asynchronously returns the cache value for the given key, obtaining the value from
+	 * the given {@link Supplier value loader} if the cache contains no value for the given key.
+	 *
+	 * Loading is {@literal single-flight} per key. Concurrent callers requesting the same key share
+	 * the outcome of a single invocation of the {@link Supplier value loader}.
+	 *
+	 * Implements the {@literal retrieve(key, valueLoader)} operation of the Spring {@link Cache} interface
+	 * introduced in Spring Framework 6.1. Don't add the {@link Override} annotation otherwise this will break
+	 * the compilation on 6.0.
+	 *
+	 * @param <T> {@link Class} type of the value.
+	 * @param key key identifying the the value to retrieve from the cache.
+	 * @param valueLoader {@link Supplier} of a {@link CompletableFuture} used to load a value if the cache
+	 * contains no value for the given key.
+	 * @return a {@link CompletableFuture} completing with the cache value for the given key.
+	 * @see #retrieve(Object)
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+
+		return retrieve(key).thenCompose(value -> value != null
+			? CompletableFuture.completedFuture((T) value)
+			: (CompletableFuture<T>) loadAsync(key, valueLoader));
+	}
+
+	private CompletableFuture<Object> loadAsync(Object key, Supplier<? extends CompletableFuture<?>> valueLoader) {
+
+		CompletableFuture<Object> valueLoad = new CompletableFuture<>();
+		CompletableFuture<Object> inFlightValueLoad = this.asyncValueLoads.putIfAbsent(key, valueLoad);
+
+		if (inFlightValueLoad != null) {
+			return inFlightValueLoad.copy();
+		}
+
+		CompletableFuture<?> loadedValue;
+
+		try {
+			loadedValue = valueLoader.get();
+		}
+		catch (Throwable cause) {
+
+			// Complete the in-flight load before rethrowing an Error so concurrent callers do not wait forever
+			this.asyncValueLoads.remove(key, valueLoad);
+			valueLoad.completeExceptionally(cause);
+
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			return valueLoad.copy();
+		}
+
+		loadedValue
+			.thenApplyAsync(value -> {
+				put(key, value);
+				return value;
+			}, getAsyncExecutor())
+			.whenComplete((value, cause) -> {
+
+				this.asyncValueLoads.remove(key, valueLoad);
+
+				if (cause != null) {
+					valueLoad.completeExceptionally(cause instanceof CompletionException && cause.getCause() != null
+						? cause.getCause() : cause);
+				}
+				else {
+					valueLoad.complete(value);
+				}
+			});
+
+		return valueLoad.copy();
+	}
+
+	private Object lookup(Object key) {
+
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+
+			Object value = nearCache.get(key);
+
+			if (value == null) {
+
+				long stamp = nearCache.stamp(key);
+
+				value = getNativeCache().get(key);
+				nearCache.putIfValid(key, value, stamp);
+			}
+
+			return value;
+		}
+
+		return getNativeCache().get(key);
+	}
+
 	/**
 	 * Returns the cache value for given key.  If the value is {@literal null}, then the provided
 	 * {@link Callable} {@code valueLoader} will be called to obtain a value and add the entry
 	 * to this cache.
 	 *
+	 * Loading is {@literal single-flight} per key. Concurrent callers requesting the same key wait for
+	 * a single invocation of the {@link Callable} {@code valueLoader} to complete and share its outcome,
+	 * while callers requesting different keys load their values in parallel.
+	 *
 	 * @param <T> {@link Class} type of the value.
 	 * @param key key identifying the the value to retrieve from the cache.
 	 * @param valueLoader {@link Callable} object used to load a value if the entry identified by the key
@@ -166,24 +408,47 @@ public class GemfireCache implements Cache {
 		T value = (T) get(key, Object.class);
 
 		if (value == null) {
-			synchronized (getNativeCache()) {
-				value = (T) get(key, Object.class);
 
-				if (value == null) {
-					try {
-						value = valueLoader.call();
-						put(key, value);
-					}
-					catch (Exception e) {
-						throw new ValueRetrievalException(key, valueLoader, e);
-					}
-				}
+			ValueLoad valueLoad = new ValueLoad();
+			ValueLoad inFlightValueLoad = this.valueLoads.putIfAbsent(key, valueLoad);
+
+			if (inFlightValueLoad != null) {
+				return inFlightValueLoad.isLoadingThread() ? load(key, valueLoader)
+					: (T) inFlightValueLoad.await();
+			}
+
+			try {
+				value = (T) get(key, Object.class);
+				value = value != null ? value : load(key, valueLoader);
+				valueLoad.complete(value);
+			}
+			catch (Throwable cause) {
+				valueLoad.completeExceptionally(cause);
+				throw cause;
+			}
+			finally {
+				this.valueLoads.remove(key, valueLoad);
 			}
 		}
 
 		return value;
 	}
 
+	private <T> T load(Object key, Callable<T> valueLoader) {
+
+		try {
+
+			T value = valueLoader.call();
+
+			put(key, value);
+
+			return value;
+		}
+		catch (Exception cause) {
+			throw new ValueRetrievalException(key, valueLoader, cause);
+		}
+	}
+
 	/**
 	 * Stores the given value in the cache referenced by the given key.  This operation will only store the value
 	 * if the value is not {@literal null}.
@@ -196,7 +461,19 @@ public class GemfireCache implements Cache {
 	public void put(Object key, Object value) {
 
 		if (value != null) {
-			getNativeCache().put(key, value);
+
+			NearCache nearCache = this.nearCache;
+
+			if (nearCache != null) {
+
+				long stamp = nearCache.stamp(key);
+
+				nearCache.write(key, () -> getNativeCache().put(key, value));
+				nearCache.putIfValid(key, value, stamp);
+			}
+			else {
+				getNativeCache().put(key, value);
+			}
 		}
 	}
 
@@ -214,6 +491,75 @@ public class GemfireCache implements Cache {
 
 		Object existingValue = getNativeCache().putIfAbsent(key, value);
 
+		NearCache nearCache = this.nearCache;
+
+		if (nearCache != null) {
+			nearCache.invalidate(key);
+		}
+
 		return (existingValue != null ? new SimpleValueWrapper(existingValue) : null);
 	}
+
+	/**
+	 * In-flight load of a cache value shared by all callers requesting the same key.
+	 */
+	private static final class ValueLoad extends CompletableFuture<Object> {
+
+		private final Thread loadingThread = Thread.currentThread();
+
+		Object await() {
+
+			try {
+				return join();
+			}
+			catch (CompletionException cause) {
+
+				if (cause.getCause() instanceof Error) {
+					throw (Error) cause.getCause();
+				}
+
+				throw cause.getCause() instanceof RuntimeException ? (RuntimeException) cause.getCause() : cause;
+			}
+		}
+
+		boolean isLoadingThread() {
+			return this.loadingThread == Thread.currentThread();
+		}
+	}
+
+	/**
+	 * Bounded {@link Executor} shared by all {@link GemfireCache GemfireCaches} by default.
+	 *
+	 * When all threads are busy and the queue is full, the task is rejected and the asynchronous operation
+	 * completes exceptionally with a {@link java.util.concurrent.RejectedExecutionException} rather than
+	 * running blocking {@link Region} I/O on the calling thread.
+	 */
+	static final class DefaultAsyncExecutor {
+
+		static final int QUEUE_CAPACITY = 1024;
+
+		static final int THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+		static final Executor INSTANCE = newExecutor();
+
+		private static Executor newExecutor() {
+
+			AtomicInteger threadCount = new AtomicInteger(0);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+
+					Thread thread = new Thread(runnable,
+						String.format("GemfireCache-async-%d", threadCount.incrementAndGet()));
+
+					thread.setDaemon(true);
+
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		}
+	}
 }
@@ -20,6 +20,7 @@ package org.springframework.data.gemfire.cache;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.apache.geode.cache.GemFireCache;
@@ -51,6 +52,10 @@ public class GemfireCacheManager extends AbstractCacheManager {
 
 	private final AtomicBoolean dynamic = new AtomicBoolean(true);
 
+	private Executor asyncExecutor;
+
+	private int nearCacheSize;
+
 	private org.apache.geode.cache.GemFireCache gemfireCache;
 
 	private Set<Region<?, ?>> regions;
@@ -146,7 +151,16 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	 * @see org.apache.geode.cache.Region
 	 */
 	protected GemfireCache newGemfireCache(Region<?, ?> region) {
-		return GemfireCache.wrap(region);
+
+		GemfireCache cache = GemfireCache.wrap(region);
+
+		cache.setAsyncExecutor(getAsyncExecutor());
+
+		if (getNearCacheSize() > 0 && GemfireCache.isNearCacheSupported(region)) {
+			cache.withNearCache(getNearCacheSize());
+		}
+
+		return cache;
 	}
 
 	/* (non-Javadoc) */
@@ -249,4 +263,50 @@ public class GemfireCacheManager extends AbstractCacheManager {
 	protected Set<Region<?, ?>> getRegions() {
 		return this.regions;
 	}
+
+	/**
+	 * Sets the {@link Executor} used by the Spring {@link Cache Caches} managed by this {@link CacheManager}
+	 * to run asynchronous {@literal retrieve} operations.
+	 *
+	 * @param asyncExecutor {@link Executor} used to run asynchronous {@literal retrieve} operations.
+	 * @see GemfireCache#setAsyncExecutor(Executor)
+	 */
+	public void setAsyncExecutor(Executor asyncExecutor) {
+		this.asyncExecutor = asyncExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used by the Spring {@link Cache Caches} managed by this {@link CacheManager}
+	 * to run asynchronous {@literal retrieve} operations.
+	 *
+	 * @return the {@link Executor} used to run asynchronous {@literal retrieve} operations,
+	 * or {@literal null} to use the default.
+	 */
+	protected Executor getAsyncExecutor() {
+		return this.asyncExecutor;
+	}
+
+	/**
+	 * Sets the maximum number of values held in the JVM-local near cache enabled in front of each
+	 * client {@literal PROXY} {@link Region} used as a Spring {@link Cache}.
+	 *
+	 * A value less than equal to {@literal 0} (the default) disables the near cache. Other types
+	 * of {@link Region Regions} are not affected.
+	 *
+	 * @param nearCacheSize maximum number of values held in each near cache.
+	 * @see GemfireCache#withNearCache(int)
+	 */
+	public void setNearCacheSize(int nearCacheSize) {
+		this.nearCacheSize = nearCacheSize;
+	}
+
+	/**
+	 * Returns the maximum number of values held in the JVM-local near cache enabled in front of each
+	 * client {@literal PROXY} {@link Region} used as a Spring {@link Cache}.
+	 *
+	 * @return the maximum number of values held in each near cache.
+	 */
+	protected int getNearCacheSize() {
+		return this.nearCacheSize;
+	}
 }
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.data.gemfire.util.RegionUtils;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Bounded, {@literal Least Recently Used (LRU)}, JVM-local cache of values held in front of
+ * a client {@link DataPolicy#EMPTY PROXY} {@link Region}.
+ *
+ * The {@link NearCache} is kept coherent with the servers by registering interest in all keys of
+ * the {@link Region} without receiving values, and invalidating the local copy of a value whenever
+ * the entry is created, updated, invalidated or destroyed, either locally or on the servers.
+ *
+ * A value read from, or written to, the {@link Region} is only added to the {@link NearCache} if no invalidation
+ * of the same key occurred during the {@link Region} operation, which prevents a concurrent update from being masked
+ * by a stale value. Invalidations are tracked per stripe of keys so that unrelated invalidations do not prevent
+ * values from being cached.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.Region
+ * @see org.apache.geode.cache.Region#registerInterestForAllKeys(InterestResultPolicy, boolean, boolean)
+ * @see org.apache.geode.cache.util.CacheListenerAdapter
+ * @see org.springframework.data.gemfire.cache.GemfireCache
+ * @since 3.0.0
+ */
+class NearCache {
+
+	/**
+	 * Determines whether a {@link NearCache} can be used in front of the given {@link Region}.
+	 *
+	 * @param region {@link Region} to evaluate.
+	 * @return a boolean value indicating whether the {@link Region} is a client {@literal PROXY} {@link Region}.
+	 */
+	static boolean isSupported(@Nullable Region<?, ?> region) {
+
+		return RegionUtils.isClient(region)
+			&& DataPolicy.EMPTY.equals(region.getAttributes().getDataPolicy());
+	}
+
+	/**
+	 * Factory method used to construct a new {@link NearCache} kept coherent with the given {@link Region}.
+	 *
+	 * @param region client {@literal PROXY} {@link Region} fronted by the {@link NearCache};
+	 * must not be {@literal null}.
+	 * @param maximumSize {@link Integer maximum number} of values held in the {@link NearCache};
+	 * must be greater than {@literal 0}.
+	 * @return a new {@link NearCache}.
+	 * @throws IllegalArgumentException if the {@link Region} is not a client {@literal PROXY} {@link Region}
+	 * or the {@link Integer maximum size} is less than equal to {@literal 0}.
+	 * @throws org.apache.geode.cache.client.SubscriptionNotEnabledException if subscriptions are not enabled
+	 * on the {@link org.apache.geode.cache.client.Pool} used by the {@link Region}.
+	 */
+	@SuppressWarnings("unchecked")
+	static @NonNull NearCache create(@NonNull Region<?, ?> region, int maximumSize) {
+
+		Assert.isTrue(isSupported(region),
+			() -> String.format("Region [%s] must be a client PROXY Region", RegionUtils.toRegionPath(region)));
+
+		Assert.isTrue(maximumSize > 0,
+			() -> String.format("Maximum size [%d] must be greater than 0", maximumSize));
+
+		NearCache nearCache = new NearCache(maximumSize);
+
+		((Region<Object, Object>) region).getAttributesMutator()
+			.addCacheListener(nearCache.new InvalidatingCacheListener());
+
+		region.registerInterestForAllKeys(InterestResultPolicy.NONE, false, false);
+
+		return nearCache;
+	}
+
+	static final int STRIPE_COUNT = 64;
+
+	private final int maximumSize;
+
+	private final long[] invalidationCounts = new long[STRIPE_COUNT];
+
+	private final Map<Object, Object> values;
+
+	private final ThreadLocal<Object> writingKey = new ThreadLocal<>();
+
+	NearCache(int maximumSize) {
+
+		this.maximumSize = maximumSize;
+
+		this.values = new LinkedHashMap<Object, Object>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Object, Object> eldest) {
+				return size() > NearCache.this.maximumSize;
+			}
+		};
+	}
+
+	int getMaximumSize() {
+		return this.maximumSize;
+	}
+
+	synchronized @Nullable Object get(@NonNull Object key) {
+		return this.values.get(key);
+	}
+
+	/**
+	 * Returns a stamp identifying the current state of the given key in the {@link NearCache}, which must be
+	 * acquired before reading or writing the value in the {@link Region} and passed to
+	 * {@link #putIfValid(Object, Object, long)}.
+	 *
+	 * @param key key of the value to read or write.
+	 * @return a stamp identifying the current state of the given key in the {@link NearCache}.
+	 */
+	synchronized long stamp(@NonNull Object key) {
+		return this.invalidationCounts[stripeOf(key)];
+	}
+
+	synchronized void putIfValid(@NonNull Object key, @Nullable Object value, long stamp) {
+
+		if (value != null && stamp == this.invalidationCounts[stripeOf(key)]) {
+			this.values.put(key, value);
+		}
+		else {
+			this.values.remove(key);
+		}
+	}
+
+	/**
+	 * Performs the given {@link Region} write of the given key, ignoring the local {@link Region} events
+	 * caused by the write itself so that the written value can be added with {@link #putIfValid(Object, Object, long)}.
+	 *
+	 * @param key key of the value written to the {@link Region}.
+	 * @param regionWrite {@link Runnable} writing the value to the {@link Region}.
+	 */
+	void write(@NonNull Object key, @NonNull Runnable regionWrite) {
+
+		this.writingKey.set(key);
+
+		try {
+			regionWrite.run();
+		}
+		finally {
+			this.writingKey.remove();
+		}
+	}
+
+	synchronized void invalidate(@Nullable Object key) {
+		this.invalidationCounts[stripeOf(key)]++;
+		this.values.remove(key);
+	}
+
+	synchronized void clear() {
+
+		for (int index = 0; index < this.invalidationCounts.length; index++) {
+			this.invalidationCounts[index]++;
+		}
+
+		this.values.clear();
+	}
+
+	private int stripeOf(@Nullable Object key) {
+
+		int hash = Objects.hashCode(key);
+
+		return (hash ^ (hash >>> 16)) & (STRIPE_COUNT - 1);
+	}
+
+	private boolean isLocalWriteOfThisThread(EntryEvent<Object, Object> event) {
+		return !event.isOriginRemote() && Objects.equals(this.writingKey.get(), event.getKey());
+	}
+
+	synchronized int size() {
+		return this.values.size();
+	}
+
+	class InvalidatingCacheListener extends CacheListenerAdapter<Object, Object> {
+
+		@Override
+		public void afterCreate(EntryEvent<Object, Object> event) {
+
+			if (!isLocalWriteOfThisThread(event)) {
+				invalidate(event.getKey());
+			}
+		}
+
+		@Override
+		public void afterDestroy(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterInvalidate(EntryEvent<Object, Object> event) {
+			invalidate(event.getKey());
+		}
+
+		@Override
+		public void afterUpdate(EntryEvent<Object, Object> event) {
+
+			if (!isLocalWriteOfThisThread(event)) {
+				invalidate(event.getKey());
+			}
+		}
+
+		@Override
+		public void afterRegionClear(RegionEvent<Object, Object> event) {
+			clear();
+		}
+
+		@Override
+		public void afterRegionDestroy(RegionEvent<Object, Object> event) {
+			clear();
+		}
+
+		@Override
+		public void afterRegionInvalidate(RegionEvent<Object, Object> event) {
+			clear();
+		}
+	}
+}
@@ -17,6 +17,10 @@
 package org.springframework.data.gemfire.config.admin.functions;
 
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeCollection;
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+
+import java.util.List;
+import java.util.Objects;
 
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
@@ -40,6 +44,7 @@ import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 public class CreateIndexFunction {
 
 	public static final String CREATE_INDEX_FUNCTION_ID = "CreateOqlIndexFunction";
+	public static final String CREATE_INDEXES_FUNCTION_ID = "CreateOqlIndexesFunction";
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -91,6 +96,25 @@ public class CreateIndexFunction {
 		}
 	}
 
+	/**
+	 * Creates all of the {@link org.apache.geode.cache.query.Index Indexes} defined by the given {@link List}
+	 * of {@link IndexDefinition IndexDefinitions} in a single {@link org.apache.geode.cache.execute.Function}
+	 * execution.
+	 *
+	 * @param indexDefinitions {@link List} of {@link IndexDefinition IndexDefinitions} to create.
+	 * @return the number of {@link org.apache.geode.cache.query.Index Indexes} that were created;
+	 * existing {@link org.apache.geode.cache.query.Index Indexes} are skipped.
+	 * @see #createIndex(IndexDefinition)
+	 */
+	@GemfireFunction(id = CREATE_INDEXES_FUNCTION_ID)
+	public int createIndexes(List<IndexDefinition> indexDefinitions) {
+
+		return (int) nullSafeList(indexDefinitions).stream()
+			.filter(Objects::nonNull)
+			.filter(this::createIndex)
+			.count();
+	}
+
 	protected Cache resolveCache() {
 		return CacheFactory.getAnyInstance();
 	}
@@ -16,6 +16,11 @@
 
 package org.springframework.data.gemfire.config.admin.functions;
 
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
+
+import java.util.List;
+import java.util.Objects;
+
 import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.Region;
@@ -36,6 +41,7 @@ import org.springframework.data.gemfire.function.annotation.GemfireFunction;
 public class CreateRegionFunction {
 
 	public static final String CREATE_REGION_FUNCTION_ID = "CreateRegionFunction";
+	public static final String CREATE_REGIONS_FUNCTION_ID = "CreateRegionsFunction";
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -66,6 +72,23 @@ public class CreateRegionFunction {
 		}
 	}
 
+	/**
+	 * Creates all of the {@link Region Regions} defined by the given {@link List} of {@link RegionDefinition
+	 * RegionDefinitions} in a single {@link org.apache.geode.cache.execute.Function} execution.
+	 *
+	 * @param regionDefinitions {@link List} of {@link RegionDefinition RegionDefinitions} to create.
+	 * @return the number of {@link Region Regions} that were created; existing {@link Region Regions} are skipped.
+	 * @see #createRegion(RegionDefinition)
+	 */
+	@GemfireFunction(id = CREATE_REGIONS_FUNCTION_ID)
+	public int createRegions(List<RegionDefinition> regionDefinitions) {
+
+		return (int) nullSafeList(regionDefinitions).stream()
+			.filter(Objects::nonNull)
+			.filter(this::createRegion)
+			.count();
+	}
+
 	protected Cache resolveCache() {
 		return CacheFactory.getAnyInstance();
 	}
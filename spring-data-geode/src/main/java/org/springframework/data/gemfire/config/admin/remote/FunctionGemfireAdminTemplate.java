@@ -18,14 +18,25 @@ package org.springframework.data.gemfire.config.admin.remote;
 
 import static java.util.Arrays.stream;
 import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ServerOperationException;
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.query.Index;
 import org.apache.geode.management.internal.cli.domain.RegionInformation;
 import org.apache.geode.management.internal.cli.functions.GetRegionsFunction;
@@ -60,6 +71,10 @@ import org.springframework.util.Assert;
  */
 public class FunctionGemfireAdminTemplate extends AbstractGemfireAdminOperations {
 
+	// messages of the exceptions Apache Geode throws executing a Function that is not registered on the servers
+	static final String FUNCTION_ID_NOT_REGISTERED_MESSAGE = "The function is not registered for function id %s";
+	static final String FUNCTION_NOT_REGISTERED_MESSAGE = "Function named %s is not registered to FunctionService";
+
 	private final ClientCache clientCache;
 
 	/**
@@ -135,11 +150,98 @@ public class FunctionGemfireAdminTemplate extends AbstractGemfireAdminOperations
 		execute(CreateRegionFunction.CREATE_REGION_FUNCTION_ID, regionDefinition);
 	}
 
+	/**
+	 * Creates all of the given {@link RegionDefinition RegionDefinitions} in the cluster with a single execution
+	 * of the {@link CreateRegionFunction#CREATE_REGIONS_FUNCTION_ID bulk create Regions Function}.
+	 *
+	 * Falls back to creating each {@link Region} individually when the bulk {@link Function} is not registered
+	 * on the servers.  Any other failure is rethrown.
+	 *
+	 * @param regionDefinitions {@link Iterable} of {@link RegionDefinition RegionDefinitions} to create.
+	 * @see org.springframework.data.gemfire.config.admin.functions.CreateRegionFunction#createRegions(List)
+	 */
+	@Override
+	public void createRegions(Iterable<RegionDefinition> regionDefinitions) {
+		executeInBulk(CreateRegionFunction.CREATE_REGIONS_FUNCTION_ID, regionDefinitions, this::createRegion);
+	}
+
 	@Override
 	public void createIndex(IndexDefinition indexDefinition) {
 		execute(CreateIndexFunction.CREATE_INDEX_FUNCTION_ID, indexDefinition);
 	}
 
+	/**
+	 * Creates all of the given {@link IndexDefinition IndexDefinitions} in the cluster with a single execution
+	 * of the {@link CreateIndexFunction#CREATE_INDEXES_FUNCTION_ID bulk create Indexes Function}.
+	 *
+	 * Falls back to creating each {@link Index} individually when the bulk {@link Function} is not registered
+	 * on the servers.  Any other failure is rethrown.
+	 *
+	 * @param indexDefinitions {@link Iterable} of {@link IndexDefinition IndexDefinitions} to create.
+	 * @see org.springframework.data.gemfire.config.admin.functions.CreateIndexFunction#createIndexes(List)
+	 */
+	@Override
+	public void createIndexes(Iterable<IndexDefinition> indexDefinitions) {
+		executeInBulk(CreateIndexFunction.CREATE_INDEXES_FUNCTION_ID, indexDefinitions, this::createIndex);
+	}
+
+	<T> void executeInBulk(String gemfireFunctionId, Iterable<T> schemaObjectDefinitions,
+			Consumer<T> createFunction) {
+
+		List<T> schemaObjectDefinitionList =
+			StreamSupport.stream(nullSafeIterable(schemaObjectDefinitions).spliterator(), false)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toCollection(ArrayList::new));
+
+		if (schemaObjectDefinitionList.size() == 1) {
+			createFunction.accept(schemaObjectDefinitionList.get(0));
+		}
+		else if (!schemaObjectDefinitionList.isEmpty()) {
+			try {
+				execute(gemfireFunctionId, schemaObjectDefinitionList);
+			}
+			catch (RuntimeException cause) {
+
+				if (!isFunctionNotRegistered(cause, gemfireFunctionId)) {
+					throw cause;
+				}
+
+				// Servers without the bulk Function registered; create functions skip existing schema objects
+				schemaObjectDefinitionList.forEach(createFunction);
+			}
+		}
+	}
+
+	/**
+	 * Determines whether the given {@link Throwable} or any of its causes is the {@link FunctionException} thrown,
+	 * or {@link ServerOperationException} sent, by Apache Geode when no {@link Function} is registered
+	 * with the given ID.
+	 *
+	 * @param cause {@link Throwable} to evaluate.
+	 * @param gemfireFunctionId {@link String ID} of the {@link Function} that was executed.
+	 * @return a boolean value indicating whether the {@link Function} with the given ID is not registered.
+	 */
+	boolean isFunctionNotRegistered(Throwable cause, String gemfireFunctionId) {
+
+		Set<String> functionNotRegisteredMessages = new HashSet<>(Arrays.asList(
+			String.format(FUNCTION_NOT_REGISTERED_MESSAGE, gemfireFunctionId),
+			String.format(FUNCTION_ID_NOT_REGISTERED_MESSAGE, gemfireFunctionId)));
+
+		for (Throwable throwable = cause; throwable != null; throwable = throwable.getCause()) {
+
+			String message = throwable.getMessage();
+
+			if ((throwable instanceof FunctionException || throwable instanceof ServerOperationException)
+					&& message != null
+					&& functionNotRegisteredMessages.stream().anyMatch(message::contains)) {
+
+				return true;
+			}
+		}
+
+		return false;
+	}
+
 	<T> T execute(Function gemfireFunction, Object... arguments) {
 		return newGemfireFunctionOperations().executeAndExtract(gemfireFunction, arguments);
 	}
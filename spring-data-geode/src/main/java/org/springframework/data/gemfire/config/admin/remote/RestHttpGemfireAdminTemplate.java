@@ -15,6 +15,8 @@
  */
 package org.springframework.data.gemfire.config.admin.remote;
 
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
+
 import java.io.IOException;
 import java.net.HttpURLConnection;
 import java.net.URI;
@@ -24,6 +26,14 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.execute.Function;
@@ -87,6 +97,9 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 	// By default, Apache Geode / Pivotal GemFire's (embedded) HTTP service listens on port 7070.
 	protected static final int DEFAULT_PORT = -1;
 
+	// Maximum number of concurrent HTTP requests sent when creating schema objects in bulk.
+	public static final int DEFAULT_PARALLELISM = 4;
+
 	protected static final String DEFAULT_HOST = "localhost";
 	protected static final String DEFAULT_SCHEME = "https";
 	protected static final String HTTP_SCHEME = "http";
@@ -96,6 +109,8 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 
 	protected static final List<String> VALID_SCHEMES = Arrays.asList(HTTP_SCHEME, HTTPS_SCHEME);
 
+	private int parallelism = DEFAULT_PARALLELISM;
+
 	private final RestOperations restTemplate;
 
 	private final String managementRestApiUrl;
@@ -254,6 +269,33 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 		return (T) this.restTemplate;
 	}
 
+	/**
+	 * Sets the maximum number of concurrent HTTP requests sent to the Management REST API when creating
+	 * schema objects in bulk (e.g. {@link #createRegions(Iterable)}).
+	 *
+	 * @param parallelism maximum number of concurrent HTTP requests; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code parallelism} is less than {@literal 1}.
+	 * @see #getParallelism()
+	 */
+	public void setParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0,
+			() -> String.format("Parallelism [%d] must be greater than 0", parallelism));
+
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Returns the maximum number of concurrent HTTP requests sent to the Management REST API when creating
+	 * schema objects in bulk.
+	 *
+	 * @return the maximum number of concurrent HTTP requests; defaults to {@link #DEFAULT_PARALLELISM}.
+	 * @see #setParallelism(int)
+	 */
+	public int getParallelism() {
+		return this.parallelism;
+	}
+
 	@Override
 	public void createIndex(IndexDefinition indexDefinition) {
 
@@ -282,6 +324,18 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 		return URI.create(getManagementRestApiUrl().concat("/indexes"));
 	}
 
+	/**
+	 * Creates all of the given {@link IndexDefinition IndexDefinitions} by sending concurrent HTTP requests
+	 * to the Management REST API, up to the configured {@link #getParallelism() parallelism}.
+	 *
+	 * @param indexDefinitions {@link Iterable} of {@link IndexDefinition IndexDefinitions} to create.
+	 * @see #createIndex(IndexDefinition)
+	 */
+	@Override
+	public void createIndexes(Iterable<IndexDefinition> indexDefinitions) {
+		createInParallel(indexDefinitions, this::createIndex);
+	}
+
 	@Override
 	public void createRegion(RegionDefinition regionDefinition) {
 
@@ -309,10 +363,92 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 		return URI.create(getManagementRestApiUrl().concat("/regions"));
 	}
 
+	/**
+	 * Creates all of the given {@link RegionDefinition RegionDefinitions} by sending concurrent HTTP requests
+	 * to the Management REST API, up to the configured {@link #getParallelism() parallelism}.
+	 *
+	 * @param regionDefinitions {@link Iterable} of {@link RegionDefinition RegionDefinitions} to create.
+	 * @see #createRegion(RegionDefinition)
+	 */
+	@Override
+	public void createRegions(Iterable<RegionDefinition> regionDefinitions) {
+		createInParallel(regionDefinitions, this::createRegion);
+	}
+
+	<T> void createInParallel(Iterable<T> schemaObjectDefinitions, Consumer<T> createFunction) {
+
+		List<T> schemaObjectDefinitionList =
+			StreamSupport.stream(nullSafeIterable(schemaObjectDefinitions).spliterator(), false)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toList());
+
+		int resolvedParallelism = Math.min(getParallelism(), schemaObjectDefinitionList.size());
+
+		if (resolvedParallelism < 2) {
+			schemaObjectDefinitionList.forEach(createFunction);
+		}
+		else {
+
+			ExecutorService executorService = newExecutorService(resolvedParallelism);
+
+			try {
+
+				List<CompletableFuture<Void>> futures = schemaObjectDefinitionList.stream()
+					.map(schemaObjectDefinition -> CompletableFuture.runAsync(() ->
+						createFunction.accept(schemaObjectDefinition), executorService))
+					.collect(Collectors.toList());
+
+				RuntimeException failure = null;
+
+				for (CompletableFuture<Void> future : futures) {
+					try {
+						future.join();
+					}
+					catch (CompletionException cause) {
+
+						RuntimeException resolvedCause = cause.getCause() instanceof RuntimeException
+							? (RuntimeException) cause.getCause()
+							: cause;
+
+						if (failure == null) {
+							failure = resolvedCause;
+						}
+						else {
+							failure.addSuppressed(resolvedCause);
+						}
+					}
+				}
+
+				if (failure != null) {
+					throw failure;
+				}
+			}
+			finally {
+				executorService.shutdown();
+			}
+		}
+	}
+
+	protected ExecutorService newExecutorService(int parallelism) {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(parallelism, runnable -> {
+
+			Thread thread = new Thread(runnable,
+				String.format("%s-Thread-%d", getClass().getSimpleName(), threadCount.incrementAndGet()));
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
+	}
+
 	public static class Builder {
 
 		private boolean followRedirects = DEFAULT_HTTP_FOLLOW_REDIRECTS;
 
+		private int parallelism = DEFAULT_PARALLELISM;
 		private int port = DEFAULT_PORT;
 
 		private ClientCache clientCache;
@@ -338,6 +474,16 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 			return this;
 		}
 
+		public Builder withParallelism(int parallelism) {
+
+			Assert.isTrue(parallelism > 0,
+				() -> String.format("Parallelism [%d] must be greater than 0", parallelism));
+
+			this.parallelism = parallelism;
+
+			return this;
+		}
+
 		public Builder on(String hostname) {
 			this.hostname = StringUtils.hasText(hostname) ? hostname : DEFAULT_HOST;
 			return this;
@@ -409,8 +555,13 @@ public class RestHttpGemfireAdminTemplate extends FunctionGemfireAdminTemplate {
 
 		public RestHttpGemfireAdminTemplate build() {
 
-			return new RestHttpGemfireAdminTemplate(this.clientCache, this.scheme, this.hostname, this.port,
-				this.followRedirects, this.clientHttpRequestInterceptors, this.restTemplateConfigurers);
+			RestHttpGemfireAdminTemplate template = new RestHttpGemfireAdminTemplate(this.clientCache, this.scheme,
+				this.hostname, this.port, this.followRedirects, this.clientHttpRequestInterceptors,
+				this.restTemplateConfigurers);
+
+			template.setParallelism(this.parallelism);
+
+			return template;
 		}
 	}
 
@@ -17,13 +17,17 @@ package org.springframework.data.gemfire.config.annotation;
 
 import static org.springframework.data.gemfire.util.CacheUtils.isClient;
 import static org.springframework.data.gemfire.util.CacheUtils.isPeer;
+import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeIterable;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeMap;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -33,6 +37,9 @@ import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 import org.apache.geode.cache.query.Index;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
@@ -49,6 +56,9 @@ import org.springframework.data.gemfire.config.admin.remote.RestHttpGemfireAdmin
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.config.schema.SchemaObjectCollector;
 import org.springframework.data.gemfire.config.schema.SchemaObjectDefiner;
+import org.springframework.data.gemfire.config.schema.SchemaObjectDefinition;
+import org.springframework.data.gemfire.config.schema.SchemaObjectType;
+import org.springframework.data.gemfire.config.schema.definitions.IndexDefinition;
 import org.springframework.data.gemfire.config.schema.definitions.RegionDefinition;
 import org.springframework.data.gemfire.config.schema.support.ClientRegionCollector;
 import org.springframework.data.gemfire.config.schema.support.ComposableSchemaObjectCollector;
@@ -98,6 +108,7 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 	protected static final boolean DEFAULT_MANAGEMENT_USE_HTTP = false;
 	protected static final boolean DEFAULT_MANAGEMENT_REQUIRE_HTTPS = true;
 
+	protected static final int DEFAULT_MANAGEMENT_HTTP_PARALLELISM = RestHttpGemfireAdminTemplate.DEFAULT_PARALLELISM;
 	protected static final int DEFAULT_MANAGEMENT_HTTP_PORT = HttpServiceConfiguration.DEFAULT_HTTP_SERVICE_PORT;
 
 	protected static final String DEFAULT_MANAGEMENT_HTTP_HOST = "localhost";
@@ -112,6 +123,7 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 	private Boolean requireHttps = DEFAULT_MANAGEMENT_REQUIRE_HTTPS;
 	private Boolean useHttp = DEFAULT_MANAGEMENT_USE_HTTP;
 
+	private Integer managementHttpParallelism = DEFAULT_MANAGEMENT_HTTP_PARALLELISM;
 	private Integer managementHttpPort = DEFAULT_MANAGEMENT_HTTP_PORT;
 
 	@Autowired(required = false)
@@ -144,6 +156,18 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 		return getManagementHttpHost().orElse(DEFAULT_MANAGEMENT_HTTP_HOST);
 	}
 
+	protected void setManagementHttpParallelism(Integer managementHttpParallelism) {
+		this.managementHttpParallelism = managementHttpParallelism;
+	}
+
+	protected Optional<Integer> getManagementHttpParallelism() {
+		return Optional.ofNullable(this.managementHttpParallelism);
+	}
+
+	protected int resolveManagementHttpParallelism() {
+		return getManagementHttpParallelism().orElse(DEFAULT_MANAGEMENT_HTTP_PARALLELISM);
+	}
+
 	protected void setManagementHttpPort(Integer managementHttpPort) {
 		this.managementHttpPort = managementHttpPort;
 	}
@@ -229,6 +253,9 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 			setManagementHttpPort(resolveProperty(managementProperty("http.port"),
 				enableClusterConfigurationAttributes.<Integer>getNumber("port")));
 
+			setManagementHttpParallelism(resolveProperty(managementProperty("http.parallelism"),
+				enableClusterConfigurationAttributes.<Integer>getNumber("parallelism")));
+
 			setManagementHttpEnableInterceptors(resolveProperty(managementProperty("http.enable-interceptors"),
 				enableClusterConfigurationAttributes.getBoolean("enableInterceptors")));
 
@@ -340,6 +367,7 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 	 * @see org.apache.geode.cache.client.ClientCache
 	 * @see #resolveClientHttpRequestInterceptors(boolean)
 	 * @see #resolveManagementHttpHost()
+	 * @see #resolveManagementHttpParallelism()
 	 * @see #resolveManagementHttpPort()
 	 * @see #resolveManagementRequireHttps()
 	 * @see #resolveManagementUseHttp()
@@ -353,6 +381,7 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 			boolean requireHttps = resolveManagementRequireHttps();
 			boolean resolvedFollowRedirects = !requireHttps || followRedirects;
 
+			int parallelism = resolveManagementHttpParallelism();
 			int port = resolveManagementHttpPort();
 
 			String host = resolveManagementHttpHost();
@@ -364,7 +393,8 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 				.with(clientCache)
 				.using(scheme)
 				.on(host)
-				.followRedirects(resolvedFollowRedirects), port)
+				.followRedirects(resolvedFollowRedirects)
+				.withParallelism(parallelism), port)
 				.build();
 		}
 		else {
@@ -412,6 +442,8 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 
 	public static class ClusterSchemaObjectInitializer extends AbstractSmartLifecycle {
 
+		private final Logger logger = LoggerFactory.getLogger(getClass());
+
 		private final SchemaObjectContext schemaObjectContext;
 
 		protected ClusterSchemaObjectInitializer(SchemaObjectContext schemaObjectContext) {
@@ -448,11 +480,17 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 				//Iterable<?> cacheSchemaObjects = schemaObjectContext.getSchemaObjectCollector()
 				//	.collectFrom(schemaObjectContext.<GemFireCache>getGemfireCache());
 
-				StreamSupport.stream(schemaObjects.spliterator(), false)
-					.map(schemaObjectContext.getSchemaObjectDefiner()::define)
-					.sorted(OrderComparator.INSTANCE)
-					.forEach(schemaObjectDefinition -> schemaObjectDefinition.ifPresent(it ->
-						it.create(schemaObjectContext.getGemfireAdminOperations())));
+				List<SchemaObjectDefinition> schemaObjectDefinitions =
+					StreamSupport.stream(schemaObjects.spliterator(), false)
+						.map(schemaObjectContext.getSchemaObjectDefiner()::define)
+						.filter(Optional::isPresent)
+						.<SchemaObjectDefinition>map(Optional::get)
+						.sorted(OrderComparator.INSTANCE)
+						.collect(Collectors.toList());
+
+				if (!schemaObjectDefinitions.isEmpty()) {
+					push(schemaObjectContext.getGemfireAdminOperations(), schemaObjectDefinitions);
+				}
 
 				setRunning(true);
 			}
@@ -468,6 +506,93 @@ public class ClusterConfigurationConfiguration extends AbstractAnnotationConfigS
 			*/
 		}
 
+		/**
+		 * Pushes the missing {@link SchemaObjectDefinition SchemaObjectDefinitions} to the cluster.
+		 *
+		 * The {@link Region Regions} and {@link Index Indexes} already defined in the cluster are listed once,
+		 * up front, and only the missing {@link RegionDefinition RegionDefinitions} and
+		 * {@link IndexDefinition IndexDefinitions} are sent, in bulk, to the cluster. Consecutive definitions
+		 * of the same {@link SchemaObjectType} are grouped so that the given order is preserved between groups
+		 * (e.g. all {@link Region Regions} are created before any {@link Index Indexes}).
+		 *
+		 * @param gemfireAdminOperations {@link GemfireAdminOperations} used to list and create schema objects
+		 * in the cluster.
+		 * @param schemaObjectDefinitions ordered {@link List} of {@link SchemaObjectDefinition
+		 * SchemaObjectDefinitions} to push to the cluster.
+		 * @see org.springframework.data.gemfire.config.admin.GemfireAdminOperations#createIndexes(Iterable)
+		 * @see org.springframework.data.gemfire.config.admin.GemfireAdminOperations#createRegions(Iterable)
+		 */
+		protected void push(GemfireAdminOperations gemfireAdminOperations,
+				List<SchemaObjectDefinition> schemaObjectDefinitions) {
+
+			Set<String> existingRegionNames = listExisting(gemfireAdminOperations::getAvailableServerRegions);
+
+			Set<String> existingIndexNames = listExisting(gemfireAdminOperations::getAvailableServerRegionIndexes);
+
+			List<SchemaObjectDefinition> batch = new ArrayList<>();
+
+			for (SchemaObjectDefinition schemaObjectDefinition : schemaObjectDefinitions) {
+
+				if (!batch.isEmpty() && batch.get(0).getType() != schemaObjectDefinition.getType()) {
+					pushBatch(gemfireAdminOperations, batch);
+					batch.clear();
+				}
+
+				if (isMissing(schemaObjectDefinition, existingRegionNames, existingIndexNames)) {
+					batch.add(schemaObjectDefinition);
+				}
+			}
+
+			pushBatch(gemfireAdminOperations, batch);
+		}
+
+		private Set<String> listExisting(Supplier<Iterable<String>> schemaObjectNamesSupplier) {
+
+			try {
+				return StreamSupport.stream(nullSafeIterable(schemaObjectNamesSupplier.get()).spliterator(), false)
+					.collect(Collectors.toSet());
+			}
+			catch (Exception cause) {
+
+				// The cluster could not be queried; push all definitions and let the cluster skip existing objects
+				this.logger.warn("Failed to list the schema objects existing in the cluster;"
+					+ " pushing all schema object definitions", cause);
+
+				return Collections.emptySet();
+			}
+		}
+
+		private boolean isMissing(SchemaObjectDefinition schemaObjectDefinition,
+				Set<String> existingRegionNames, Set<String> existingIndexNames) {
+
+			String name = schemaObjectDefinition.getName();
+
+			return schemaObjectDefinition instanceof RegionDefinition ? !existingRegionNames.contains(name)
+				: schemaObjectDefinition instanceof IndexDefinition ? !existingIndexNames.contains(name)
+				: true;
+		}
+
+		private void pushBatch(GemfireAdminOperations gemfireAdminOperations,
+				List<SchemaObjectDefinition> schemaObjectDefinitions) {
+
+			if (!schemaObjectDefinitions.isEmpty()) {
+
+				if (schemaObjectDefinitions.stream().allMatch(RegionDefinition.class::isInstance)) {
+					gemfireAdminOperations.createRegions(schemaObjectDefinitions.stream()
+						.map(RegionDefinition.class::cast)
+						.collect(Collectors.toList()));
+				}
+				else if (schemaObjectDefinitions.stream().allMatch(IndexDefinition.class::isInstance)) {
+					gemfireAdminOperations.createIndexes(schemaObjectDefinitions.stream()
+						.map(IndexDefinition.class::cast)
+						.collect(Collectors.toList()));
+				}
+				else {
+					schemaObjectDefinitions.forEach(it -> it.create(gemfireAdminOperations));
+				}
+			}
+		}
+
 		@Override
 		public void stop() {
 			setRunning(false);
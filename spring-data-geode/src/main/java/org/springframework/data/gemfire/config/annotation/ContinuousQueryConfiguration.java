@@ -42,6 +42,7 @@ import org.springframework.core.type.AnnotationMetadata;
 import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
 import org.springframework.data.gemfire.listener.ContinuousQueryDefinition;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.data.gemfire.util.CacheUtils;
 import org.springframework.util.Assert;
@@ -78,7 +79,17 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 	protected static final String ORG_SPRINGFRAMEWORK_DATA_GEMFIRE_PACKAGE_NAME = "org.springframework.data.gemfire";
 	protected static final String ORG_SPRINGFRAMEWORK_PACKAGE_NAME = "org.springframework";
 
+	private boolean conflateBatches = false;
+
+	private int batchSize = ContinuousQueryListenerContainer.DEFAULT_BATCH_SIZE;
 	private int phase;
+	private int queueCapacity = KeyOrderedEventDispatcher.DEFAULT_QUEUE_CAPACITY;
+	private int workerCount;
+
+	private long batchInterval = ContinuousQueryListenerContainer.DEFAULT_BATCH_INTERVAL;
+
+	private KeyOrderedEventDispatcher.BackpressurePolicy backpressurePolicy =
+		KeyOrderedEventDispatcher.BackpressurePolicy.BLOCK;
 
 	@Autowired(required = false)
 	private List<ContinuousQueryListenerContainerConfigurer> configurers = Collections.emptyList();
@@ -111,11 +122,17 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 
 			AnnotationAttributes enableContinuousQueriesAttributes = getAnnotationAttributes(importingClassMetadata);
 
+			setBackpressurePolicy(enableContinuousQueriesAttributes.getEnum("backpressurePolicy"));
+			setBatchInterval(enableContinuousQueriesAttributes.<Long>getNumber("batchInterval"));
+			setBatchSize(enableContinuousQueriesAttributes.<Integer>getNumber("batchSize"));
+			setConflateBatches(enableContinuousQueriesAttributes.getBoolean("conflateBatches"));
 			setErrorHandlerBeanName(enableContinuousQueriesAttributes.getString("errorHandlerBeanName"));
 			setPhase(enableContinuousQueriesAttributes.<Integer>getNumber("phase"));
 			setPoolName(enableContinuousQueriesAttributes.getString("poolName"));
 			setQueryServiceBeanName(enableContinuousQueriesAttributes.getString("queryServiceBeanName"));
+			setQueueCapacity(enableContinuousQueriesAttributes.<Integer>getNumber("queueCapacity"));
 			setTaskExecutorBeanName(enableContinuousQueriesAttributes.getString("taskExecutorBeanName"));
+			setWorkerCount(enableContinuousQueriesAttributes.<Integer>getNumber("workerCount"));
 		}
 	}
 
@@ -199,14 +216,20 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 
 		ContinuousQueryListenerContainer container = new ContinuousQueryListenerContainer();
 
+		container.setBackpressurePolicy(getBackpressurePolicy());
+		container.setBatchInterval(getBatchInterval());
+		container.setBatchSize(getBatchSize());
 		container.setCache(gemfireCache);
+		container.setConflateBatches(isConflateBatches());
 		container.setContinuousQueryListenerContainerConfigurers(resolveContinuousQueryListenerContainerConfigurers());
+		container.setQueueCapacity(getQueueCapacity());
 
 		resolveErrorHandler().ifPresent(container::setErrorHandler);
 		resolvePhase().ifPresent(container::setPhase);
 		resolvePoolName().ifPresent(container::setPoolName);
 		resolveQueryService().ifPresent(container::setQueryService);
 		resolveTaskExecutor().ifPresent(container::setTaskExecutor);
+		resolveWorkerCount().ifPresent(container::setWorkerCount);
 
 		return container;
 	}
@@ -247,6 +270,42 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 			.map(taskExecutorBeanName -> getBeanFactory().getBean(taskExecutorBeanName, Executor.class));
 	}
 
+	protected Optional<Integer> resolveWorkerCount() {
+		return Optional.of(getWorkerCount()).filter(workerCount -> workerCount > 0);
+	}
+
+	public void setBackpressurePolicy(KeyOrderedEventDispatcher.BackpressurePolicy backpressurePolicy) {
+		this.backpressurePolicy = backpressurePolicy;
+	}
+
+	protected KeyOrderedEventDispatcher.BackpressurePolicy getBackpressurePolicy() {
+		return this.backpressurePolicy;
+	}
+
+	public void setBatchInterval(long batchInterval) {
+		this.batchInterval = batchInterval;
+	}
+
+	protected long getBatchInterval() {
+		return this.batchInterval;
+	}
+
+	public void setBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+	}
+
+	protected int getBatchSize() {
+		return this.batchSize;
+	}
+
+	public void setConflateBatches(boolean conflateBatches) {
+		this.conflateBatches = conflateBatches;
+	}
+
+	protected boolean isConflateBatches() {
+		return this.conflateBatches;
+	}
+
 	public void setErrorHandlerBeanName(String errorHandlerBeanName) {
 		this.errorHandlerBeanName = errorHandlerBeanName;
 	}
@@ -279,6 +338,14 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 		return this.queryServiceBeanName;
 	}
 
+	public void setQueueCapacity(int queueCapacity) {
+		this.queueCapacity = queueCapacity;
+	}
+
+	protected int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
 	public void setTaskExecutorBeanName(String taskExecutorBeanName) {
 		this.taskExecutorBeanName = taskExecutorBeanName;
 	}
@@ -286,4 +353,12 @@ public class ContinuousQueryConfiguration extends AbstractAnnotationConfigSuppor
 	protected String getTaskExecutorBeanName() {
 		return this.taskExecutorBeanName;
 	}
+
+	public void setWorkerCount(int workerCount) {
+		this.workerCount = workerCount;
+	}
+
+	protected int getWorkerCount() {
+		return this.workerCount;
+	}
 }
@@ -28,6 +28,7 @@ import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
 
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.config.admin.remote.RestHttpGemfireAdminTemplate;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
@@ -80,6 +81,18 @@ public @interface EnableClusterConfiguration {
 	 */
 	int port() default ClusterConfigurationConfiguration.DEFAULT_MANAGEMENT_HTTP_PORT;
 
+	/**
+	 * Configures the maximum number of concurrent HTTP requests sent to the Manager's Management REST API
+	 * when creating multiple {@link Region Regions} or Indexes.  This configuration setting is only used
+	 * when {@link #useHttp()} is set to {@literal true}.
+	 *
+	 * Alternatively, you can configure this setting using the
+	 * {@literal spring.data.gemfire.management.http.parallelism} property in {@literal application.properties}.
+	 *
+	 * Defaults to {@literal 4}.
+	 */
+	int parallelism() default RestHttpGemfireAdminTemplate.DEFAULT_PARALLELISM;
+
 	/**
 	 * Configures whether to enable {@link ClientHttpRequestInterceptor} bean lookup.
 	 *
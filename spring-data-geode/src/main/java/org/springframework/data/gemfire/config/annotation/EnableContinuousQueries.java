@@ -29,7 +29,9 @@ import org.apache.geode.cache.query.QueryService;
 
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.listener.ContinuousQueryBatchListener;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -47,7 +49,9 @@ import org.springframework.util.ErrorHandler;
  * @see org.springframework.context.annotation.Configuration
  * @see org.springframework.context.annotation.Import
  * @see org.springframework.data.gemfire.config.annotation.ContinuousQueryConfiguration
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryBatchListener
  * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @see org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher
  * @since @.0.0
  */
 @Target(ElementType.TYPE)
@@ -58,6 +62,39 @@ import org.springframework.util.ErrorHandler;
 @SuppressWarnings("unused")
 public @interface EnableContinuousQueries {
 
+	/**
+	 * Defines the policy applied by the default CQ event dispatcher when the queue of a worker is full.
+	 *
+	 * Ignored when {@link #taskExecutorBeanName()} is set.
+	 *
+	 * Defaults to {@link KeyOrderedEventDispatcher.BackpressurePolicy#BLOCK}.
+	 */
+	KeyOrderedEventDispatcher.BackpressurePolicy backpressurePolicy()
+		default KeyOrderedEventDispatcher.BackpressurePolicy.BLOCK;
+
+	/**
+	 * Defines the default maximum time in milliseconds a CQ event waits in a batch before the batch is delivered
+	 * to a {@link ContinuousQueryBatchListener}.
+	 *
+	 * Defaults to {@literal 1000} milliseconds.
+	 */
+	long batchInterval() default ContinuousQueryListenerContainer.DEFAULT_BATCH_INTERVAL;
+
+	/**
+	 * Defines the default maximum number of CQ events in a batch delivered to a {@link ContinuousQueryBatchListener}.
+	 *
+	 * Defaults to {@literal 100}.
+	 */
+	int batchSize() default ContinuousQueryListenerContainer.DEFAULT_BATCH_SIZE;
+
+	/**
+	 * Determines whether only the latest CQ event per key is kept inside a batch delivered to
+	 * a {@link ContinuousQueryBatchListener}.
+	 *
+	 * Defaults to {@literal false}.
+	 */
+	boolean conflateBatches() default false;
+
 	/**
 	 * Refers to the {@link String name} of the declared {@link ErrorHandler} bean that will handle errors
 	 * thrown during CQ event processing by CQ listeners.
@@ -88,6 +125,15 @@ public @interface EnableContinuousQueries {
 	 */
 	String queryServiceBeanName() default "";
 
+	/**
+	 * Defines the capacity of the queue of each worker of the default CQ event dispatcher.
+	 *
+	 * Ignored when {@link #taskExecutorBeanName()} is set.
+	 *
+	 * Defaults to {@literal 1024}.
+	 */
+	int queueCapacity() default KeyOrderedEventDispatcher.DEFAULT_QUEUE_CAPACITY;
+
 	/**
 	 * Refers to the name of the {@link Executor} bean used to process CQ events asynchronously.
 	 *
@@ -95,4 +141,14 @@ public @interface EnableContinuousQueries {
 	 */
 	String taskExecutorBeanName() default "";
 
+	/**
+	 * Defines the number of workers of the default CQ event dispatcher.  A value less than or equal to {@literal 0}
+	 * uses the number of available processors, with a minimum of {@literal 2}.
+	 *
+	 * Ignored when {@link #taskExecutorBeanName()} is set.
+	 *
+	 * Defaults to {@literal 0}.
+	 */
+	int workerCount() default 0;
+
 }
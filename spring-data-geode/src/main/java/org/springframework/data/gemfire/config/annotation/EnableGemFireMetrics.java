@@ -0,0 +1,70 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * The {@link EnableGemFireMetrics} annotation marks a Spring {@link Configuration @Configuration} annotated
+ * application {@link Class} to record Micrometer timers and counters for Spring Data for Apache Geode
+ * data access operations.
+ *
+ * Metrics are recorded for {@link org.springframework.data.gemfire.GemfireTemplate} operations and
+ * {@link org.springframework.data.gemfire.repository.GemfireRepository} query methods tagged by {@literal Region}
+ * and method, {@link org.apache.geode.cache.execute.Function} executions tagged by {@literal Function} ID,
+ * CQ event dispatch latency tagged by {@literal CQ} name and PDX serialization tagged by entity type.
+ *
+ * Unlike {@link EnableRegionDataAccessTracing}, meters are resolved once and cached, so the instrumentation
+ * is suitable for use in production.
+ *
+ * Requires {@literal io.micrometer:micrometer-core} on the application classpath.
+ *
+ * @author agent
+ * @see java.lang.annotation.Annotation
+ * @see org.springframework.context.annotation.Import
+ * @see org.springframework.data.gemfire.config.annotation.GemFireMetricsConfiguration
+ * @since 3.0.0
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Inherited
+@Documented
+@Import(GemFireMetricsConfiguration.class)
+@SuppressWarnings("unused")
+public @interface EnableGemFireMetrics {
+
+	/**
+	 * Reference to the {@link String name} of the {@link io.micrometer.core.instrument.MeterRegistry} bean
+	 * registered in the Spring container in which the meters are recorded.
+	 *
+	 * Defaults to the single {@link io.micrometer.core.instrument.MeterRegistry} bean declared in the Spring
+	 * container, or the Micrometer {@link io.micrometer.core.instrument.Metrics#globalRegistry global registry}
+	 * if no {@link io.micrometer.core.instrument.MeterRegistry} bean was declared.
+	 *
+	 * Use the {@literal spring.data.gemfire.metrics.meter-registry-bean-name} property
+	 * in {@literal application.properties}.
+	 */
+	String meterRegistryBeanName() default "";
+
+}
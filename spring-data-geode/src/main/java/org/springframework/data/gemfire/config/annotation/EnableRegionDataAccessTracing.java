@@ -25,11 +25,22 @@ import java.lang.annotation.Target;
 
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
- * The EnableRegionDataAccessTracing class...
+ * The {@link EnableRegionDataAccessTracing} annotation enables sampled tracing of data access operations
+ * invoked on {@link org.apache.geode.cache.Region} beans declared in the Spring container.
+ *
+ * Sampled calls are counted by {@link org.apache.geode.cache.Region}, operation and application call site
+ * in the {@link org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics} bean,
+ * which reports the hottest callers per {@link org.apache.geode.cache.Region}, and the top application
+ * stack frames are logged at {@literal TRACE} level.
  *
  * @author John Blum
+ * @see org.springframework.context.annotation.EnableAspectJAutoProxy
+ * @see org.springframework.data.gemfire.config.annotation.RegionDataAccessTracingConfiguration
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
  * @since 1.0.0
  */
 @Target(ElementType.TYPE)
@@ -41,4 +52,36 @@ import org.springframework.context.annotation.Import;
 @SuppressWarnings("unused")
 public @interface EnableRegionDataAccessTracing {
 
+	/**
+	 * Identifies the {@link org.apache.geode.cache.Region Regions} by name or path to trace.
+	 *
+	 * Defaults to all {@link org.apache.geode.cache.Region Regions}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.region-names} property
+	 * in {@literal application.properties}.
+	 */
+	String[] regionNames() default {};
+
+	/**
+	 * Fraction of {@link org.apache.geode.cache.Region} data access calls to sample, between {@literal 0.0}
+	 * and {@literal 1.0}.
+	 *
+	 * Defaults to {@literal 0.01}, which traces {@literal 1%} of the calls. Use {@literal 1.0} to trace every call
+	 * while debugging; each sampled call walks the stack and is recorded even when {@literal TRACE} logging is off.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.sample-rate} property
+	 * in {@literal application.properties}.
+	 */
+	double sampleRate() default RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE;
+
+	/**
+	 * Maximum number of application stack frames captured for each sampled call.
+	 *
+	 * Defaults to {@literal 10}.
+	 *
+	 * Use the {@literal spring.data.gemfire.region.data-access.tracing.stack-depth} property
+	 * in {@literal application.properties}.
+	 */
+	int stackDepth() default RegionDataAccessTracingAspect.DEFAULT_STACK_DEPTH;
+
 }
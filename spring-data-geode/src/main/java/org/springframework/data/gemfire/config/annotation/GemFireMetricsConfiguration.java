@@ -0,0 +1,113 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation;
+
+import java.lang.annotation.Annotation;
+import java.util.Optional;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.config.annotation.support.GemFireMetricsBeanPostProcessor;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * The {@link GemFireMetricsConfiguration} class is a Spring {@link ImportAware} implementation used to register
+ * the {@link GemFireMetricsBeanPostProcessor} that instruments Spring Data for Apache Geode components
+ * with Micrometer meters.
+ *
+ * The {@link MeterRegistry} is resolved lazily, when the first meter is registered, to avoid the early
+ * initialization of the {@link MeterRegistry} bean by the {@link BeanPostProcessor}.
+ *
+ * @author agent
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.context.annotation.ImportAware
+ * @see org.springframework.data.gemfire.config.annotation.EnableGemFireMetrics
+ * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetricsBeanPostProcessor
+ * @since 3.0.0
+ */
+@Configuration
+@SuppressWarnings("unused")
+public class GemFireMetricsConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
+
+	private String meterRegistryBeanName;
+
+	/**
+	 * Returns the {@link EnableGemFireMetrics} {@link Annotation} {@link Class} type.
+	 *
+	 * @return the {@link EnableGemFireMetrics} {@link Annotation} {@link Class} type.
+	 * @see org.springframework.data.gemfire.config.annotation.EnableGemFireMetrics
+	 * @see java.lang.annotation.Annotation
+	 */
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableGemFireMetrics.class;
+	}
+
+	public void setMeterRegistryBeanName(String meterRegistryBeanName) {
+		this.meterRegistryBeanName = meterRegistryBeanName;
+	}
+
+	protected Optional<String> getMeterRegistryBeanName() {
+		return Optional.ofNullable(this.meterRegistryBeanName).filter(StringUtils::hasText);
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importingClassMetadata) {
+
+		if (isAnnotationPresent(importingClassMetadata)) {
+
+			AnnotationAttributes enableGemFireMetricsAttributes = getAnnotationAttributes(importingClassMetadata);
+
+			setMeterRegistryBeanName(resolveProperty(metricsProperty("meter-registry-bean-name"),
+				enableGemFireMetricsAttributes.getString("meterRegistryBeanName")));
+		}
+	}
+
+	@Bean
+	public BeanPostProcessor gemfireMetricsBeanPostProcessor() {
+		return new GemFireMetricsBeanPostProcessor(this::resolveMeterRegistry);
+	}
+
+	/**
+	 * Resolves the {@link MeterRegistry} in which the Spring Data for Apache Geode meters are recorded.
+	 *
+	 * @return the named {@link MeterRegistry} bean, the single {@link MeterRegistry} bean declared in
+	 * the Spring container, or the {@link Metrics#globalRegistry}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 * @see #getMeterRegistryBeanName()
+	 */
+	protected MeterRegistry resolveMeterRegistry() {
+
+		BeanFactory beanFactory = getBeanFactory();
+
+		return getMeterRegistryBeanName()
+			.map(beanName -> beanFactory.getBean(beanName, MeterRegistry.class))
+			.orElseGet(() -> beanFactory.getBeanProvider(MeterRegistry.class).getIfUnique(() -> Metrics.globalRegistry));
+	}
+}
@@ -15,22 +15,91 @@
  */
 package org.springframework.data.gemfire.config.annotation;
 
+import java.lang.annotation.Annotation;
+
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportAware;
+import org.springframework.core.annotation.AnnotationAttributes;
+import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics;
 import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 
 /**
- * The RegionDataAccessTracingConfiguration class...
+ * The {@link RegionDataAccessTracingConfiguration} class is a Spring {@link ImportAware} implementation
+ * registering the {@link RegionDataAccessTracingAspect} along with the {@link RegionDataAccessStatistics}
+ * in which sampled {@link org.apache.geode.cache.Region} data access calls are recorded.
  *
  * @author John Blum
+ * @see org.springframework.context.annotation.Bean
+ * @see org.springframework.context.annotation.Configuration
+ * @see org.springframework.context.annotation.ImportAware
+ * @see org.springframework.data.gemfire.config.annotation.EnableRegionDataAccessTracing
+ * @see org.springframework.data.gemfire.config.annotation.support.AbstractAnnotationConfigSupport
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
  * @since 1.0.0
  */
 @Configuration
 @SuppressWarnings("unused")
-public class RegionDataAccessTracingConfiguration {
+public class RegionDataAccessTracingConfiguration extends AbstractAnnotationConfigSupport implements ImportAware {
+
+	private double sampleRate = RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE;
+
+	private int stackDepth = RegionDataAccessTracingAspect.DEFAULT_STACK_DEPTH;
+
+	private String[] regionNames = {};
+
+	/**
+	 * Returns the {@link EnableRegionDataAccessTracing} {@link Annotation} {@link Class} type.
+	 *
+	 * @return the {@link EnableRegionDataAccessTracing} {@link Annotation} {@link Class} type.
+	 * @see org.springframework.data.gemfire.config.annotation.EnableRegionDataAccessTracing
+	 * @see java.lang.annotation.Annotation
+	 */
+	@Override
+	protected Class<? extends Annotation> getAnnotationType() {
+		return EnableRegionDataAccessTracing.class;
+	}
+
+	@Override
+	public void setImportMetadata(AnnotationMetadata importingClassMetadata) {
+
+		if (isAnnotationPresent(importingClassMetadata)) {
+
+			AnnotationAttributes enableRegionDataAccessTracingAttributes =
+				getAnnotationAttributes(importingClassMetadata);
+
+			this.regionNames = resolveProperty(regionDataAccessTracingProperty("region-names"),
+				String[].class, enableRegionDataAccessTracingAttributes.getStringArray("regionNames"));
+
+			this.sampleRate = resolveProperty(regionDataAccessTracingProperty("sample-rate"),
+				enableRegionDataAccessTracingAttributes.<Double>getNumber("sampleRate"));
+
+			this.stackDepth = resolveProperty(regionDataAccessTracingProperty("stack-depth"),
+				enableRegionDataAccessTracingAttributes.<Integer>getNumber("stackDepth"));
+		}
+	}
+
+	protected String regionDataAccessTracingProperty(String propertyNameSuffix) {
+		return String.format("%1$s%2$s", propertyName("region.data-access.tracing."), propertyNameSuffix);
+	}
+
+	@Bean
+	public RegionDataAccessStatistics regionDataAccessStatistics() {
+		return new RegionDataAccessStatistics();
+	}
 
 	@Bean
-	public RegionDataAccessTracingAspect regionDataAccessTracingAspect() {
-		return new RegionDataAccessTracingAspect();
+	public RegionDataAccessTracingAspect regionDataAccessTracingAspect(RegionDataAccessStatistics statistics) {
+
+		RegionDataAccessTracingAspect aspect = new RegionDataAccessTracingAspect(statistics);
+
+		aspect.setRegionNames(this.regionNames);
+		aspect.setSampleRate(this.sampleRate);
+		aspect.setStackDepth(this.stackDepth);
+
+		return aspect;
 	}
 }
@@ -777,6 +777,10 @@ public abstract class AbstractAnnotationConfigSupport
 		return String.format("%1$s%2$s", propertyName("manager."), propertyNameSuffix);
 	}
 
+	protected String metricsProperty(String propertyNameSuffix) {
+		return String.format("%1$s%2$s", propertyName("metrics."), propertyNameSuffix);
+	}
+
 	protected String pdxProperty(String propertyNameSuffix) {
 		return String.format("%1$s%2$s", propertyName("pdx."), propertyNameSuffix);
 	}
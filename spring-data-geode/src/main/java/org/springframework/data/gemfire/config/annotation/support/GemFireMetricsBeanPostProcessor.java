@@ -0,0 +1,588 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.data.gemfire.AbstractBasicCacheFactoryBean;
+import org.springframework.data.gemfire.GemfireOperations;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.function.execution.GemfireFunctionOperations;
+import org.springframework.data.gemfire.listener.ContinuousQueryDispatchObserver;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Spring {@link BeanPostProcessor} used to instrument Spring Data for Apache Geode components
+ * with Micrometer {@link Timer Timers} and counters.
+ *
+ * The following components are instrumented:
+ *
+ * <ul>
+ *     <li>{@link GemfireTemplate} beans, timing {@link GemfireOperations} tagged by operation and {@link Region}.</li>
+ *     <li>{@link GemfireRepositoryFactoryBean Repositories}, timing repository method invocations tagged by
+ *     repository, method and {@link Region}.</li>
+ *     <li>{@link GemfireFunctionOperations} beans, timing {@link org.apache.geode.cache.execute.Function}
+ *     executions tagged by {@link org.apache.geode.cache.execute.Function} ID.</li>
+ *     <li>{@link ContinuousQueryListenerContainer} beans, timing CQ event dispatch latency tagged by CQ name
+ *     and binding the {@link KeyOrderedEventDispatcher} queue depth and counts.</li>
+ *     <li>The cache {@link MappingPdxSerializer}, timing PDX serialization tagged by entity type.</li>
+ * </ul>
+ *
+ * Meters for successful operations are resolved once and cached by the instrumented component so that
+ * recording a measurement does not require a {@link MeterRegistry} lookup.
+ *
+ * @author agent
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see io.micrometer.core.instrument.Timer
+ * @see org.springframework.beans.factory.config.BeanPostProcessor
+ * @see org.springframework.data.gemfire.config.annotation.EnableGemFireMetrics
+ * @since 3.0.0
+ */
+public class GemFireMetricsBeanPostProcessor implements BeanPostProcessor {
+
+	public static final String CQ_DISPATCH_METER_NAME = "gemfire.cq.dispatch";
+	public static final String CQ_DISPATCHER_METER_NAME_PREFIX = "gemfire.cq.dispatcher";
+	public static final String FUNCTION_EXECUTION_METER_NAME = "gemfire.function.executions";
+	public static final String PDX_SERIALIZATION_METER_NAME = "gemfire.pdx.serialization";
+	public static final String REPOSITORY_INVOCATION_METER_NAME = "gemfire.repository.invocations";
+	public static final String TEMPLATE_OPERATION_METER_NAME = "gemfire.template.operations";
+
+	protected static final String NONE = "none";
+
+	private final Supplier<MeterRegistry> meterRegistry;
+
+	/**
+	 * Constructs a new instance of {@link GemFireMetricsBeanPostProcessor} initialized with
+	 * the given {@link MeterRegistry}.
+	 *
+	 * @param meterRegistry {@link MeterRegistry} in which the meters are recorded; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link MeterRegistry} is {@literal null}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	public GemFireMetricsBeanPostProcessor(@NonNull MeterRegistry meterRegistry) {
+		this(newMeterRegistrySupplier(meterRegistry));
+	}
+
+	/**
+	 * Constructs a new instance of {@link GemFireMetricsBeanPostProcessor} initialized with a {@link Supplier}
+	 * used to lazily resolve the {@link MeterRegistry} when the first meter is registered.
+	 *
+	 * @param meterRegistrySupplier {@link Supplier} of the {@link MeterRegistry}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Supplier} is {@literal null}.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 * @see java.util.function.Supplier
+	 */
+	public GemFireMetricsBeanPostProcessor(@NonNull Supplier<MeterRegistry> meterRegistrySupplier) {
+
+		Assert.notNull(meterRegistrySupplier, "MeterRegistry Supplier must not be null");
+
+		this.meterRegistry = SingletonSupplier.of(meterRegistrySupplier);
+	}
+
+	private static Supplier<MeterRegistry> newMeterRegistrySupplier(MeterRegistry meterRegistry) {
+
+		Assert.notNull(meterRegistry, "MeterRegistry must not be null");
+
+		return () -> meterRegistry;
+	}
+
+	/**
+	 * Returns the {@link MeterRegistry} in which the meters are recorded.
+	 *
+	 * @return the {@link MeterRegistry} in which the meters are recorded.
+	 * @throws IllegalStateException if the {@link MeterRegistry} could not be resolved.
+	 * @see io.micrometer.core.instrument.MeterRegistry
+	 */
+	protected @NonNull MeterRegistry getMeterRegistry() {
+
+		MeterRegistry meterRegistry = this.meterRegistry.get();
+
+		Assert.state(meterRegistry != null, "MeterRegistry must not be null");
+
+		return meterRegistry;
+	}
+
+	@Override
+	public Object postProcessBeforeInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof GemfireRepositoryFactoryBean) {
+			registerRepositoryMetrics((GemfireRepositoryFactoryBean<?, ?, ?>) bean);
+		}
+
+		return bean;
+	}
+
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		if (bean instanceof GemfireTemplate) {
+			return proxy(bean, new GemfireTemplateMetricsInterceptor((GemfireTemplate) bean));
+		}
+		else if (bean instanceof GemfireFunctionOperations) {
+			return proxy(bean, new FunctionExecutionMetricsInterceptor());
+		}
+		else if (bean instanceof AbstractBasicCacheFactoryBean) {
+			registerPdxSerializationMetrics((AbstractBasicCacheFactoryBean) bean);
+		}
+		else if (bean instanceof ContinuousQueryListenerContainer) {
+			registerContinuousQueryMetrics((ContinuousQueryListenerContainer) bean, beanName);
+		}
+
+		return bean;
+	}
+
+	/**
+	 * Applies the given {@link MethodInterceptor} to the bean, adding the {@link MethodInterceptor} to an existing
+	 * AOP proxy if possible rather than proxying the proxy.
+	 *
+	 * @param bean {@link Object bean} to proxy.
+	 * @param interceptor {@link MethodInterceptor} recording the meters.
+	 * @return the proxied bean.
+	 */
+	protected Object proxy(Object bean, MethodInterceptor interceptor) {
+
+		if (bean instanceof Advised && !((Advised) bean).isFrozen()) {
+			((Advised) bean).addAdvice(0, interceptor);
+			return bean;
+		}
+
+		ProxyFactory proxyFactory = new ProxyFactory(bean);
+
+		proxyFactory.addAdvice(interceptor);
+		proxyFactory.setProxyTargetClass(true);
+
+		return proxyFactory.getProxy(bean.getClass().getClassLoader());
+	}
+
+	/**
+	 * Registers a {@link RepositoryMethodInvocationListener} timing repository method invocations
+	 * with the {@link org.springframework.data.repository.core.support.RepositoryFactorySupport}.
+	 *
+	 * @param repositoryFactoryBean {@link GemfireRepositoryFactoryBean} to instrument.
+	 * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean
+	 */
+	protected void registerRepositoryMetrics(GemfireRepositoryFactoryBean<?, ?, ?> repositoryFactoryBean) {
+
+		RepositoryMethodInvocationListener listener = new RepositoryMetricsInvocationListener(repositoryFactoryBean);
+
+		repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+			repositoryFactory.addInvocationListener(listener));
+	}
+
+	/**
+	 * Wraps the configured {@link MappingPdxSerializer} in a {@link PdxSerializer} timing PDX serialization
+	 * by entity type.
+	 *
+	 * The cache {@link org.springframework.beans.factory.FactoryBean} has applied all cache configurers
+	 * by the time it is initialized, but has not yet created the cache.
+	 *
+	 * @param cacheFactoryBean cache {@link org.springframework.beans.factory.FactoryBean} to instrument.
+	 * @see org.springframework.data.gemfire.AbstractBasicCacheFactoryBean#setPdxSerializer(PdxSerializer)
+	 */
+	protected void registerPdxSerializationMetrics(AbstractBasicCacheFactoryBean cacheFactoryBean) {
+
+		PdxSerializer pdxSerializer = cacheFactoryBean.getPdxSerializer();
+
+		if (pdxSerializer instanceof MappingPdxSerializer) {
+			cacheFactoryBean.setPdxSerializer(new PdxSerializationMetricsPdxSerializer(pdxSerializer));
+		}
+	}
+
+	/**
+	 * Registers a {@link ContinuousQueryDispatchObserver} timing CQ event dispatch with the container
+	 * and binds the {@link KeyOrderedEventDispatcher} statistics, if the container uses one.
+	 *
+	 * @param container {@link ContinuousQueryListenerContainer} to instrument.
+	 * @param beanName {@link String name} of the {@link ContinuousQueryListenerContainer} bean.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+	 */
+	protected void registerContinuousQueryMetrics(ContinuousQueryListenerContainer container, String beanName) {
+
+		if (!container.getDispatchObserver().isPresent()) {
+			container.setDispatchObserver(new ContinuousQueryDispatchMetrics());
+		}
+
+		Executor taskExecutor = container.getTaskExecutor();
+
+		if (taskExecutor instanceof KeyOrderedEventDispatcher) {
+			bindKeyOrderedEventDispatcherMetrics((KeyOrderedEventDispatcher) taskExecutor, Tags.of("container", beanName));
+		}
+	}
+
+	private void bindKeyOrderedEventDispatcherMetrics(KeyOrderedEventDispatcher dispatcher, Tags tags) {
+
+		MeterRegistry meterRegistry = getMeterRegistry();
+
+		Gauge.builder(CQ_DISPATCHER_METER_NAME_PREFIX + ".queue.depth", dispatcher,
+				KeyOrderedEventDispatcher::getQueueDepth)
+			.description("Number of CQ events queued for dispatch")
+			.tags(tags)
+			.register(meterRegistry);
+
+		FunctionCounter.builder(CQ_DISPATCHER_METER_NAME_PREFIX + ".dispatched", dispatcher,
+				KeyOrderedEventDispatcher::getDispatchedCount)
+			.description("Number of CQ events dispatched to listeners")
+			.tags(tags)
+			.register(meterRegistry);
+
+		FunctionCounter.builder(CQ_DISPATCHER_METER_NAME_PREFIX + ".dropped", dispatcher,
+				KeyOrderedEventDispatcher::getDroppedCount)
+			.description("Number of CQ events dropped by backpressure")
+			.tags(tags)
+			.register(meterRegistry);
+
+		FunctionCounter.builder(CQ_DISPATCHER_METER_NAME_PREFIX + ".conflated", dispatcher,
+				KeyOrderedEventDispatcher::getConflatedCount)
+			.description("Number of CQ events conflated by backpressure")
+			.tags(tags)
+			.register(meterRegistry);
+	}
+
+	/**
+	 * Registers, or looks up an existing, {@link Timer} with the given {@link String name} and {@link Tags}.
+	 *
+	 * @param name {@link String name} of the {@link Timer}.
+	 * @param tags {@link Tags} identifying the {@link Timer}.
+	 * @return the {@link Timer}.
+	 * @see io.micrometer.core.instrument.Timer
+	 */
+	protected Timer timer(String name, Tags tags) {
+		return Timer.builder(name).tags(tags).register(getMeterRegistry());
+	}
+
+	static <K> Timer cachedTimer(Map<K, Timer> timers, K key, Function<K, Timer> timerFunction) {
+
+		Timer timer = timers.get(key);
+
+		return timer != null ? timer : timers.computeIfAbsent(key, timerFunction);
+	}
+
+	static String exceptionTag(@Nullable Throwable cause) {
+
+		Throwable resolvedCause = cause instanceof CompletionException && cause.getCause() != null
+			? cause.getCause()
+			: cause;
+
+		return resolvedCause != null ? resolvedCause.getClass().getSimpleName() : NONE;
+	}
+
+	static long elapsedSince(long startTime) {
+		return System.nanoTime() - startTime;
+	}
+
+	/**
+	 * {@link MethodInterceptor} timing {@link GemfireOperations} invoked on a {@link GemfireTemplate}.
+	 */
+	protected class GemfireTemplateMetricsInterceptor implements MethodInterceptor {
+
+		private final Set<String> operationNames = Arrays.stream(GemfireOperations.class.getMethods())
+			.map(Method::getName)
+			.collect(Collectors.toSet());
+
+		private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+		private final String regionName;
+
+		protected GemfireTemplateMetricsInterceptor(@NonNull GemfireTemplate template) {
+
+			this.regionName = Optional.ofNullable(template.getRegion())
+				.map(Region::getName)
+				.orElse(NONE);
+		}
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			Method method = invocation.getMethod();
+
+			if (!this.operationNames.contains(method.getName())) {
+				return invocation.proceed();
+			}
+
+			long startTime = System.nanoTime();
+
+			try {
+
+				Object result = invocation.proceed();
+
+				cachedTimer(this.timers, method, it -> newTimer(it, null))
+					.record(elapsedSince(startTime), TimeUnit.NANOSECONDS);
+
+				return result;
+			}
+			catch (Throwable cause) {
+				newTimer(method, cause).record(elapsedSince(startTime), TimeUnit.NANOSECONDS);
+				throw cause;
+			}
+		}
+
+		private Timer newTimer(Method method, @Nullable Throwable cause) {
+
+			return timer(TEMPLATE_OPERATION_METER_NAME, Tags.of("operation", method.getName(),
+				"region", this.regionName, "exception", exceptionTag(cause)));
+		}
+	}
+
+	/**
+	 * {@link MethodInterceptor} timing {@link org.apache.geode.cache.execute.Function} executions invoked on
+	 * {@link GemfireFunctionOperations} by {@link org.apache.geode.cache.execute.Function} ID.
+	 *
+	 * Asynchronous executions are timed on completion, while streaming executions are timed
+	 * until the {@link java.util.stream.Stream} is returned.
+	 */
+	protected class FunctionExecutionMetricsInterceptor implements MethodInterceptor {
+
+		private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+		@Override
+		public Object invoke(MethodInvocation invocation) throws Throwable {
+
+			String functionId = resolveFunctionId(invocation.getArguments());
+
+			if (functionId == null) {
+				return invocation.proceed();
+			}
+
+			long startTime = System.nanoTime();
+
+			try {
+
+				Object result = invocation.proceed();
+
+				if (result instanceof CompletableFuture) {
+					return ((CompletableFuture<?>) result).whenComplete((value, cause) ->
+						record(functionId, startTime, cause));
+				}
+
+				record(functionId, startTime, null);
+
+				return result;
+			}
+			catch (Throwable cause) {
+				record(functionId, startTime, cause);
+				throw cause;
+			}
+		}
+
+		private @Nullable String resolveFunctionId(Object[] arguments) {
+
+			Object firstArgument = arguments.length > 0 ? arguments[0] : null;
+
+			return firstArgument instanceof String ? (String) firstArgument
+				: firstArgument instanceof org.apache.geode.cache.execute.Function
+				? ((org.apache.geode.cache.execute.Function<?>) firstArgument).getId()
+				: null;
+		}
+
+		private void record(String functionId, long startTime, @Nullable Throwable cause) {
+
+			long duration = elapsedSince(startTime);
+
+			Timer timer = cause != null
+				? newTimer(functionId, cause)
+				: cachedTimer(this.timers, functionId, it -> newTimer(it, null));
+
+			timer.record(duration, TimeUnit.NANOSECONDS);
+		}
+
+		private Timer newTimer(String functionId, @Nullable Throwable cause) {
+			return timer(FUNCTION_EXECUTION_METER_NAME, Tags.of("function", functionId, "exception", exceptionTag(cause)));
+		}
+	}
+
+	/**
+	 * {@link RepositoryMethodInvocationListener} timing repository method invocations.
+	 */
+	protected class RepositoryMetricsInvocationListener implements RepositoryMethodInvocationListener {
+
+		private final GemfireRepositoryFactoryBean<?, ?, ?> repositoryFactoryBean;
+
+		private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+		private volatile String regionName;
+
+		protected RepositoryMetricsInvocationListener(
+				@NonNull GemfireRepositoryFactoryBean<?, ?, ?> repositoryFactoryBean) {
+
+			this.repositoryFactoryBean = repositoryFactoryBean;
+		}
+
+		@Override
+		public void afterInvocation(RepositoryMethodInvocation invocation) {
+
+			RepositoryMethodInvocationResult result = invocation.getResult();
+
+			Timer timer = result == null || RepositoryMethodInvocationResult.State.SUCCESS.equals(result.getState())
+				? cachedTimer(this.timers, invocation.getMethod(), method -> newTimer(invocation, null))
+				: newTimer(invocation, result);
+
+			timer.record(invocation.getDuration(TimeUnit.NANOSECONDS), TimeUnit.NANOSECONDS);
+		}
+
+		private Timer newTimer(RepositoryMethodInvocation invocation, @Nullable RepositoryMethodInvocationResult result) {
+
+			String state = result != null ? result.getState().name() : RepositoryMethodInvocationResult.State.SUCCESS.name();
+
+			return timer(REPOSITORY_INVOCATION_METER_NAME, Tags.of(
+				"repository", invocation.getRepositoryInterface().getSimpleName(),
+				"method", invocation.getMethod().getName(),
+				"region", resolveRegionName(),
+				"state", state,
+				"exception", exceptionTag(result != null ? result.getError() : null)));
+		}
+
+		private String resolveRegionName() {
+
+			String regionName = this.regionName;
+
+			if (regionName == null) {
+
+				regionName = Optional.ofNullable(this.repositoryFactoryBean.getEntityInformation())
+					.filter(GemfireEntityInformation.class::isInstance)
+					.map(GemfireEntityInformation.class::cast)
+					.map(GemfireEntityInformation::getRegionName)
+					.orElse(NONE);
+
+				this.regionName = regionName;
+			}
+
+			return regionName;
+		}
+	}
+
+	/**
+	 * {@link ContinuousQueryDispatchObserver} timing CQ event dispatch latency by CQ name.
+	 */
+	protected class ContinuousQueryDispatchMetrics implements ContinuousQueryDispatchObserver {
+
+		private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+		@Override
+		public void onDispatched(@NonNull CqEvent event, long latencyNanos, @Nullable Throwable failure) {
+
+			String queryName = Optional.ofNullable(event.getCq())
+				.map(CqQuery::getName)
+				.orElse(NONE);
+
+			Timer timer = failure != null
+				? newTimer(queryName, failure)
+				: cachedTimer(this.timers, queryName, it -> newTimer(it, null));
+
+			timer.record(latencyNanos, TimeUnit.NANOSECONDS);
+		}
+
+		private Timer newTimer(String queryName, @Nullable Throwable cause) {
+			return timer(CQ_DISPATCH_METER_NAME, Tags.of("query", queryName, "exception", exceptionTag(cause)));
+		}
+	}
+
+	/**
+	 * {@link PdxSerializer} decorator timing PDX serialization and deserialization by entity type.
+	 */
+	protected class PdxSerializationMetricsPdxSerializer implements PdxSerializer {
+
+		private final Map<Class<?>, Timer> deserializationTimers = new ConcurrentHashMap<>();
+		private final Map<Class<?>, Timer> serializationTimers = new ConcurrentHashMap<>();
+
+		private final PdxSerializer delegate;
+
+		protected PdxSerializationMetricsPdxSerializer(@NonNull PdxSerializer delegate) {
+
+			Assert.notNull(delegate, "PdxSerializer must not be null");
+
+			this.delegate = delegate;
+		}
+
+		protected @NonNull PdxSerializer getDelegate() {
+			return this.delegate;
+		}
+
+		@Override
+		public boolean toData(Object value, PdxWriter writer) {
+
+			long startTime = System.nanoTime();
+
+			boolean serialized = getDelegate().toData(value, writer);
+
+			if (serialized && value != null) {
+				cachedTimer(this.serializationTimers, value.getClass(), type -> newTimer("serialize", type))
+					.record(elapsedSince(startTime), TimeUnit.NANOSECONDS);
+			}
+
+			return serialized;
+		}
+
+		@Override
+		public Object fromData(Class<?> type, PdxReader reader) {
+
+			long startTime = System.nanoTime();
+
+			Object value = getDelegate().fromData(type, reader);
+
+			if (value != null) {
+				cachedTimer(this.deserializationTimers, type, it -> newTimer("deserialize", it))
+					.record(elapsedSince(startTime), TimeUnit.NANOSECONDS);
+			}
+
+			return value;
+		}
+
+		private Timer newTimer(String operation, Class<?> type) {
+			return timer(PDX_SERIALIZATION_METER_NAME, Tags.of("operation", operation, "type", type.getName()));
+		}
+	}
+}
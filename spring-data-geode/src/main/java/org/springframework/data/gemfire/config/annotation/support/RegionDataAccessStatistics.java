@@ -0,0 +1,278 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * The {@link RegionDataAccessStatistics} class aggregates the number of sampled {@link Region} data access calls
+ * by {@link Region}, {@link Region} operation and application call site.
+ *
+ * The number of distinct call sites tracked per {@link Region} is bounded. Once the bound is reached,
+ * calls from new call sites are counted against a single {@link #OTHER_CALL_SITES} entry.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect
+ * @since 3.0.0
+ */
+public class RegionDataAccessStatistics {
+
+	public static final int DEFAULT_MAX_CALL_SITES_PER_REGION = 1000;
+
+	public static final String OTHER_CALL_SITES = "<other>";
+
+	private final ConcurrentMap<String, ConcurrentMap<CallSiteKey, LongAdder>> callSiteCounts =
+		new ConcurrentHashMap<>();
+
+	private final int maxCallSitesPerRegion;
+
+	/**
+	 * Constructs a new instance of {@link RegionDataAccessStatistics} tracking at most
+	 * {@link #DEFAULT_MAX_CALL_SITES_PER_REGION} call sites per {@link Region}.
+	 */
+	public RegionDataAccessStatistics() {
+		this(DEFAULT_MAX_CALL_SITES_PER_REGION);
+	}
+
+	/**
+	 * Constructs a new instance of {@link RegionDataAccessStatistics} tracking at most the given number
+	 * of call sites per {@link Region}.
+	 *
+	 * @param maxCallSitesPerRegion maximum number of distinct call sites tracked per {@link Region};
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code maxCallSitesPerRegion} is less than {@literal 1}.
+	 */
+	public RegionDataAccessStatistics(int maxCallSitesPerRegion) {
+
+		Assert.isTrue(maxCallSitesPerRegion > 0,
+			() -> String.format("Max call sites per Region [%d] must be greater than 0", maxCallSitesPerRegion));
+
+		this.maxCallSitesPerRegion = maxCallSitesPerRegion;
+	}
+
+	/**
+	 * Returns the maximum number of distinct call sites tracked per {@link Region}.
+	 *
+	 * @return the maximum number of distinct call sites tracked per {@link Region}.
+	 */
+	public int getMaxCallSitesPerRegion() {
+		return this.maxCallSitesPerRegion;
+	}
+
+	/**
+	 * Records a sampled {@link Region} data access call.
+	 *
+	 * @param regionName {@link String name} of the {@link Region} accessed.
+	 * @param operation {@link String name} of the {@link Region} operation invoked.
+	 * @param callSite {@link String description} of the application call site.
+	 */
+	public void record(@NonNull String regionName, @NonNull String operation, @NonNull String callSite) {
+
+		ConcurrentMap<CallSiteKey, LongAdder> regionCallSiteCounts =
+			this.callSiteCounts.computeIfAbsent(regionName, it -> new ConcurrentHashMap<>());
+
+		CallSiteKey key = new CallSiteKey(operation, callSite);
+
+		LongAdder count = regionCallSiteCounts.get(key);
+
+		if (count == null) {
+
+			CallSiteKey resolvedKey = regionCallSiteCounts.size() < getMaxCallSitesPerRegion()
+				? key
+				: new CallSiteKey(operation, OTHER_CALL_SITES);
+
+			count = regionCallSiteCounts.computeIfAbsent(resolvedKey, it -> new LongAdder());
+		}
+
+		count.increment();
+	}
+
+	/**
+	 * Returns the {@link String names} of all {@link Region Regions} for which data access calls were recorded.
+	 *
+	 * @return a sorted {@link Set} of {@link Region} names.
+	 */
+	public @NonNull Set<String> getRegionNames() {
+		return Collections.unmodifiableSet(new TreeSet<>(this.callSiteCounts.keySet()));
+	}
+
+	/**
+	 * Returns the total number of sampled data access calls recorded for the given {@link Region}.
+	 *
+	 * @param regionName {@link String name} of the {@link Region}.
+	 * @return the total number of sampled data access calls recorded for the given {@link Region}.
+	 */
+	public long getCount(String regionName) {
+
+		Map<CallSiteKey, LongAdder> regionCallSiteCounts = this.callSiteCounts.get(regionName);
+
+		return regionCallSiteCounts != null
+			? regionCallSiteCounts.values().stream().mapToLong(LongAdder::sum).sum()
+			: 0L;
+	}
+
+	/**
+	 * Returns the call sites that most frequently accessed the given {@link Region}, in descending order
+	 * of the number of sampled calls.
+	 *
+	 * @param regionName {@link String name} of the {@link Region}.
+	 * @param limit maximum number of {@link CallSite call sites} to return.
+	 * @return a {@link List} of the hottest {@link CallSite call sites} for the given {@link Region}.
+	 * @see CallSite
+	 */
+	public @NonNull List<CallSite> getHottestCallSites(String regionName, int limit) {
+
+		Map<CallSiteKey, LongAdder> regionCallSiteCounts = this.callSiteCounts.get(regionName);
+
+		return regionCallSiteCounts == null ? Collections.emptyList()
+			: regionCallSiteCounts.entrySet().stream()
+				.map(entry -> new CallSite(regionName, entry.getKey().operation, entry.getKey().callSite,
+					entry.getValue().sum()))
+				.sorted(Comparator.comparingLong(CallSite::getCount).reversed())
+				.limit(Math.max(limit, 0))
+				.collect(Collectors.toList());
+	}
+
+	/**
+	 * Returns the call sites that most frequently accessed each {@link Region}.
+	 *
+	 * @param limit maximum number of {@link CallSite call sites} to return per {@link Region}.
+	 * @return a {@link Map} of {@link Region} name to the hottest {@link CallSite call sites}.
+	 * @see #getHottestCallSites(String, int)
+	 */
+	public @NonNull Map<String, List<CallSite>> getHottestCallSites(int limit) {
+
+		Map<String, List<CallSite>> hottestCallSites = new TreeMap<>();
+
+		getRegionNames().forEach(regionName ->
+			hottestCallSites.put(regionName, getHottestCallSites(regionName, limit)));
+
+		return hottestCallSites;
+	}
+
+	/**
+	 * Clears all recorded statistics.
+	 */
+	public void reset() {
+		this.callSiteCounts.clear();
+	}
+
+	@Override
+	public String toString() {
+
+		StringBuilder report = new StringBuilder();
+
+		getHottestCallSites(10).forEach((regionName, callSites) -> {
+
+			report.append(String.format("Region [%s] - %d sampled calls%n", regionName, getCount(regionName)));
+
+			callSites.forEach(callSite -> report.append(String.format("\t%d\t%s <- %s%n",
+				callSite.getCount(), callSite.getOperation(), callSite.getCallSite())));
+		});
+
+		return report.toString();
+	}
+
+	/**
+	 * Snapshot of the number of sampled {@link Region} data access calls made from a single application call site.
+	 */
+	public static class CallSite {
+
+		private final long count;
+
+		private final String callSite;
+		private final String operation;
+		private final String regionName;
+
+		protected CallSite(String regionName, String operation, String callSite, long count) {
+
+			this.regionName = regionName;
+			this.operation = operation;
+			this.callSite = callSite;
+			this.count = count;
+		}
+
+		public String getCallSite() {
+			return this.callSite;
+		}
+
+		public long getCount() {
+			return this.count;
+		}
+
+		public String getOperation() {
+			return this.operation;
+		}
+
+		public String getRegionName() {
+			return this.regionName;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("%s.%s <- %s [%d]", getRegionName(), getOperation(), getCallSite(), getCount());
+		}
+	}
+
+	private static final class CallSiteKey {
+
+		private final String callSite;
+		private final String operation;
+
+		private CallSiteKey(String operation, String callSite) {
+			this.operation = operation;
+			this.callSite = callSite;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof CallSiteKey)) {
+				return false;
+			}
+
+			CallSiteKey that = (CallSiteKey) obj;
+
+			return this.operation.equals(that.operation) && this.callSite.equals(that.callSite);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.operation, this.callSite);
+		}
+	}
+}
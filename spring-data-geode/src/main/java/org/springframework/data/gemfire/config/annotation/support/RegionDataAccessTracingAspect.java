@@ -16,9 +16,19 @@
 
 package org.springframework.data.gemfire.config.annotation.support;
 
-import java.io.PrintWriter;
-import java.io.StringWriter;
+import static org.springframework.data.gemfire.util.ArrayUtils.nullSafeArray;
+
+import java.lang.StackWalker.StackFrame;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import org.apache.geode.cache.Region;
 
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.Aspect;
@@ -27,38 +37,186 @@ import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
+import org.springframework.util.StringUtils;
 
 /**
- * The RegionDataAccessTracingAspect class...
+ * The {@link RegionDataAccessTracingAspect} class is a Spring AOP {@link Aspect} tracing data access operations
+ * invoked on {@link Region} beans.
+ *
+ * Only a configurable fraction of {@link Region} data access calls are sampled, {@literal 1%} by default,
+ * optionally restricted to the named {@link Region Regions}. For each sampled call, the top application stack frames are captured
+ * with a {@link StackWalker}, which avoids materializing the full stack trace, and the call is counted by
+ * {@link Region}, operation and call site in the {@link RegionDataAccessStatistics}. The captured stack frames
+ * are logged at {@literal TRACE} level.
  *
  * @author John Blum
+ * @see java.lang.StackWalker
+ * @see org.aspectj.lang.annotation.Aspect
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics
  * @since 1.0.0
  */
 @Aspect
 @SuppressWarnings("unused")
 public class RegionDataAccessTracingAspect {
 
+	public static final double DEFAULT_SAMPLE_RATE = 0.01d;
+
+	public static final int DEFAULT_STACK_DEPTH = 10;
+
+	protected static final String UNKNOWN_CALL_SITE = "<unknown>";
+
+	protected static final String[] IGNORED_PACKAGE_PREFIXES = {
+		"com.sun.",
+		"java.",
+		"javax.",
+		"jdk.",
+		"sun.",
+		"org.apache.geode.",
+		"org.aspectj.",
+		"org.springframework.aop.",
+		"org.springframework.cglib.",
+		"org.springframework.data.gemfire.GemfireTemplate",
+		"org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect",
+		"org.springframework.data.gemfire.repository.support.",
+		"org.springframework.data.repository.core.support.",
+	};
+
+	private volatile double sampleRate = DEFAULT_SAMPLE_RATE;
+
+	private volatile int stackDepth = DEFAULT_STACK_DEPTH;
+
 	private final Logger logger = newLogger();
 
+	private final RegionDataAccessStatistics statistics;
+
+	private volatile Set<String> regionNames = Collections.emptySet();
+
+	private final StackWalker stackWalker = StackWalker.getInstance();
+
+	/**
+	 * Constructs a new instance of {@link RegionDataAccessTracingAspect} recording sampled calls in
+	 * a new {@link RegionDataAccessStatistics} instance.
+	 */
+	public RegionDataAccessTracingAspect() {
+		this(new RegionDataAccessStatistics());
+	}
+
+	/**
+	 * Constructs a new instance of {@link RegionDataAccessTracingAspect} recording sampled calls in
+	 * the given {@link RegionDataAccessStatistics}.
+	 *
+	 * @param statistics {@link RegionDataAccessStatistics} in which sampled calls are recorded;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link RegionDataAccessStatistics} is {@literal null}.
+	 * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics
+	 */
+	public RegionDataAccessTracingAspect(@NonNull RegionDataAccessStatistics statistics) {
+
+		Assert.notNull(statistics, "RegionDataAccessStatistics must not be null");
+
+		this.statistics = statistics;
+	}
+
 	/* (non-Javadoc) */
 	protected Logger newLogger() {
 		return LoggerFactory.getLogger(getClass());
 	}
 
 	/* (non-Javadoc) */
-	protected String getCurrentThreadStackTrace() {
+	protected Logger getLogger() {
+		return this.logger;
+	}
+
+	/**
+	 * Sets the {@link String names} of the {@link Region Regions} to trace.
+	 *
+	 * Defaults to all {@link Region Regions}.
+	 *
+	 * @param regionNames array of {@link Region} names or paths to trace.
+	 */
+	public void setRegionNames(String... regionNames) {
+
+		this.regionNames = Arrays.stream(nullSafeArray(regionNames, String.class))
+			.filter(StringUtils::hasText)
+			.map(String::trim)
+			.collect(Collectors.toCollection(HashSet::new));
+	}
+
+	/**
+	 * Returns the {@link String names} of the {@link Region Regions} to trace.
+	 *
+	 * @return the {@link String names} of the {@link Region Regions} to trace; an empty {@link Set}
+	 * traces all {@link Region Regions}.
+	 */
+	public Set<String> getRegionNames() {
+		return Collections.unmodifiableSet(this.regionNames);
+	}
 
-		StringWriter writer = new StringWriter();
+	/**
+	 * Sets the fraction of {@link Region} data access calls to sample.
+	 *
+	 * Defaults to {@link #DEFAULT_SAMPLE_RATE} ({@literal 0.01}), which samples {@literal 1%} of the calls.
+	 *
+	 * @param sampleRate fraction of {@link Region} data access calls to sample between {@literal 0.0}
+	 * and {@literal 1.0}.
+	 * @throws IllegalArgumentException if {@code sampleRate} is not between {@literal 0.0} and {@literal 1.0}.
+	 */
+	public void setSampleRate(double sampleRate) {
+
+		Assert.isTrue(sampleRate >= 0.0d && sampleRate <= 1.0d,
+			() -> String.format("Sample rate [%s] must be between 0.0 and 1.0", sampleRate));
+
+		this.sampleRate = sampleRate;
+	}
+
+	/**
+	 * Returns the fraction of {@link Region} data access calls sampled.
+	 *
+	 * @return the fraction of {@link Region} data access calls sampled.
+	 */
+	public double getSampleRate() {
+		return this.sampleRate;
+	}
+
+	/**
+	 * Sets the maximum number of application stack frames captured for each sampled call.
+	 *
+	 * @param stackDepth maximum number of application stack frames captured; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code stackDepth} is less than {@literal 1}.
+	 */
+	public void setStackDepth(int stackDepth) {
+
+		Assert.isTrue(stackDepth > 0, () -> String.format("Stack depth [%d] must be greater than 0", stackDepth));
+
+		this.stackDepth = stackDepth;
+	}
 
-		new Throwable().printStackTrace(new PrintWriter(writer));
+	/**
+	 * Returns the maximum number of application stack frames captured for each sampled call.
+	 *
+	 * @return the maximum number of application stack frames captured for each sampled call.
+	 */
+	public int getStackDepth() {
+		return this.stackDepth;
+	}
 
-		return writer.toString();
+	/**
+	 * Returns the {@link RegionDataAccessStatistics} in which sampled calls are recorded.
+	 *
+	 * @return the {@link RegionDataAccessStatistics} in which sampled calls are recorded.
+	 * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics
+	 */
+	public @NonNull RegionDataAccessStatistics getStatistics() {
+		return this.statistics;
 	}
 
 	/* (non-Javadoc) */
-	protected Logger getLogger() {
-		return this.logger;
+	protected String getCurrentThreadStackTrace() {
+		return toStackTrace(captureApplicationStackFrames());
 	}
 
 	/* (non-Javadoc) */
@@ -93,8 +251,76 @@ public class RegionDataAccessTracingAspect {
 	/* (non-Javadoc) */
 	@Before("regionPointcut() && regionDataAccessPointcut()")
 	public void regionDataAccessTracingAdvice(JoinPoint joinPoint) {
-		getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
-			toRegionMethodSignature(joinPoint), getCurrentThreadStackTrace());
+
+		if (isSampled()) {
+
+			Object target = joinPoint.getTarget();
+
+			if (target instanceof Region && isTraced((Region<?, ?>) target)) {
+
+				List<StackFrame> stackFrames = captureApplicationStackFrames();
+
+				String callSite = stackFrames.isEmpty() ? UNKNOWN_CALL_SITE : stackFrames.get(0).toString();
+
+				getStatistics().record(((Region<?, ?>) target).getName(), joinPoint.getSignature().getName(), callSite);
+
+				if (getLogger().isTraceEnabled()) {
+					getLogger().trace("Region data access call [{}(..)] with stack trace [{}]",
+						toRegionMethodSignature(joinPoint), toStackTrace(stackFrames));
+				}
+			}
+		}
+	}
+
+	/* (non-Javadoc) */
+	protected boolean isSampled() {
+
+		double sampleRate = getSampleRate();
+
+		return sampleRate >= 1.0d || (sampleRate > 0.0d && ThreadLocalRandom.current().nextDouble() < sampleRate);
+	}
+
+	/* (non-Javadoc) */
+	protected boolean isTraced(Region<?, ?> region) {
+
+		Set<String> regionNames = this.regionNames;
+
+		return regionNames.isEmpty()
+			|| regionNames.contains(region.getName())
+			|| regionNames.contains(region.getFullPath());
+	}
+
+	/* (non-Javadoc) */
+	protected boolean isApplicationStackFrame(StackFrame stackFrame) {
+
+		String className = stackFrame.getClassName();
+
+		for (String ignoredPackagePrefix : IGNORED_PACKAGE_PREFIXES) {
+			if (className.startsWith(ignoredPackagePrefix)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/* (non-Javadoc) */
+	protected List<StackFrame> captureApplicationStackFrames() {
+
+		int stackDepth = getStackDepth();
+
+		return this.stackWalker.walk(stackFrames -> stackFrames
+			.filter(this::isApplicationStackFrame)
+			.limit(stackDepth)
+			.collect(Collectors.toList()));
+	}
+
+	/* (non-Javadoc) */
+	private String toStackTrace(List<StackFrame> stackFrames) {
+
+		return stackFrames.stream()
+			.map(StackFrame::toString)
+			.collect(Collectors.joining(System.lineSeparator() + "\tat ", "\tat ", ""));
 	}
 
 	/* (non-Javadoc) */
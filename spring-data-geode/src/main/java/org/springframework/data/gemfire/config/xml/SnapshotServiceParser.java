@@ -56,6 +56,8 @@ class SnapshotServiceParser extends AbstractSingleBeanDefinitionParser {
 		ParsingUtils.setCacheReference(element, builder);
 		ParsingUtils.setRegionReference(element, builder);
 		ParsingUtils.setPropertyValue(element, builder, "suppress-import-on-init");
+		ParsingUtils.setPropertyValue(element, builder, "incremental");
+		ParsingUtils.setPropertyValue(element, builder, "parallelism");
 		builder.addPropertyValue("exports", parseExports(element, parserContext));
 		builder.addPropertyValue("imports", parseImports(element, parserContext));
 	}
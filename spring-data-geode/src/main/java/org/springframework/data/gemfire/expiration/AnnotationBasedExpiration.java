@@ -17,6 +17,9 @@
 package org.springframework.data.gemfire.expiration;
 
 import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.geode.cache.CustomExpiry;
@@ -37,6 +40,7 @@ import org.springframework.core.convert.ConversionService;
 import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.EvaluationException;
 import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
 import org.springframework.expression.ParseException;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
@@ -51,6 +55,11 @@ import org.springframework.util.ObjectUtils;
  * by introspecting the {@link Region} entry's class type and reflecting on any {@link Region} entries annotated
  * with SDG's Expiration-based Annotations.
  *
+ * The {@link ExpirationAttributes} resolved from the Expiration-based Annotations are cached per {@link Region} entry
+ * value {@link Class type}, and SpEL expressions used in the Annotation attributes are parsed only once.  When
+ * the expressions or property placeholders resolve to values that may change at runtime, such as values from
+ * the {@link org.springframework.core.env.Environment}, call {@link #refresh()} to re-evaluate them.
+ *
  * @author John Blum
  * @see java.lang.annotation.Annotation
  * @see org.springframework.beans.factory.BeanFactory
@@ -74,6 +83,8 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	protected static final AtomicReference<StandardEvaluationContext> EVALUATION_CONTEXT_REFERENCE
 		= new AtomicReference<>(null);
 
+	private final Map<Class<?>, Optional<ExpirationAttributes>> expirationAttributesCache = new ConcurrentHashMap<>();
+
 	//private ExpirationAttributes defaultExpirationAttributes = ExpirationAttributes.DEFAULT;
 	private ExpirationAttributes defaultExpirationAttributes;
 
@@ -236,6 +247,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	public void setBeanFactory(BeanFactory beanFactory) throws BeansException {
 		BEAN_FACTORY_REFERENCE.set(beanFactory);
 		initEvaluationContext();
+		refresh();
 	}
 
 	/**
@@ -262,6 +274,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 */
 	public void setDefaultExpirationAttributes(ExpirationAttributes defaultExpirationAttributes) {
 		this.defaultExpirationAttributes = defaultExpirationAttributes;
+		refresh();
 	}
 
 	/**
@@ -288,12 +301,35 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 	 * @see org.apache.geode.cache.Region
 	 * @see #getExpirationMetaData(Region.Entry)
 	 * @see #newExpirationAttributes(ExpirationMetaData)
+	 * @see #refresh()
 	 */
 	@Override
 	public ExpirationAttributes getExpiry(Region.Entry<K, V> entry) {
+
+		Object value = entry != null ? entry.getValue() : null;
+
+		return value != null
+			? this.expirationAttributesCache.computeIfAbsent(value.getClass(),
+				type -> Optional.ofNullable(resolveExpirationAttributes(entry))).orElse(null)
+			: resolveExpirationAttributes(entry);
+	}
+
+	private ExpirationAttributes resolveExpirationAttributes(Region.Entry<K, V> entry) {
 		return newExpirationAttributes(getExpirationMetaData(entry));
 	}
 
+	/**
+	 * Discards the {@link ExpirationAttributes} cached per {@link Region} entry value {@link Class type}, causing
+	 * the Expiration-based Annotation attributes to be re-evaluated the next time a {@link Region} entry of that type
+	 * is evaluated for expiration.
+	 *
+	 * Use this method when the SpEL expressions or property placeholders in the Annotation attributes depend on values
+	 * (e.g. {@link org.springframework.core.env.Environment} properties) that have changed at runtime.
+	 */
+	public void refresh() {
+		this.expirationAttributesCache.clear();
+	}
+
 	/**
 	 * Gets custom expiration (Annotation-based) policy meta-data for the given {@link Region} entry.
 	 *
@@ -451,6 +487,10 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 		private static final ExpirationActionConverter EXPIRATION_ACTION_CONVERTER = new ExpirationActionConverter();
 
+		private static final ExpressionParser EXPRESSION_PARSER = new SpelExpressionParser();
+
+		private static final Map<String, Expression> EXPRESSION_CACHE = new ConcurrentHashMap<>();
+
 		private final int timeout;
 
 		private final ExpirationActionType action;
@@ -491,9 +531,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 				try {
 					// Next, try to parse the 'timeout' as a Spring Expression using SpEL.
-					return new SpelExpressionParser()
-						.parseExpression(timeout)
-						.getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
+					return parseExpression(timeout).getValue(EVALUATION_CONTEXT_REFERENCE.get(), Integer.TYPE);
 				}
 				catch (ParseException e) {
 
@@ -523,7 +561,7 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 
 				try {
 
-					Expression expression = new SpelExpressionParser().parseExpression(action);
+					Expression expression = parseExpression(action);
 
 					Class<?> valueType = expression.getValueType(evaluationContext);
 
@@ -560,6 +598,18 @@ public class AnnotationBasedExpiration<K, V> implements BeanFactoryAware, Custom
 			}
 		}
 
+		/**
+		 * Parses the given {@link String expression} as a SpEL {@link Expression}, caching the parsed {@link Expression}
+		 * so the {@link String expression} is only parsed once.
+		 *
+		 * @param expressionString {@link String} containing the SpEL expression to parse.
+		 * @return the parsed SpEL {@link Expression}.
+		 * @throws ParseException if the {@link String expression} could not be parsed.
+		 */
+		protected static Expression parseExpression(String expressionString) {
+			return EXPRESSION_CACHE.computeIfAbsent(expressionString, EXPRESSION_PARSER::parseExpression);
+		}
+
 		public ExpirationActionType action() {
 			return action;
 		}
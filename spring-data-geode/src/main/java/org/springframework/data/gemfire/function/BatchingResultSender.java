@@ -18,6 +18,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultSender;
@@ -26,8 +27,8 @@ import org.springframework.util.Assert;
 import org.springframework.util.ObjectUtils;
 
 /**
- * Sends {@link Collection} {@link Function} results using a {@link ResultSender} in chunks
- * determined by {@code batchSize}.
+ * Sends {@link Collection}, array, {@link Iterator} and {@link Stream} {@link Function} results
+ * using a {@link ResultSender} in chunks determined by {@code batchSize}.
  *
  * @author David Turanski
  * @author Udo Kohlmeyer
@@ -93,10 +94,33 @@ class BatchingResultSender {
 
 	public void sendResults(Iterable<?> result) {
 
+		if (doNotSendChunks(!result.iterator().hasNext())) {
+			getResultSender().lastResult(result);
+		}
+		else {
+			sendResults(result.iterator());
+		}
+	}
+
+	/**
+	 * Lazily consumes the given {@link Iterator} and sends the results in chunks determined by {@code batchSize}.
+	 *
+	 * Only a single chunk is held in memory at any given time, and the chunk buffer is reused between sends.
+	 * When batching is disabled, all results are collected and sent as a single {@link List}.
+	 *
+	 * @param results {@link Iterator} over the {@link Function} results to send.
+	 * @see java.util.Iterator
+	 */
+	public void sendResults(Iterator<?> results) {
+
 		ResultSender<Object> resultSender = getResultSender();
 
-		if (doNotSendChunks(!result.iterator().hasNext())) {
-			resultSender.lastResult(result);
+		if (isBatchingDisabled()) {
+
+			List<Object> resultList = new ArrayList<>();
+
+			results.forEachRemaining(resultList::add);
+			resultSender.lastResult(resultList);
 		}
 		else {
 
@@ -104,24 +128,37 @@ class BatchingResultSender {
 
 			List<Object> chunk = new ArrayList<>(batchSize);
 
-			for (Iterator<?> it = result.iterator(); it.hasNext(); ) {
+			do {
 
-				if (chunk.size() < batchSize) {
-					chunk.add(it.next());
+				while (chunk.size() < batchSize && results.hasNext()) {
+					chunk.add(results.next());
 				}
 
-				if (chunk.size() == batchSize || !it.hasNext()) {
-
-					if (it.hasNext()) {
-						resultSender.sendResult(chunk);
-					}
-					else {
-						resultSender.lastResult(chunk);
-					}
-
+				if (results.hasNext()) {
+					resultSender.sendResult(chunk);
 					chunk.clear();
 				}
+				else {
+					resultSender.lastResult(chunk);
+				}
 			}
+			while (results.hasNext());
+		}
+	}
+
+	/**
+	 * Lazily consumes the given {@link Stream} and sends the results in chunks determined by {@code batchSize}.
+	 *
+	 * The {@link Stream} is closed once all results have been sent, or the send operation fails.
+	 *
+	 * @param results {@link Stream} of {@link Function} results to send.
+	 * @see #sendResults(Iterator)
+	 * @see java.util.stream.Stream
+	 */
+	public void sendStreamResults(Stream<?> results) {
+
+		try (Stream<?> resultStream = results) {
+			sendResults(resultStream.iterator());
 		}
 	}
 
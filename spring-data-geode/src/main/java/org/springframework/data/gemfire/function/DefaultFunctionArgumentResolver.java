@@ -45,6 +45,19 @@ class DefaultFunctionArgumentResolver implements FunctionArgumentResolver {
 			: getArguments(functionContext);
 	}
 
+	/**
+	 * Returns the arguments passed to the {@link Function} as an array without copying the arguments.
+	 *
+	 * @param functionContext {@link FunctionContext} containing the arguments.
+	 * @return an array of the arguments passed to the {@link Function}; never {@literal null}.
+	 */
+	Object[] getArgumentsAsArray(FunctionContext<?> functionContext) {
+
+		return isArray(functionContext.getArguments())
+			? (Object[]) functionContext.getArguments()
+			: getArguments(functionContext);
+	}
+
 	private boolean isArray(final Object value) {
 		return value != null && value.getClass().isArray();
 	}
@@ -14,6 +14,7 @@
 package org.springframework.data.gemfire.function;
 
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 
@@ -29,13 +30,15 @@ import org.slf4j.LoggerFactory;
 
 import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.RegionData;
-import org.springframework.data.gemfire.util.ArrayUtils;
 import org.springframework.util.Assert;
 
 /**
  * {@link FunctionArgumentResolver} implementation capable of resolving the {@link FunctionContext} passed to
  * a {@link Function} implementation during invocation.
  *
+ * The position of each injected parameter is computed once, when the resolver is constructed, so that
+ * the final array of {@link Function} arguments can be assembled in a single pass for each invocation.
+ *
  * @author David Turanski
  * @author John Blum
  * @see java.lang.reflect.Method
@@ -61,6 +64,12 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 
 	private final Method method;
 
+	private final int argumentCount;
+	private final int regionArgumentCount;
+
+	private final ParameterSource[] parameterSources;
+	private final ParameterSource[] regionParameterSources;
+
 	FunctionContextInjectingArgumentResolver(Method method) {
 
 		this.method = method;
@@ -90,6 +99,48 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 		functionContextParameterPosition = getArgumentTypePosition(method, FunctionContext.class);
 
 		resultSenderParameterPosition = getArgumentTypePosition(method, ResultSender.class);
+
+		this.regionParameterSources = newParameterSources(method, true);
+		this.parameterSources = newParameterSources(method, false);
+		this.regionArgumentCount = countArguments(this.regionParameterSources);
+		this.argumentCount = countArguments(this.parameterSources);
+	}
+
+	private static int countArguments(ParameterSource[] parameterSources) {
+
+		int count = 0;
+
+		for (ParameterSource parameterSource : parameterSources) {
+			if (ParameterSource.ARGUMENT.equals(parameterSource)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	private ParameterSource[] newParameterSources(Method method, boolean regionFunctionContext) {
+
+		ParameterSource[] parameterSources = new ParameterSource[method.getParameterCount()];
+
+		Arrays.fill(parameterSources, ParameterSource.ARGUMENT);
+
+		if (regionFunctionContext) {
+			setParameterSource(parameterSources, this.regionParameterPosition, ParameterSource.REGION);
+			setParameterSource(parameterSources, this.filterParameterPosition, ParameterSource.FILTER);
+		}
+
+		setParameterSource(parameterSources, this.functionContextParameterPosition, ParameterSource.FUNCTION_CONTEXT);
+		setParameterSource(parameterSources, this.resultSenderParameterPosition, ParameterSource.RESULT_SENDER);
+
+		return parameterSources;
+	}
+
+	private void setParameterSource(ParameterSource[] parameterSources, int position, ParameterSource source) {
+
+		if (position >= 0) {
+			parameterSources[position] = source;
+		}
 	}
 
 	@Override
@@ -100,31 +151,41 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 	@Override
 	public Object[] resolveFunctionArguments(FunctionContext functionContext) {
 
-		Object[] args = super.resolveFunctionArguments(functionContext);
+		boolean regionFunctionContext = functionContext instanceof RegionFunctionContext;
 
-		if (functionContext instanceof RegionFunctionContext) {
-			if (this.regionParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, regionParameterPosition, getRegionForContext(
-					(RegionFunctionContext) functionContext));
-			}
+		ParameterSource[] parameterSources = regionFunctionContext ? this.regionParameterSources : this.parameterSources;
 
-			if (this.filterParameterPosition >= 0) {
-				args = ArrayUtils.insert(args, filterParameterPosition,
-					((RegionFunctionContext) functionContext).getFilter());
-			}
-		}
+		Object[] functionArguments = getArgumentsAsArray(functionContext);
 
-		if (this.functionContextParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, functionContextParameterPosition, functionContext);
-		}
+		int argumentCount = regionFunctionContext ? this.regionArgumentCount : this.argumentCount;
+		int resolvedArgumentCount = functionArguments.length + parameterSources.length - argumentCount;
 
-		if (this.resultSenderParameterPosition >= 0) {
-			args = ArrayUtils.insert(args, resultSenderParameterPosition, functionContext.getResultSender());
-		}
+		Assert.isTrue(resolvedArgumentCount == parameterSources.length,
+			() -> String.format("Wrong number of arguments for method [%s]; Expected [%d], but was [%d]",
+				this.method.getName(), parameterSources.length, resolvedArgumentCount));
+
+		Object[] args = new Object[parameterSources.length];
+
+		int functionArgumentIndex = 0;
 
-		Assert.isTrue(args.length == this.method.getParameterTypes().length,
-			String.format("Wrong number of arguments for method [%s]; Expected [%d], but was [%d]",
-				this.method.getName(), this.method.getParameterTypes().length, args.length));
+		for (int index = 0; index < args.length; index++) {
+			switch (parameterSources[index]) {
+				case REGION:
+					args[index] = getRegionForContext((RegionFunctionContext) functionContext);
+					break;
+				case FILTER:
+					args[index] = ((RegionFunctionContext) functionContext).getFilter();
+					break;
+				case FUNCTION_CONTEXT:
+					args[index] = functionContext;
+					break;
+				case RESULT_SENDER:
+					args[index] = functionContext.getResultSender();
+					break;
+				default:
+					args[index] = resolveArgument(functionArguments[functionArgumentIndex++]);
+			}
+		}
 
 		return args;
 	}
@@ -169,4 +230,11 @@ class FunctionContextInjectingArgumentResolver extends PdxFunctionArgumentResolv
 
 		return position;
 	}
+
+	/**
+	 * Source of the value passed to a {@link Function} method parameter.
+	 */
+	enum ParameterSource {
+		ARGUMENT, FILTER, FUNCTION_CONTEXT, REGION, RESULT_SENDER
+	}
 }
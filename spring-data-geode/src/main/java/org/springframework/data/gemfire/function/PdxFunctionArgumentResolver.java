@@ -16,7 +16,10 @@
 package org.springframework.data.gemfire.function;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
+import org.apache.geode.cache.Cache;
 import org.apache.geode.cache.CacheClosedException;
 import org.apache.geode.cache.CacheFactory;
 import org.apache.geode.cache.execute.FunctionContext;
@@ -30,6 +33,9 @@ import org.springframework.util.ClassUtils;
  * when Apache Geode is configured with {@literal read-serialized} set to {@literal true}, but the application
  * domain model classes are actually on the application classpath.
  *
+ * Whether a PDX type is deserialized is decided once per {@link PdxInstance#getClassName() class name}
+ * and cached, as is whether the {@link Cache} has been configured with a {@link org.apache.geode.pdx.PdxSerializer}.
+ *
  * @author John Blum
  * @see org.apache.geode.pdx.PdxInstance
  * @see org.springframework.data.gemfire.function.DefaultFunctionArgumentResolver
@@ -38,31 +44,44 @@ import org.springframework.util.ClassUtils;
 @SuppressWarnings("unused")
 class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 
+	private final Map<String, Boolean> deserializationDecisions = new ConcurrentHashMap<>();
+
+	private volatile boolean pdxSerializerConfigured;
+
+	private volatile Cache cache;
+
 	@Override
 	@SuppressWarnings("rawtypes")
 	public Object[] resolveFunctionArguments(@NonNull FunctionContext functionContext) {
 
 		Object[] functionArguments = super.resolveFunctionArguments(functionContext);
 
-		if (isPdxSerializerConfigured()) {
+		for (int index = 0; index < functionArguments.length; index++) {
+			functionArguments[index] = resolveArgument(functionArguments[index]);
+		}
 
-			int index = 0;
+		return functionArguments;
+	}
 
-			for (Object functionArgument : functionArguments) {
-				if (functionArgument instanceof PdxInstance) {
+	/**
+	 * Resolves the given {@link Object function argument}, deserializing the argument if it is a {@link PdxInstance}
+	 * of a type declared by the {@link #getFunctionAnnotatedMethod() Function method} and on the classpath.
+	 *
+	 * @param functionArgument {@link Object} to resolve.
+	 * @return the resolved {@link Object function argument}.
+	 */
+	Object resolveArgument(Object functionArgument) {
 
-					String className = ((PdxInstance) functionArgument).getClassName();
+		if (functionArgument instanceof PdxInstance) {
 
-					if (isDeserializationNecessary(className)) {
-						functionArguments[index] = ((PdxInstance) functionArgument).getObject();
-					}
-				}
+			PdxInstance pdxInstance = (PdxInstance) functionArgument;
 
-				index++;
+			if (isDeserializationNecessary(pdxInstance.getClassName()) && isPdxSerializerConfigured()) {
+				return pdxInstance.getObject();
 			}
 		}
 
-		return functionArguments;
+		return functionArgument;
 	}
 
 	@Override
@@ -72,16 +91,29 @@ class PdxFunctionArgumentResolver extends DefaultFunctionArgumentResolver {
 
 	boolean isPdxSerializerConfigured() {
 
-		try {
-			return (CacheFactory.getAnyInstance().getPdxSerializer() != null);
-		}
-		catch (CacheClosedException ignore) {
-			return false;
+		Cache cache = this.cache;
+
+		if (cache == null || cache.isClosed()) {
+			try {
+
+				cache = CacheFactory.getAnyInstance();
+
+				// set before publishing the Cache so readers observing the Cache also observe the flag
+				this.pdxSerializerConfigured = cache.getPdxSerializer() != null;
+				this.cache = cache;
+			}
+			catch (CacheClosedException ignore) {
+				return false;
+			}
 		}
+
+		return this.pdxSerializerConfigured;
 	}
 
-	boolean isDeserializationNecessary(final String className) {
-		return (isOnClasspath(className) && functionAnnotatedMethodHasParameterOfType(className));
+	boolean isDeserializationNecessary(String className) {
+
+		return this.deserializationDecisions.computeIfAbsent(className, it ->
+			functionAnnotatedMethodHasParameterOfType(it) && isOnClasspath(it));
 	}
 
 	boolean isOnClasspath(final String className) {
@@ -14,9 +14,15 @@ package org.springframework.data.gemfire.function;
 
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -25,13 +31,17 @@ import org.apache.geode.cache.execute.ResultSender;
 import org.apache.geode.management.internal.security.ResourcePermissions;
 import org.apache.geode.security.ResourcePermission;
 
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import reactor.core.publisher.Flux;
+
 /**
  * Invokes a given {@link Object POJO} {@link Method} as a (remote) GemFire/Geode {@link Function}.
  *
@@ -44,6 +54,12 @@ import org.slf4j.LoggerFactory;
  *
  * The delegate {@link Class} must be on the class path of the remote cache(s).
  *
+ * The {@link Method} is invoked through a {@link MethodHandle} bound to the target {@link Object POJO}.
+ *
+ * {@link Method Methods} returning a {@link Stream}, {@link Iterator} or Reactive Streams {@literal Publisher}
+ * have their results consumed lazily and sent in chunks determined by {@link #getBatchSize() batchSize},
+ * bounding the memory used to send the results to a single chunk.
+ *
  * @author David Turanski
  * @author John Blum
  * @see org.apache.geode.cache.execute.Function
@@ -52,6 +68,9 @@ import org.slf4j.LoggerFactory;
 @SuppressWarnings({ "rawtypes", "serial"})
 public class PojoFunctionWrapper implements Function {
 
+	private static final boolean REACTOR_PRESENT =
+		ClassUtils.isPresent("reactor.core.publisher.Flux", PojoFunctionWrapper.class.getClassLoader());
+
 	private static transient Logger logger = LoggerFactory.getLogger(PojoFunctionWrapper.class);
 
 	private volatile boolean HA;
@@ -66,6 +85,8 @@ public class PojoFunctionWrapper implements Function {
 
 	private final Method method;
 
+	private final MethodHandle methodHandle;
+
 	private final Object target;
 
 	private final String id;
@@ -78,6 +99,7 @@ public class PojoFunctionWrapper implements Function {
 
 		this.target = target;
 		this.method = method;
+		this.methodHandle = newMethodHandle(target, method);
 		this.id = resolveId(method, id);
 		this.functionArgumentResolver = newFunctionArgumentResolver(method);
 		this.HA = false;
@@ -85,6 +107,27 @@ public class PojoFunctionWrapper implements Function {
 		this.optimizeForWrite = false;
 	}
 
+	private static MethodHandle newMethodHandle(Object target, Method method) {
+
+		try {
+
+			ReflectionUtils.makeAccessible(method);
+
+			MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+
+			if (!Modifier.isStatic(method.getModifiers())) {
+				methodHandle = methodHandle.bindTo(target);
+			}
+
+			return methodHandle.asSpreader(Object[].class, method.getParameterCount())
+				.asType(MethodType.methodType(Object.class, Object[].class));
+		}
+		catch (IllegalAccessException cause) {
+			throw new IllegalStateException(String.format("Failed to access method [%s] on class [%s]",
+				method.getName(), ObjectUtils.nullSafeClassName(target)), cause);
+		}
+	}
+
 	protected FunctionArgumentResolver newFunctionArgumentResolver(Method method) {
 		return new FunctionContextInjectingArgumentResolver(method);
 	}
@@ -173,7 +216,13 @@ public class PojoFunctionWrapper implements Function {
 			}
 		}
 
-		return ReflectionUtils.invokeMethod(this.method, this.target, (Object[]) args);
+		try {
+			return this.methodHandle.invokeExact(args);
+		}
+		catch (Throwable cause) {
+			ReflectionUtils.rethrowRuntimeException(cause);
+			return null;
+		}
 	}
 
 	private void sendResults(ResultSender<Object> resultSender, Object result) {
@@ -185,12 +234,42 @@ public class PojoFunctionWrapper implements Function {
 			if (ObjectUtils.isArray(result)) {
 				new BatchingResultSender(this.batchSize, resultSender).sendArrayResults(result);
 			}
-			else if (Iterable.class.isAssignableFrom(result.getClass())) {
+			else if (result instanceof Iterable) {
 				new BatchingResultSender(this.batchSize, resultSender).sendResults((Iterable<?>) result);
 			}
+			else if (result instanceof Stream) {
+				new BatchingResultSender(this.batchSize, resultSender).sendStreamResults((Stream<?>) result);
+			}
+			else if (result instanceof Iterator) {
+				new BatchingResultSender(this.batchSize, resultSender).sendResults((Iterator<?>) result);
+			}
+			else if (REACTOR_PRESENT && PublisherResults.isPublisher(result)) {
+				new BatchingResultSender(this.batchSize, resultSender)
+					.sendStreamResults(PublisherResults.toStream(result, this.batchSize));
+			}
 			else {
 				resultSender.lastResult(result);
 			}
 		}
 	}
+
+	/**
+	 * Adapts a Reactive Streams {@link Publisher} returned by a {@link Function} into a blocking {@link Stream},
+	 * requesting results from the {@link Publisher} in chunks determined by {@code batchSize}.
+	 *
+	 * Defined as a nested type so that Project Reactor remains an optional dependency.
+	 */
+	static abstract class PublisherResults {
+
+		static boolean isPublisher(Object result) {
+			return result instanceof Publisher;
+		}
+
+		static Stream<?> toStream(Object result, int batchSize) {
+
+			Flux<?> results = Flux.from((Publisher<?>) result);
+
+			return batchSize > 0 ? results.toStream(batchSize) : results.toStream();
+		}
+	}
 }
@@ -40,6 +40,14 @@ public @interface OnMembers {
 	 */
 	String groups() default "";
 
+	/**
+	 * Optional {@link java.util.concurrent.Executor} bean reference used to execute Functions and collect the results
+	 * for methods returning a {@link java.util.concurrent.CompletableFuture}, {@literal Mono} or {@literal Flux}.
+	 *
+	 * @return an optional bean name of the {@link java.util.concurrent.Executor} used to execute the Functions.
+	 */
+	String executor() default "";
+
 	/**
 	 * Optional ResultCollector bean reference.
 	 *
@@ -71,6 +71,11 @@ abstract class AbstractFunctionExecutionBeanDefinitionBuilder {
 			.filter(StringUtils::hasText)
 			.ifPresent(reference -> functionTemplateBuilder.addPropertyReference("resultCollector", reference));
 
+		Optional.ofNullable(this.configuration.getAttribute("executor"))
+			.map(String::valueOf)
+			.filter(StringUtils::hasText)
+			.ifPresent(reference -> functionTemplateBuilder.addPropertyReference("executor", reference));
+
 		return functionTemplateBuilder.getBeanDefinition();
 	}
 
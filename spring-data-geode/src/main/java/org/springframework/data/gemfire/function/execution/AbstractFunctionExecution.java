@@ -20,13 +20,18 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.FunctionService;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.execute.NoResult;
 
 import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
 import org.springframework.data.gemfire.function.UncategorizedFunctionException;
@@ -44,6 +49,8 @@ import org.slf4j.LoggerFactory;
  * @author David Turanski
  * @author John Blum
  * @author Patrick Johnson
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
  * @see java.util.concurrent.TimeUnit
  * @see org.apache.geode.cache.execute.Execution
  * @see org.apache.geode.cache.execute.Function
@@ -205,6 +212,109 @@ abstract class AbstractFunctionExecution {
 		}
 	}
 
+	/**
+	 * Executes the configured {@link Function} asynchronously.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param executor {@link Executor} used to execute the {@link Function} and collect the results;
+	 * must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with an {@link Iterable} containing the results
+	 * from the {@link Function} {@link Execution}.
+	 * @see #executeAsync(Boolean, Executor)
+	 */
+	<T> CompletableFuture<Iterable<T>> executeAsync(Executor executor) {
+		return executeAsync(DEFAULT_RETURN_RESULT, executor);
+	}
+
+	/**
+	 * Executes the configured {@link Function} asynchronously.
+	 *
+	 * Both the {@link Execution} of the {@link Function} and the collection of results from
+	 * the {@link ResultCollector} are performed on a {@link Thread} provided by the given {@link Executor}
+	 * since a client {@link Execution} blocks until all results have been received from the servers.
+	 *
+	 * @param <T> {@link Class type} of the result.
+	 * @param returnResult boolean value indicating whether the {@link Function} should return a result
+	 * from the {@link Execution}.
+	 * @param executor {@link Executor} used to execute the {@link Function} and collect the results;
+	 * must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with an {@link Iterable} containing the results
+	 * from the {@link Function} {@link Execution}, or completed exceptionally if the {@link Function}
+	 * {@link Execution} failed, including when the {@link Executor} rejected the {@link Function} {@link Execution}.
+	 * @throws IllegalArgumentException if the {@link Executor} is {@literal null}.
+	 * @see java.util.concurrent.CompletableFuture
+	 * @see java.util.concurrent.Executor
+	 * @see #execute(Boolean)
+	 */
+	<T> CompletableFuture<Iterable<T>> executeAsync(Boolean returnResult, Executor executor) {
+
+		Assert.notNull(executor, "Executor must not be null");
+
+		try {
+			return CompletableFuture.supplyAsync(() -> execute(returnResult), executor);
+		}
+		catch (RejectedExecutionException cause) {
+			return CompletableFuture.failedFuture(cause);
+		}
+	}
+
+	/**
+	 * Executes the configured {@link Function} streaming the results as they arrive.
+	 *
+	 * The {@link Function} is executed on a {@link Thread} provided by the given {@link Executor} while the results
+	 * are consumed from the returned {@link Stream} on the calling {@link Thread}. The configured timeout applies
+	 * to the wait for each individual result. The {@link Stream} ends when the {@link Execution} of a {@link Function}
+	 * sending no results completes.
+	 *
+	 * @param <T> {@link Class type} of the individual results.
+	 * @param resultCollector {@link StreamingResultCollector} used to buffer the results; must not be {@literal null}.
+	 * @param executor {@link Executor} used to execute the {@link Function}; must not be {@literal null}.
+	 * @return a {@link Stream} over the results of the {@link Function} {@link Execution}.
+	 * @throws IllegalArgumentException if the {@link StreamingResultCollector} or {@link Executor} is {@literal null}.
+	 * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+	 * @see java.util.concurrent.Executor
+	 * @see java.util.stream.Stream
+	 */
+	@SuppressWarnings({ "rawtypes" })
+	<T> Stream<T> executeAndStream(StreamingResultCollector<T> resultCollector, Executor executor) {
+
+		Assert.notNull(resultCollector, "StreamingResultCollector must not be null");
+		Assert.notNull(executor, "Executor must not be null");
+
+		setResultCollector(resultCollector.withTimeout(getTimeout()));
+
+		Stream<T> results = resultCollector.stream();
+
+		try {
+			executor.execute(() -> {
+				try {
+
+					Execution execution = prepare(getExecution());
+
+					Function function = getFunction();
+
+					ResultCollector<?, ?> executionResultCollector = function != null
+						? execution.execute(function)
+						: execution.execute(getFunctionId());
+
+					// Apache Geode returns NoResult, and never ends the results of the StreamingResultCollector,
+					// for a Function sending no results, including a Function executed by ID
+					if ((function != null && !function.hasResult()) || executionResultCollector instanceof NoResult) {
+						resultCollector.endResults();
+					}
+				}
+				catch (Throwable cause) {
+					resultCollector.fail(cause);
+				}
+			});
+		}
+		catch (RuntimeException cause) {
+			resultCollector.fail(cause);
+		}
+
+		return results;
+	}
+
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	protected Execution prepare(Execution execution) {
 
@@ -12,10 +12,19 @@
  */
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.ResultCollector;
 
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.util.Assert;
 
 /**
  * Abstract base class for all {@link Function} templates, containing operations common to invoking Apache Geode
@@ -23,6 +32,9 @@ import org.springframework.beans.factory.InitializingBean;
  *
  * @author David Turanski
  * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.concurrent.Executor
+ * @see java.util.stream.Stream
  * @see org.apache.geode.cache.execute.Execution
  * @see org.apache.geode.cache.execute.Function
  * @see org.apache.geode.cache.execute.ResultCollector
@@ -32,8 +44,12 @@ import org.springframework.beans.factory.InitializingBean;
  */
 abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, InitializingBean {
 
+	private volatile int streamingBufferCapacity = StreamingResultCollector.DEFAULT_CAPACITY;
+
 	private volatile long timeout;
 
+	private volatile Executor executor;
+
 	private volatile ResultCollector<?, ?> resultCollector;
 
 	@Override
@@ -71,6 +87,36 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		return execute(functionExecution);
 	}
 
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(Function<?> function, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunction(function);
+
+		return executeAsync(functionExecution);
+	}
+
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAsync(functionExecution);
+	}
+
+	@Override
+	public <T> Stream<T> executeAndStream(String functionId, Object... args) {
+
+		AbstractFunctionExecution functionExecution = getFunctionExecution()
+			.setArguments(args)
+			.setFunctionId(functionId);
+
+		return executeAndStream(functionExecution);
+	}
+
 	@Override
 	public <T> T executeAndExtract(String functionId, Object... args) {
 
@@ -104,6 +150,17 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 		 return prepare(functionExecution).execute(returnResult);
 	}
 
+	protected <T> CompletableFuture<Iterable<T>> executeAsync(AbstractFunctionExecution functionExecution) {
+		return prepare(functionExecution).executeAsync(getExecutor());
+	}
+
+	protected <T> Stream<T> executeAndStream(AbstractFunctionExecution functionExecution) {
+
+		StreamingResultCollector<T> resultCollector = new StreamingResultCollector<>(getStreamingBufferCapacity());
+
+		return prepare(functionExecution).executeAndStream(resultCollector, getExecutor());
+	}
+
 	protected <T> T executeAndExtract(AbstractFunctionExecution functionExecution) {
 		 return prepare(functionExecution).executeAndExtract();
 	}
@@ -117,6 +174,62 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 
 	protected abstract AbstractFunctionExecution getFunctionExecution();
 
+	/**
+	 * Sets the {@link Executor} used to execute {@link Function Functions} asynchronously and collect the results.
+	 *
+	 * Since executing a {@link Function} and collecting the results blocks until the {@link Function} completes,
+	 * a dedicated {@link Executor} sized for the expected number of concurrent {@link Function} executions
+	 * should be configured when the bounded, default {@link Executor} shared by all {@link Function} templates
+	 * does not fit the application's workload.
+	 *
+	 * @param executor {@link Executor} used to execute {@link Function Functions} asynchronously.
+	 * @see java.util.concurrent.Executor
+	 * @see #executeAsync(String, Object...)
+	 */
+	public void setExecutor(Executor executor) {
+		this.executor = executor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to execute {@link Function Functions} asynchronously and collect the results.
+	 *
+	 * @return the configured {@link Executor}, or a bounded, default {@link Executor} dedicated to
+	 * {@link Function} executions if no {@link Executor} was configured.
+	 * @see java.util.concurrent.Executor
+	 */
+	public Executor getExecutor() {
+
+		Executor executor = this.executor;
+
+		return executor != null ? executor : DefaultExecutor.INSTANCE;
+	}
+
+	/**
+	 * Sets the maximum number of results buffered by {@link #executeAndStream(String, Object...) streaming}
+	 * {@link Function} executions before backpressure is applied to the {@link Function} results.
+	 *
+	 * @param streamingBufferCapacity maximum number of results buffered; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code streamingBufferCapacity} is less than {@literal 1}.
+	 * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+	 */
+	public void setStreamingBufferCapacity(int streamingBufferCapacity) {
+
+		Assert.isTrue(streamingBufferCapacity > 0,
+			() -> String.format("Streaming buffer capacity [%d] must be greater than 0", streamingBufferCapacity));
+
+		this.streamingBufferCapacity = streamingBufferCapacity;
+	}
+
+	/**
+	 * Returns the maximum number of results buffered by {@link #executeAndStream(String, Object...) streaming}
+	 * {@link Function} executions before backpressure is applied to the {@link Function} results.
+	 *
+	 * @return the maximum number of results buffered by streaming {@link Function} executions.
+	 */
+	public int getStreamingBufferCapacity() {
+		return this.streamingBufferCapacity;
+	}
+
 	public void setResultCollector(ResultCollector<?,?> resultCollector) {
 		this.resultCollector = resultCollector;
 	}
@@ -132,4 +245,38 @@ abstract class AbstractFunctionTemplate implements GemfireFunctionOperations, In
 	public long getTimeout() {
 		return this.timeout;
 	}
+
+	/**
+	 * Lazily initialized, bounded {@link Executor} shared by all {@link Function} templates for which no
+	 * {@link Executor} was configured, keeping blocking {@link Function} executions and result collection
+	 * off the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 */
+	static final class DefaultExecutor {
+
+		static final int QUEUE_CAPACITY = 1024;
+
+		static final int THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+		static final Executor INSTANCE = newExecutor();
+
+		private static Executor newExecutor() {
+
+			AtomicInteger threadCount = new AtomicInteger(0);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+
+					Thread thread = new Thread(runnable,
+						String.format("GemfireFunctionTemplate-async-%d", threadCount.incrementAndGet()));
+
+					thread.setDaemon(true);
+
+					return thread;
+				}, new ThreadPoolExecutor.AbortPolicy());
+
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		}
+	}
 }
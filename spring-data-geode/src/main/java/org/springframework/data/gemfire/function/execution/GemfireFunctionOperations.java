@@ -13,6 +13,10 @@
 
 package org.springframework.data.gemfire.function.execution;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 import org.apache.geode.cache.execute.Function;
 
 /**
@@ -43,6 +47,57 @@ public interface GemfireFunctionOperations {
 	 */
 	<T> Iterable<T> execute(String functionId, Object... args);
 
+	/**
+	 * Asynchronously execute an unregistered GemFire Function with the given arguments.
+	 *
+	 * The default implementation collects the results on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param function the GemFire Function object to execute.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the contents of the ResultsCollector.
+	 * @see java.util.concurrent.CompletableFuture
+	 * @see #execute(Function, Object...)
+	 */
+	default <T> CompletableFuture<Iterable<T>> executeAsync(Function<?> function, Object... args) {
+		return CompletableFuture.supplyAsync(() -> execute(function, args));
+	}
+
+	/**
+	 * Asynchronously execute a GemFire Function registered with the given ID.
+	 *
+	 * The default implementation collects the results on the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 *
+	 * @param <T> type parameter specifying the result type of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link CompletableFuture} completed with the results.
+	 * @see java.util.concurrent.CompletableFuture
+	 * @see #execute(String, Object...)
+	 */
+	default <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+		return CompletableFuture.supplyAsync(() -> execute(functionId, args));
+	}
+
+	/**
+	 * Execute a GemFire Function registered with the given ID, streaming the results as they arrive.
+	 *
+	 * The default implementation collects all results before returning the {@link Stream}.
+	 *
+	 * @param <T> type parameter specifying the type of the individual results of the Function execution.
+	 * @param functionId the ID under which the GemFire function is registered.
+	 * @param args an array of Object arguments to the Function call.
+	 * @return a {@link Stream} over the results; the {@link Stream} should be closed when not fully consumed.
+	 * @see java.util.stream.Stream
+	 * @see #execute(String, Object...)
+	 */
+	default <T> Stream<T> executeAndStream(String functionId, Object... args) {
+
+		Iterable<T> results = execute(functionId, args);
+
+		return results != null ? StreamSupport.stream(results.spliterator(), false) : Stream.empty();
+	}
+
     /**
      * Execute an unregistered GemFire Function with the expected singleton result.
 
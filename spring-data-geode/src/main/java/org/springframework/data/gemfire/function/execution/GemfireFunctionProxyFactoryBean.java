@@ -13,12 +13,19 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 import org.springframework.aop.framework.ProxyFactory;
 import org.springframework.aop.support.AopUtils;
 import org.springframework.beans.factory.FactoryBean;
+import org.springframework.core.ResolvableType;
 import org.springframework.data.gemfire.function.annotation.OnMember;
 import org.springframework.data.gemfire.function.annotation.OnServer;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
@@ -30,20 +37,38 @@ import org.springframework.util.ClassUtils;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
 /**
  * A Proxy {@link FactoryBean} for all non-Region Function Execution interfaces.
  *
+ * Function Execution interface methods declaring a {@link CompletableFuture}, {@link CompletionStage}
+ * or {@link Future} return type, or a {@link Mono} or {@link Flux} return type when Project Reactor
+ * is on the classpath, execute the {@link Function} asynchronously and do not block the calling {@link Thread}
+ * while the results are collected.
+ *
+ * Function Execution interface methods declaring a {@link Stream} or {@link Iterator} return type, or a {@link Flux}
+ * return type, stream the results as they arrive using a {@link StreamingResultCollector}.
+ *
  * @author David Turanski
  * @author John Blum
  * @author Patrick Johnson
  * @see java.lang.reflect.Method
+ * @see java.util.concurrent.CompletableFuture
  * @see org.aopalliance.intercept.MethodInterceptor
  * @see org.springframework.beans.factory.BeanClassLoaderAware
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.data.gemfire.support.AbstractFactoryBeanSupport
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
  */
 public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<Object> implements MethodInterceptor {
 
+	private static final boolean REACTOR_PRESENT =
+		ClassUtils.isPresent("reactor.core.publisher.Flux", GemfireFunctionProxyFactoryBean.class.getClassLoader());
+
 	private volatile boolean initialized;
 
 	private final Class<?> functionExecutionInterface;
@@ -114,11 +139,92 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 
 		logDebug("Invoking method [{}]", invocation.getMethod().getName());
 
+		if (isStreaming(invocation.getMethod())) {
+			return invokeStreaming(invocation);
+		}
+
+		if (isAsynchronous(invocation.getMethod())) {
+			return invokeAsynchronously(invocation);
+		}
+
 		Object result = invokeFunction(invocation.getMethod(), invocation.getArguments());
 
 		return resolveResult(invocation, result);
 	}
 
+	private @Nullable Object invokeAsynchronously(@NonNull MethodInvocation invocation) {
+
+		Method method = invocation.getMethod();
+
+		Object[] arguments = invocation.getArguments();
+
+		Class<?> returnType = method.getReturnType();
+
+		if (isFuture(returnType)) {
+			return invokeFunctionAsync(method, arguments)
+				.thenApply(results -> resolveAsyncResult(method, results));
+		}
+
+		return ReactiveFunctionExecutionResults.toMono(() -> invokeFunctionAsync(method, arguments),
+			results -> resolveAsyncResult(method, results));
+	}
+
+	private @NonNull Object invokeStreaming(@NonNull MethodInvocation invocation) {
+
+		Method method = invocation.getMethod();
+
+		Object[] arguments = invocation.getArguments();
+
+		Class<?> returnType = method.getReturnType();
+
+		if (Stream.class.equals(returnType)) {
+			return invokeFunctionAndStream(method, arguments);
+		}
+		else if (Iterator.class.equals(returnType)) {
+			return invokeFunctionAndStream(method, arguments).iterator();
+		}
+
+		return ReactiveFunctionExecutionResults.toFlux(() -> invokeFunctionAndStream(method, arguments));
+	}
+
+	/**
+	 * Asynchronously executes the {@link Function} mapped to the given Function Execution interface {@link Method}.
+	 *
+	 * @param method Function Execution interface {@link Method} invoked on the proxy.
+	 * @param args array of arguments passed to the {@link Function}.
+	 * @return a {@link CompletableFuture} completed with the results of the {@link Function} execution.
+	 * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations#executeAsync(String, Object...)
+	 * @see java.util.concurrent.CompletableFuture
+	 */
+	protected @NonNull CompletableFuture<? extends Iterable<?>> invokeFunctionAsync(@NonNull Method method,
+			@NonNull Object[] args) {
+
+		String functionId = getFunctionExecutionMethodMetadata()
+			.getMethodMetadata(method)
+			.getFunctionId();
+
+		return getGemfireFunctionOperations().executeAsync(functionId, args);
+	}
+
+	/**
+	 * Executes the {@link Function} mapped to the given Function Execution interface {@link Method}
+	 * streaming the results as they arrive.
+	 *
+	 * @param method Function Execution interface {@link Method} invoked on the proxy.
+	 * @param args array of arguments passed to the {@link Function}.
+	 * @return a {@link Stream} over the results of the {@link Function} execution.
+	 * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations#executeAndStream(String, Object...)
+	 * @see java.util.stream.Stream
+	 */
+	protected @NonNull Stream<?> invokeFunctionAndStream(@NonNull Method method, @NonNull Object[] args) {
+
+		String functionId = getFunctionExecutionMethodMetadata()
+			.getMethodMetadata(method)
+			.getFunctionId();
+
+		return getGemfireFunctionOperations().executeAndStream(functionId, args);
+	}
+
 	protected @Nullable Object invokeFunction(@NonNull Method method, @NonNull Object[] args) {
 
 		GemfireFunctionOperations template = getGemfireFunctionOperations();
@@ -132,6 +238,41 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 			: template.execute(functionId, args);
 	}
 
+	/**
+	 * Determines whether the given Function Execution interface {@link Method} executes the {@link Function}
+	 * asynchronously based on the {@link Method Method's} declared {@link Class return type}.
+	 *
+	 * @param method Function Execution interface {@link Method} to evaluate.
+	 * @return a boolean value indicating whether the {@link Method} executes the {@link Function} asynchronously.
+	 */
+	protected boolean isAsynchronous(@NonNull Method method) {
+
+		Class<?> returnType = method.getReturnType();
+
+		return isFuture(returnType) || (REACTOR_PRESENT && ReactiveFunctionExecutionResults.isMono(returnType));
+	}
+
+	/**
+	 * Determines whether the given Function Execution interface {@link Method} streams the results
+	 * of the {@link Function} based on the {@link Method Method's} declared {@link Class return type}.
+	 *
+	 * @param method Function Execution interface {@link Method} to evaluate.
+	 * @return a boolean value indicating whether the {@link Method} streams the results of the {@link Function}.
+	 */
+	protected boolean isStreaming(@NonNull Method method) {
+
+		Class<?> returnType = method.getReturnType();
+
+		return Stream.class.equals(returnType) || Iterator.class.equals(returnType)
+			|| (REACTOR_PRESENT && ReactiveFunctionExecutionResults.isFlux(returnType));
+	}
+
+	private boolean isFuture(Class<?> type) {
+
+		return (Future.class.isAssignableFrom(type) || CompletionStage.class.isAssignableFrom(type))
+			&& type.isAssignableFrom(CompletableFuture.class);
+	}
+
 	protected boolean isFunctionExecutedOnSingleServerOrSingleMember(@NonNull Method method) {
 		return method.getDeclaringClass().isAnnotationPresent(OnServer.class)
 			|| method.getDeclaringClass().isAnnotationPresent(OnMember.class);
@@ -148,6 +289,29 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 			: result;
 	}
 
+	/**
+	 * Resolves the value of the asynchronous {@link Function} execution from the given {@link Iterable results}
+	 * based on the generic type argument of the {@link Method Method's} declared return type.
+	 *
+	 * @param method Function Execution interface {@link Method} invoked on the proxy.
+	 * @param results {@link Iterable} containing the results of the {@link Function} execution.
+	 * @return the resolved value of the {@link Function} execution.
+	 */
+	protected @Nullable Object resolveAsyncResult(@NonNull Method method, @Nullable Iterable<?> results) {
+
+		if (results == null) {
+			return null;
+		}
+
+		if (isFunctionExecutedOnSingleServerOrSingleMember(method)) {
+			return results.iterator().hasNext() ? results.iterator().next() : null;
+		}
+
+		Class<?> resultType = ResolvableType.forMethodReturnType(method).getGeneric(0).resolve(Object.class);
+
+		return resultType.isInstance(results) ? results : resolveSingleResultIfPossible(results);
+	}
+
 	protected Object resolveSingleResultIfPossible(Iterable<?> results) {
 
 		// TODO: Determine whether to throw an IncorrectResultSizeDataAccessException if the cardinality does not match.
@@ -200,4 +364,30 @@ public class GemfireFunctionProxyFactoryBean extends AbstractFactoryBeanSupport<
 			this.initialized = true;
 		}
 	}
+
+	/**
+	 * Adapts the asynchronous results of a {@link Function} execution to Project Reactor types.
+	 *
+	 * Only loaded when Project Reactor is on the classpath.
+	 */
+	static abstract class ReactiveFunctionExecutionResults {
+
+		static boolean isFlux(Class<?> type) {
+			return Flux.class.equals(type);
+		}
+
+		static boolean isMono(Class<?> type) {
+			return Mono.class.equals(type);
+		}
+
+		static Flux<Object> toFlux(Supplier<Stream<?>> results) {
+			return Flux.<Object>fromStream(results).subscribeOn(Schedulers.boundedElastic());
+		}
+
+		static Mono<Object> toMono(Supplier<CompletableFuture<? extends Iterable<?>>> results,
+				Function<Iterable<?>, Object> resultResolver) {
+
+			return Mono.fromFuture(() -> results.get().thenApply(resultResolver));
+		}
+	}
 }
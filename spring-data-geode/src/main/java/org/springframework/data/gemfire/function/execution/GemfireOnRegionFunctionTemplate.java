@@ -13,6 +13,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Execution;
@@ -70,6 +72,26 @@ public class GemfireOnRegionFunctionTemplate extends AbstractFunctionTemplate im
 			.setTimeout(getTimeout()));
 	}
 
+	@Override
+	public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args) {
+
+		return executeAsync(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId)
+			.setTimeout(getTimeout()));
+	}
+
+	@Override
+	public <T> Stream<T> executeAndStream(String functionId, Set<?> keys, Object... args) {
+
+		return executeAndStream(getFunctionExecution()
+			.setKeys(keys)
+			.setArguments(args)
+			.setFunctionId(functionId)
+			.setTimeout(getTimeout()));
+	}
+
 	@Override
 	public <T> T executeAndExtract(String functionId, Set<?> keys, Object... args) {
 
@@ -14,6 +14,9 @@
 package org.springframework.data.gemfire.function.execution;
 
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.Function;
@@ -23,6 +26,8 @@ import org.apache.geode.cache.execute.Function;
  *
  * @author David Turanski
  * @author John Blum
+ * @see java.util.concurrent.CompletableFuture
+ * @see java.util.stream.Stream
  * @see org.apache.geode.cache.Region
  * @see org.apache.geode.cache.execute.Function
  * @see org.springframework.data.gemfire.function.execution.GemfireFunctionOperations
@@ -36,6 +41,21 @@ public interface GemfireOnRegionOperations extends GemfireFunctionOperations {
 
 	<T> Iterable<T> execute(String functionId, Set<?> keys, Object... args);
 
+	default <T> CompletableFuture<Iterable<T>> executeAsync(Function<?> function, Set<?> keys, Object... args) {
+		return executeAsync(function.getId(), keys, args);
+	}
+
+	default <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Set<?> keys, Object... args) {
+		return CompletableFuture.supplyAsync(() -> execute(functionId, keys, args));
+	}
+
+	default <T> Stream<T> executeAndStream(String functionId, Set<?> keys, Object... args) {
+
+		Iterable<T> results = execute(functionId, keys, args);
+
+		return results != null ? StreamSupport.stream(results.spliterator(), false) : Stream.empty();
+	}
+
 	default <T> T executeAndExtract(Function function, Set<?> keys, Object... args) {
 		return executeAndExtract(function.getId(), keys, args);
 	}
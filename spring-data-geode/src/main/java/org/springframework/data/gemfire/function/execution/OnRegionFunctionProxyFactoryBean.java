@@ -14,6 +14,8 @@ package org.springframework.data.gemfire.function.execution;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 import org.springframework.data.gemfire.util.ArrayUtils;
 
@@ -60,4 +62,50 @@ public class OnRegionFunctionProxyFactoryBean extends GemfireFunctionProxyFactor
 		return filter != null ? gemfireOnRegionOperations.execute(functionId, filter, args)
 			: gemfireOnRegionOperations.execute(functionId, args);
 	}
+
+	@Override
+	protected CompletableFuture<? extends Iterable<?>> invokeFunctionAsync(Method method, Object[] args) {
+
+		GemfireOnRegionOperations gemfireOnRegionOperations =
+			(GemfireOnRegionOperations) getGemfireFunctionOperations();
+
+		RegionMethodMetadata regionMethodMetadata = this.methodMetadata.getMethodMetadata(method);
+
+		int filterArgPosition = regionMethodMetadata.getFilterArgPosition();
+
+		String functionId = regionMethodMetadata.getFunctionId();
+
+		Set<?> filter = null;
+
+		if (filterArgPosition >= 0) {
+			filter = (Set<?>) args[filterArgPosition];
+			args = ArrayUtils.remove(args, filterArgPosition);
+		}
+
+		return filter != null ? gemfireOnRegionOperations.executeAsync(functionId, filter, args)
+			: gemfireOnRegionOperations.executeAsync(functionId, args);
+	}
+
+	@Override
+	protected Stream<?> invokeFunctionAndStream(Method method, Object[] args) {
+
+		GemfireOnRegionOperations gemfireOnRegionOperations =
+			(GemfireOnRegionOperations) getGemfireFunctionOperations();
+
+		RegionMethodMetadata regionMethodMetadata = this.methodMetadata.getMethodMetadata(method);
+
+		int filterArgPosition = regionMethodMetadata.getFilterArgPosition();
+
+		String functionId = regionMethodMetadata.getFunctionId();
+
+		Set<?> filter = null;
+
+		if (filterArgPosition >= 0) {
+			filter = (Set<?>) args[filterArgPosition];
+			args = ArrayUtils.remove(args, filterArgPosition);
+		}
+
+		return filter != null ? gemfireOnRegionOperations.executeAndStream(functionId, filter, args)
+			: gemfireOnRegionOperations.executeAndStream(functionId, args);
+	}
 }
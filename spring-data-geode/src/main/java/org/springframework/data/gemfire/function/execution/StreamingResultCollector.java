@@ -0,0 +1,434 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
+import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.distributed.DistributedMember;
+
+import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ResultCollector} implementation exposing the results of a {@link Function} execution as a {@link Stream}
+ * or {@link Iterator} while the results are still arriving.
+ *
+ * Results are buffered in a bounded buffer. When the buffer is full, {@link #addResult(DistributedMember, Object)}
+ * blocks until the consumer catches up, which applies backpressure to the {@link Thread} receiving the results.
+ * The buffer capacity is measured in results as sent by the {@link Function}; a {@link Function} sending results
+ * in chunks (for example, {@literal @GemfireFunction(batchSize = ...)}) buffers at most {@code capacity} chunks.
+ * Chunks sent as an {@link Iterable} or {@link Object} array are flattened into individual elements
+ * unless flattening is disabled.
+ *
+ * The results can only be consumed once, by a single {@link Thread}, which must not be the {@link Thread}
+ * executing the {@link Function}.
+ *
+ * @author agent
+ * @param <T> {@link Class type} of the individual results.
+ * @see java.util.Iterator
+ * @see java.util.stream.Stream
+ * @see org.apache.geode.cache.execute.Function
+ * @see org.apache.geode.cache.execute.ResultCollector
+ * @since 3.0.0
+ */
+public class StreamingResultCollector<T> implements ResultCollector<Object, Iterable<T>>, AutoCloseable {
+
+	public static final boolean DEFAULT_FLATTEN = true;
+
+	public static final int DEFAULT_CAPACITY = 16;
+
+	protected static final long POLL_INTERVAL_IN_MILLISECONDS = 100L;
+
+	private static final Object END_OF_RESULTS = new Object();
+	private static final Object NULL_RESULT = new Object();
+
+	private final AtomicBoolean consumed = new AtomicBoolean(false);
+
+	private final boolean flatten;
+
+	private final BlockingQueue<Object> buffer;
+
+	private final int capacity;
+
+	private volatile boolean closed;
+	private volatile boolean resultsReceived;
+
+	private volatile long timeout;
+
+	private volatile Throwable failure;
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with the {@link #DEFAULT_CAPACITY}.
+	 */
+	public StreamingResultCollector() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with the given {@link Integer capacity}.
+	 *
+	 * @param capacity {@link Integer} specifying the maximum number of results buffered before backpressure is applied;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@literal 1}.
+	 */
+	public StreamingResultCollector(int capacity) {
+		this(capacity, DEFAULT_FLATTEN);
+	}
+
+	/**
+	 * Constructs a new instance of {@link StreamingResultCollector} initialized with the given {@link Integer capacity}
+	 * and {@link Boolean flatten} indicator.
+	 *
+	 * @param capacity {@link Integer} specifying the maximum number of results buffered before backpressure is applied;
+	 * must be greater than {@literal 0}.
+	 * @param flatten boolean value indicating whether results sent as an {@link Iterable} or {@link Object} array
+	 * are flattened into individual elements.
+	 * @throws IllegalArgumentException if {@code capacity} is less than {@literal 1}.
+	 */
+	public StreamingResultCollector(int capacity, boolean flatten) {
+
+		Assert.isTrue(capacity > 0, () -> String.format("Capacity [%d] must be greater than 0", capacity));
+
+		this.buffer = new ArrayBlockingQueue<>(capacity);
+		this.capacity = capacity;
+		this.flatten = flatten;
+	}
+
+	/**
+	 * Returns the maximum number of results buffered before backpressure is applied.
+	 *
+	 * @return the maximum number of results buffered before backpressure is applied.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Returns the number of results currently buffered and waiting to be consumed.
+	 *
+	 * @return the number of results currently buffered.
+	 */
+	public int getBufferedResultCount() {
+		return this.buffer.size();
+	}
+
+	/**
+	 * Determines whether this {@link ResultCollector} has been closed by the consumer.
+	 *
+	 * @return a boolean value indicating whether this {@link ResultCollector} has been closed.
+	 * @see #close()
+	 */
+	public boolean isClosed() {
+		return this.closed;
+	}
+
+	/**
+	 * Determines whether results sent as an {@link Iterable} or {@link Object} array are flattened
+	 * into individual elements.
+	 *
+	 * @return a boolean value indicating whether chunked results are flattened.
+	 */
+	public boolean isFlatten() {
+		return this.flatten;
+	}
+
+	/**
+	 * Returns the maximum amount of time in milliseconds the consumer waits for the next result to arrive.
+	 *
+	 * @return the maximum amount of time in milliseconds the consumer waits for the next result to arrive;
+	 * {@literal 0} waits indefinitely.
+	 */
+	public long getTimeout() {
+		return this.timeout;
+	}
+
+	/**
+	 * Sets the maximum amount of time in milliseconds the consumer waits for the next result to arrive.
+	 *
+	 * @param timeout maximum amount of time in milliseconds the consumer waits for the next result to arrive;
+	 * {@literal 0} or less waits indefinitely.
+	 * @return this {@link StreamingResultCollector}.
+	 */
+	public StreamingResultCollector<T> withTimeout(long timeout) {
+		this.timeout = Math.max(timeout, 0L);
+		return this;
+	}
+
+	/**
+	 * Buffers the given {@link Object result}, blocking while the buffer is full.
+	 *
+	 * Results received after this {@link ResultCollector} has been {@link #close() closed} are discarded.
+	 *
+	 * @param memberId {@link DistributedMember} that sent the result.
+	 * @param result {@link Object result} to buffer.
+	 * @throws FunctionException if the {@link Thread} is interrupted while waiting for buffer space.
+	 */
+	@Override
+	public void addResult(@Nullable DistributedMember memberId, @Nullable Object result) {
+		this.resultsReceived = true;
+		enqueue(result != null ? result : NULL_RESULT);
+	}
+
+	/**
+	 * Signals that all results have been received.
+	 */
+	@Override
+	public void endResults() {
+		enqueue(END_OF_RESULTS);
+	}
+
+	/**
+	 * Fails the {@link Function} execution with the given {@link Throwable cause}.
+	 *
+	 * The consumer receives the results buffered before the failure followed by a {@link FunctionException}.
+	 *
+	 * @param cause {@link Throwable} that caused the {@link Function} execution to fail; must not be {@literal null}.
+	 */
+	public void fail(@NonNull Throwable cause) {
+
+		Assert.notNull(cause, "Cause must not be null");
+
+		if (this.failure == null) {
+			this.failure = cause;
+		}
+
+		this.buffer.offer(END_OF_RESULTS);
+	}
+
+	/**
+	 * Discards all buffered results.
+	 *
+	 * Apache Geode clears results before retrying a {@link Function} execution. Since results already consumed
+	 * cannot be recalled, the {@link Function} execution fails if the consumer already started consuming results.
+	 */
+	@Override
+	public void clearResults() {
+
+		if (this.consumed.get() && this.resultsReceived) {
+			fail(new FunctionException("Function execution was retried after results were consumed"));
+		}
+		else {
+			this.buffer.clear();
+			this.resultsReceived = false;
+		}
+	}
+
+	/**
+	 * Returns a single-use {@link Iterable} over the results of the {@link Function} execution.
+	 *
+	 * @return a single-use {@link Iterable} over the results of the {@link Function} execution.
+	 * @see #iterator()
+	 */
+	@Override
+	public Iterable<T> getResult() {
+		return this::iterator;
+	}
+
+	/**
+	 * Returns a single-use {@link Iterable} over the results of the {@link Function} execution waiting at most
+	 * the given timeout for each result to arrive.
+	 *
+	 * @param timeout maximum amount of time to wait for each result.
+	 * @param unit {@link TimeUnit} of the {@code timeout}.
+	 * @return a single-use {@link Iterable} over the results of the {@link Function} execution.
+	 * @see #iterator()
+	 */
+	@Override
+	public Iterable<T> getResult(long timeout, TimeUnit unit) {
+		withTimeout(unit.toMillis(timeout));
+		return getResult();
+	}
+
+	/**
+	 * Returns an {@link Iterator} over the results of the {@link Function} execution, blocking in
+	 * {@link Iterator#hasNext()} until the next result arrives.
+	 *
+	 * @return an {@link Iterator} over the results of the {@link Function} execution.
+	 * @throws IllegalStateException if the results have already been consumed.
+	 */
+	public Iterator<T> iterator() {
+
+		Assert.state(this.consumed.compareAndSet(false, true),
+			"The results of a StreamingResultCollector can only be consumed once");
+
+		return new ResultIterator();
+	}
+
+	/**
+	 * Returns a sequential {@link Stream} over the results of the {@link Function} execution.
+	 *
+	 * Closing the {@link Stream} {@link #close() closes} this {@link ResultCollector}.
+	 *
+	 * @return a sequential {@link Stream} over the results of the {@link Function} execution.
+	 * @throws IllegalStateException if the results have already been consumed.
+	 * @see java.util.stream.Stream
+	 */
+	public Stream<T> stream() {
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator(), Spliterator.ORDERED), false)
+			.onClose(this::close);
+	}
+
+	/**
+	 * Closes this {@link ResultCollector}, discarding all buffered and subsequently received results
+	 * and releasing any {@link Thread} blocked adding results.
+	 */
+	@Override
+	public void close() {
+		this.closed = true;
+		this.buffer.clear();
+	}
+
+	private void enqueue(Object result) {
+
+		try {
+			while (!isClosed()) {
+				if (this.buffer.offer(result, POLL_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS)) {
+
+					// the consumer may have closed this ResultCollector while waiting for buffer space
+					if (isClosed()) {
+						this.buffer.clear();
+					}
+
+					return;
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new FunctionException("Interrupted while waiting to buffer Function result", cause);
+		}
+	}
+
+	private Object dequeue() {
+
+		long timeout = getTimeout();
+		long deadline = timeout > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeout) : 0L;
+
+		try {
+			while (true) {
+
+				Object result = this.buffer.poll(POLL_INTERVAL_IN_MILLISECONDS, TimeUnit.MILLISECONDS);
+
+				if (result != null) {
+					return result;
+				}
+				else if (this.failure != null) {
+					return END_OF_RESULTS;
+				}
+				else if (isClosed()) {
+					throw new IllegalStateException("StreamingResultCollector was closed");
+				}
+				else if (timeout > 0 && System.nanoTime() - deadline >= 0) {
+					close();
+					throw new ExecutionTimeoutFunctionException(
+						String.format("Failed to receive the next Function result in the configured timeout [%d ms]",
+							timeout));
+				}
+			}
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			close();
+			throw new FunctionException("Interrupted while waiting for the next Function result", cause);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Iterator<Object> toIterator(Object result) {
+
+		if (isFlatten()) {
+			if (result instanceof Iterable) {
+				return ((Iterable<Object>) result).iterator();
+			}
+			else if (result instanceof Object[]) {
+				return Arrays.asList((Object[]) result).iterator();
+			}
+		}
+
+		return Collections.singleton(result).iterator();
+	}
+
+	private class ResultIterator implements Iterator<T> {
+
+		private boolean done;
+
+		private Iterator<Object> chunk = Collections.emptyIterator();
+
+		@Override
+		public boolean hasNext() {
+
+			while (!this.done && !this.chunk.hasNext()) {
+
+				Object result = dequeue();
+
+				if (result == END_OF_RESULTS) {
+					this.done = true;
+					throwOnFailure();
+				}
+				else if (result instanceof Throwable) {
+					this.done = true;
+					close();
+					throw new FunctionException("Execution of Function failed", (Throwable) result);
+				}
+				else {
+					this.chunk = toIterator(result == NULL_RESULT ? null : result);
+				}
+			}
+
+			return !this.done;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			return (T) this.chunk.next();
+		}
+
+		private void throwOnFailure() {
+
+			Throwable failure = StreamingResultCollector.this.failure;
+
+			if (failure != null) {
+				close();
+				throw failure instanceof FunctionException
+					? (FunctionException) failure
+					: new FunctionException("Execution of Function failed", failure);
+			}
+		}
+	}
+}
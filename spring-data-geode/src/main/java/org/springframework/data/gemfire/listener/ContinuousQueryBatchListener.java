@@ -0,0 +1,60 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.listener;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.query.CqEvent;
+
+/**
+ * Continuous Query (CQ) listener receiving CQ events in batches.
+ *
+ * When registered with a {@link ContinuousQueryListenerContainer}, CQ events are accumulated and delivered
+ * to the listener once the batch reaches the configured size or the configured time interval elapses,
+ * whichever comes first. Batches are delivered to the listener one at a time, in the order the CQ events
+ * were received.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryDefinition
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ContinuousQueryBatchListener extends ContinuousQueryListener {
+
+	/**
+	 * Action performed by the listener when notified of a batch of CQ events.
+	 *
+	 * @param events {@link List} of {@link CqEvent CQ events} in the order the events were received;
+	 * never {@literal null} nor empty.
+	 * @see org.apache.geode.cache.query.CqEvent
+	 */
+	void onEvents(List<CqEvent> events);
+
+	/**
+	 * Delivers the single {@link CqEvent CQ event} as a batch of 1.
+	 *
+	 * @param event the event from the CQ.
+	 * @see #onEvents(List)
+	 */
+	@Override
+	default void onEvent(CqEvent event) {
+		onEvents(Collections.singletonList(event));
+	}
+}
@@ -16,18 +16,23 @@
 package org.springframework.data.gemfire.listener;
 
 import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 
 import org.apache.geode.cache.query.CqAttributes;
 import org.apache.geode.cache.query.CqAttributesFactory;
+import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqListener;
 import org.apache.geode.cache.query.CqQuery;
 
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.gemfire.listener.adapter.ContinuousQueryListenerAdapter;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -36,12 +41,19 @@ import org.springframework.util.StringUtils;
  * @author Costin Leau
  * @author John Blum
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryBatchListener
  */
 @SuppressWarnings("unused")
 public class ContinuousQueryDefinition implements InitializingBean {
 
 	private final boolean durable;
 
+	private Boolean conflate;
+
+	private int batchSize;
+
+	private long batchInterval;
+
 	private final ContinuousQueryListener listener;
 
 	private final String name;
@@ -62,13 +74,55 @@ public class ContinuousQueryDefinition implements InitializingBean {
 
 		String query = continuousQuery.query();
 
+		ContinuousQueryListener listener = isBatchListenerMethod(method)
+			? newBatchListener(delegate, method)
+			: newListenerAdapter(delegate, method);
+
+		boolean durable = continuousQuery.durable();
+
+		return new ContinuousQueryDefinition(name, query, listener, durable)
+			.withBatchSize(continuousQuery.batchSize())
+			.withBatchInterval(continuousQuery.batchInterval())
+			.withConflation(parseConflation(method, continuousQuery.conflate()));
+	}
+
+	private static Boolean parseConflation(Method method, String conflate) {
+
+		if (!StringUtils.hasText(conflate)) {
+			return null;
+		}
+
+		String trimmedConflate = conflate.trim();
+
+		Assert.isTrue(Boolean.TRUE.toString().equalsIgnoreCase(trimmedConflate)
+			|| Boolean.FALSE.toString().equalsIgnoreCase(trimmedConflate), () -> String.format(
+				"Conflate [%1$s] declared by method [%2$s] must be 'true', 'false' or empty", conflate, method));
+
+		return Boolean.valueOf(trimmedConflate);
+	}
+
+	private static boolean isBatchListenerMethod(Method method) {
+
+		Class<?>[] parameterTypes = method.getParameterTypes();
+
+		return parameterTypes.length == 1
+			&& (List.class.equals(parameterTypes[0]) || Collection.class.equals(parameterTypes[0]));
+	}
+
+	private static ContinuousQueryBatchListener newBatchListener(Object delegate, Method method) {
+
+		ReflectionUtils.makeAccessible(method);
+
+		return events -> ReflectionUtils.invokeMethod(method, delegate, events);
+	}
+
+	private static ContinuousQueryListener newListenerAdapter(Object delegate, Method method) {
+
 		ContinuousQueryListenerAdapter listener = new ContinuousQueryListenerAdapter(delegate);
 
 		listener.setDefaultListenerMethod(method.getName());
 
-		boolean durable = continuousQuery.durable();
-
-		return new ContinuousQueryDefinition(name, query, listener, durable);
+		return listener;
 	}
 
 	public ContinuousQueryDefinition(String query, ContinuousQueryListener listener) {
@@ -93,6 +147,41 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		afterPropertiesSet();
 	}
 
+	/**
+	 * Determines whether {@link CqEvent CQ events} are delivered to the {@link #getListener() listener} in batches.
+	 *
+	 * @return a boolean value indicating whether the {@link #getListener() listener}
+	 * is a {@link ContinuousQueryBatchListener}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryBatchListener
+	 */
+	public boolean isBatched() {
+		return getListener() instanceof ContinuousQueryBatchListener;
+	}
+
+	/**
+	 * Determines whether only the latest {@link CqEvent CQ event} per key is kept inside a batch.
+	 *
+	 * @return a boolean value indicating whether {@link CqEvent CQ events} are conflated inside a batch;
+	 * {@literal false} if conflation was not declared.
+	 * @see #getConflation()
+	 * @see #withConflation(Boolean)
+	 */
+	public boolean isConflated() {
+		return Boolean.TRUE.equals(this.conflate);
+	}
+
+	/**
+	 * Returns whether this CQ declared that only the latest {@link CqEvent CQ event} per key is kept inside a batch,
+	 * or {@link Optional#empty()} if the CQ defers to the container default.
+	 *
+	 * @return an {@link Optional} {@link Boolean} declaring whether {@link CqEvent CQ events} are conflated
+	 * inside a batch.
+	 * @see #withConflation(Boolean)
+	 */
+	public Optional<Boolean> getConflation() {
+		return Optional.ofNullable(this.conflate);
+	}
+
 	/**
 	 * Determines whether the CQ is durable.
 	 *
@@ -112,6 +201,31 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		return StringUtils.hasText(getName());
 	}
 
+	/**
+	 * Returns the maximum {@link Integer number} of {@link CqEvent CQ events} in a batch.
+	 *
+	 * A value less than or equal to {@literal 0} means the {@link ContinuousQueryListenerContainer} default is used.
+	 *
+	 * @return the maximum {@link Integer number} of {@link CqEvent CQ events} in a batch.
+	 * @see #withBatchSize(int)
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Returns the maximum {@link Long time} in milliseconds a {@link CqEvent CQ event} waits in a batch
+	 * before the batch is delivered.
+	 *
+	 * A value less than or equal to {@literal 0} means the {@link ContinuousQueryListenerContainer} default is used.
+	 *
+	 * @return the maximum {@link Long time} in milliseconds a batch is held.
+	 * @see #withBatchInterval(long)
+	 */
+	public long getBatchInterval() {
+		return this.batchInterval;
+	}
+
 	/**
 	 * Returns a reference to the {@link ContinuousQueryListener} that will process/handle CQ event notifications.
 	 *
@@ -139,6 +253,50 @@ public class ContinuousQueryDefinition implements InitializingBean {
 		return this.query;
 	}
 
+	/**
+	 * Sets the maximum {@link Integer number} of {@link CqEvent CQ events} in a batch delivered to
+	 * a {@link ContinuousQueryBatchListener}.
+	 *
+	 * @param batchSize maximum {@link Integer number} of {@link CqEvent CQ events} in a batch.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @see #getBatchSize()
+	 */
+	public ContinuousQueryDefinition withBatchSize(int batchSize) {
+		this.batchSize = batchSize;
+		return this;
+	}
+
+	/**
+	 * Sets the maximum {@link Long time} in milliseconds a {@link CqEvent CQ event} waits in a batch
+	 * before the batch is delivered to a {@link ContinuousQueryBatchListener}.
+	 *
+	 * @param batchInterval maximum {@link Long time} in milliseconds a batch is held.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @see #getBatchInterval()
+	 */
+	public ContinuousQueryDefinition withBatchInterval(long batchInterval) {
+		this.batchInterval = batchInterval;
+		return this;
+	}
+
+	/**
+	 * Configures whether only the latest {@link CqEvent CQ event} per key is kept inside a batch delivered to
+	 * a {@link ContinuousQueryBatchListener}.
+	 *
+	 * An explicit {@literal true} or {@literal false} overrides the container default, while {@literal null}
+	 * defers to the container default.
+	 *
+	 * @param conflate {@link Boolean} value indicating whether {@link CqEvent CQ events} are conflated
+	 * inside a batch; may be {@literal null}.
+	 * @return this {@link ContinuousQueryDefinition}.
+	 * @see #getConflation()
+	 * @see #isConflated()
+	 */
+	public ContinuousQueryDefinition withConflation(@Nullable Boolean conflate) {
+		this.conflate = conflate;
+		return this;
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 		Assert.hasText(query, "Query is required");
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.listener;
+
+import org.apache.geode.cache.query.CqEvent;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * Callback interface notified by the {@link ContinuousQueryListenerContainer} each time a {@link CqEvent CQ event}
+ * has been dispatched to, and processed by, a {@link ContinuousQueryListener}.
+ *
+ * The dispatch latency measures the time from when the container received the {@link CqEvent CQ event}
+ * until the {@link ContinuousQueryListener} returned, including any time the event spent queued
+ * in the container's {@link java.util.concurrent.Executor}.
+ *
+ * Implementations are invoked on the thread dispatching the {@link CqEvent CQ event} and must be fast
+ * and non-blocking.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.CqEvent
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 3.0.0
+ */
+@FunctionalInterface
+public interface ContinuousQueryDispatchObserver {
+
+	/**
+	 * Called after the {@link CqEvent CQ event} has been processed by the {@link ContinuousQueryListener}.
+	 *
+	 * @param event {@link CqEvent CQ event} that was dispatched.
+	 * @param latencyNanos time in nanoseconds from receipt of the {@link CqEvent CQ event} by the container
+	 * until the {@link ContinuousQueryListener} returned.
+	 * @param failure {@link Throwable} thrown by the {@link ContinuousQueryListener}; may be {@literal null}
+	 * if the {@link CqEvent CQ event} was processed successfully.
+	 * @see org.apache.geode.cache.query.CqEvent
+	 */
+	void onDispatched(@NonNull CqEvent event, long latencyNanos, @Nullable Throwable failure);
+
+}
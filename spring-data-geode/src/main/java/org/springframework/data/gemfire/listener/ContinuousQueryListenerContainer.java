@@ -18,15 +18,24 @@ package org.springframework.data.gemfire.listener;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeList;
 import static org.springframework.data.gemfire.util.CollectionUtils.nullSafeSet;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.StreamSupport;
 
@@ -50,7 +59,6 @@ import org.springframework.beans.factory.BeanNameAware;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.SmartLifecycle;
-import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.core.task.TaskExecutor;
 import org.springframework.data.gemfire.GemfireQueryException;
 import org.springframework.data.gemfire.GemfireUtils;
@@ -66,6 +74,7 @@ import org.springframework.data.gemfire.util.SpringExtensions;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.util.ErrorHandler;
+import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -88,11 +97,11 @@ import org.springframework.util.StringUtils;
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.InitializingBean
  * @see org.springframework.context.SmartLifecycle
- * @see org.springframework.core.task.SimpleAsyncTaskExecutor
  * @see org.springframework.core.task.TaskExecutor
  * @see org.springframework.data.gemfire.client.PoolResolver
  * @see org.springframework.data.gemfire.client.support.DefaultableDelegatingPoolAdapter
  * @see org.springframework.data.gemfire.client.support.DelegatingPoolAdapter
+ * @see org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher
  * @see org.springframework.util.ErrorHandler
  * @since 1.1.0
  */
@@ -104,23 +113,42 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	public static final String DEFAULT_THREAD_NAME_PREFIX =
 		String.format("%s-", ContinuousQueryListenerContainer.class.getSimpleName());
 
+	// Default maximum number of CQ events in a batch delivered to a ContinuousQueryBatchListener
+	public static final int DEFAULT_BATCH_SIZE = 100;
+
+	// Default maximum time in milliseconds a CQ event waits in a batch before the batch is delivered
+	public static final long DEFAULT_BATCH_INTERVAL = 1000L;
+
 	// Default PoolResolver uses Apache Geode's PoolManager
 	protected static final PoolResolver DEFAULT_POOL_RESOLVER = new PoolManagerPoolResolver();
 
 	private boolean autoStartup = true;
+	private boolean conflateBatches = false;
 
 	private volatile boolean initialized = false;
 	private volatile boolean manageExecutor = false;
 	private volatile boolean running = false;
 
+	private int batchSize = DEFAULT_BATCH_SIZE;
 	private int phase = Integer.MAX_VALUE;
+	private int queueCapacity = KeyOrderedEventDispatcher.DEFAULT_QUEUE_CAPACITY;
+	private int workerCount = KeyOrderedEventDispatcher.DEFAULT_WORKER_COUNT;
+
+	private long batchInterval = DEFAULT_BATCH_INTERVAL;
 
 	private BeanFactory beanFactory;
 
+	private KeyOrderedEventDispatcher.BackpressurePolicy backpressurePolicy =
+		KeyOrderedEventDispatcher.BackpressurePolicy.BLOCK;
+
+	private volatile ContinuousQueryDispatchObserver dispatchObserver;
+
 	private ErrorHandler errorHandler;
 
 	private Executor taskExecutor;
 
+	private final List<BatchingEventDispatcherAdapter> batchingEventDispatchers = new CopyOnWriteArrayList<>();
+
 	private List<ContinuousQueryListenerContainerConfigurer> cqListenerContainerConfigurers = Collections.emptyList();
 
 	private ContinuousQueryListenerContainerConfigurer compositeCqListenerContainerConfigurer =
@@ -137,6 +165,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	private Set<ContinuousQueryDefinition> continuousQueryDefinitions = new LinkedHashSet<>();
 
+	private ScheduledThreadPoolExecutor batchScheduler;
+
 	private String beanName;
 	private String poolName;
 
@@ -320,11 +350,14 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 *
 	 * <p>Called if no explicit {@link TaskExecutor} has been configured.
 	 *
-	 * <p>The default implementation builds a {@link SimpleAsyncTaskExecutor} with the specified bean name
-	 * (or the class name, if no bean name is specified) as the Thread name prefix.</p>
+	 * <p>The default implementation builds a {@link KeyOrderedEventDispatcher} with the configured
+	 * {@link #getWorkerCount() number of workers}, {@link #getQueueCapacity() queue capacity}
+	 * and {@link #getBackpressurePolicy() backpressure policy}, which preserves the order of CQ events per listener
+	 * and key, using the specified bean name (or the class name, if no bean name is specified)
+	 * as the Thread name prefix.</p>
 	 *
 	 * @return an instance of the {@link TaskExecutor} used to process CQ events asynchronously.
-	 * @see org.springframework.core.task.SimpleAsyncTaskExecutor
+	 * @see org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher
 	 */
 	protected Executor createDefaultTaskExecutor() {
 
@@ -333,7 +366,8 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 			.map(it -> String.format("%s-", it))
 			.orElse(DEFAULT_THREAD_NAME_PREFIX);
 
-		return new SimpleAsyncTaskExecutor(threadNamePrefix);
+		return new KeyOrderedEventDispatcher(getWorkerCount(), getQueueCapacity(), getBackpressurePolicy(),
+			KeyOrderedEventDispatcher.newThreadFactory(threadNamePrefix));
 	}
 
 	/**
@@ -516,6 +550,162 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return this.compositeCqListenerContainerConfigurer;
 	}
 
+	/**
+	 * Sets the default maximum time in milliseconds a {@link CqEvent CQ event} waits in a batch before the batch
+	 * is delivered to a {@link ContinuousQueryBatchListener}. Applies to {@link ContinuousQueryDefinition CQs}
+	 * that do not declare a batch interval.
+	 *
+	 * @param batchInterval {@link Long time} in milliseconds a batch is held; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the batch interval is less than or equal to {@literal 0}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDefinition#withBatchInterval(long)
+	 */
+	public void setBatchInterval(long batchInterval) {
+
+		Assert.isTrue(batchInterval > 0L,
+			() -> String.format("Batch interval [%d] must be greater than 0", batchInterval));
+
+		this.batchInterval = batchInterval;
+	}
+
+	/**
+	 * Returns the default maximum time in milliseconds a {@link CqEvent CQ event} waits in a batch.
+	 *
+	 * @return the default maximum time in milliseconds a {@link CqEvent CQ event} waits in a batch.
+	 * @see #DEFAULT_BATCH_INTERVAL
+	 */
+	public long getBatchInterval() {
+		return this.batchInterval;
+	}
+
+	/**
+	 * Sets the default maximum {@link Integer number} of {@link CqEvent CQ events} in a batch delivered to
+	 * a {@link ContinuousQueryBatchListener}. Applies to {@link ContinuousQueryDefinition CQs} that do not
+	 * declare a batch size.
+	 *
+	 * @param batchSize maximum {@link Integer number} of {@link CqEvent CQ events} in a batch;
+	 * must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the batch size is less than or equal to {@literal 0}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDefinition#withBatchSize(int)
+	 */
+	public void setBatchSize(int batchSize) {
+
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+		this.batchSize = batchSize;
+	}
+
+	/**
+	 * Returns the default maximum {@link Integer number} of {@link CqEvent CQ events} in a batch.
+	 *
+	 * @return the default maximum {@link Integer number} of {@link CqEvent CQ events} in a batch.
+	 * @see #DEFAULT_BATCH_SIZE
+	 */
+	public int getBatchSize() {
+		return this.batchSize;
+	}
+
+	/**
+	 * Sets the {@link KeyOrderedEventDispatcher.BackpressurePolicy} applied by the default
+	 * {@link KeyOrderedEventDispatcher} when the queue of a worker is full.  Ignored when a
+	 * {@link #setTaskExecutor(Executor) TaskExecutor} is configured.
+	 *
+	 * @param backpressurePolicy {@link KeyOrderedEventDispatcher.BackpressurePolicy} applied when the queue
+	 * of a worker is full; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link KeyOrderedEventDispatcher.BackpressurePolicy}
+	 * is {@literal null}.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setBackpressurePolicy(KeyOrderedEventDispatcher.BackpressurePolicy backpressurePolicy) {
+
+		Assert.notNull(backpressurePolicy, "BackpressurePolicy must not be null");
+
+		this.backpressurePolicy = backpressurePolicy;
+	}
+
+	/**
+	 * Returns the {@link KeyOrderedEventDispatcher.BackpressurePolicy} applied by the default
+	 * {@link KeyOrderedEventDispatcher} when the queue of a worker is full.
+	 *
+	 * @return the {@link KeyOrderedEventDispatcher.BackpressurePolicy}; defaults to
+	 * {@link KeyOrderedEventDispatcher.BackpressurePolicy#BLOCK}.
+	 */
+	public KeyOrderedEventDispatcher.BackpressurePolicy getBackpressurePolicy() {
+		return this.backpressurePolicy;
+	}
+
+	/**
+	 * Sets the capacity of the queue of each worker of the default {@link KeyOrderedEventDispatcher}.
+	 * Ignored when a {@link #setTaskExecutor(Executor) TaskExecutor} is configured.
+	 *
+	 * @param queueCapacity {@link Integer capacity} of the queue of each worker; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the queue capacity is less than or equal to {@literal 0}.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setQueueCapacity(int queueCapacity) {
+
+		Assert.isTrue(queueCapacity > 0,
+			() -> String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+
+		this.queueCapacity = queueCapacity;
+	}
+
+	/**
+	 * Returns the capacity of the queue of each worker of the default {@link KeyOrderedEventDispatcher}.
+	 *
+	 * @return the capacity of the queue of each worker.
+	 * @see KeyOrderedEventDispatcher#DEFAULT_QUEUE_CAPACITY
+	 */
+	public int getQueueCapacity() {
+		return this.queueCapacity;
+	}
+
+	/**
+	 * Sets the {@link Integer number} of workers of the default {@link KeyOrderedEventDispatcher}.
+	 * Ignored when a {@link #setTaskExecutor(Executor) TaskExecutor} is configured.
+	 *
+	 * @param workerCount {@link Integer number} of workers; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if the worker count is less than or equal to {@literal 0}.
+	 * @see #createDefaultTaskExecutor()
+	 */
+	public void setWorkerCount(int workerCount) {
+
+		Assert.isTrue(workerCount > 0, () -> String.format("Worker count [%d] must be greater than 0", workerCount));
+
+		this.workerCount = workerCount;
+	}
+
+	/**
+	 * Returns the {@link Integer number} of workers of the default {@link KeyOrderedEventDispatcher}.
+	 *
+	 * @return the {@link Integer number} of workers.
+	 * @see KeyOrderedEventDispatcher#DEFAULT_WORKER_COUNT
+	 */
+	public int getWorkerCount() {
+		return this.workerCount;
+	}
+
+	/**
+	 * Configures whether only the latest {@link CqEvent CQ event} per key is kept inside a batch delivered to
+	 * every {@link ContinuousQueryBatchListener} registered with this container, unless
+	 * the {@link ContinuousQueryDefinition CQ} declares otherwise.
+	 *
+	 * @param conflateBatches boolean value indicating whether {@link CqEvent CQ events} are conflated
+	 * inside a batch.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDefinition#withConflation(Boolean)
+	 */
+	public void setConflateBatches(boolean conflateBatches) {
+		this.conflateBatches = conflateBatches;
+	}
+
+	/**
+	 * Determines whether {@link CqEvent CQ events} are conflated inside batches by default.
+	 *
+	 * @return a boolean value indicating whether {@link CqEvent CQ events} are conflated inside batches.
+	 */
+	public boolean isConflateBatches() {
+		return this.conflateBatches;
+	}
+
 	/**
 	 * Set an {@link ErrorHandler} to be invoked in case of any uncaught {@link Exception Exceptions} thrown
 	 * while processing a CQ event.
@@ -541,6 +731,31 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return Optional.ofNullable(this.errorHandler);
 	}
 
+	/**
+	 * Sets the {@link ContinuousQueryDispatchObserver} notified after each {@link CqEvent CQ event} has been
+	 * dispatched to, and processed by, a {@link ContinuousQueryListener}.
+	 *
+	 * By default there is <b>no</b> {@link ContinuousQueryDispatchObserver} configured and dispatch latency
+	 * is not measured.
+	 *
+	 * @param dispatchObserver {@link ContinuousQueryDispatchObserver} notified of each {@link CqEvent CQ event}
+	 * dispatch; may be {@literal null}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDispatchObserver
+	 */
+	public void setDispatchObserver(@Nullable ContinuousQueryDispatchObserver dispatchObserver) {
+		this.dispatchObserver = dispatchObserver;
+	}
+
+	/**
+	 * Returns an {@link Optional} reference to the configured {@link ContinuousQueryDispatchObserver}.
+	 *
+	 * @return an {@link Optional} reference to the configured {@link ContinuousQueryDispatchObserver}.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDispatchObserver
+	 */
+	public Optional<ContinuousQueryDispatchObserver> getDispatchObserver() {
+		return Optional.ofNullable(this.dispatchObserver);
+	}
+
 	/**
 	 * Sets the phase in which this CQ listener container will start in the Spring container.
 	 *
@@ -634,7 +849,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 	/**
 	 * Sets the Task Executor used for running the event listeners when messages are received.
-	 * If no task executor is set, an instance of {@link SimpleAsyncTaskExecutor} will be used by default.
+	 * If no task executor is set, an instance of {@link KeyOrderedEventDispatcher} will be used by default.
 	 * The task executor can be adjusted depending on the work done by the listeners and the number of
 	 * messages coming in.
 	 *
@@ -683,7 +898,9 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		try {
 
-			CqAttributes attributes = definition.toCqAttributes(this::newCqListener);
+			CqAttributes attributes = definition.isBatched()
+				? definition.toCqAttributes(listener -> newBatchingCqListener(definition))
+				: definition.toCqAttributes(this::newCqListener);
 
 			CqQuery query = definition.isNamed()
 				? newNamedContinuousQuery(definition, attributes)
@@ -700,6 +917,58 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		return new EventDispatcherAdapter(listener);
 	}
 
+	/**
+	 * Constructs a new {@link CqListener} accumulating {@link CqEvent CQ events} in batches delivered to
+	 * the {@link ContinuousQueryBatchListener} of the given {@link ContinuousQueryDefinition}.
+	 *
+	 * Batch settings not declared by the {@link ContinuousQueryDefinition} default to the settings
+	 * of this container.
+	 *
+	 * @param definition {@link ContinuousQueryDefinition} declaring a {@link ContinuousQueryBatchListener}.
+	 * @return a new {@link CqListener} delivering {@link CqEvent CQ events} in batches.
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryBatchListener
+	 */
+	protected CqListener newBatchingCqListener(ContinuousQueryDefinition definition) {
+
+		int batchSize = definition.getBatchSize() > 0 ? definition.getBatchSize() : getBatchSize();
+
+		long batchInterval = definition.getBatchInterval() > 0L ? definition.getBatchInterval() : getBatchInterval();
+
+		boolean conflate = definition.getConflation().orElseGet(this::isConflateBatches);
+
+		BatchingEventDispatcherAdapter batchingEventDispatcher = new BatchingEventDispatcherAdapter(
+			(ContinuousQueryBatchListener) definition.getListener(), batchSize, batchInterval, conflate);
+
+		this.batchingEventDispatchers.add(batchingEventDispatcher);
+
+		return batchingEventDispatcher;
+	}
+
+	private synchronized ScheduledThreadPoolExecutor getBatchScheduler() {
+
+		if (this.batchScheduler == null) {
+
+			String threadName = Optional.ofNullable(getBeanName())
+				.filter(StringUtils::hasText)
+				.map(it -> String.format("%s-", it))
+				.orElse(DEFAULT_THREAD_NAME_PREFIX)
+				.concat("batch-scheduler");
+
+			this.batchScheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+
+				Thread thread = new Thread(runnable, threadName);
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+			this.batchScheduler.setRemoveOnCancelPolicy(true);
+		}
+
+		return this.batchScheduler;
+	}
+
 	private CqQuery newNamedContinuousQuery(ContinuousQueryDefinition definition, CqAttributes attributes)
 			throws QueryException {
 
@@ -751,13 +1020,46 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	/**
 	 * Asynchronously dispatches the {@link CqEvent CQ event} to the targeted {@link ContinuousQueryListener}.
 	 *
+	 * If the {@link #getTaskExecutor() TaskExecutor} is a {@link KeyOrderedEventDispatcher}, then
+	 * the {@link CqEvent CQ event} is dispatched by listener and {@link CqEvent#getKey() key}, which preserves
+	 * the order of {@link CqEvent CQ events} for the same key delivered to the same listener.
+	 *
+	 * If a {@link ContinuousQueryDispatchObserver} was configured, then it is notified once the listener returns.
+	 *
 	 * @param listener {@link ContinuousQueryListener} which will process/handle the {@link CqEvent CQ event}.
 	 * @param event {@link CqEvent CQ event} to process.
 	 * @see org.springframework.data.gemfire.listener.ContinuousQueryListener
+	 * @see org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher
+	 * @see org.springframework.data.gemfire.listener.ContinuousQueryDispatchObserver
 	 * @see org.apache.geode.cache.query.CqEvent
 	 */
 	protected void dispatchEvent(ContinuousQueryListener listener, CqEvent event) {
-		getTaskExecutor().execute(() -> notify(listener, event));
+
+		Executor taskExecutor = getTaskExecutor();
+
+		ContinuousQueryDispatchObserver dispatchObserver = this.dispatchObserver;
+
+		Runnable task = dispatchObserver != null
+			? newObservedDispatchTask(dispatchObserver, listener, event)
+			: () -> notify(listener, event);
+
+		if (taskExecutor instanceof KeyOrderedEventDispatcher) {
+			((KeyOrderedEventDispatcher) taskExecutor).execute(new DispatchKey(listener, event.getKey()), task);
+		}
+		else {
+			taskExecutor.execute(task);
+		}
+	}
+
+	private Runnable newObservedDispatchTask(ContinuousQueryDispatchObserver dispatchObserver,
+			ContinuousQueryListener listener, CqEvent event) {
+
+		long receivedTime = System.nanoTime();
+
+		return () -> {
+			Throwable failure = notify(listener, event);
+			dispatchObserver.onDispatched(event, System.nanoTime() - receivedTime, failure);
+		};
 	}
 
 	/**
@@ -765,12 +1067,33 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 	 *
 	 * @param listener {@link ContinuousQueryListener} to notify of the {@link CqEvent CQ event}.
 	 * @param event {@link CqEvent CQ event} to process/handle.
+	 * @return the {@link Throwable} thrown by the listener, or {@literal null} if the listener completed normally.
 	 * @see #handleListenerError(Throwable)
 	 */
-	private void notify(ContinuousQueryListener listener, CqEvent event) {
+	private @Nullable Throwable notify(ContinuousQueryListener listener, CqEvent event) {
 
 		try {
 			listener.onEvent(event);
+			return null;
+		}
+		catch (Throwable cause) {
+			handleListenerError(cause);
+			return cause;
+		}
+	}
+
+	/**
+	 * Notifies the {@link ContinuousQueryBatchListener} of the batch of {@link CqEvent CQ events} and handles
+	 * any errors thrown by the listener.
+	 *
+	 * @param listener {@link ContinuousQueryBatchListener} to notify.
+	 * @param events batch of {@link CqEvent CQ events} to process.
+	 * @see #handleListenerError(Throwable)
+	 */
+	private void notify(ContinuousQueryBatchListener listener, List<CqEvent> events) {
+
+		try {
+			listener.onEvents(events);
 		}
 		catch (Throwable cause) {
 			handleListenerError(cause);
@@ -848,6 +1171,7 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 
 		stop();
 		closeQueries();
+		destroyBatchScheduler();
 		destroyExecutor();
 
 		this.initialized = false;
@@ -872,6 +1196,20 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		getContinuousQueries().clear();
 	}
 
+	private void destroyBatchScheduler() {
+
+		// flush outside the monitor guarding the scheduler, since batching adapters acquire it while adding events
+		this.batchingEventDispatchers.forEach(BatchingEventDispatcherAdapter::flush);
+		this.batchingEventDispatchers.clear();
+
+		synchronized (this) {
+			if (this.batchScheduler != null) {
+				this.batchScheduler.shutdownNow();
+				this.batchScheduler = null;
+			}
+		}
+	}
+
 	private void destroyExecutor() {
 
 		Optional.ofNullable(getTaskExecutor())
@@ -919,4 +1257,228 @@ public class ContinuousQueryListenerContainer implements BeanFactoryAware, BeanN
 		public void close() { }
 
 	}
+
+	/**
+	 * {@link CqListener} accumulating {@link CqEvent CQ events} in batches, which are delivered to
+	 * a {@link ContinuousQueryBatchListener} when the batch is full or the batch interval elapses.
+	 *
+	 * Batches are delivered on the {@link #getTaskExecutor() TaskExecutor} one at a time and in order.
+	 */
+	protected class BatchingEventDispatcherAdapter extends EventDispatcherAdapter {
+
+		private boolean delivering = false;
+
+		private final boolean conflate;
+
+		private final int batchSize;
+
+		private final long batchInterval;
+
+		private final Deque<List<CqEvent>> pendingBatches = new ArrayDeque<>();
+
+		private Map<Object, CqEvent> batch = new LinkedHashMap<>();
+
+		private final Object lock = new Object();
+
+		private ScheduledFuture<?> scheduledFlush;
+
+		protected BatchingEventDispatcherAdapter(ContinuousQueryBatchListener listener,
+				int batchSize, long batchInterval, boolean conflate) {
+
+			super(listener);
+
+			Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+
+			Assert.isTrue(batchInterval > 0L,
+				() -> String.format("Batch interval [%d] must be greater than 0", batchInterval));
+
+			this.batchSize = batchSize;
+			this.batchInterval = batchInterval;
+			this.conflate = conflate;
+		}
+
+		@Override
+		protected ContinuousQueryBatchListener getListener() {
+			return (ContinuousQueryBatchListener) super.getListener();
+		}
+
+		protected int getBatchSize() {
+			return this.batchSize;
+		}
+
+		protected long getBatchInterval() {
+			return this.batchInterval;
+		}
+
+		protected boolean isConflate() {
+			return this.conflate;
+		}
+
+		@Override
+		public void onError(CqEvent event) {
+			add(event);
+		}
+
+		@Override
+		public void onEvent(CqEvent event) {
+			add(event);
+		}
+
+		@Override
+		public void close() {
+			flush();
+		}
+
+		private void add(CqEvent event) {
+
+			boolean deliver = false;
+
+			synchronized (this.lock) {
+
+				Object key = resolveBatchKey(event);
+
+				// a conflated event takes the position of the latest event for the key
+				if (this.batch.remove(key) != null) {
+					this.batch.put(key, event);
+				}
+				else {
+					this.batch.put(key, event);
+
+					if (this.batch.size() >= getBatchSize()) {
+						deliver = enqueueBatch();
+					}
+					else if (this.scheduledFlush == null) {
+						this.scheduledFlush = getBatchScheduler()
+							.schedule(this::flush, getBatchInterval(), TimeUnit.MILLISECONDS);
+					}
+				}
+			}
+
+			if (deliver) {
+				deliver();
+			}
+		}
+
+		private Object resolveBatchKey(CqEvent event) {
+
+			Object key = isConflate() && event.getThrowable() == null ? event.getKey() : null;
+
+			return key != null ? key : new Object();
+		}
+
+		/**
+		 * Delivers the current batch, if any, to the {@link ContinuousQueryBatchListener}.
+		 */
+		public void flush() {
+
+			boolean deliver;
+
+			synchronized (this.lock) {
+				deliver = enqueueBatch();
+			}
+
+			if (deliver) {
+				deliver();
+			}
+		}
+
+		// must be called while holding the lock; returns whether a delivery needs to be started
+		private boolean enqueueBatch() {
+
+			if (this.scheduledFlush != null) {
+				this.scheduledFlush.cancel(false);
+				this.scheduledFlush = null;
+			}
+
+			if (this.batch.isEmpty()) {
+				return false;
+			}
+
+			this.pendingBatches.offerLast(new ArrayList<>(this.batch.values()));
+			this.batch = new LinkedHashMap<>();
+
+			if (this.delivering) {
+				return false;
+			}
+
+			this.delivering = true;
+
+			return true;
+		}
+
+		// the TaskExecutor is invoked outside the lock, since it may block when its queues are full
+		private void deliver() {
+
+			try {
+				getTaskExecutor().execute(this::deliverPendingBatches);
+			}
+			catch (RuntimeException cause) {
+
+				synchronized (this.lock) {
+					this.delivering = false;
+				}
+
+				throw cause;
+			}
+		}
+
+		private void deliverPendingBatches() {
+
+			for (List<CqEvent> events = nextPendingBatch(); events != null; events = nextPendingBatch()) {
+				ContinuousQueryListenerContainer.this.notify(getListener(), events);
+			}
+		}
+
+		private List<CqEvent> nextPendingBatch() {
+
+			synchronized (this.lock) {
+
+				List<CqEvent> events = this.pendingBatches.pollFirst();
+
+				if (events == null) {
+					this.delivering = false;
+				}
+
+				return events;
+			}
+		}
+	}
+
+	/**
+	 * Key used to dispatch {@link CqEvent CQ events} by {@link ContinuousQueryListener listener}
+	 * (by identity) and {@link CqEvent#getKey() key}.
+	 */
+	static final class DispatchKey {
+
+		private final ContinuousQueryListener listener;
+
+		private final Object key;
+
+		DispatchKey(ContinuousQueryListener listener, Object key) {
+			this.listener = listener;
+			this.key = key;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof DispatchKey)) {
+				return false;
+			}
+
+			DispatchKey that = (DispatchKey) obj;
+
+			return this.listener == that.listener
+				&& ObjectUtils.nullSafeEquals(this.key, that.key);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(this.listener) + ObjectUtils.nullSafeHashCode(this.key);
+		}
+	}
 }
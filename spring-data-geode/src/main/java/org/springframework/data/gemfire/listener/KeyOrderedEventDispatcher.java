@@ -0,0 +1,562 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.listener;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link Executor} dispatching tasks (e.g. {@link org.apache.geode.cache.query.CqEvent CQ events}) to a fixed pool
+ * of workers, each with its own bounded queue.
+ *
+ * Tasks are assigned to workers by the hash of their key, so that tasks for the same key are always run
+ * by the same worker in the order they were dispatched. Tasks without a key are distributed round-robin.
+ *
+ * When the queue of a worker is full, the configured {@link BackpressurePolicy} is applied.
+ *
+ * The queue depth and the dispatch latency (i.e. the time a task waits in the queue before it is run)
+ * are recorded and may be inspected at runtime.
+ *
+ * @author agent
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.beans.factory.DisposableBean
+ * @see org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer
+ * @since 3.0.0
+ */
+public class KeyOrderedEventDispatcher implements Executor, DisposableBean {
+
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	public static final int DEFAULT_WORKER_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+	public static final long DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS = 5000L;
+
+	public static final String DEFAULT_THREAD_NAME_PREFIX = KeyOrderedEventDispatcher.class.getSimpleName() + "-";
+
+	private final AtomicInteger roundRobinIndex = new AtomicInteger(0);
+
+	private final AtomicLong maxDispatchLatencyNanos = new AtomicLong(0L);
+
+	private final BackpressurePolicy backpressurePolicy;
+
+	private final LongAdder conflatedCount = new LongAdder();
+	private final LongAdder dispatchedCount = new LongAdder();
+	private final LongAdder droppedCount = new LongAdder();
+	private final LongAdder totalDispatchLatencyNanos = new LongAdder();
+
+	private final Logger logger = LoggerFactory.getLogger(getClass());
+
+	private final Worker[] workers;
+
+	private volatile boolean running = true;
+
+	/**
+	 * Constructs a new instance of {@link KeyOrderedEventDispatcher} with {@link #DEFAULT_WORKER_COUNT} workers,
+	 * each with a queue of {@link #DEFAULT_QUEUE_CAPACITY}, {@link BackpressurePolicy#BLOCK blocking} when full.
+	 *
+	 * @param threadNamePrefix {@link String} used as the prefix of the worker {@link Thread} names.
+	 * @see #KeyOrderedEventDispatcher(int, int, BackpressurePolicy, ThreadFactory)
+	 */
+	public KeyOrderedEventDispatcher(@Nullable String threadNamePrefix) {
+		this(DEFAULT_WORKER_COUNT, DEFAULT_QUEUE_CAPACITY, BackpressurePolicy.BLOCK,
+			newThreadFactory(threadNamePrefix));
+	}
+
+	/**
+	 * Constructs a new instance of {@link KeyOrderedEventDispatcher} and starts the workers.
+	 *
+	 * @param workerCount {@link Integer number} of workers; must be greater than {@literal 0}.
+	 * @param queueCapacity {@link Integer capacity} of the queue of each worker; must be greater than {@literal 0}.
+	 * @param backpressurePolicy {@link BackpressurePolicy} applied when the queue of a worker is full;
+	 * must not be {@literal null}.
+	 * @param threadFactory {@link ThreadFactory} used to create the worker {@link Thread Threads};
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if any argument is invalid.
+	 */
+	public KeyOrderedEventDispatcher(int workerCount, int queueCapacity,
+			@NonNull BackpressurePolicy backpressurePolicy, @NonNull ThreadFactory threadFactory) {
+
+		Assert.isTrue(workerCount > 0, () -> String.format("Worker count [%d] must be greater than 0", workerCount));
+		Assert.isTrue(queueCapacity > 0, () -> String.format("Queue capacity [%d] must be greater than 0", queueCapacity));
+		Assert.notNull(backpressurePolicy, "BackpressurePolicy must not be null");
+		Assert.notNull(threadFactory, "ThreadFactory must not be null");
+
+		this.backpressurePolicy = backpressurePolicy;
+		this.workers = new Worker[workerCount];
+
+		for (int index = 0; index < workerCount; index++) {
+
+			Worker worker = new Worker(queueCapacity);
+
+			worker.thread = threadFactory.newThread(worker);
+			worker.thread.start();
+
+			this.workers[index] = worker;
+		}
+	}
+
+	static ThreadFactory newThreadFactory(@Nullable String threadNamePrefix) {
+
+		String resolvedThreadNamePrefix = threadNamePrefix != null ? threadNamePrefix : DEFAULT_THREAD_NAME_PREFIX;
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return runnable -> {
+
+			Thread thread = new Thread(runnable, resolvedThreadNamePrefix + threadCount.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		};
+	}
+
+	/**
+	 * Returns the {@link BackpressurePolicy} applied when the queue of a worker is full.
+	 *
+	 * @return the {@link BackpressurePolicy} applied when the queue of a worker is full.
+	 */
+	public @NonNull BackpressurePolicy getBackpressurePolicy() {
+		return this.backpressurePolicy;
+	}
+
+	/**
+	 * Returns the {@link Integer number} of workers.
+	 *
+	 * @return the {@link Integer number} of workers.
+	 */
+	public int getWorkerCount() {
+		return this.workers.length;
+	}
+
+	/**
+	 * Returns the total {@link Integer number} of tasks waiting to run across all workers.
+	 *
+	 * @return the total {@link Integer number} of tasks waiting to run.
+	 */
+	public int getQueueDepth() {
+
+		int queueDepth = 0;
+
+		for (Worker worker : this.workers) {
+			queueDepth += worker.size();
+		}
+
+		return queueDepth;
+	}
+
+	/**
+	 * Returns the {@link Long number} of tasks that have been run.
+	 *
+	 * @return the {@link Long number} of tasks that have been run.
+	 */
+	public long getDispatchedCount() {
+		return this.dispatchedCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of tasks dropped by the {@link BackpressurePolicy#DROP_OLDEST} policy.
+	 *
+	 * @return the {@link Long number} of dropped tasks.
+	 */
+	public long getDroppedCount() {
+		return this.droppedCount.sum();
+	}
+
+	/**
+	 * Returns the {@link Long number} of tasks replaced by a newer task for the same key
+	 * by the {@link BackpressurePolicy#CONFLATE} policy.
+	 *
+	 * @return the {@link Long number} of conflated tasks.
+	 */
+	public long getConflatedCount() {
+		return this.conflatedCount.sum();
+	}
+
+	/**
+	 * Returns the average time tasks waited in the queue before being run.
+	 *
+	 * @return the average dispatch latency.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getAverageDispatchLatency() {
+
+		long dispatchedCount = getDispatchedCount();
+
+		return dispatchedCount > 0L
+			? Duration.ofNanos(this.totalDispatchLatencyNanos.sum() / dispatchedCount)
+			: Duration.ZERO;
+	}
+
+	/**
+	 * Returns the longest time a task waited in the queue before being run.
+	 *
+	 * @return the maximum dispatch latency.
+	 * @see java.time.Duration
+	 */
+	public @NonNull Duration getMaxDispatchLatency() {
+		return Duration.ofNanos(this.maxDispatchLatencyNanos.get());
+	}
+
+	/**
+	 * Determines whether this dispatcher accepts new tasks.
+	 *
+	 * @return a boolean value indicating whether this dispatcher accepts new tasks.
+	 * @see #destroy()
+	 */
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Dispatches the given task without a key. Tasks without a key are distributed among the workers round-robin
+	 * and are never conflated.
+	 *
+	 * @param task {@link Runnable} to run; must not be {@literal null}.
+	 * @throws RejectedExecutionException if this dispatcher is no longer running.
+	 * @see #execute(Object, Runnable)
+	 */
+	@Override
+	public void execute(@NonNull Runnable task) {
+		execute(null, task);
+	}
+
+	/**
+	 * Dispatches the given task to the worker assigned to the given key.
+	 *
+	 * Tasks dispatched with equal keys are run by the same worker in the order they were dispatched,
+	 * unless dropped or conflated by the configured {@link BackpressurePolicy}.
+	 *
+	 * @param key {@link Object key} used to assign the task to a worker; may be {@literal null}.
+	 * @param task {@link Runnable} to run; must not be {@literal null}.
+	 * @throws RejectedExecutionException if this dispatcher is no longer running or the calling {@link Thread}
+	 * was interrupted while waiting for space in the queue.
+	 */
+	public void execute(@Nullable Object key, @NonNull Runnable task) {
+
+		Assert.notNull(task, "Task must not be null");
+
+		if (!isRunning()) {
+			throw new RejectedExecutionException(String.format("%s has been shutdown", getClass().getSimpleName()));
+		}
+
+		int index = key != null ? Math.floorMod(key.hashCode(), this.workers.length)
+			: Math.floorMod(this.roundRobinIndex.getAndIncrement(), this.workers.length);
+
+		this.workers[index].offer(new Task(key, task));
+	}
+
+	/**
+	 * Stops accepting new tasks and waits up to {@link #DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS} for the workers
+	 * to run the queued tasks before interrupting the workers.
+	 */
+	@Override
+	public void destroy() {
+
+		this.running = false;
+
+		for (Worker worker : this.workers) {
+			worker.signalShutdown();
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(DEFAULT_SHUTDOWN_TIMEOUT_IN_MILLISECONDS);
+
+		for (Worker worker : this.workers) {
+			try {
+
+				long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+				if (remainingMillis > 0L) {
+					worker.thread.join(remainingMillis);
+				}
+
+				if (worker.thread.isAlive()) {
+					worker.thread.interrupt();
+				}
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void recordDispatchLatency(long latencyNanos) {
+
+		this.dispatchedCount.increment();
+		this.totalDispatchLatencyNanos.add(latencyNanos);
+		this.maxDispatchLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{workers=%2$d, backpressurePolicy=%3$s, queueDepth=%4$d, dispatched=%5$d,"
+				+ " dropped=%6$d, conflated=%7$d, averageDispatchLatency=%8$s, maxDispatchLatency=%9$s}",
+			getClass().getSimpleName(), getWorkerCount(), getBackpressurePolicy(), getQueueDepth(),
+			getDispatchedCount(), getDroppedCount(), getConflatedCount(), getAverageDispatchLatency(),
+			getMaxDispatchLatency());
+	}
+
+	/**
+	 * Policy applied when a task is dispatched to a worker whose queue is full.
+	 */
+	public enum BackpressurePolicy {
+
+		/**
+		 * Blocks the dispatching {@link Thread} until the queue has space.
+		 */
+		BLOCK,
+
+		/**
+		 * Drops the oldest queued task to make space for the new task.
+		 */
+		DROP_OLDEST,
+
+		/**
+		 * Replaces the most recently queued task having the same key with the new task,
+		 * or blocks if no task with the same key is queued.
+		 */
+		CONFLATE
+
+	}
+
+	private static final class Task {
+
+		private final long enqueuedNanos;
+
+		private final Object key;
+
+		private final Runnable runnable;
+
+		private Task(Object key, Runnable runnable) {
+			this(key, runnable, System.nanoTime());
+		}
+
+		private Task(Object key, Runnable runnable, long enqueuedNanos) {
+			this.key = key;
+			this.runnable = runnable;
+			this.enqueuedNanos = enqueuedNanos;
+		}
+
+		// keeps the time the replaced task was queued so conflation does not hide dispatch latency
+		private Task replacedBy(Task task) {
+			return new Task(task.key, task.runnable, this.enqueuedNanos);
+		}
+	}
+
+	private final class Worker implements Runnable {
+
+		private final Deque<Task> queue;
+
+		private final int capacity;
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private final Condition notEmpty = this.lock.newCondition();
+		private final Condition notFull = this.lock.newCondition();
+
+		private volatile Thread thread;
+
+		private Worker(int capacity) {
+			this.capacity = capacity;
+			this.queue = new ArrayDeque<>(Math.min(capacity, 64));
+		}
+
+		private void offer(Task task) {
+
+			this.lock.lock();
+
+			try {
+				while (this.queue.size() >= this.capacity) {
+					if (!applyBackpressure(task)) {
+						return;
+					}
+				}
+
+				this.queue.offerLast(task);
+				this.notEmpty.signal();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		/**
+		 * Applies the {@link BackpressurePolicy} while holding the lock.
+		 *
+		 * @return {@literal true} if the task still needs to be queued, {@literal false} if it was conflated.
+		 */
+		private boolean applyBackpressure(Task task) {
+
+			switch (getBackpressurePolicy()) {
+				case DROP_OLDEST:
+					this.queue.pollFirst();
+					KeyOrderedEventDispatcher.this.droppedCount.increment();
+					return true;
+				case CONFLATE:
+					if (conflate(task)) {
+						return false;
+					}
+					// no queued task with the same key; block
+					awaitNotFull();
+					return true;
+				default:
+					awaitNotFull();
+					return true;
+			}
+		}
+
+		private boolean conflate(Task task) {
+
+			if (task.key != null) {
+
+				Iterator<Task> descendingIterator = this.queue.descendingIterator();
+
+				while (descendingIterator.hasNext()) {
+
+					Task queuedTask = descendingIterator.next();
+
+					if (Objects.equals(queuedTask.key, task.key)) {
+
+						Deque<Task> tail = new ArrayDeque<>();
+
+						// replace in place to preserve the order of the remaining tasks
+						while (this.queue.peekLast() != queuedTask) {
+							tail.offerFirst(this.queue.pollLast());
+						}
+
+						this.queue.pollLast();
+						this.queue.offerLast(queuedTask.replacedBy(task));
+						this.queue.addAll(tail);
+
+						KeyOrderedEventDispatcher.this.conflatedCount.increment();
+
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}
+
+		private void awaitNotFull() {
+
+			try {
+				this.notFull.await();
+
+				if (!isRunning()) {
+					throw new RejectedExecutionException(String.format("%s has been shutdown",
+						KeyOrderedEventDispatcher.class.getSimpleName()));
+				}
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+				throw new RejectedExecutionException("Interrupted while waiting for space in the queue", cause);
+			}
+		}
+
+		private int size() {
+
+			this.lock.lock();
+
+			try {
+				return this.queue.size();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private void signalShutdown() {
+
+			this.lock.lock();
+
+			try {
+				this.notEmpty.signalAll();
+				this.notFull.signalAll();
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		private @Nullable Task take() throws InterruptedException {
+
+			this.lock.lock();
+
+			try {
+				while (this.queue.isEmpty()) {
+
+					if (!isRunning()) {
+						return null;
+					}
+
+					this.notEmpty.await();
+				}
+
+				Task task = this.queue.pollFirst();
+
+				this.notFull.signal();
+
+				return task;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+		@Override
+		public void run() {
+
+			try {
+				for (Task task = take(); task != null; task = take()) {
+
+					recordDispatchLatency(System.nanoTime() - task.enqueuedNanos);
+
+					try {
+						task.runnable.run();
+					}
+					catch (Throwable cause) {
+						logger.warn("Task dispatched with key [{}] failed", task.key, cause);
+					}
+				}
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+}
@@ -15,6 +15,9 @@
  */
 package org.springframework.data.gemfire.listener.adapter;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
@@ -245,27 +248,33 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 		}
 	}
 
+	/**
+	 * Invokes the listener methods of the delegate with arguments extracted from the {@link CqEvent}.
+	 *
+	 * The arguments required by each listener method are resolved once, on construction, into an array
+	 * of {@link ListenerArgument ListenerArguments}, and each listener method is bound to the delegate
+	 * as a {@link MethodHandle}, so that invoking a listener method only allocates the argument array.
+	 */
 	private static class MethodInvoker {
 
-		private final Object delegate;
-
-		private final List<Method> methods;
+		private final ListenerMethod[] listenerMethods;
 
 		MethodInvoker(Object delegate, String methodName) {
 
 			Class<?> delegateType = delegate.getClass();
 
-			this.delegate = delegate;
-			this.methods = new ArrayList<>();
+			List<ListenerMethod> listenerMethods = new ArrayList<>();
 
 			ReflectionUtils.doWithMethods(delegateType, method -> {
 				ReflectionUtils.makeAccessible(method);
-				this.methods.add(method);
+				listenerMethods.add(new ListenerMethod(delegate, method));
 			}, method -> isValidEventHandlerMethodSignature(method, methodName));
 
-			Assert.isTrue(!this.methods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
+			Assert.isTrue(!listenerMethods.isEmpty(), String.format("Cannot find a suitable method named [%1$s#%2$s];"
 				+ " Is the method public and does it have the proper arguments?",
 					delegateType.getName(), methodName));
+
+			this.listenerMethods = listenerMethods.toArray(new ListenerMethod[0]);
 		}
 
 		private boolean isValidEventHandlerMethodSignature(Method method, String methodName) {
@@ -316,18 +325,29 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 			return false;
 		}
 
-		void invoke(CqEvent event) throws IllegalAccessException, InvocationTargetException {
+		void invoke(CqEvent event) throws InvocationTargetException {
 
-			for (Method method : this.methods) {
-				method.invoke(this.delegate, getMethodArguments(method, event));
+			for (ListenerMethod listenerMethod : this.listenerMethods) {
+				listenerMethod.invoke(event);
 			}
 		}
+	}
+
+	/**
+	 * Listener method bound to the delegate along with the plan used to extract the method arguments
+	 * from the {@link CqEvent}.
+	 */
+	private static final class ListenerMethod {
 
-		private Object[] getMethodArguments(Method method, CqEvent event) {
+		private final ListenerArgument[] listenerArguments;
+
+		private final MethodHandle methodHandle;
+
+		ListenerMethod(Object delegate, Method method) {
 
 			Class<?>[] parameterTypes = method.getParameterTypes();
 
-			Object[] args = new Object[parameterTypes.length];
+			this.listenerArguments = new ListenerArgument[parameterTypes.length];
 
 			boolean query = false;
 			boolean value = false;
@@ -337,28 +357,102 @@ public class ContinuousQueryListenerAdapter implements ContinuousQueryListener {
 				Class<?> parameterType = parameterTypes[index];
 
 				if (Object.class.equals(parameterType)) {
-					args[index] = value ? event.getNewValue() : event.getKey();
+					this.listenerArguments[index] = value ? ListenerArgument.NEW_VALUE : ListenerArgument.KEY;
 					value = true;
 				}
 				else if (Operation.class.equals(parameterType)) {
-					args[index] = query ? event.getQueryOperation() : event.getBaseOperation();
+					this.listenerArguments[index] = query ? ListenerArgument.QUERY_OPERATION
+						: ListenerArgument.BASE_OPERATION;
 					query = true;
 				}
 				else if (byte[].class.equals(parameterType)) {
-					args[index] = event.getDeltaValue();
+					this.listenerArguments[index] = ListenerArgument.DELTA_VALUE;
 				}
 				else if (CqEvent.class.equals(parameterType)) {
-					args[index] = event;
+					this.listenerArguments[index] = ListenerArgument.EVENT;
 				}
 				else if (CqQuery.class.equals(parameterType)) {
-					args[index] = event.getCq();
+					this.listenerArguments[index] = ListenerArgument.CQ;
 				}
 				else if (Throwable.class.equals(parameterType)) {
-					args[index] = event.getThrowable();
+					this.listenerArguments[index] = ListenerArgument.THROWABLE;
 				}
 			}
 
-			return args;
+			try {
+
+				MethodHandle methodHandle = MethodHandles.lookup().unreflect(method);
+
+				if (!Modifier.isStatic(method.getModifiers())) {
+					methodHandle = methodHandle.bindTo(delegate);
+				}
+
+				this.methodHandle = methodHandle.asSpreader(Object[].class, parameterTypes.length)
+					.asType(MethodType.methodType(void.class, Object[].class));
+			}
+			catch (IllegalAccessException cause) {
+				throw new IllegalStateException(String.format("Cannot access listener method [%s]", method), cause);
+			}
+		}
+
+		void invoke(CqEvent event) throws InvocationTargetException {
+
+			ListenerArgument[] listenerArguments = this.listenerArguments;
+
+			Object[] arguments = new Object[listenerArguments.length];
+
+			for (int index = 0; index < arguments.length; index++) {
+				arguments[index] = listenerArguments[index].resolve(event);
+			}
+
+			try {
+				this.methodHandle.invokeExact(arguments);
+			}
+			// the bound MethodHandle only throws exceptions thrown by the listener method itself
+			catch (Throwable cause) {
+				throw new InvocationTargetException(cause);
+			}
+		}
+	}
+
+	/**
+	 * Listener method argument extracted from the {@link CqEvent}.
+	 *
+	 * The arguments are resolved with a {@literal switch} rather than a function per argument, which keeps
+	 * the argument resolution inlined into {@link ListenerMethod#invoke(CqEvent)} by the JIT compiler instead of
+	 * dispatching a megamorphic call for every argument.
+	 */
+	private enum ListenerArgument {
+
+		BASE_OPERATION,
+		CQ,
+		DELTA_VALUE,
+		EVENT,
+		KEY,
+		NEW_VALUE,
+		QUERY_OPERATION,
+		THROWABLE;
+
+		Object resolve(CqEvent event) {
+
+			switch (this) {
+				case BASE_OPERATION:
+					return event.getBaseOperation();
+				case CQ:
+					return event.getCq();
+				case DELTA_VALUE:
+					return event.getDeltaValue();
+				case EVENT:
+					return event;
+				case KEY:
+					return event.getKey();
+				case NEW_VALUE:
+					return event.getNewValue();
+				case QUERY_OPERATION:
+					return event.getQueryOperation();
+				default:
+					return event.getThrowable();
+			}
 		}
 	}
 }
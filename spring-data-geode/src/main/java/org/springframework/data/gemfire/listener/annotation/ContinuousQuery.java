@@ -40,6 +40,30 @@ import java.lang.annotation.Target;
 @Documented
 public @interface ContinuousQuery {
 
+	/**
+	 * Defines the maximum time in milliseconds a CQ event waits in a batch before the batch is delivered
+	 * to a method accepting a {@link java.util.List} of CQ events.
+	 *
+	 * Defaults to {@literal 0}, which uses the container default.
+	 */
+	long batchInterval() default 0L;
+
+	/**
+	 * Defines the maximum number of CQ events in a batch delivered to a method accepting
+	 * a {@link java.util.List} of CQ events.
+	 *
+	 * Defaults to {@literal 0}, which uses the container default.
+	 */
+	int batchSize() default 0;
+
+	/**
+	 * Determines whether only the latest CQ event per key is kept inside a batch, either {@literal "true"}
+	 * or {@literal "false"}.  An explicit value overrides the container default.
+	 *
+	 * Defaults to empty, which uses the container default.
+	 */
+	String conflate() default "";
+
 	/**
 	 * Determines whether the CQ is durable.
 	 *
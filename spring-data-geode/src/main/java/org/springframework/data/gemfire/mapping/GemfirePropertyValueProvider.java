@@ -50,6 +50,12 @@ class GemfirePropertyValueProvider implements PropertyValueProvider<GemfirePersi
 	@Override
 	@SuppressWarnings("unchecked")
 	public <T> T getPropertyValue(GemfirePersistentProperty property) {
-		return (T) reader.readField(property.getName());
+
+		MappingPdxSerializer.PrimitivePdxField primitivePdxField =
+			MappingPdxSerializer.PrimitivePdxField.from(property.getType());
+
+		return primitivePdxField != null
+			? (T) primitivePdxField.read(this.reader, property.getName())
+			: (T) this.reader.readField(property.getName());
 	}
 }
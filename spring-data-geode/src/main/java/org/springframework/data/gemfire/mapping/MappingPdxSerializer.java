@@ -15,6 +15,8 @@
  */
 package org.springframework.data.gemfire.mapping;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -22,9 +24,11 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
 import java.util.function.Predicate;
-import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
+import org.apache.geode.pdx.PdxFieldTypeMismatchException;
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
 import org.apache.geode.pdx.PdxWriter;
@@ -40,7 +44,6 @@ import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.PropertyHandler;
-import org.springframework.data.mapping.model.ConvertingPropertyAccessor;
 import org.springframework.data.mapping.model.EntityInstantiator;
 import org.springframework.data.mapping.model.EntityInstantiators;
 import org.springframework.data.mapping.model.PersistentEntityParameterValueProvider;
@@ -48,6 +51,7 @@ import org.springframework.data.mapping.model.SpELContext;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
 import org.slf4j.Logger;
@@ -71,7 +75,6 @@ import org.slf4j.LoggerFactory;
  * @see org.springframework.data.mapping.PersistentProperty
  * @see org.springframework.data.mapping.PersistentPropertyAccessor
  * @see org.springframework.data.mapping.PropertyHandler
- * @see org.springframework.data.mapping.model.ConvertingPropertyAccessor
  * @see org.springframework.data.mapping.model.EntityInstantiator
  * @see org.springframework.data.mapping.model.EntityInstantiators
  * @see org.springframework.data.mapping.model.PersistentEntityParameterValueProvider
@@ -213,6 +216,10 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 	private final Map<Object, PdxSerializer> customPdxSerializers = new ConcurrentHashMap<>();
 
+	private volatile Map<Class<?>, Boolean> typeFilterVerdicts = new ConcurrentHashMap<>();
+
+	private volatile Map<Class<?>, Optional<SerializationPlan>> serializationPlans = new ConcurrentHashMap<>();
+
 	private Predicate<Class<?>> excludeTypeFilters = TypeFilters.EXCLUDE_NULL_TYPES
 		.and(TypeFilters.EXCLUDE_JAVA_TYPES)
 		.and(TypeFilters.EXCLUDE_COM_GEMSTONE_GEMFIRE_TYPES)
@@ -299,7 +306,10 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * @see java.util.Map
 	 */
 	public void setCustomPdxSerializers(Map<?, PdxSerializer> customPdxSerializers) {
+
 		Optional.ofNullable(customPdxSerializers).ifPresent(this.customPdxSerializers::putAll);
+
+		invalidateSerializationPlans();
 	}
 
 	/**
@@ -421,6 +431,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.excludeTypeFilters = excludeTypeFilters != null
 			? this.excludeTypeFilters.and(excludeTypeFilters)
 			: this.excludeTypeFilters;
+
+		invalidateTypeFilterVerdicts();
 	}
 
 	/**
@@ -440,6 +452,8 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		this.includeTypeFilters = includeTypeFilters != null
 			? this.includeTypeFilters.or(includeTypeFilters)
 			: this.includeTypeFilters;
+
+		invalidateTypeFilterVerdicts();
 	}
 
 	/**
@@ -453,6 +467,27 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return this.excludeTypeFilters.or(TypeFilters.EXCLUDE_NULL_TYPES.and(this.includeTypeFilters));
 	}
 
+	/**
+	 * Determines whether the given {@link Class type} is serializable by this {@link MappingPdxSerializer}
+	 * as determined by the {@link #getTypeFilters() type filters}.
+	 *
+	 * The verdict is cached per {@link Class type} until the type filters are changed.
+	 *
+	 * @param type {@link Class type} to evaluate.
+	 * @return a boolean value indicating whether the given {@link Class type} is serializable.
+	 * @see #getTypeFilters()
+	 */
+	boolean isSerializable(@Nullable Class<?> type) {
+
+		return type != null
+			? this.typeFilterVerdicts.computeIfAbsent(type, it -> getTypeFilters().test(it))
+			: getTypeFilters().test(null);
+	}
+
+	private void invalidateTypeFilterVerdicts() {
+		this.typeFilterVerdicts = new ConcurrentHashMap<>();
+	}
+
 	/**
 	 * Registers the given {@link PdxSerializerResolver}, which will be used to resolve a custom {@link PdxSerializer}
 	 * for a entity property.
@@ -467,9 +502,58 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 
 		if (pdxSerializerResolver != null) {
 			this.pdxSerializerResolvers.add(0, pdxSerializerResolver);
+			invalidateSerializationPlans();
 		}
 	}
 
+	/**
+	 * Returns the {@link SerializationPlan} for the given entity {@link Class type}, compiling the plan
+	 * on first use.
+	 *
+	 * @param type entity {@link Class type}.
+	 * @return the {@link SerializationPlan} for the given entity {@link Class type}, or {@literal null}
+	 * if the {@link Class type} is not a persistent entity (e.g. {@link Long} or {@link String}).
+	 * @see #getPersistentEntity(Class)
+	 */
+	@Nullable SerializationPlan getSerializationPlan(@NonNull Class<?> type) {
+
+		return this.serializationPlans
+			.computeIfAbsent(type, it -> Optional.ofNullable(getPersistentEntity(it)).map(this::newSerializationPlan))
+			.orElse(null);
+	}
+
+	private SerializationPlan newSerializationPlan(@NonNull GemfirePersistentEntity<?> entity) {
+
+		List<PropertySerializationPlan> readableProperties = new ArrayList<>();
+		List<PropertySerializationPlan> writableProperties = new ArrayList<>();
+
+		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+
+			boolean readable = isReadable(persistentProperty);
+			boolean writable = isWritable(entity, persistentProperty);
+
+			if (readable || writable) {
+
+				PropertySerializationPlan property =
+					new PropertySerializationPlan(persistentProperty, resolveCustomPdxSerializer(persistentProperty));
+
+				if (readable) {
+					readableProperties.add(property);
+				}
+
+				if (writable) {
+					writableProperties.add(property);
+				}
+			}
+		});
+
+		return new SerializationPlan(entity, readableProperties, writableProperties);
+	}
+
+	private void invalidateSerializationPlans() {
+		this.serializationPlans = new ConcurrentHashMap<>();
+	}
+
 	/**
 	 * Deserializes (reads) an {@link Object} of {@link Class type} from PDX using the {@link PdxReader}.
 	 *
@@ -486,7 +570,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 */
 	@Override
 	public Object fromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader) {
-		return getTypeFilters().test(type) ? doFromData(type, pdxReader) : null;
+		return isSerializable(type) ? doFromData(type, pdxReader) : null;
 	}
 
 	/**
@@ -504,52 +588,50 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	@SuppressWarnings({ "rawtypes", "unchecked" })
 	Object doFromData(@NonNull Class<?> type, @NonNull PdxReader pdxReader) {
 
-		GemfirePersistentEntity<?> entity = getPersistentEntity(type);
+		SerializationPlan plan = getSerializationPlan(type);
+
+		if (plan == null) {
+			return null;
+		}
+
+		GemfirePersistentEntity<?> entity = plan.entity;
 
 		Object instance = resolveEntityInstantiator(entity)
 			.createInstance(entity, new PersistentEntityParameterValueProvider<>(entity,
 				new GemfirePropertyValueProvider(pdxReader), null));
 
-		PersistentPropertyAccessor propertyAccessor =
-			new ConvertingPropertyAccessor(entity.getPropertyAccessor(instance), getConversionService());
-
-		entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+		PersistentPropertyAccessor propertyAccessor = entity.getPropertyAccessor(instance);
 
-			if (isWritable(entity, persistentProperty)) {
+		ConversionService conversionService = getConversionService();
 
-				Object value = null;
+		boolean debug = getLogger().isDebugEnabled();
 
-				PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+		for (PropertySerializationPlan property : plan.writableProperties) {
 
-				Supplier<String> messageSuffix = () -> customPdxSerializer != null
-					? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-					: "";
+			Object value = null;
 
-				try {
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
-							persistentProperty.getName(), instance, type, messageSuffix.get());
-					}
+			try {
+				if (debug) {
+					getLogger().debug("Setting property [{}] for entity [{}] of type [{}] from PDX{}",
+						property.name, instance, type, property.messageSuffix);
+				}
 
-					value = customPdxSerializer != null
-						? customPdxSerializer.fromData(persistentProperty.getType(), pdxReader)
-						: pdxReader.readField(persistentProperty.getName());
+				value = property.read(pdxReader);
 
-					if (getLogger().isDebugEnabled()) {
-						getLogger().debug("... with value [{}]", value);
-					}
-
-					propertyAccessor.setProperty(persistentProperty, value);
+				if (debug) {
+					getLogger().debug("... with value [{}]", value);
 				}
-				catch (Exception cause) {
 
-					String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
-						value, persistentProperty.getName(), type, messageSuffix.get());
+				propertyAccessor.setProperty(property.persistentProperty, property.convert(value, conversionService));
+			}
+			catch (Exception cause) {
 
-					throw new MappingException(message, cause);
-				}
+				String message = String.format("An error occurred while setting value [%1$s] of property [%2$s] for entity of type [%3$s] from PDX%4$s",
+					value, property.name, type, property.messageSuffix);
+
+				throw new MappingException(message, cause);
 			}
-		});
+		}
 
 		return propertyAccessor.getBean();
 	}
@@ -590,7 +672,7 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 */
 	@Override
 	public boolean toData(@Nullable Object value, @NonNull PdxWriter pdxWriter) {
-		return getTypeFilters().test(resolveType(value)) && doToData(value, pdxWriter);
+		return isSerializable(resolveType(value)) && doToData(value, pdxWriter);
 	}
 
 	/**
@@ -603,64 +685,47 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 	 * @see org.apache.geode.pdx.PdxWriter
 	 * @see java.lang.Object
 	 */
-	@SuppressWarnings({ "rawtypes", "unchecked" })
 	boolean doToData(Object value, @NonNull PdxWriter pdxWriter) {
 
-		GemfirePersistentEntity<?> entity = getPersistentEntity(value);
-
-		// The entity will be null for primitive & wrapper types (e.g. int, Long, String, etc).
-		if (entity != null) {
-
-			PersistentPropertyAccessor propertyAccessor =
-				new ConvertingPropertyAccessor(entity.getPropertyAccessor(value), getConversionService());
-
-			entity.doWithProperties((PropertyHandler<GemfirePersistentProperty>) persistentProperty -> {
+		SerializationPlan plan = getSerializationPlan(value.getClass());
 
-				if (isReadable(persistentProperty)) {
+		// The plan will be null for primitive & wrapper types (e.g. int, Long, String, etc).
+		if (plan != null) {
 
-					Object propertyValue = null;
+			GemfirePersistentEntity<?> entity = plan.entity;
 
-					PdxSerializer customPdxSerializer = resolveCustomPdxSerializer(persistentProperty);
+			PersistentPropertyAccessor<?> propertyAccessor = entity.getPropertyAccessor(value);
 
-					String propertyName = persistentProperty.getName();
+			boolean debug = getLogger().isDebugEnabled();
 
-					Supplier<String> messageSuffix = () -> customPdxSerializer != null
-						? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
-						: "";
+			for (PropertySerializationPlan property : plan.readableProperties) {
 
-					try {
+				Object propertyValue = null;
 
-						propertyValue = propertyAccessor.getProperty(persistentProperty);
+				try {
 
-						if (getLogger().isDebugEnabled()) {
-							getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
-								entity.getType().getName(), propertyName, propertyValue,
-								ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
-						}
+					propertyValue = propertyAccessor.getProperty(property.persistentProperty);
 
-						if (customPdxSerializer != null) {
-							customPdxSerializer.toData(propertyValue, pdxWriter);
-						}
-						else {
-							pdxWriter.writeField(propertyName, propertyValue,
-								(Class<Object>) persistentProperty.getType());
-						}
+					if (debug) {
+						getLogger().debug("Serializing entity [{}] property [{}] value [{}] of type [{}] to PDX{}",
+							entity.getType().getName(), property.name, propertyValue,
+							ObjectUtils.nullSafeClassName(propertyValue), property.messageSuffix);
 					}
-					catch (Exception cause) {
-
-						String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
-							entity.getType().getName(), persistentProperty.getName(), propertyValue,
-							ObjectUtils.nullSafeClassName(propertyValue), messageSuffix.get());
 
-						throw new MappingException(message, cause);
-					}
+					property.write(propertyValue, pdxWriter);
 				}
-			});
+				catch (Exception cause) {
 
-			GemfirePersistentProperty idProperty = entity.getIdProperty();
+					String message = String.format("An error occurred while serializing entity [%1$s] property [%2$s] value [%3$s] of type [%4$s] to PDX%5$s",
+						entity.getType().getName(), property.name, propertyValue,
+						ObjectUtils.nullSafeClassName(propertyValue), property.messageSuffix);
 
-			if (idProperty != null) {
-				pdxWriter.markIdentityField(idProperty.getName());
+					throw new MappingException(message, cause);
+				}
+			}
+
+			if (plan.identityFieldName != null) {
+				pdxWriter.markIdentityField(plan.identityFieldName);
 			}
 
 			return true;
@@ -732,6 +797,367 @@ public class MappingPdxSerializer implements PdxSerializer, ApplicationContextAw
 		return obj != null ? obj.getClass() : null;
 	}
 
+	/**
+	 * Serialization plan compiled once per entity {@link Class type}, holding the ordered properties read from
+	 * and written to PDX along with the resolved custom {@link PdxSerializer PdxSerializers}.
+	 */
+	static final class SerializationPlan {
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final PropertySerializationPlan[] readableProperties;
+		private final PropertySerializationPlan[] writableProperties;
+
+		private final String identityFieldName;
+
+		SerializationPlan(@NonNull GemfirePersistentEntity<?> entity,
+				@NonNull List<PropertySerializationPlan> readableProperties,
+				@NonNull List<PropertySerializationPlan> writableProperties) {
+
+			this.entity = entity;
+			this.readableProperties = readableProperties.toArray(new PropertySerializationPlan[0]);
+			this.writableProperties = writableProperties.toArray(new PropertySerializationPlan[0]);
+			this.identityFieldName = Optional.ofNullable(entity.getIdProperty())
+				.map(GemfirePersistentProperty::getName)
+				.orElse(null);
+		}
+	}
+
+	/**
+	 * Reads and writes a single entity {@link GemfirePersistentProperty property}, either with the resolved
+	 * custom {@link PdxSerializer}, as a primitive-typed PDX field or as a PDX field.
+	 */
+	static final class PropertySerializationPlan {
+
+		private final Class<Object> type;
+
+		private final Class<?> resolvedType;
+
+		private final GemfirePersistentProperty persistentProperty;
+
+		private final PdxSerializer customPdxSerializer;
+
+		private final PrimitivePdxField primitivePdxField;
+
+		private final String messageSuffix;
+		private final String name;
+
+		@SuppressWarnings("unchecked")
+		PropertySerializationPlan(@NonNull GemfirePersistentProperty persistentProperty,
+				@Nullable PdxSerializer customPdxSerializer) {
+
+			this.persistentProperty = persistentProperty;
+			this.customPdxSerializer = customPdxSerializer;
+			this.name = persistentProperty.getName();
+			this.type = (Class<Object>) persistentProperty.getType();
+			this.resolvedType = ClassUtils.resolvePrimitiveIfNecessary(this.type);
+			this.primitivePdxField = PrimitivePdxField.from(this.type);
+			this.messageSuffix = customPdxSerializer != null
+				? String.format(" using custom PdxSerializer [%s]", customPdxSerializer)
+				: "";
+		}
+
+		@Nullable Object convert(@Nullable Object value, @NonNull ConversionService conversionService) {
+
+			return value == null || this.resolvedType.isInstance(value) ? value
+				: conversionService.convert(value, this.type);
+		}
+
+		@Nullable Object read(@NonNull PdxReader pdxReader) {
+
+			return this.customPdxSerializer != null ? this.customPdxSerializer.fromData(this.type, pdxReader)
+				: this.primitivePdxField != null ? this.primitivePdxField.read(pdxReader, this.name)
+				: pdxReader.readField(this.name);
+		}
+
+		void write(@Nullable Object value, @NonNull PdxWriter pdxWriter) {
+
+			if (this.customPdxSerializer != null) {
+				this.customPdxSerializer.toData(value, pdxWriter);
+			}
+			else if (this.primitivePdxField != null) {
+				this.primitivePdxField.write(pdxWriter, this.name, value);
+			}
+			else {
+				pdxWriter.writeField(this.name, value, this.type);
+			}
+		}
+	}
+
+	/**
+	 * PDX fields of a primitive or primitive array {@link Class type}, read and written with the type-specific
+	 * {@link PdxReader} and {@link PdxWriter} methods (e.g. {@link PdxWriter#writeInt(String, int)}) rather than
+	 * {@link PdxReader#readField(String)} and {@link PdxWriter#writeField(String, Object, Class)}, which resolve
+	 * the PDX field type on every call.
+	 *
+	 * The PDX field types are the same as those written by {@link PdxWriter#writeField(String, Object, Class)}
+	 * for the primitive and primitive array {@link Class types}, so both paths read each other's PDX bytes.
+	 */
+	enum PrimitivePdxField {
+
+		BOOLEAN(Boolean.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readBoolean(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeBoolean(name, value != null && (Boolean) value);
+			}
+		},
+
+		BYTE(Byte.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readByte(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeByte(name, value != null ? (Byte) value : 0);
+			}
+		},
+
+		CHAR(Character.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readChar(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeChar(name, value != null ? (Character) value : 0);
+			}
+		},
+
+		SHORT(Short.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readShort(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeShort(name, value != null ? (Short) value : 0);
+			}
+		},
+
+		INT(Integer.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readInt(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeInt(name, value != null ? (Integer) value : 0);
+			}
+		},
+
+		LONG(Long.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readLong(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeLong(name, value != null ? (Long) value : 0L);
+			}
+		},
+
+		FLOAT(Float.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readFloat(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeFloat(name, value != null ? (Float) value : 0.0f);
+			}
+		},
+
+		DOUBLE(Double.TYPE) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readDouble(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeDouble(name, value != null ? (Double) value : 0.0d);
+			}
+		},
+
+		BOOLEAN_ARRAY(boolean[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readBooleanArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeBooleanArray(name, (boolean[]) value);
+			}
+		},
+
+		BYTE_ARRAY(byte[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readByteArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeByteArray(name, (byte[]) value);
+			}
+		},
+
+		CHAR_ARRAY(char[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readCharArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeCharArray(name, (char[]) value);
+			}
+		},
+
+		SHORT_ARRAY(short[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readShortArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeShortArray(name, (short[]) value);
+			}
+		},
+
+		INT_ARRAY(int[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readIntArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeIntArray(name, (int[]) value);
+			}
+		},
+
+		LONG_ARRAY(long[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readLongArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeLongArray(name, (long[]) value);
+			}
+		},
+
+		FLOAT_ARRAY(float[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readFloatArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeFloatArray(name, (float[]) value);
+			}
+		},
+
+		DOUBLE_ARRAY(double[].class) {
+
+			@Override
+			Object doRead(PdxReader pdxReader, String name) {
+				return pdxReader.readDoubleArray(name);
+			}
+
+			@Override
+			void write(PdxWriter pdxWriter, String name, Object value) {
+				pdxWriter.writeDoubleArray(name, (double[]) value);
+			}
+		};
+
+		private static final Map<Class<?>, PrimitivePdxField> PRIMITIVE_PDX_FIELDS = Arrays.stream(values())
+			.collect(Collectors.toMap(PrimitivePdxField::getType, Function.identity()));
+
+		/**
+		 * Returns the {@link PrimitivePdxField} for the given {@link Class type}.
+		 *
+		 * @param type {@link Class type} of the entity property.
+		 * @return the {@link PrimitivePdxField} for the given {@link Class type}, or {@literal null}
+		 * if the {@link Class type} is not a primitive or primitive array {@link Class type}.
+		 */
+		static @Nullable PrimitivePdxField from(@Nullable Class<?> type) {
+			return type != null ? PRIMITIVE_PDX_FIELDS.get(type) : null;
+		}
+
+		private final Class<?> type;
+
+		PrimitivePdxField(@NonNull Class<?> type) {
+			this.type = type;
+		}
+
+		@NonNull Class<?> getType() {
+			return this.type;
+		}
+
+		/**
+		 * Reads the named PDX field.
+		 *
+		 * Returns {@literal null} when the PDX field does not exist, as {@link PdxReader#readField(String)} does,
+		 * and falls back to {@link PdxReader#readField(String)} when the PDX field was written with a different type,
+		 * for example by a previous version of the entity {@link Class}, leaving the value to be converted.
+		 *
+		 * @param pdxReader {@link PdxReader} used to read the PDX field; must not be {@literal null}.
+		 * @param name {@link String} containing the name of the PDX field.
+		 * @return the value of the PDX field.
+		 */
+		@Nullable Object read(@NonNull PdxReader pdxReader, @NonNull String name) {
+
+			if (!pdxReader.hasField(name)) {
+				return null;
+			}
+
+			try {
+				return doRead(pdxReader, name);
+			}
+			catch (PdxFieldTypeMismatchException ignore) {
+				return pdxReader.readField(name);
+			}
+		}
+
+		abstract Object doRead(PdxReader pdxReader, String name);
+
+		abstract void write(PdxWriter pdxWriter, String name, Object value);
+
+	}
+
 	@FunctionalInterface
 	public interface PdxSerializerResolver {
 
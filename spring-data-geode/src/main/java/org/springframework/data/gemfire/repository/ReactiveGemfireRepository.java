@@ -0,0 +1,44 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository;
+
+import org.springframework.data.repository.reactive.ReactiveCrudRepository;
+import org.springframework.data.repository.reactive.ReactiveSortingRepository;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Apache Geode extension of the Spring Data {@link ReactiveCrudRepository} and {@link ReactiveSortingRepository}
+ * interfaces.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.GemfireRepository
+ * @see org.springframework.data.repository.reactive.ReactiveCrudRepository
+ * @see org.springframework.data.repository.reactive.ReactiveSortingRepository
+ * @since 3.0.0
+ */
+public interface ReactiveGemfireRepository<T, ID> extends ReactiveCrudRepository<T, ID>, ReactiveSortingRepository<T, ID> {
+
+	/**
+	 * Save the entity wrapped by the given {@link Wrapper}.
+	 *
+	 * @param wrapper {@link Wrapper} object wrapping the entity and the identifier of the entity (i.e. key).
+	 * @return a {@link Mono} emitting the saved entity.
+	 * @see org.springframework.data.gemfire.repository.Wrapper
+	 */
+	Mono<T> save(Wrapper<T, ID> wrapper);
+
+}
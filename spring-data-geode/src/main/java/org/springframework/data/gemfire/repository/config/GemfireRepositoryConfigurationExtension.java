@@ -34,6 +34,7 @@ import org.springframework.data.repository.config.RepositoryConfigurationExtensi
 import org.springframework.data.repository.config.RepositoryConfigurationExtensionSupport;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.data.repository.config.XmlRepositoryConfigurationSource;
+import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.lang.NonNull;
 
 /**
@@ -74,6 +75,17 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 		return GemfireRepositoryFactoryBean.class.getName();
 	}
 
+	/**
+	 * {@literal Reactive} {@link Repository Repositories} are configured with
+	 * {@link EnableReactiveGemfireRepositories} and skipped by this {@link RepositoryConfigurationExtension}.
+	 *
+	 * @see org.springframework.data.gemfire.repository.config.ReactiveGemfireRepositoryConfigurationExtension
+	 */
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return !metadata.isReactiveRepository();
+	}
+
 	@Override
 	public void postProcess(BeanDefinitionBuilder builder, RepositoryConfigurationSource source) {
 
@@ -119,7 +131,8 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 
 	/**
 	 * Registers a {@link GemfireMappingContext} if a {@link MappingContext} is not already registered in
-	 * the {@link BeanDefinitionRegistry}.
+	 * the {@link BeanDefinitionRegistry}, for instance, by both {@link EnableGemfireRepositories}
+	 * and {@link EnableReactiveGemfireRepositories}.
 	 *
 	 * @param registry {@link BeanDefinitionRegistry} containing registered bean definitions.
 	 * @param configurationSource {@link RepositoryConfigurationSource} containing the configuration metadata
@@ -131,7 +144,9 @@ public class GemfireRepositoryConfigurationExtension extends RepositoryConfigura
 	private void registerMappingContextForRoot(@NonNull BeanDefinitionRegistry registry,
 			@NonNull RepositoryConfigurationSource configurationSource) {
 
-		if (noMappingContextIsConfigured(configurationSource)) {
+		if (noMappingContextIsConfigured(configurationSource)
+				&& !registry.containsBeanDefinition(DEFAULT_MAPPING_CONTEXT_BEAN_NAME)) {
+
 			registry.registerBeanDefinition(DEFAULT_MAPPING_CONTEXT_BEAN_NAME,
 				new RootBeanDefinition(GemfireMappingContext.class));
 		}
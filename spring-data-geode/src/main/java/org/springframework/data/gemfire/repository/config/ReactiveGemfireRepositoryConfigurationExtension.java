@@ -0,0 +1,73 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.config;
+
+import java.util.Collection;
+import java.util.Collections;
+
+import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.gemfire.repository.support.ReactiveGemfireRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
+import org.springframework.data.repository.config.RepositoryConfigurationExtension;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.util.StringUtils;
+
+/**
+ * {@link RepositoryConfigurationExtension} implementation handling Apache Geode specific extensions
+ * in the Annotation-based configuration metadata of {@literal Reactive} {@link Repository Repositories}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.config.EnableReactiveGemfireRepositories
+ * @see org.springframework.data.gemfire.repository.config.GemfireRepositoryConfigurationExtension
+ * @since 3.0.0
+ */
+public class ReactiveGemfireRepositoryConfigurationExtension extends GemfireRepositoryConfigurationExtension {
+
+	private static final String SCHEDULER_PROPERTY_NAME = "scheduler";
+	private static final String SCHEDULER_REF_ATTRIBUTE_NAME = "schedulerRef";
+
+	@Override
+	public String getModuleName() {
+		return "Reactive Gemfire";
+	}
+
+	@Override
+	protected Collection<Class<?>> getIdentifyingTypes() {
+		return Collections.singleton(ReactiveGemfireRepository.class);
+	}
+
+	@Override
+	public String getRepositoryFactoryBeanClassName() {
+		return ReactiveGemfireRepositoryFactoryBean.class.getName();
+	}
+
+	@Override
+	protected boolean useRepositoryConfiguration(RepositoryMetadata metadata) {
+		return metadata.isReactiveRepository();
+	}
+
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource configurationSource) {
+
+		super.postProcess(builder, configurationSource);
+
+		configurationSource.getAttribute(SCHEDULER_REF_ATTRIBUTE_NAME)
+			.filter(StringUtils::hasText)
+			.ifPresent(schedulerBeanName -> builder.addPropertyReference(SCHEDULER_PROPERTY_NAME, schedulerBeanName));
+	}
+}
@@ -0,0 +1,266 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Immutable, compiled plan for a {@literal derived} OQL query generated from a {@link GemfireQueryMethod}
+ * and {@link PartTree}.
+ *
+ * The plan captures the OQL query text with the {@literal FROM clause} resolved and the provided
+ * {@link QueryPostProcessor QueryPostProcessors} (e.g. {@literal LIMIT}, {@literal IMPORT}, {@literal HINT}
+ * and {@literal TRACE}) already applied, along with the strategy used to bind the {@link QueryMethod}
+ * arguments to the OQL query parameters.
+ *
+ * A plan is specific to the {@link Sort} used to create the OQL query. The only per-invocation work remaining
+ * is binding {@literal IN} parameters, if any, and adding wildcards to {@literal LIKE} arguments.
+ *
+ * @author agent
+ * @see org.springframework.data.domain.Sort
+ * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod
+ * @see org.springframework.data.gemfire.repository.query.QueryString
+ * @see org.springframework.data.repository.query.parser.PartTree
+ * @since 3.0.0
+ */
+final class DerivedQueryPlan {
+
+	private static final int[] EMPTY_INDEXES = {};
+
+	/**
+	 * Compiles a new {@link DerivedQueryPlan} for the given {@link GemfireQueryMethod}, {@link PartTree}
+	 * and {@link Sort}.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} modeling the derived OQL query; must not be {@literal null}.
+	 * @param tree {@link PartTree} parsed from the {@link GemfireQueryMethod} name; must not be {@literal null}.
+	 * @param sort {@link Sort} applied to the OQL query; must not be {@literal null}.
+	 * @param region {@link Region} queried by the OQL query; must not be {@literal null}.
+	 * @return a new {@link DerivedQueryPlan}.
+	 * @throws IllegalArgumentException if any argument is {@literal null}.
+	 */
+	static @NonNull DerivedQueryPlan compile(@NonNull GemfireQueryMethod queryMethod, @NonNull PartTree tree,
+			@NonNull Sort sort, @NonNull Region<?, ?> region) {
+
+		Assert.notNull(queryMethod, "QueryMethod must not be null");
+		Assert.notNull(tree, "PartTree must not be null");
+		Assert.notNull(sort, "Sort must not be null");
+		Assert.notNull(region, "Region must not be null");
+
+		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
+
+		QueryString query = queryCreator.createQuery(sort)
+			.fromRegion(region, queryMethod.getEntityInformation().getJavaType());
+
+		String preparedQuery = StringBasedGemfireRepositoryQuery.PROVIDED_QUERY_POST_PROCESSORS
+			.postProcess(queryMethod, query.toString());
+
+		return new DerivedQueryPlan(sort, preparedQuery, toInParameterIndexes(queryMethod, query),
+			toParameterBindings(queryMethod, tree));
+	}
+
+	/**
+	 * Resolves the {@literal IN} parameter placeholders (e.g. {@literal $1}), which are numbered by bindable
+	 * {@link Parameter}, to the index of the corresponding {@link QueryMethod} argument.
+	 */
+	private static int[] toInParameterIndexes(QueryMethod queryMethod, QueryString query) {
+
+		List<Integer> bindableParameterIndexes = new ArrayList<>();
+
+		for (Parameter parameter : queryMethod.getParameters().getBindableParameters()) {
+			bindableParameterIndexes.add(parameter.getIndex());
+		}
+
+		List<Integer> inParameterIndexes = new ArrayList<>();
+
+		for (Integer placeholder : query.getInParameterIndexes()) {
+
+			int bindableIndex = placeholder - 1;
+
+			inParameterIndexes.add(bindableIndex < bindableParameterIndexes.size()
+				? bindableParameterIndexes.get(bindableIndex)
+				: bindableIndex);
+		}
+
+		return inParameterIndexes.isEmpty() ? EMPTY_INDEXES
+			: inParameterIndexes.stream().mapToInt(Integer::intValue).toArray();
+	}
+
+	private static Part.Type[] toParameterBindings(QueryMethod queryMethod, PartTree tree) {
+
+		List<Part.Type> bindableParameterTypes = new ArrayList<>();
+
+		tree.getParts().forEach(part -> {
+			for (int count = 0; count < part.getNumberOfArguments(); count++) {
+				bindableParameterTypes.add(part.getType());
+			}
+		});
+
+		int parameterCount = queryMethod.getParameters().getNumberOfParameters();
+
+		Part.Type[] parameterBindings = new Part.Type[parameterCount];
+
+		int bindableIndex = 0;
+
+		for (Parameter parameter : queryMethod.getParameters()) {
+			if (parameter.isBindable() && bindableIndex < bindableParameterTypes.size()) {
+				parameterBindings[parameter.getIndex()] = bindableParameterTypes.get(bindableIndex++);
+			}
+		}
+
+		return parameterBindings;
+	}
+
+	private final int[] inParameterIndexes;
+
+	private final Part.Type[] parameterBindings;
+
+	private final Sort sort;
+
+	private final String query;
+
+	private DerivedQueryPlan(Sort sort, String query, int[] inParameterIndexes, Part.Type[] parameterBindings) {
+
+		this.sort = sort;
+		this.query = query;
+		this.inParameterIndexes = inParameterIndexes;
+		this.parameterBindings = parameterBindings;
+	}
+
+	/**
+	 * Returns the compiled OQL query text.
+	 *
+	 * The OQL query text may still contain {@literal IN} parameter placeholders if the derived query
+	 * {@link #hasInParameters() has IN parameters}.
+	 *
+	 * @return the compiled OQL query text.
+	 */
+	@NonNull String getQuery() {
+		return this.query;
+	}
+
+	/**
+	 * Returns the {@link Sort} applied to the compiled OQL query.
+	 *
+	 * @return the {@link Sort} applied to the compiled OQL query.
+	 */
+	@NonNull Sort getSort() {
+		return this.sort;
+	}
+
+	/**
+	 * Determines whether the compiled OQL query contains {@literal IN} parameters.
+	 *
+	 * @return a boolean value indicating whether the compiled OQL query contains {@literal IN} parameters.
+	 */
+	boolean hasInParameters() {
+		return this.inParameterIndexes.length > 0;
+	}
+
+	/**
+	 * Binds the given {@link QueryMethod} arguments to the OQL query parameters.
+	 *
+	 * Arguments for {@literal LIKE} based parts (e.g. {@literal Containing}, {@literal StartingWith}
+	 * and {@literal EndingWith}) are converted to {@link String Strings} with the appropriate wildcards.
+	 * All other arguments are returned as is.
+	 *
+	 * @param arguments array of {@link Object arguments} passed to the {@link QueryMethod}.
+	 * @return an array of {@link Object arguments} bound to the OQL query parameters.
+	 */
+	@NonNull Object[] bindArguments(@NonNull Object[] arguments) {
+
+		Object[] boundArguments = arguments;
+
+		for (int index = 0, length = Math.min(arguments.length, this.parameterBindings.length);
+				index < length; index++) {
+
+			Part.Type type = this.parameterBindings[index];
+			Object argument = arguments[index];
+
+			if (type != null && argument != null) {
+
+				String pattern = type == Part.Type.CONTAINING ? "%%%s%%"
+					: type == Part.Type.STARTING_WITH ? "%s%%"
+					: type == Part.Type.ENDING_WITH ? "%%%s"
+					: null;
+
+				if (pattern != null) {
+
+					if (boundArguments == arguments) {
+						boundArguments = arguments.clone();
+					}
+
+					boundArguments[index] = String.format(pattern, argument);
+				}
+			}
+		}
+
+		return boundArguments;
+	}
+
+	/**
+	 * Prepares the compiled OQL query for execution by binding the {@literal IN} parameters, if any.
+	 *
+	 * @param arguments array of {@link Object arguments} bound to the OQL query parameters.
+	 * @return the OQL query ready for execution.
+	 * @see #bindArguments(Object[])
+	 */
+	@NonNull String prepareQuery(@NonNull Object[] arguments) {
+
+		if (hasInParameters()) {
+
+			QueryString query = QueryString.of(getQuery());
+
+			for (int index : this.inParameterIndexes) {
+				query = query.bindIn(toCollection(index < arguments.length ? arguments[index] : null));
+			}
+
+			return query.toString();
+		}
+
+		return getQuery();
+	}
+
+	@SuppressWarnings("rawtypes")
+	private Collection<?> toCollection(@Nullable Object value) {
+
+		return value == null ? Collections.emptyList()
+			: value instanceof Collection ? (Collection<?>) value
+			: value.getClass().isArray() ? CollectionUtils.arrayToList(value)
+			: Collections.singletonList(value);
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s{query=%2$s, sort=%3$s, inParameterIndexes=%4$s}", getClass().getSimpleName(),
+			getQuery(), getSort(), ObjectUtils.nullSafeToString(this.inParameterIndexes));
+	}
+}
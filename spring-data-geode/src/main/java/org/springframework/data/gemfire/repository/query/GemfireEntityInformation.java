@@ -18,6 +18,7 @@ package org.springframework.data.gemfire.repository.query;
 import org.apache.geode.cache.Region;
 
 import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.lang.Nullable;
 
 /**
  * {@link EntityInformation} capturing GemFire specific information.
@@ -35,4 +36,14 @@ public interface GemfireEntityInformation<T, ID> extends EntityInformation<T, ID
 	 */
 	String getRegionName();
 
+	/**
+	 * Returns the name of the entity's identifier property, if any.
+	 *
+	 * @return the name of the entity's identifier property, or {@literal null} if the entity
+	 * does not declare an identifier property.
+	 * @since 3.0.0
+	 */
+	default @Nullable String getIdPropertyName() {
+		return null;
+	}
 }
@@ -15,16 +15,14 @@
  */
 package org.springframework.data.gemfire.repository.query;
 
-import java.util.ArrayList;
-import java.util.Iterator;
-import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
-import org.springframework.data.repository.query.parser.Part;
 import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.lang.NonNull;
 import org.springframework.util.Assert;
@@ -33,9 +31,13 @@ import org.springframework.util.Assert;
  * {@link GemfireRepositoryQuery} backed by a {@link PartTree}, deriving an OQL query
  * from the backing {@link QueryMethod QueryMethod's} name/signature.
  *
+ * The derived OQL query is compiled once per {@link Sort} into an immutable {@link DerivedQueryPlan}
+ * and reused on subsequent invocations.
+ *
  * @author Oliver Gierke
  * @author John Blum
  * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.repository.query.DerivedQueryPlan
  * @see org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery
  * @see org.springframework.data.repository.query.QueryMethod
  * @see org.springframework.data.repository.query.RepositoryQuery
@@ -44,10 +46,16 @@ import org.springframework.util.Assert;
  */
 public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	static final int QUERY_PLAN_CACHE_LIMIT = 64;
+
 	private final GemfireTemplate template;
 
+	private final Map<Sort, DerivedQueryPlan> queryPlans = new ConcurrentHashMap<>();
+
 	private final PartTree tree;
 
+	private volatile StringBasedGemfireRepositoryQuery repositoryQuery;
+
 	/**
 	 * Constructs a new instance of {@link PartTreeGemfireRepositoryQuery} initialized with
 	 * the given {@link GemfireQueryMethod} and {@link GemfireTemplate}.
@@ -98,62 +106,57 @@ public class PartTreeGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
 
-		QueryString query = newQueryString(queryMethod, getPartTree(), arguments);
+		DerivedQueryPlan queryPlan = resolveQueryPlan(queryMethod, arguments);
 
-		GemfireRepositoryQuery repositoryQuery = newRepositoryQuery(queryMethod, query, getTemplate());
+		Object[] boundArguments = queryPlan.bindArguments(arguments);
 
-		return repositoryQuery.execute(prepareStringParameters(arguments));
-	}
+		String preparedQuery = getQueryPostProcessor()
+			.postProcess(queryMethod, queryPlan.prepareQuery(boundArguments), boundArguments);
 
-	private QueryString newQueryString(GemfireQueryMethod queryMethod, PartTree tree, Object[] arguments) {
+		return resolveRepositoryQuery(queryMethod, queryPlan).execute(preparedQuery, boundArguments);
+	}
 
-		ParametersParameterAccessor parameterAccessor =
-			new ParametersParameterAccessor(queryMethod.getParameters(), arguments);
+	/**
+	 * Resolves the compiled {@link DerivedQueryPlan} for the {@link Sort} determined by the given arguments.
+	 *
+	 * A {@link DerivedQueryPlan} is compiled only once per {@link Sort}. Once the number of cached plans reaches
+	 * {@link #QUERY_PLAN_CACHE_LIMIT}, plans for additional {@link Sort Sorts} are compiled on every invocation.
+	 *
+	 * @param queryMethod {@link GemfireQueryMethod} modeling the derived OQL query.
+	 * @param arguments array of {@link Object arguments} passed to the {@link GemfireQueryMethod}.
+	 * @return the compiled {@link DerivedQueryPlan}.
+	 * @see org.springframework.data.gemfire.repository.query.DerivedQueryPlan
+	 */
+	DerivedQueryPlan resolveQueryPlan(GemfireQueryMethod queryMethod, Object[] arguments) {
 
-		GemfireQueryCreator queryCreator = new GemfireQueryCreator(tree, queryMethod.getPersistentEntity());
+		Sort sort = new ParametersParameterAccessor(queryMethod.getParameters(), arguments).getSort();
 
-		return queryCreator.createQuery(parameterAccessor.getSort());
-	}
+		DerivedQueryPlan queryPlan = this.queryPlans.get(sort);
 
-	private GemfireRepositoryQuery newRepositoryQuery(GemfireQueryMethod queryMethod,
-			QueryString query, GemfireTemplate template) {
+		if (queryPlan == null) {
 
-		StringBasedGemfireRepositoryQuery repositoryQuery =
-			new StringBasedGemfireRepositoryQuery(query.toString(), queryMethod, template);
+			queryPlan = DerivedQueryPlan.compile(queryMethod, getPartTree(), sort, getTemplate().getRegion());
 
-		repositoryQuery.register(getQueryPostProcessor());
-		repositoryQuery.asDerivedQuery();
+			if (this.queryPlans.size() < QUERY_PLAN_CACHE_LIMIT) {
+				DerivedQueryPlan existingQueryPlan = this.queryPlans.putIfAbsent(sort, queryPlan);
+				queryPlan = existingQueryPlan != null ? existingQueryPlan : queryPlan;
+			}
+		}
 
-		return repositoryQuery;
+		return queryPlan;
 	}
 
-	private Object[] prepareStringParameters(Object[] parameters) {
+	private StringBasedGemfireRepositoryQuery resolveRepositoryQuery(GemfireQueryMethod queryMethod,
+			DerivedQueryPlan queryPlan) {
 
-		Iterator<Part> partsIterator = getPartTree().getParts().iterator();
+		StringBasedGemfireRepositoryQuery repositoryQuery = this.repositoryQuery;
 
-		List<Object> stringParameters = new ArrayList<>(parameters.length);
-
-		for (Object parameter : parameters) {
-			if (parameter == null || parameter instanceof Sort) {
-				stringParameters.add(parameter);
-			}
-			else {
-				switch (partsIterator.next().getType()) {
-					case CONTAINING:
-						stringParameters.add(String.format("%%%s%%", parameter.toString()));
-						break;
-					case STARTING_WITH:
-						stringParameters.add(String.format("%s%%", parameter.toString()));
-						break;
-					case ENDING_WITH:
-						stringParameters.add(String.format("%%%s", parameter.toString()));
-						break;
-					default:
-						stringParameters.add(parameter);
-				}
-			}
+		if (repositoryQuery == null) {
+			repositoryQuery = new StringBasedGemfireRepositoryQuery(queryPlan.getQuery(), queryMethod, getTemplate())
+				.asDerivedQuery();
+			this.repositoryQuery = repositoryQuery;
 		}
 
-		return stringParameters.toArray();
+		return repositoryQuery;
 	}
 }
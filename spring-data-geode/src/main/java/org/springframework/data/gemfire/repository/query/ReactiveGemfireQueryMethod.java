@@ -0,0 +1,112 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.lang.reflect.Method;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link GemfireQueryMethod} for {@literal Reactive} {@link org.springframework.data.repository.Repository}
+ * query methods returning a {@link org.reactivestreams.Publisher}, such as {@link reactor.core.publisher.Flux}
+ * or {@link reactor.core.publisher.Mono}.
+ *
+ * Query methods returning a multi-valued {@link org.reactivestreams.Publisher} are executed as {@link #isStreamQuery()
+ * Stream queries} so that the OQL query results are fetched incrementally as they are requested.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.query.GemfireQueryMethod
+ * @see org.springframework.data.util.ReactiveWrappers
+ * @since 3.0.0
+ */
+public class ReactiveGemfireQueryMethod extends GemfireQueryMethod {
+
+	private final Boolean multiValueQuery;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireQueryMethod} from the given {@link Method}
+	 * and {@link RepositoryMetadata}.
+	 *
+	 * @param method {@link Method} object backing the actual {@literal query} for this {@link QueryMethod};
+	 * must not be {@literal null}.
+	 * @param metadata {@link RepositoryMetadata} containing metadata about the
+	 * {@link org.springframework.data.repository.Repository}; must not be {@literal null}.
+	 * @param projectionFactory {@link ProjectionFactory} used to handle the {@literal query} {@literal projection};
+	 * must not be {@literal null}.
+	 * @param mappingContext {@link MappingContext} used to map {@link Object entities} to Apache Geode and back to
+	 * {@link Object entities}; must not be {@literal null}.
+	 * @param evaluationContextProvider {@link QueryMethodEvaluationContextProvider} used to process {@literal SpEL}
+	 * expressions.
+	 * @throws InvalidDataAccessApiUsageException if the query method does not return
+	 * a {@link org.reactivestreams.Publisher} or is a {@literal paged} or {@literal sliced} query method.
+	 * @see GemfireQueryMethod#GemfireQueryMethod(Method, RepositoryMetadata, ProjectionFactory, MappingContext, QueryMethodEvaluationContextProvider)
+	 */
+	public ReactiveGemfireQueryMethod(@NonNull Method method,
+			@NonNull RepositoryMetadata metadata,
+			@NonNull ProjectionFactory projectionFactory,
+			@NonNull MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext,
+			@Nullable QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		super(method, metadata, projectionFactory, mappingContext, evaluationContextProvider);
+
+		Class<?> returnType = method.getReturnType();
+
+		if (!ReactiveWrappers.supports(returnType)) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+				"Reactive Repository query method [%s] must return a Publisher; was [%s]", method, returnType.getName()));
+		}
+
+		if (isPageQuery() || isSliceQuery()) {
+			throw new InvalidDataAccessApiUsageException(String.format(
+				"Paged and sliced queries are not supported by Reactive Repository query method [%s]", method));
+		}
+
+		this.multiValueQuery = ReactiveWrappers.isMultiValueType(returnType);
+	}
+
+	/**
+	 * Determines whether this query method returns a multi-valued {@link org.reactivestreams.Publisher},
+	 * such as {@link reactor.core.publisher.Flux}.
+	 *
+	 * @return a boolean value indicating whether this query method returns a multi-valued
+	 * {@link org.reactivestreams.Publisher}.
+	 */
+	public boolean isMultiValueQuery() {
+		return Boolean.TRUE.equals(this.multiValueQuery);
+	}
+
+	/**
+	 * Multi-valued {@literal Reactive} query methods are executed as {@link java.util.stream.Stream} queries.
+	 *
+	 * @return a boolean value indicating whether this query method is executed as
+	 * a {@link java.util.stream.Stream} query.
+	 * @see #isMultiValueQuery()
+	 */
+	@Override
+	public boolean isStreamQuery() {
+		return isMultiValueQuery() || super.isStreamQuery();
+	}
+}
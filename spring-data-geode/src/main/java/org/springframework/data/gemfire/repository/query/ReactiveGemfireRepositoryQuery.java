@@ -0,0 +1,132 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import java.util.stream.Stream;
+
+import org.springframework.data.repository.Repository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * {@link GemfireRepositoryQuery} adapting a blocking {@link GemfireRepositoryQuery}, such as
+ * a {@link PartTreeGemfireRepositoryQuery derived query} or a {@link StringBasedGemfireRepositoryQuery},
+ * to {@link Flux} or {@link Mono} for {@literal Reactive} {@link Repository} query methods.
+ *
+ * The OQL query is executed on the given {@link Scheduler} when subscribed. Multi-valued query methods are executed
+ * as {@link Stream} queries and the results fetched incrementally, in windows, as they are requested.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.query.ReactiveGemfireQueryMethod
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @see reactor.core.scheduler.Scheduler
+ * @since 3.0.0
+ */
+public class ReactiveGemfireRepositoryQuery extends GemfireRepositoryQuery {
+
+	private final GemfireRepositoryQuery delegate;
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireRepositoryQuery} initialized with the given, blocking
+	 * {@link GemfireRepositoryQuery} and {@link Scheduler}.
+	 *
+	 * @param delegate blocking {@link GemfireRepositoryQuery} executing the OQL query; must not be {@literal null}.
+	 * @param scheduler {@link Scheduler} on which the OQL query is executed; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link GemfireRepositoryQuery} or {@link Scheduler} is {@literal null}.
+	 */
+	public ReactiveGemfireRepositoryQuery(@NonNull GemfireRepositoryQuery delegate, @NonNull Scheduler scheduler) {
+
+		super(requireDelegate(delegate).getGemfireQueryMethod());
+
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.delegate = delegate;
+		this.scheduler = scheduler;
+	}
+
+	private static GemfireRepositoryQuery requireDelegate(GemfireRepositoryQuery delegate) {
+
+		Assert.notNull(delegate, "GemfireRepositoryQuery must not be null");
+
+		return delegate;
+	}
+
+	/**
+	 * Returns the blocking {@link GemfireRepositoryQuery} executing the OQL query.
+	 *
+	 * @return the blocking {@link GemfireRepositoryQuery} executing the OQL query.
+	 */
+	protected @NonNull GemfireRepositoryQuery getDelegate() {
+		return this.delegate;
+	}
+
+	/**
+	 * Returns the {@link Scheduler} on which the OQL query is executed.
+	 *
+	 * @return the {@link Scheduler} on which the OQL query is executed.
+	 * @see reactor.core.scheduler.Scheduler
+	 */
+	protected @NonNull Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * Registers the given {@link QueryPostProcessor} with the {@link #getDelegate() delegate}, which prepares
+	 * and executes the OQL query.
+	 *
+	 * @param queryPostProcessor {@link QueryPostProcessor} to register.
+	 * @return this {@link ReactiveGemfireRepositoryQuery}.
+	 */
+	@Override
+	public ReactiveGemfireRepositoryQuery register(@Nullable QueryPostProcessor<Repository, String> queryPostProcessor) {
+		getDelegate().register(queryPostProcessor);
+		return this;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	public Object execute(Object[] arguments) {
+
+		GemfireQueryMethod queryMethod = getGemfireQueryMethod();
+
+		boolean multiValueQuery = queryMethod instanceof ReactiveGemfireQueryMethod
+			&& ((ReactiveGemfireQueryMethod) queryMethod).isMultiValueQuery();
+
+		return multiValueQuery
+			? Flux.defer(() -> toFlux(getDelegate().execute(arguments))).subscribeOn(getScheduler())
+			: Mono.fromCallable(() -> getDelegate().execute(arguments)).subscribeOn(getScheduler());
+	}
+
+	@SuppressWarnings("unchecked")
+	private Flux<Object> toFlux(@Nullable Object result) {
+
+		return result instanceof Stream ? Flux.fromStream((Stream<Object>) result)
+			: result instanceof Iterable ? Flux.fromIterable((Iterable<Object>) result)
+			: result != null ? Flux.just(result)
+			: Flux.empty();
+	}
+}
@@ -18,21 +18,45 @@ package org.springframework.data.gemfire.repository.query;
 import static org.springframework.data.gemfire.util.RuntimeExceptionFactory.newIllegalStateException;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
+import org.apache.geode.cache.query.internal.ResultsCollectionWrapper;
+import org.apache.geode.cache.query.internal.types.ObjectTypeImpl;
 
 import org.springframework.dao.IncorrectResultSizeDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
 import org.springframework.data.gemfire.repository.Query;
 import org.springframework.data.gemfire.repository.query.support.OqlQueryExecutor;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
 import org.springframework.data.gemfire.repository.query.support.TemplateBasedOqlQueryExecutor;
+import org.springframework.data.gemfire.repository.query.support.UnsupportedQueryExecutionException;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.data.repository.Repository;
 import org.springframework.data.repository.query.Parameters;
@@ -42,6 +66,7 @@ import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 /**
  * {@link GemfireRepositoryQuery} using plain {@link String} based OQL queries.
@@ -64,10 +89,24 @@ import org.springframework.util.Assert;
 @SuppressWarnings("unused")
 public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
+	static final String QUERY_STREAM_FETCH_SIZE_PROPERTY = "spring.data.gemfire.query.stream.fetch-size";
+
+	static final int DEFAULT_QUERY_STREAM_FETCH_SIZE = 500;
+
 	private static final String INVALID_QUERY = "Modifying queries are not supported";
 
+	@SuppressWarnings("rawtypes")
+	static final QueryPostProcessor<Repository, String> PROVIDED_QUERY_POST_PROCESSORS =
+		ProvidedQueryPostProcessors.LIMIT
+			.processBefore(ProvidedQueryPostProcessors.IMPORT)
+			.processBefore(ProvidedQueryPostProcessors.HINT)
+			.processBefore(ProvidedQueryPostProcessors.TRACE);
+
 	private volatile boolean userDefinedQuery = false;
 
+	private volatile int streamFetchSize =
+		Integer.getInteger(QUERY_STREAM_FETCH_SIZE_PROPERTY, DEFAULT_QUERY_STREAM_FETCH_SIZE);
+
 	private final GemfireTemplate template;
 
 	private final OqlQueryExecutor nonPagedQueryExecutor;
@@ -75,6 +114,8 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 	private final QueryString query;
 
+	private final TwoPhasePagedOqlQueryExecutor keysQueryExecutor;
+
 	/**
 	 * Constructor used for testing purposes only!
 	 */
@@ -83,12 +124,10 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		this.query = null;
 		this.nonPagedQueryExecutor = (queryMethod, query, arguments) -> null;
 		this.pagedQueryExecutor = (queryMethod, query, arguments) -> null;
+		this.keysQueryExecutor = null;
 		this.template = null;
 
-		register(ProvidedQueryPostProcessors.LIMIT
-			.processBefore(ProvidedQueryPostProcessors.IMPORT)
-			.processBefore(ProvidedQueryPostProcessors.HINT)
-			.processBefore(ProvidedQueryPostProcessors.TRACE));
+		register(PROVIDED_QUERY_POST_PROCESSORS);
 	}
 
 	/**
@@ -123,10 +162,9 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 			.thenExecuteWith(new TwoPhasePagedOqlQueryExecutor(template)
 				.thenExecuteWith(new TemplateBasedOqlQueryExecutor(template)));
 
-		register(ProvidedQueryPostProcessors.LIMIT
-			.processBefore(ProvidedQueryPostProcessors.IMPORT)
-			.processBefore(ProvidedQueryPostProcessors.HINT)
-			.processBefore(ProvidedQueryPostProcessors.TRACE));
+		this.keysQueryExecutor = new TwoPhasePagedOqlQueryExecutor(template, 0L);
+
+		register(PROVIDED_QUERY_POST_PROCESSORS);
 	}
 
 	/**
@@ -152,6 +190,38 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		return this;
 	}
 
+	/**
+	 * Builder method used to set the number of results fetched in each window (i.e. OQL query or
+	 * {@link org.apache.geode.cache.Region#getAll(Collection)} operation) by a {@link Stream} query.
+	 *
+	 * Defaults to the value of the {@link #QUERY_STREAM_FETCH_SIZE_PROPERTY} {@link System#getProperties() System
+	 * property}, or {@literal 500}.
+	 *
+	 * @param streamFetchSize number of results fetched in each window; must be greater than {@literal 0}.
+	 * @return this {@link RepositoryQuery}.
+	 * @throws IllegalArgumentException if {@code streamFetchSize} is less than {@literal 1}.
+	 * @see #getStreamFetchSize()
+	 */
+	public @NonNull StringBasedGemfireRepositoryQuery withStreamFetchSize(int streamFetchSize) {
+
+		Assert.isTrue(streamFetchSize > 0,
+			() -> String.format("Stream fetch size [%d] must be greater than 0", streamFetchSize));
+
+		this.streamFetchSize = streamFetchSize;
+
+		return this;
+	}
+
+	/**
+	 * Returns the number of results fetched in each window by a {@link Stream} query.
+	 *
+	 * @return the number of results fetched in each window by a {@link Stream} query.
+	 * @see #withStreamFetchSize(int)
+	 */
+	public int getStreamFetchSize() {
+		return this.streamFetchSize;
+	}
+
 	/**
 	 * Determines whether the OQL query represented by this {@link RepositoryQuery} is derived from
 	 * the {@link Repository} infrastructure {@link QueryMethod} name/signature conventions.
@@ -238,12 +308,199 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 
 		String preparedQuery = prepareQuery(queryMethod, query, arguments);
 
+		return execute(preparedQuery, arguments);
+	}
+
+	/**
+	 * Executes the given, {@literal prepared} {@link String OQL query} and processes the query results.
+	 *
+	 * The {@link String OQL query} must be fully prepared, having a resolved {@literal FROM clause} along with
+	 * bound {@literal IN} parameters and all {@link QueryPostProcessor QueryPostProcessors} applied.
+	 *
+	 * @param preparedQuery {@literal prepared} {@link String OQL query} to execute.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return the OQL query results.
+	 * @see #prepareQuery(QueryMethod, QueryString, Object[])
+	 * @see #processQueryResults(QueryMethod, SelectResults, Object...)
+	 */
+	protected @Nullable Object execute(@NonNull String preparedQuery, @NonNull Object[] arguments) {
+
+		QueryMethod queryMethod = getQueryMethod();
+
+		if (queryMethod.isStreamQuery()) {
+			return executeStreamQuery(queryMethod, preparedQuery, arguments);
+		}
+
+		if (queryMethod.isSliceQuery()) {
+			return executeSliceQuery(queryMethod, preparedQuery, arguments);
+		}
+
 		SelectResults<?> selectResults =
 			resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
 
 		return processQueryResults(queryMethod, selectResults, arguments);
 	}
 
+	/**
+	 * Executes the given, {@literal prepared} {@link String OQL query} as a lazily consumed {@link Stream}.
+	 *
+	 * Results are fetched in windows of {@link #getStreamFetchSize()} results as the {@link Stream} is consumed.
+	 * Queries of the form {@literal SELECT [DISTINCT] * FROM /Region [alias] [WHERE ...]} on entities having
+	 * an identifier, either unordered or ordered only by the identifier, are executed with a key cursor, where
+	 * each window selects the next results ordered by identifier after the last identifier of the previous window.
+	 * Otherwise, if ordered by other properties, the ordered {@link org.apache.geode.cache.Region} keys are queried
+	 * first and the entities for each window of keys are then fetched with
+	 * {@link org.apache.geode.cache.Region#getAll(Collection)}. The keys are queried for every {@link Stream}
+	 * and are neither cached nor copied, so the {@link Stream} never returns stale results.
+	 * All other OQL queries are executed as is and the results streamed.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param preparedQuery {@literal prepared} {@link String OQL query} to execute.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return a {@link Stream} of the OQL query results.
+	 * @see #withStreamFetchSize(int)
+	 */
+	protected @NonNull Stream<Object> executeStreamQuery(@NonNull QueryMethod queryMethod,
+			@NonNull String preparedQuery, @NonNull Object[] arguments) {
+
+		Supplier<List<?>> windows = newStreamQueryWindows(queryMethod, preparedQuery, arguments);
+
+		if (windows == null) {
+
+			SelectResults<?> selectResults =
+				resolveOqlQueryExecutor(queryMethod).execute(queryMethod, preparedQuery, arguments);
+
+			return selectResults != null ? selectResults.stream().map(Object.class::cast) : Stream.empty();
+		}
+
+		Iterator<Object> results = new WindowedResultsIterator(windows);
+
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED), false);
+	}
+
+	private @Nullable Supplier<List<?>> newStreamQueryWindows(QueryMethod queryMethod, String preparedQuery,
+			Object[] arguments) {
+
+		TwoPhasePagedOqlQueryExecutor keysQueryExecutor = this.keysQueryExecutor;
+
+		String idProperty = keysQueryExecutor.resolveIdPropertyName(queryMethod);
+
+		Matcher matcher = TwoPhasePagedOqlQueryExecutor.PAGEABLE_QUERY_PATTERN.matcher(preparedQuery.trim());
+
+		if (!matcher.matches()) {
+			return null;
+		}
+
+		if (idProperty != null) {
+
+			String alias = matcher.group("alias");
+			String orderBy = matcher.group("orderBy");
+
+			String keyExpression = StringUtils.hasText(alias) ? alias.concat(".").concat(idProperty) : idProperty;
+
+			Boolean ascending = resolveKeyOrder(orderBy, keyExpression);
+
+			if (ascending != null && !StringUtils.hasText(matcher.group("limit"))) {
+				return new KeyCursorQueryWindows(getTemplate(), ((GemfireQueryMethod) queryMethod).getPersistentEntity(),
+					matcher, keyExpression, ascending, getStreamFetchSize(), arguments);
+			}
+		}
+
+		try {
+
+			SelectResults<?> keys =
+				keysQueryExecutor.queryKeys(keysQueryExecutor.toKeysQuery(queryMethod, preparedQuery), arguments);
+
+			return new KeysQueryWindows(keysQueryExecutor, keys.iterator(), getStreamFetchSize());
+		}
+		catch (UnsupportedQueryExecutionException ignore) {
+			return null;
+		}
+	}
+
+	private @Nullable Boolean resolveKeyOrder(@Nullable String orderBy, @NonNull String keyExpression) {
+
+		if (!StringUtils.hasText(orderBy)) {
+			return Boolean.TRUE;
+		}
+
+		String order = orderBy.trim();
+
+		if (order.contains(",")) {
+			return null;
+		}
+
+		Matcher directionMatcher = TwoPhasePagedOqlQueryExecutor.ORDER_DIRECTION_PATTERN.matcher(order);
+
+		boolean directionPresent = directionMatcher.find();
+
+		String orderProperty = directionPresent ? order.substring(0, directionMatcher.start()) : order;
+
+		return keyExpression.equals(orderProperty.trim())
+			? !directionPresent || "ASC".equalsIgnoreCase(directionMatcher.group(1))
+			: null;
+	}
+
+	/**
+	 * Executes the given, {@literal prepared} {@link String OQL query} as a {@link Slice} query.
+	 *
+	 * Unlike a {@link Page} query, a {@link Slice} query does not determine the total number of results.
+	 * The OQL query is limited to the results up to and including the requested {@link Slice},
+	 * plus a single result to determine whether a next {@link Slice} is available. Queries of the form
+	 * {@literal SELECT [DISTINCT] * FROM /Region ...} only query the {@link org.apache.geode.cache.Region} keys
+	 * up to the requested {@link Slice}, which are not cached, and then fetch the entities of the requested
+	 * {@link Slice} with {@link org.apache.geode.cache.Region#getAll(Collection)}.
+	 *
+	 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+	 * @param preparedQuery {@literal prepared} {@link String OQL query} to execute.
+	 * @param arguments array of {@link Object} values containing the arguments for the OQL query bind in parameters.
+	 * @return the requested {@link Slice}.
+	 */
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	protected @NonNull Slice<Object> executeSliceQuery(@NonNull QueryMethod queryMethod,
+			@NonNull String preparedQuery, @NonNull Object[] arguments) {
+
+		Pageable pageRequest = queryMethod.getParameters().hasPageableParameter()
+			? PagingUtils.getPageRequest(queryMethod, arguments)
+			: Pageable.unpaged();
+
+		if (pageRequest.isUnpaged()) {
+
+			SelectResults<?> selectResults =
+				getNonPagedQueryExecutor().execute(queryMethod, preparedQuery, arguments);
+
+			return new SliceImpl<>(new ArrayList<>(toCollection(selectResults)), pageRequest, false);
+		}
+
+		int endIndex = PagingUtils.getQueryResultSetEndIndexForPage(pageRequest);
+
+		QueryString query = QueryString.of(preparedQuery);
+
+		String lookAheadQuery = (!query.isLimited() ? query.withLimit(endIndex + 1)
+			: query.getLimit() > endIndex + 1 ? query.adjustLimit(endIndex + 1)
+			: query).toString();
+
+		TwoPhasePagedOqlQueryExecutor keysQueryExecutor = this.keysQueryExecutor;
+
+		List<Object> results;
+		List<Object> content;
+
+		try {
+
+			String keysQuery = keysQueryExecutor.toKeysQuery(queryMethod, lookAheadQuery);
+
+			results = keysQueryExecutor.toKeys(keysQueryExecutor.queryKeys(keysQuery, arguments));
+			content = keysQueryExecutor.fetchValues(PagingUtils.getPagedList(results, pageRequest)).asList();
+		}
+		catch (UnsupportedQueryExecutionException ignore) {
+
+			results = new ArrayList<>(toCollection(getTemplate().find(lookAheadQuery, arguments)));
+			content = PagingUtils.getPagedList(results, pageRequest);
+		}
+
+		return new SliceImpl<>(new ArrayList<>(content), pageRequest, results.size() > endIndex);
+	}
+
 	/**
 	 * Prepares the OQL query statement to execute.
 	 *
@@ -463,28 +720,419 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 	 *
 	 * The first phase executes a {@literal keys query} (or OQL query for keys) satisfying the user's defined
 	 * OQL query predicate(s) specified in the {@literal WHERE} clause, {@link Sort sorted} according to
-	 * the user-defined {@literal ORDER BY} clause.
+	 * the user-defined {@literal ORDER BY} clause. The {@literal keys query} iterates the {@literal entrySet}
+	 * of the {@link org.apache.geode.cache.Region} and projects the {@link org.apache.geode.cache.Region} key
+	 * of each entry rather than the entire entity. The ordered list of keys is cached for the given OQL query and arguments for a
+	 * configurable duration (see {@link #PAGED_QUERY_KEYS_TTL_PROPERTY}).
 	 *
 	 * The returned keys are then filtered by the {@link Pageable requested page}.
 	 *
-	 * Then, in the second (and final) phase, the keys returned by the {@literal keys query} are used as a predicate
-	 * in the user's original OQL query statement to limit the results returned to exactly those keys satisfying
-	 * the {@link Pageable requested page}.
+	 * Then, in the second (and final) phase, the values for the keys of the {@link Pageable requested page}
+	 * are fetched in a single {@link org.apache.geode.cache.Region#getAll(java.util.Collection)} operation.
+	 * Therefore, the cost of transferring values is proportional to the page size, regardless of the page number.
+	 *
+	 * Only OQL queries of the form {@literal SELECT [DISTINCT] * FROM /Region [alias] [WHERE ...] [ORDER BY ...]
+	 * [LIMIT n]}, optionally prefixed with {@literal IMPORT}, {@literal HINT} and {@literal TRACE}, where the
+	 * {@literal ORDER BY} clause is a simple list of properties, can be executed by this {@link OqlQueryExecutor}.
+	 * All other OQL queries are handled by the next {@link OqlQueryExecutor} in the chain.
 	 *
 	 * @see SimplePagedOqlQueryExecutor
 	 */
 	static class TwoPhasePagedOqlQueryExecutor extends SimplePagedOqlQueryExecutor {
 
+		static final String PAGED_QUERY_KEYS_TTL_PROPERTY = "spring.data.gemfire.query.paging.keys.ttl";
+
+		static final int PAGED_QUERY_KEYS_CACHE_SIZE = 256;
+
+		static final long DEFAULT_PAGED_QUERY_KEYS_TTL_IN_MILLISECONDS = 30000L;
+
+		static final Pattern PAGEABLE_QUERY_PATTERN = Pattern.compile(
+			"^(?<prefix>(<TRACE> )?(<HINT [^>]+> )?(IMPORT [^;]+; )?)"
+				+ "SELECT (?<distinct>DISTINCT )?\\* FROM (?<from>/\\S+)"
+				+ "(?: (?!WHERE\\b|ORDER\\b|LIMIT\\b)(?<alias>\\w+))?"
+				+ "(?<where> WHERE .+?)?(?: ORDER BY (?<orderBy>.+?))?(?<limit> LIMIT \\d+)?$",
+			Pattern.DOTALL);
+
+		static final Pattern ORDER_DIRECTION_PATTERN =
+			Pattern.compile("\\s+(ASC|DESC)$", Pattern.CASE_INSENSITIVE);
+
+		static final Pattern ORDER_ITEM_PATTERN =
+			Pattern.compile("^(?<property>[A-Za-z_]\\w*(?:\\.[A-Za-z_]\\w*)*)(?:\\s+(?<direction>ASC|DESC))?$",
+				Pattern.CASE_INSENSITIVE);
+
+		static final String KEYS_QUERY_ENTRY_ALIAS = "entry";
+
+		static final Set<String> KEYS_QUERY_KEYWORDS = Set.of("WHERE", "AND", "OR", "NOT", "IN", "SET", "LIST",
+			"LIKE", "NULL", "UNDEFINED", "TRUE", "FALSE", "DISTINCT", "DATE", "TIME", "TIMESTAMP", "CHAR", "MOD");
+
+		static final Set<String> KEYS_QUERY_UNSUPPORTED_KEYWORDS = Set.of("SELECT", "FROM", "EXISTS");
+
+		private final long keysTimeToLive;
+
+		private final Map<PagedQueryKey, PagedQueryKeys> keysCache =
+			new LinkedHashMap<PagedQueryKey, PagedQueryKeys>(16, 0.75f, true) {
+
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<PagedQueryKey, PagedQueryKeys> eldest) {
+					return size() > PAGED_QUERY_KEYS_CACHE_SIZE;
+				}
+			};
+
 		/**
 		 * Constructs a new instance of {@link TwoPhasePagedOqlQueryExecutor} initialized with the given, required
 		 * {@link GemfireTemplate}.
 		 *
+		 * The time-to-live (TTL) of the cached keys is determined by the {@link #PAGED_QUERY_KEYS_TTL_PROPERTY}
+		 * {@link System#getProperties() System property} in milliseconds.
+		 *
 		 * @param template {@link GemfireTemplate} used to execute Apache Geode OQL queries; must not be {@literal null}.
 		 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
 		 * @see org.springframework.data.gemfire.GemfireTemplate
 		 */
 		TwoPhasePagedOqlQueryExecutor(@NonNull GemfireTemplate template) {
+			this(template, Long.getLong(PAGED_QUERY_KEYS_TTL_PROPERTY, DEFAULT_PAGED_QUERY_KEYS_TTL_IN_MILLISECONDS));
+		}
+
+		/**
+		 * Constructs a new instance of {@link TwoPhasePagedOqlQueryExecutor} initialized with the given, required
+		 * {@link GemfireTemplate} and time-to-live (TTL) for the cached keys.
+		 *
+		 * @param template {@link GemfireTemplate} used to execute Apache Geode OQL queries; must not be {@literal null}.
+		 * @param keysTimeToLive {@link Long} time-to-live in milliseconds for the cached keys of an OQL query;
+		 * a value less than equal to {@literal 0} disables caching.
+		 * @throws IllegalArgumentException if {@link GemfireTemplate} is {@literal null}.
+		 * @see org.springframework.data.gemfire.GemfireTemplate
+		 */
+		TwoPhasePagedOqlQueryExecutor(@NonNull GemfireTemplate template, long keysTimeToLive) {
 			super(template);
+			this.keysTimeToLive = keysTimeToLive;
+		}
+
+		/**
+		 * @inheritDoc
+		 */
+		@Override
+		@SuppressWarnings("rawtypes")
+		protected SelectResults doExecute(@NonNull Pageable pageRequest, @NonNull QueryMethod queryMethod,
+				@NonNull String query, @NonNull Object... arguments) {
+
+			String keysQuery = toKeysQuery(queryMethod, query);
+
+			List<Object> keys = resolveKeys(queryMethod, keysQuery, arguments);
+
+			List<Object> pagedKeys = PagingUtils.getPagedList(keys, pageRequest);
+
+			return processPagedQueryResults(fetchValues(pagedKeys), pageRequest);
+		}
+
+		/**
+		 * Converts the given {@link String OQL query} into an OQL query selecting only the
+		 * {@link org.apache.geode.cache.Region} keys of the entries whose values satisfy the OQL query predicates,
+		 * in order.
+		 *
+		 * The {@link String keys query} iterates the {@literal entrySet} of the {@link org.apache.geode.cache.Region}
+		 * and qualifies all references to the value in the {@literal WHERE} and {@literal ORDER BY} clauses with
+		 * the {@literal value} of the entry. Therefore, the keys returned by the {@link String keys query} can
+		 * always be passed to {@link org.apache.geode.cache.Region#getAll(java.util.Collection)}, even when the
+		 * entity identifier is not the {@link org.apache.geode.cache.Region} key.
+		 *
+		 * @param queryMethod {@link QueryMethod} modeling the {@link String OQL query}.
+		 * @param query {@link String} containing the OQL query statement to convert.
+		 * @return the {@link String keys query}.
+		 * @throws UnsupportedQueryExecutionException if the {@link String OQL query} cannot be converted, for example
+		 * when the {@literal ORDER BY} clause is not a simple list of properties.
+		 */
+		@NonNull String toKeysQuery(@NonNull QueryMethod queryMethod, @NonNull String query) {
+
+			Matcher matcher = PAGEABLE_QUERY_PATTERN.matcher(query.trim());
+
+			if (!matcher.matches() || matcher.group("from").contains(".")) {
+				throw newUnsupportedQueryExecutionException(query);
+			}
+
+			String alias = matcher.group("alias");
+			String where = matcher.group("where");
+			String orderBy = matcher.group("orderBy");
+
+			Set<String> projection = new LinkedHashSet<>();
+			List<String> orders = new ArrayList<>();
+
+			projection.add(KEYS_QUERY_ENTRY_ALIAS.concat(".key"));
+
+			if (StringUtils.hasText(orderBy)) {
+				for (String order : splitOrderBy(query, orderBy)) {
+
+					Matcher orderMatcher = ORDER_ITEM_PATTERN.matcher(order);
+
+					if (!orderMatcher.matches()) {
+						throw newUnsupportedQueryExecutionException(query);
+					}
+
+					String orderProperty = qualifyExpression(query, orderMatcher.group("property"), alias);
+					String direction = orderMatcher.group("direction");
+
+					projection.add(orderProperty);
+					orders.add(StringUtils.hasText(direction) ? orderProperty.concat(" ").concat(direction)
+						: orderProperty);
+				}
+			}
+
+			boolean distinct = StringUtils.hasText(matcher.group("distinct")) || StringUtils.hasText(orderBy);
+
+			StringBuilder keysQuery = new StringBuilder(matcher.group("prefix"))
+				.append("SELECT ")
+				.append(distinct ? "DISTINCT " : "")
+				.append(StringUtils.collectionToDelimitedString(projection, ", "))
+				.append(" FROM ").append(matcher.group("from")).append(".entrySet ").append(KEYS_QUERY_ENTRY_ALIAS)
+				.append(StringUtils.hasText(where) ? qualifyExpression(query, where, alias) : "")
+				.append(!orders.isEmpty() ? " ORDER BY ".concat(StringUtils.collectionToDelimitedString(orders, ", ")) : "")
+				.append(StringUtils.hasText(matcher.group("limit")) ? matcher.group("limit") : "");
+
+			return keysQuery.toString();
+		}
+
+		/**
+		 * Splits the {@literal ORDER BY} clause on the top-level commas, ignoring commas inside parentheses
+		 * (e.g. function arguments) and {@link String} literals.
+		 */
+		private List<String> splitOrderBy(String query, String orderBy) {
+
+			List<String> orders = new ArrayList<>();
+
+			int depth = 0;
+			int start = 0;
+
+			boolean literal = false;
+
+			for (int index = 0; index < orderBy.length(); index++) {
+
+				char character = orderBy.charAt(index);
+
+				if (character == '\'') {
+					literal = !literal;
+				}
+				else if (!literal && character == '(') {
+					depth++;
+				}
+				else if (!literal && character == ')') {
+					depth--;
+				}
+				else if (!literal && depth == 0 && character == ',') {
+					orders.add(orderBy.substring(start, index).trim());
+					start = index + 1;
+				}
+			}
+
+			if (literal || depth != 0) {
+				throw newUnsupportedQueryExecutionException(query);
+			}
+
+			orders.add(orderBy.substring(start).trim());
+
+			return orders;
+		}
+
+		/**
+		 * Qualifies all references to the value (i.e. the {@literal alias} or the implicit iterator)
+		 * in the given OQL expression with the {@literal value} of the {@link #KEYS_QUERY_ENTRY_ALIAS entry}.
+		 *
+		 * {@link String} literals, bind parameters, numbers, function names, path continuations and OQL keywords
+		 * are copied as is. Expressions containing nested queries are not supported.
+		 */
+		private String qualifyExpression(String query, String expression, @Nullable String alias) {
+
+			String entryValue = KEYS_QUERY_ENTRY_ALIAS.concat(".value");
+
+			StringBuilder qualifiedExpression = new StringBuilder(expression.length() + 32);
+
+			int length = expression.length();
+			int index = 0;
+
+			while (index < length) {
+
+				char character = expression.charAt(index);
+
+				if (character == '\'') {
+
+					int end = expression.indexOf('\'', index + 1);
+
+					if (end < 0) {
+						throw newUnsupportedQueryExecutionException(query);
+					}
+
+					qualifiedExpression.append(expression, index, end + 1);
+					index = end + 1;
+				}
+				else if (character == '$' || Character.isDigit(character)) {
+
+					int end = index + 1;
+
+					while (end < length && (Character.isLetterOrDigit(expression.charAt(end))
+						|| expression.charAt(end) == '.')) {
+
+						end++;
+					}
+
+					qualifiedExpression.append(expression, index, end);
+					index = end;
+				}
+				else if (Character.isJavaIdentifierStart(character)) {
+
+					int end = index + 1;
+
+					while (end < length && Character.isJavaIdentifierPart(expression.charAt(end))) {
+						end++;
+					}
+
+					String identifier = expression.substring(index, end);
+
+					char previous = previousNonWhitespace(expression, index);
+					char next = nextNonWhitespace(expression, end);
+
+					if (previous == '/' || KEYS_QUERY_UNSUPPORTED_KEYWORDS.contains(identifier.toUpperCase())) {
+						throw newUnsupportedQueryExecutionException(query);
+					}
+					else if (previous == '.' || next == '('
+						|| KEYS_QUERY_KEYWORDS.contains(identifier.toUpperCase())) {
+
+						qualifiedExpression.append(identifier);
+					}
+					else if (identifier.equals(alias)) {
+						qualifiedExpression.append(entryValue);
+					}
+					else {
+						qualifiedExpression.append(entryValue).append('.').append(identifier);
+					}
+
+					index = end;
+				}
+				else {
+					qualifiedExpression.append(character);
+					index++;
+				}
+			}
+
+			return qualifiedExpression.toString();
+		}
+
+		private char previousNonWhitespace(String expression, int index) {
+
+			while (--index >= 0) {
+				if (!Character.isWhitespace(expression.charAt(index))) {
+					return expression.charAt(index);
+				}
+			}
+
+			return ' ';
+		}
+
+		private char nextNonWhitespace(String expression, int index) {
+
+			for (; index < expression.length(); index++) {
+				if (!Character.isWhitespace(expression.charAt(index))) {
+					return expression.charAt(index);
+				}
+			}
+
+			return ' ';
+		}
+
+		@Nullable String resolveIdPropertyName(@NonNull QueryMethod queryMethod) {
+
+			return queryMethod instanceof GemfireQueryMethod
+				? Optional.ofNullable(((GemfireQueryMethod) queryMethod).getPersistentEntity().getIdProperty())
+					.map(GemfirePersistentProperty::getName)
+					.orElse(null)
+				: null;
+		}
+
+		/**
+		 * Resolves the ordered {@link List} of keys returned by the {@link String keys query}, either from cache
+		 * or by executing the {@link String keys query}.
+		 *
+		 * @param queryMethod {@link QueryMethod} modeling the OQL query.
+		 * @param keysQuery {@link String} containing the OQL query selecting keys.
+		 * @param arguments array of {@link Object arguments} passed to the placeholders in the OQL query.
+		 * @return the ordered {@link List} of keys.
+		 */
+		@SuppressWarnings("rawtypes")
+		@NonNull List<Object> resolveKeys(@NonNull QueryMethod queryMethod, @NonNull String keysQuery,
+				@NonNull Object... arguments) {
+
+			PagedQueryKey cacheKey = new PagedQueryKey(keysQuery, arguments);
+
+			long now = System.currentTimeMillis();
+
+			if (this.keysTimeToLive > 0) {
+				synchronized (this.keysCache) {
+
+					PagedQueryKeys cachedKeys = this.keysCache.get(cacheKey);
+
+					if (cachedKeys != null && cachedKeys.expiresAt > now) {
+						return cachedKeys.keys;
+					}
+				}
+			}
+
+			List<Object> keys = Collections.unmodifiableList(toKeys(queryKeys(keysQuery, arguments)));
+
+			if (this.keysTimeToLive > 0) {
+				synchronized (this.keysCache) {
+					this.keysCache.put(cacheKey, new PagedQueryKeys(keys, now + this.keysTimeToLive));
+				}
+			}
+
+			return keys;
+		}
+
+		/**
+		 * Executes the {@link String keys query} without caching the resulting keys.
+		 *
+		 * @param keysQuery {@link String} containing the OQL query selecting keys.
+		 * @param arguments array of {@link Object arguments} passed to the placeholders in the OQL query.
+		 * @return the {@link SelectResults} of the {@link String keys query}.
+		 * @see #toKey(Object)
+		 */
+		@NonNull SelectResults<?> queryKeys(@NonNull String keysQuery, @NonNull Object... arguments) {
+			return getTemplate().find(keysQuery, arguments);
+		}
+
+		@NonNull List<Object> toKeys(@NonNull SelectResults<?> keysQueryResults) {
+
+			List<Object> keys = new ArrayList<>(keysQueryResults.size());
+
+			for (Object result : keysQueryResults) {
+				keys.add(toKey(result));
+			}
+
+			return keys;
+		}
+
+		@Nullable Object toKey(@Nullable Object keysQueryResult) {
+			return keysQueryResult instanceof Struct ? ((Struct) keysQueryResult).getFieldValues()[0] : keysQueryResult;
+		}
+
+		@SuppressWarnings({ "rawtypes", "unchecked" })
+		SelectResults fetchValues(List<Object> keys) {
+
+			List<Object> values = new ArrayList<>(keys.size());
+
+			if (!keys.isEmpty()) {
+
+				Map<Object, Object> keyValues = getTemplate().getAll(keys);
+
+				for (Object key : keys) {
+
+					Object value = keyValues.get(key);
+
+					// value is null if the entry was destroyed after the keys were cached
+					if (value != null) {
+						values.add(value);
+					}
+				}
+			}
+
+			return new ResultsCollectionWrapper(new ObjectTypeImpl(Object.class), values);
 		}
 
 		/**
@@ -503,8 +1151,237 @@ public class StringBasedGemfireRepositoryQuery extends GemfireRepositoryQuery {
 		@Override
 		@SuppressWarnings("rawtypes")
 		protected SelectResults processPagedQueryResults(SelectResults selectResults, Pageable pageRequest) {
-			//return selectResults;
-			return super.processPagedQueryResults(selectResults, pageRequest);
+			return selectResults;
+		}
+
+		/**
+		 * Key identifying the cached keys by OQL query and arguments, excluding the {@link Pageable} argument.
+		 */
+		static final class PagedQueryKey {
+
+			private final String query;
+
+			private final Object[] arguments;
+
+			PagedQueryKey(String query, Object[] arguments) {
+
+				this.query = query;
+				this.arguments = Arrays.stream(arguments)
+					.filter(argument -> !(argument instanceof Pageable))
+					.toArray();
+			}
+
+			@Override
+			public boolean equals(Object obj) {
+
+				if (this == obj) {
+					return true;
+				}
+
+				if (!(obj instanceof PagedQueryKey)) {
+					return false;
+				}
+
+				PagedQueryKey that = (PagedQueryKey) obj;
+
+				return this.query.equals(that.query)
+					&& Arrays.deepEquals(this.arguments, that.arguments);
+			}
+
+			@Override
+			public int hashCode() {
+				return 31 * this.query.hashCode() + Arrays.deepHashCode(this.arguments);
+			}
+		}
+
+		static final class PagedQueryKeys {
+
+			private final List<Object> keys;
+
+			private final long expiresAt;
+
+			PagedQueryKeys(List<Object> keys, long expiresAt) {
+				this.keys = keys;
+				this.expiresAt = expiresAt;
+			}
+		}
+	}
+
+	/**
+	 * {@link Iterator} over the results of a {@link Stream} query, fetching the next window of results
+	 * only once all results of the current window have been consumed.
+	 */
+	static final class WindowedResultsIterator implements Iterator<Object> {
+
+		private boolean exhausted;
+
+		private Iterator<?> window = Collections.emptyIterator();
+
+		private final Supplier<List<?>> windows;
+
+		WindowedResultsIterator(@NonNull Supplier<List<?>> windows) {
+			this.windows = windows;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while (!this.window.hasNext() && !this.exhausted) {
+
+				List<?> nextWindow = this.windows.get();
+
+				if (nextWindow != null) {
+					this.window = nextWindow.iterator();
+				}
+				else {
+					this.exhausted = true;
+				}
+			}
+
+			return this.window.hasNext();
+		}
+
+		@Override
+		public Object next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more query results");
+			}
+
+			return this.window.next();
+		}
+	}
+
+	/**
+	 * Supplies windows of entities by executing the OQL query ordered by, and resuming after, the entity identifier
+	 * of the last entity in the previous window (i.e. {@literal keyset} paging).
+	 */
+	static final class KeyCursorQueryWindows implements Supplier<List<?>> {
+
+		private boolean exhausted;
+
+		private final int fetchSize;
+
+		private Object cursor;
+
+		private final Object[] arguments;
+		private final Object[] cursorArguments;
+
+		private final GemfirePersistentEntity<?> entity;
+
+		private final GemfireTemplate template;
+
+		private final String firstWindowQuery;
+		private final String nextWindowQuery;
+
+		KeyCursorQueryWindows(@NonNull GemfireTemplate template, @NonNull GemfirePersistentEntity<?> entity,
+				@NonNull Matcher query, @NonNull String keyExpression, boolean ascending, int fetchSize,
+				@NonNull Object[] arguments) {
+
+			this.template = template;
+			this.entity = entity;
+			this.fetchSize = fetchSize;
+			this.arguments = arguments;
+			this.cursorArguments = Arrays.copyOf(arguments, arguments.length + 1);
+
+			String where = query.group("where");
+			String condition = StringUtils.hasText(where) ? where.trim().substring("WHERE".length()).trim() : null;
+			String alias = query.group("alias");
+
+			String select = query.group("prefix")
+				.concat("SELECT DISTINCT * FROM ").concat(query.group("from"))
+				.concat(StringUtils.hasText(alias) ? " ".concat(alias) : "");
+
+			String orderByLimit = String.format(" ORDER BY %1$s %2$s LIMIT %3$d",
+				keyExpression, ascending ? "ASC" : "DESC", fetchSize);
+
+			String cursorCondition = String.format("%1$s %2$s $%3$d",
+				keyExpression, ascending ? ">" : "<", this.cursorArguments.length);
+
+			this.firstWindowQuery = select
+				.concat(condition != null ? " WHERE ".concat(condition) : "")
+				.concat(orderByLimit);
+
+			this.nextWindowQuery = select
+				.concat(" WHERE ")
+				.concat(condition != null ? String.format("(%1$s) AND %2$s", condition, cursorCondition) : cursorCondition)
+				.concat(orderByLimit);
+		}
+
+		String getFirstWindowQuery() {
+			return this.firstWindowQuery;
+		}
+
+		String getNextWindowQuery() {
+			return this.nextWindowQuery;
+		}
+
+		@Override
+		public @Nullable List<?> get() {
+
+			if (this.exhausted) {
+				return null;
+			}
+
+			SelectResults<?> selectResults;
+
+			if (this.cursor == null) {
+				selectResults = this.template.find(this.firstWindowQuery, this.arguments);
+			}
+			else {
+				this.cursorArguments[this.cursorArguments.length - 1] = this.cursor;
+				selectResults = this.template.find(this.nextWindowQuery, this.cursorArguments);
+			}
+
+			List<?> window = selectResults != null
+				? CollectionUtils.nullSafeList(selectResults.asList())
+				: Collections.emptyList();
+
+			this.exhausted = window.size() < this.fetchSize;
+
+			if (!window.isEmpty()) {
+				this.cursor = this.entity.getIdentifierAccessor(window.get(window.size() - 1)).getIdentifier();
+				this.exhausted |= this.cursor == null;
+			}
+
+			return window;
+		}
+	}
+
+	/**
+	 * Supplies windows of entities by fetching the entities for consecutive windows of the ordered
+	 * {@link org.apache.geode.cache.Region} keys returned by a {@literal keys query}.
+	 */
+	static final class KeysQueryWindows implements Supplier<List<?>> {
+
+		private final int fetchSize;
+
+		private final Iterator<?> keysQueryResults;
+
+		private final TwoPhasePagedOqlQueryExecutor keysQueryExecutor;
+
+		KeysQueryWindows(@NonNull TwoPhasePagedOqlQueryExecutor keysQueryExecutor,
+				@NonNull Iterator<?> keysQueryResults, int fetchSize) {
+
+			this.keysQueryExecutor = keysQueryExecutor;
+			this.keysQueryResults = keysQueryResults;
+			this.fetchSize = fetchSize;
+		}
+
+		@Override
+		public @Nullable List<?> get() {
+
+			if (!this.keysQueryResults.hasNext()) {
+				return null;
+			}
+
+			List<Object> windowKeys = new ArrayList<>(this.fetchSize);
+
+			while (windowKeys.size() < this.fetchSize && this.keysQueryResults.hasNext()) {
+				windowKeys.add(this.keysQueryExecutor.toKey(this.keysQueryResults.next()));
+			}
+
+			return this.keysQueryExecutor.fetchValues(windowKeys).asList();
 		}
 	}
 
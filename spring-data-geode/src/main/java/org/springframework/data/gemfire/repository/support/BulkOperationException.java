@@ -0,0 +1,131 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.lang.NonNull;
+
+/**
+ * {@link DataAccessException} thrown when one or more batches of a bulk {@link Region} data access operation,
+ * such as {@link SimpleGemfireRepository#saveAll(Iterable)} or {@link SimpleGemfireRepository#deleteAllById(Iterable)},
+ * failed.
+ *
+ * All batches are attempted. Batches not reported as a {@link BatchFailure} were applied successfully.
+ *
+ * @author agent
+ * @see org.springframework.dao.DataAccessException
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 3.0.0
+ */
+@SuppressWarnings("serial")
+public class BulkOperationException extends DataAccessException {
+
+	private final int batchCount;
+
+	private final List<BatchFailure> failures;
+
+	/**
+	 * Constructs a new instance of {@link BulkOperationException} initialized with the given {@link String message},
+	 * total number of batches and {@link List} of {@link BatchFailure failed batches}.
+	 *
+	 * @param message {@link String} describing the failed bulk operation.
+	 * @param batchCount total number of batches in the bulk operation.
+	 * @param failures {@link List} of {@link BatchFailure failed batches}; must not be {@literal null} or empty.
+	 */
+	public BulkOperationException(String message, int batchCount, @NonNull List<BatchFailure> failures) {
+
+		super(message, failures.isEmpty() ? null : failures.get(0).getCause());
+
+		this.batchCount = batchCount;
+		this.failures = Collections.unmodifiableList(failures);
+	}
+
+	/**
+	 * Returns the total number of batches in the bulk operation.
+	 *
+	 * @return the total number of batches in the bulk operation.
+	 */
+	public int getBatchCount() {
+		return this.batchCount;
+	}
+
+	/**
+	 * Returns the {@link List} of {@link BatchFailure failed batches} ordered by {@link BatchFailure#getBatchIndex()}.
+	 *
+	 * @return the {@link List} of {@link BatchFailure failed batches}.
+	 */
+	public @NonNull List<BatchFailure> getFailures() {
+		return this.failures;
+	}
+
+	/**
+	 * Describes a single failed batch of a bulk {@link Region} data access operation.
+	 */
+	public static class BatchFailure {
+
+		private final int batchIndex;
+
+		private final Collection<?> keys;
+
+		private final Throwable cause;
+
+		BatchFailure(int batchIndex, @NonNull Collection<?> keys, @NonNull Throwable cause) {
+
+			this.batchIndex = batchIndex;
+			this.keys = keys;
+			this.cause = cause;
+		}
+
+		/**
+		 * Returns the {@literal 0-based} index of the failed batch in the bulk operation.
+		 *
+		 * @return the index of the failed batch.
+		 */
+		public int getBatchIndex() {
+			return this.batchIndex;
+		}
+
+		/**
+		 * Returns the {@link Collection} of {@link Region} keys in the failed batch, which can be used
+		 * to retry the batch.
+		 *
+		 * @return the {@link Collection} of {@link Region} keys in the failed batch.
+		 */
+		public @NonNull Collection<?> getKeys() {
+			return this.keys;
+		}
+
+		/**
+		 * Returns the {@link Throwable cause} of the batch failure.
+		 *
+		 * @return the {@link Throwable cause} of the batch failure.
+		 */
+		public @NonNull Throwable getCause() {
+			return this.cause;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Batch [%d] of [%d] keys failed: %s", getBatchIndex(), getKeys().size(), getCause());
+		}
+	}
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.gemfire.repository.support.BulkOperationException.BatchFailure;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Splits bulk {@link Region} data access operations into batches of a configured size and applies the batches,
+ * either sequentially on the calling {@link Thread} or concurrently using an {@link Executor}.
+ *
+ * Batches are created lazily from the source {@link Iterator} so that, at most, {@literal concurrency + 1} batches
+ * are held in memory at any given time. All batches are attempted; failed batches are reported together
+ * in a {@link BulkOperationException}.
+ *
+ * Values with the same key are only de-duplicated within a single batch, where the last value wins. When batches
+ * are applied concurrently, values with the same key in different batches are applied in no particular order.
+ *
+ * @author agent
+ * @see java.util.concurrent.Executor
+ * @see org.springframework.data.gemfire.repository.support.BulkOperationException
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @since 3.0.0
+ */
+final class BulkOperationPipeline {
+
+	private final int batchSize;
+	private final int concurrency;
+
+	private final Executor executor;
+
+	BulkOperationPipeline(int batchSize, int concurrency, @Nullable Executor executor) {
+
+		Assert.isTrue(batchSize > 0, () -> String.format("Batch size [%d] must be greater than 0", batchSize));
+		Assert.isTrue(concurrency > 0, () -> String.format("Concurrency [%d] must be greater than 0", concurrency));
+
+		this.batchSize = batchSize;
+		this.concurrency = executor != null ? concurrency : 1;
+		this.executor = executor;
+	}
+
+	int getBatchSize() {
+		return this.batchSize;
+	}
+
+	int getConcurrency() {
+		return this.concurrency;
+	}
+
+	boolean isConcurrent() {
+		return getConcurrency() > 1;
+	}
+
+	/**
+	 * Groups the given {@link Iterator values} into {@link Map batches} keyed by the resolved key.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param <V> {@link Class type} of the value.
+	 * @param values {@link Iterator} over the values to batch; {@literal null} values are ignored.
+	 * @param keyResolver {@link Function} used to resolve the key of a value.
+	 * @return an {@link Iterator} over the {@link Map batches}.
+	 */
+	<K, V> Iterator<Map<K, V>> mapBatches(@NonNull Iterator<? extends V> values,
+			@NonNull Function<? super V, ? extends K> keyResolver) {
+
+		return new BatchIterator<V, Map<K, V>>(values) {
+
+			@Override
+			Map<K, V> newBatch() {
+				return new LinkedHashMap<>(getBatchSize() * 4 / 3 + 1);
+			}
+
+			@Override
+			int add(Map<K, V> batch, V value) {
+				batch.put(keyResolver.apply(value), value);
+				return batch.size();
+			}
+		};
+	}
+
+	/**
+	 * Groups the given {@link Iterator keys} into {@link Set batches}.
+	 *
+	 * @param <K> {@link Class type} of the key.
+	 * @param keys {@link Iterator} over the keys to batch; {@literal null} keys are ignored.
+	 * @return an {@link Iterator} over the {@link Set batches}.
+	 */
+	<K> Iterator<Set<K>> setBatches(@NonNull Iterator<? extends K> keys) {
+
+		return new BatchIterator<K, Set<K>>(keys) {
+
+			@Override
+			Set<K> newBatch() {
+				return new LinkedHashSet<>(getBatchSize() * 4 / 3 + 1);
+			}
+
+			@Override
+			int add(Set<K> batch, K key) {
+				batch.add(key);
+				return batch.size();
+			}
+		};
+	}
+
+	/**
+	 * Applies the given {@link Consumer operation} to each batch.
+	 *
+	 * @param <B> {@link Class type} of the batch.
+	 * @param operation {@link String} describing the operation; used in the exception message.
+	 * @param batches {@link Iterator} over the batches.
+	 * @param batchKeys {@link Function} resolving the keys of a batch, which are reported for failed batches.
+	 * @param batchOperation {@link Consumer} applying the operation to a single batch.
+	 * @throws BulkOperationException if any batch failed.
+	 * @throws RuntimeException if the {@link Iterator} failed to create a batch, after all batches
+	 * already in progress completed; a {@link BulkOperationException} reporting any failed batches
+	 * is added as a {@link Throwable#getSuppressed() suppressed} exception.
+	 */
+	<B> void execute(@NonNull String operation, @NonNull Iterator<B> batches,
+			@NonNull Function<B, Collection<?>> batchKeys, @NonNull Consumer<B> batchOperation) {
+
+		List<BatchFailure> failures = Collections.synchronizedList(new ArrayList<>());
+
+		Semaphore permits = isConcurrent() ? new Semaphore(getConcurrency()) : null;
+
+		int batchCount = 0;
+
+		try {
+			while (batches.hasNext()) {
+
+				// Create the batch before acquiring a permit so a failure to create the batch never leaks a permit
+				B batch = batches.next();
+
+				int batchIndex = batchCount++;
+
+				if (permits != null) {
+					executeBatchConcurrently(batchIndex, batch, batchKeys, batchOperation, failures, permits);
+				}
+				else {
+					executeBatch(batchIndex, batch, batchKeys, batchOperation, failures);
+				}
+			}
+		}
+		catch (RuntimeException cause) {
+
+			awaitBatches(permits);
+
+			if (!failures.isEmpty()) {
+				cause.addSuppressed(newBulkOperationException(operation, batchCount, failures));
+			}
+
+			throw cause;
+		}
+
+		awaitBatches(permits);
+
+		if (!failures.isEmpty()) {
+			throw newBulkOperationException(operation, batchCount, failures);
+		}
+	}
+
+	private void awaitBatches(@Nullable Semaphore permits) {
+
+		if (permits != null) {
+			permits.acquireUninterruptibly(getConcurrency());
+		}
+	}
+
+	private <B> void executeBatchConcurrently(int batchIndex, B batch, Function<B, Collection<?>> batchKeys,
+			Consumer<B> batchOperation, List<BatchFailure> failures, Semaphore permits) {
+
+		permits.acquireUninterruptibly();
+
+		try {
+			this.executor.execute(() -> {
+				try {
+					executeBatch(batchIndex, batch, batchKeys, batchOperation, failures);
+				}
+				finally {
+					permits.release();
+				}
+			});
+		}
+		catch (RejectedExecutionException cause) {
+			permits.release();
+			failures.add(new BatchFailure(batchIndex, batchKeys.apply(batch), cause));
+		}
+	}
+
+	private <B> void executeBatch(int batchIndex, B batch, Function<B, Collection<?>> batchKeys,
+			Consumer<B> batchOperation, List<BatchFailure> failures) {
+
+		try {
+			batchOperation.accept(batch);
+		}
+		catch (RuntimeException cause) {
+			failures.add(new BatchFailure(batchIndex, batchKeys.apply(batch), cause));
+		}
+	}
+
+	private BulkOperationException newBulkOperationException(String operation, int batchCount,
+			List<BatchFailure> failures) {
+
+		List<BatchFailure> orderedFailures = new ArrayList<>(failures);
+
+		orderedFailures.sort(Comparator.comparingInt(BatchFailure::getBatchIndex));
+
+		return new BulkOperationException(String.format("Failed to %1$s [%2$d] of [%3$d] batches",
+			operation, orderedFailures.size(), batchCount), batchCount, orderedFailures);
+	}
+
+	private abstract class BatchIterator<E, B> implements Iterator<B> {
+
+		private final Iterator<? extends E> elements;
+
+		private E next;
+
+		BatchIterator(Iterator<? extends E> elements) {
+			this.elements = elements;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while (this.next == null && this.elements.hasNext()) {
+				this.next = this.elements.next();
+			}
+
+			return this.next != null;
+		}
+
+		@Override
+		public B next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException("No more batches");
+			}
+
+			B batch = newBatch();
+
+			int size = add(batch, this.next);
+
+			this.next = null;
+
+			while (size < getBatchSize() && this.elements.hasNext()) {
+
+				E element = this.elements.next();
+
+				if (Objects.nonNull(element)) {
+					size = add(batch, element);
+				}
+			}
+
+			return batch;
+		}
+
+		abstract B newBatch();
+
+		abstract int add(B batch, E element);
+
+	}
+}
@@ -237,8 +237,7 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 	@Override
 	protected RepositoryFactorySupport createRepositoryFactory() {
 
-		GemfireRepositoryFactory repositoryFactory =
-			new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+		GemfireRepositoryFactory repositoryFactory = newRepositoryFactory();
 
 		getApplicationContext()
 			.map(applicationContext -> new QueryPostProcessorRegistrationOnQueryCreationListener(applicationContext))
@@ -247,6 +246,19 @@ public class GemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		return repositoryFactory;
 	}
 
+	/**
+	 * Constructs a new instance of {@link GemfireRepositoryFactory} initialized with the configured
+	 * {@link Region Regions} and {@link MappingContext}.
+	 *
+	 * @return a new {@link GemfireRepositoryFactory}.
+	 * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory
+	 * @see #getGemfireMappingContext()
+	 * @see #getRegions()
+	 */
+	protected GemfireRepositoryFactory newRepositoryFactory() {
+		return new GemfireRepositoryFactory(getRegions(), getGemfireMappingContext());
+	}
+
 	/**
 	 * Attempts to resolve the {@link MappingContext} used to map {@link GemfirePersistentEntity entities}
 	 * to Apache Geode.
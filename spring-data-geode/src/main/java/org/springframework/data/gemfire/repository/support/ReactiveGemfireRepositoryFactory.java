@@ -0,0 +1,168 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.Optional;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
+import org.springframework.data.gemfire.repository.query.GemfireRepositoryQuery;
+import org.springframework.data.gemfire.repository.query.ReactiveGemfireQueryMethod;
+import org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.repository.core.NamedQueries;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.core.RepositoryMetadata;
+import org.springframework.data.repository.query.QueryLookupStrategy;
+import org.springframework.data.repository.query.QueryLookupStrategy.Key;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
+import org.springframework.data.util.ReactiveWrappers;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * {@link GemfireRepositoryFactory} creating {@literal Reactive} {@link org.springframework.data.repository.Repository}
+ * proxies backed by {@link SimpleReactiveGemfireRepository}.
+ *
+ * {@link Region} data access operations and OQL queries, including {@literal derived queries}, are executed
+ * on the configured {@link Scheduler}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @see org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactory
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @see reactor.core.scheduler.Scheduler
+ * @since 3.0.0
+ */
+public class ReactiveGemfireRepositoryFactory extends GemfireRepositoryFactory {
+
+	private final Scheduler scheduler;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireRepositoryFactory} initialized with the given collection
+	 * of configured {@link Region Regions}, {@link MappingContext} and {@link Scheduler}.
+	 *
+	 * @param regions {@link Iterable} collection of configured {@link Region Regions} used by this application;
+	 * must not be {@literal null}.
+	 * @param mappingContext {@link MappingContext} used to map entities to the underlying data store,
+	 * must not be {@literal null}.
+	 * @param scheduler {@link Scheduler} on which data access operations are run; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Regions}, the {@link MappingContext} or the {@link Scheduler}
+	 * is {@literal null}.
+	 * @see GemfireRepositoryFactory#GemfireRepositoryFactory(Iterable, MappingContext)
+	 * @see reactor.core.scheduler.Scheduler
+	 */
+	public ReactiveGemfireRepositoryFactory(@NonNull Iterable<Region<?, ?>> regions,
+			@NonNull MappingContext<? extends GemfirePersistentEntity<?>, GemfirePersistentProperty> mappingContext,
+			@NonNull Scheduler scheduler) {
+
+		super(regions, mappingContext);
+
+		Assert.notNull(scheduler, "Scheduler must not be null");
+
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the {@link Scheduler} on which data access operations are run.
+	 *
+	 * @return the {@link Scheduler} on which data access operations are run.
+	 * @see reactor.core.scheduler.Scheduler
+	 */
+	protected @NonNull Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected void validate(RepositoryMetadata repositoryMetadata) {
+
+		if (!ReactiveWrappers.isAvailable(ReactiveWrappers.ReactiveLibrary.PROJECT_REACTOR)) {
+			throw new InvalidDataAccessApiUsageException("Project Reactor is required for Reactive Repositories");
+		}
+
+		if (!repositoryMetadata.isReactiveRepository()) {
+			throw new InvalidDataAccessApiUsageException(String.format("Repository [%s] is not a Reactive Repository",
+				repositoryMetadata.getRepositoryInterface().getName()));
+		}
+
+		super.validate(repositoryMetadata);
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
+		return SimpleReactiveGemfireRepository.class;
+	}
+
+	/**
+	 * @inheritDoc
+	 */
+	@Override
+	protected Object getTargetRepository(RepositoryInformation repositoryInformation) {
+
+		GemfireEntityInformation<?, Serializable> entityInformation =
+			getEntityInformation(repositoryInformation.getDomainType());
+
+		ReactiveGemfireTemplate template =
+			new ReactiveGemfireTemplate(newTemplate(repositoryInformation), getScheduler());
+
+		return getTargetRepositoryViaReflection(repositoryInformation, template, entityInformation);
+	}
+
+	/**
+	 * Adapts the {@link GemfireRepositoryQuery GemfireRepositoryQueries} resolved by
+	 * {@link GemfireRepositoryFactory#getQueryLookupStrategy(Key, QueryMethodEvaluationContextProvider)}
+	 * with a {@link ReactiveGemfireRepositoryQuery}.
+	 *
+	 * @see org.springframework.data.gemfire.repository.query.ReactiveGemfireRepositoryQuery
+	 */
+	@Override
+	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(Key key,
+			QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		return super.getQueryLookupStrategy(key, evaluationContextProvider)
+			.map(queryLookupStrategy -> (Method method, RepositoryMetadata repositoryMetadata,
+					ProjectionFactory projectionFactory, NamedQueries namedQueries) ->
+				new ReactiveGemfireRepositoryQuery((GemfireRepositoryQuery) queryLookupStrategy
+					.resolveQuery(method, repositoryMetadata, projectionFactory, namedQueries), getScheduler()));
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	protected <T extends QueryMethod> T newQueryMethod(Method method, RepositoryMetadata repositoryMetadata,
+			ProjectionFactory projectionFactory, QueryMethodEvaluationContextProvider evaluationContextProvider) {
+
+		return (T) new ReactiveGemfireQueryMethod(method, repositoryMetadata, projectionFactory, getMappingContext(),
+			evaluationContextProvider);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.repository.Repository;
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+
+import reactor.core.scheduler.Scheduler;
+
+/**
+ * Spring {@link FactoryBean} adapter for {@link ReactiveGemfireRepositoryFactory}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean
+ * @see org.springframework.data.gemfire.repository.support.ReactiveGemfireRepositoryFactory
+ * @see reactor.core.scheduler.Scheduler
+ * @since 3.0.0
+ */
+public class ReactiveGemfireRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
+		extends GemfireRepositoryFactoryBean<T, S, ID> {
+
+	private Scheduler scheduler;
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireRepositoryFactoryBean} initialized with the given
+	 * {@literal Reactive} {@link Repository} {@link Class interface}.
+	 *
+	 * @param repositoryInterface {@link Class interface} specifying the application data access operations contract;
+	 * must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Repository} {@link Class interface} is {@literal null}.
+	 * @see java.lang.Class
+	 */
+	public ReactiveGemfireRepositoryFactoryBean(Class<? extends T> repositoryInterface) {
+		super(repositoryInterface);
+	}
+
+	/**
+	 * Configures the {@link Scheduler} on which the {@link Repository} data access operations are run.
+	 *
+	 * Defaults to the {@link ReactiveGemfireTemplate#getDefaultScheduler() default, shared Scheduler}.
+	 *
+	 * @param scheduler {@link Scheduler} on which the {@link Repository} data access operations are run.
+	 * @see reactor.core.scheduler.Scheduler
+	 */
+	public void setScheduler(@Nullable Scheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	/**
+	 * Returns the {@link Scheduler} on which the {@link Repository} data access operations are run.
+	 *
+	 * @return the {@link Scheduler} on which the {@link Repository} data access operations are run.
+	 * @see reactor.core.scheduler.Scheduler
+	 * @see #setScheduler(Scheduler)
+	 */
+	protected @NonNull Scheduler getScheduler() {
+
+		Scheduler scheduler = this.scheduler;
+
+		return scheduler != null ? scheduler : ReactiveGemfireTemplate.getDefaultScheduler();
+	}
+
+	/**
+	 * Constructs a new instance of {@link ReactiveGemfireRepositoryFactory}.
+	 *
+	 * @return a new {@link ReactiveGemfireRepositoryFactory}.
+	 * @see org.springframework.data.gemfire.repository.support.ReactiveGemfireRepositoryFactory
+	 */
+	@Override
+	protected GemfireRepositoryFactory newRepositoryFactory() {
+		return new ReactiveGemfireRepositoryFactory(getRegions(), getGemfireMappingContext(), getScheduler());
+	}
+}
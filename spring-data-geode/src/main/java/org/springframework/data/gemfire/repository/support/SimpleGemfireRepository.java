@@ -15,14 +15,22 @@
  */
 package org.springframework.data.gemfire.repository.support;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
@@ -31,14 +39,17 @@ import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
 import org.apache.geode.cache.query.SelectResults;
+import org.apache.geode.cache.query.Struct;
 
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireCallback;
 import org.springframework.data.gemfire.GemfireTemplate;
 import org.springframework.data.gemfire.repository.GemfireRepository;
 import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
 import org.springframework.data.gemfire.repository.query.QueryString;
 import org.springframework.data.gemfire.repository.query.support.PagingUtils;
 import org.springframework.data.gemfire.util.CollectionUtils;
@@ -52,6 +63,7 @@ import org.springframework.data.util.Streamable;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -74,10 +86,34 @@ import org.slf4j.LoggerFactory;
  */
 public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID> {
 
+	public static final String BULK_BATCH_SIZE_PROPERTY = "spring.data.gemfire.repository.bulk.batch-size";
+	public static final String BULK_CONCURRENCY_PROPERTY = "spring.data.gemfire.repository.bulk.concurrency";
+	public static final String PAGING_MODE_PROPERTY = "spring.data.gemfire.repository.paging.mode";
+
+	protected static final int DEFAULT_BULK_BATCH_SIZE = 1000;
+	protected static final int DEFAULT_BULK_CONCURRENCY = 1;
+
+	protected static final int PAGE_CURSOR_CACHE_SIZE = 256;
+
 	protected static final String SELECT_COUNT_OQL_QUERY = "SELECT count(*) FROM %s";
 
+	private volatile int bulkBatchSize = Integer.getInteger(BULK_BATCH_SIZE_PROPERTY, DEFAULT_BULK_BATCH_SIZE);
+	private volatile int bulkConcurrency = Integer.getInteger(BULK_CONCURRENCY_PROPERTY, DEFAULT_BULK_CONCURRENCY);
+
 	private final EntityInformation<T, ID> entityInformation;
 
+	private volatile Executor bulkExecutor;
+
+	private final Map<PageCursorKey, Object> pageCursors = new LinkedHashMap<PageCursorKey, Object>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<PageCursorKey, Object> eldest) {
+			return size() > PAGE_CURSOR_CACHE_SIZE;
+		}
+	};
+
+	private volatile PagingMode pagingMode = PagingMode.from(System.getProperty(PAGING_MODE_PROPERTY));
+
 	private final GemfireTemplate template;
 
 	private final Logger logger = LoggerFactory.getLogger(getClass());
@@ -103,6 +139,90 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		this.entityInformation = entityInformation;
 	}
 
+	/**
+	 * Sets the maximum number of entities or keys sent in a single {@link Region#putAll(Map)}
+	 * or {@link Region#removeAll(Collection)} operation by the bulk operations of this {@link GemfireRepository},
+	 * such as {@link #saveAll(Iterable)}, {@link #deleteAll(Iterable)} and {@link #deleteAllById(Iterable)}.
+	 *
+	 * Defaults to the value of the {@link #BULK_BATCH_SIZE_PROPERTY} {@link System#getProperties() System property},
+	 * or {@literal 1000}.
+	 *
+	 * @param bulkBatchSize maximum number of entities or keys in a batch; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code bulkBatchSize} is less than {@literal 1}.
+	 */
+	public void setBulkBatchSize(int bulkBatchSize) {
+
+		Assert.isTrue(bulkBatchSize > 0,
+			() -> String.format("Bulk batch size [%d] must be greater than 0", bulkBatchSize));
+
+		this.bulkBatchSize = bulkBatchSize;
+	}
+
+	/**
+	 * Returns the maximum number of entities or keys sent in a single bulk {@link Region} operation.
+	 *
+	 * @return the maximum number of entities or keys sent in a single bulk {@link Region} operation.
+	 * @see #setBulkBatchSize(int)
+	 */
+	public int getBulkBatchSize() {
+		return this.bulkBatchSize;
+	}
+
+	/**
+	 * Sets the maximum number of batches of a bulk operation applied concurrently.
+	 *
+	 * Batches are always applied sequentially on the calling {@link Thread} when a transaction is in progress.
+	 * When batches are applied concurrently, the order in which entities with the same identifier are saved
+	 * is no longer guaranteed.
+	 *
+	 * Defaults to the value of the {@link #BULK_CONCURRENCY_PROPERTY} {@link System#getProperties() System property},
+	 * or {@literal 1}.
+	 *
+	 * @param bulkConcurrency maximum number of batches applied concurrently; must be greater than {@literal 0}.
+	 * @throws IllegalArgumentException if {@code bulkConcurrency} is less than {@literal 1}.
+	 * @see #setBulkExecutor(Executor)
+	 */
+	public void setBulkConcurrency(int bulkConcurrency) {
+
+		Assert.isTrue(bulkConcurrency > 0,
+			() -> String.format("Bulk concurrency [%d] must be greater than 0", bulkConcurrency));
+
+		this.bulkConcurrency = bulkConcurrency;
+	}
+
+	/**
+	 * Returns the maximum number of batches of a bulk operation applied concurrently.
+	 *
+	 * @return the maximum number of batches of a bulk operation applied concurrently.
+	 * @see #setBulkConcurrency(int)
+	 */
+	public int getBulkConcurrency() {
+		return this.bulkConcurrency;
+	}
+
+	/**
+	 * Sets the {@link Executor} used to apply batches of a bulk operation concurrently.
+	 *
+	 * @param bulkExecutor {@link Executor} used to apply batches concurrently.
+	 * @see #setBulkConcurrency(int)
+	 */
+	public void setBulkExecutor(@Nullable Executor bulkExecutor) {
+		this.bulkExecutor = bulkExecutor;
+	}
+
+	/**
+	 * Returns the {@link Executor} used to apply batches of a bulk operation concurrently.
+	 *
+	 * @return the configured {@link Executor}, or a bounded, default {@link Executor} dedicated to bulk operations
+	 * if no {@link Executor} was configured.
+	 */
+	public @NonNull Executor getBulkExecutor() {
+
+		Executor bulkExecutor = this.bulkExecutor;
+
+		return bulkExecutor != null ? bulkExecutor : DefaultBulkExecutor.INSTANCE;
+	}
+
 	/**
 	 * Returns a reference to the {@link EntityInformation} type describing the entity.
 	 *
@@ -134,6 +254,34 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		return getTemplate().getRegion();
 	}
 
+	/**
+	 * Sets the {@link PagingMode} used by {@link #findAll(Pageable)}.
+	 *
+	 * Defaults to the value of the {@link #PAGING_MODE_PROPERTY} {@link System#getProperties() System property},
+	 * or {@link PagingMode#CLIENT}.
+	 *
+	 * @param pagingMode {@link PagingMode} used by {@link #findAll(Pageable)}; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link PagingMode} is {@literal null}.
+	 * @see PagingMode
+	 */
+	public void setPagingMode(@NonNull PagingMode pagingMode) {
+
+		Assert.notNull(pagingMode, "PagingMode must not be null");
+
+		this.pagingMode = pagingMode;
+	}
+
+	/**
+	 * Returns the {@link PagingMode} used by {@link #findAll(Pageable)}.
+	 *
+	 * @return the {@link PagingMode} used by {@link #findAll(Pageable)}; defaults to {@link PagingMode#CLIENT}.
+	 * @see #setPagingMode(PagingMode)
+	 * @see PagingMode
+	 */
+	public @NonNull PagingMode getPagingMode() {
+		return this.pagingMode;
+	}
+
 	/**
 	 * Returns a reference to the {@link GemfireTemplate} used by this {@link GemfireRepository} to perform basic
 	 * CRUD and simple OQL queries data access operations
@@ -182,24 +330,35 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Saves all given entities in batches of {@link #getBulkBatchSize()} entities, each batch sent
+	 * in a single {@link Region#putAll(Map)} operation.
+	 *
+	 * When the same identifier occurs more than once within a batch, the last entity is saved. When batches are
+	 * applied {@link #setBulkConcurrency(int) concurrently}, entities with the same identifier in different batches
+	 * are saved in no particular order, so the entity stored in the {@link Region} is undetermined.
+	 *
+	 * @throws BulkOperationException if any batch failed to be saved.
+	 * @see #setBulkBatchSize(int)
+	 * @see #setBulkConcurrency(int)
 	 */
 	@Override
 	public <U extends T> Iterable<U> saveAll(@NonNull Iterable<U> entities) {
 
 		EntityInformation<T, ID> entityInformation = getEntityInformation();
 
-		Map<ID, U> entitiesToSave = new HashMap<>();
+		List<U> savedEntities = new ArrayList<>();
 
-		Streamable.of(CollectionUtils.nullSafeIterable(entities)).stream()
+		Iterator<U> entitiesToSave = Streamable.of(CollectionUtils.nullSafeIterable(entities)).stream()
 			.filter(Objects::nonNull)
-			.forEach(entity -> entitiesToSave.put(entityInformation.getRequiredId(entity), entity));
+			.peek(savedEntities::add)
+			.iterator();
 
-		if (!entitiesToSave.isEmpty()) {
-			getTemplate().putAll(entitiesToSave);
-		}
+		BulkOperationPipeline pipeline = newBulkOperationPipeline();
 
-		return entitiesToSave.values();
+		pipeline.execute("save", pipeline.mapBatches(entitiesToSave, entityInformation::getRequiredId),
+			Map::keySet, batch -> getTemplate().putAll(batch));
+
+		return savedEntities;
 	}
 
 	/**
@@ -252,13 +411,44 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	/**
-	 * @inheritDoc
+	 * Returns the {@link Page requested page} of entities stored in the {@link Region}.
+	 *
+	 * By default, in {@link PagingMode#CLIENT} mode, all entities are queried in the requested order
+	 * and the {@link Page requested page} is extracted from the results.
+	 *
+	 * In {@link PagingMode#SERVER} mode, which must be enabled with {@link #setPagingMode(PagingMode)}
+	 * or the {@link #PAGING_MODE_PROPERTY} {@link System#getProperties() System property}, the total number
+	 * of entities is determined with a {@literal SELECT count(*) FROM /Region} OQL query and no more than
+	 * a single page of entities is ever returned from the {@link Region}. The first page is queried directly with a {@literal LIMIT}.
+	 * Subsequent pages ordered by the entity identifier resume from the last identifier of the previous page
+	 * (i.e. {@literal keyset} paging), if known and if exactly the page offset number of entities are still ordered
+	 * before or at that identifier. Otherwise, only the ordered identifiers up to and including
+	 * the requested page are queried, and the entities for the requested page are then fetched in a single
+	 * {@link Region#getAll(Collection)} operation.
+	 *
+	 * In {@link PagingMode#SERVER} mode, an unsorted {@link Pageable} is ordered by the entity identifier
+	 * in order to guarantee a stable order across pages. {@link PagingMode#SERVER} mode requires the entity
+	 * to declare an identifier property and falls back to {@link PagingMode#CLIENT} mode otherwise.
+	 *
+	 * @param pageable {@link Pageable} object encapsulating the details of the {@link Page requested page};
+	 * must not be {@literal null}.
+	 * @return the {@link Page requested page} of entities.
+	 * @throws IllegalArgumentException if {@link Pageable} is {@literal null}.
+	 * @see org.springframework.data.domain.Pageable
+	 * @see org.springframework.data.domain.Page
+	 * @see #getPagingMode()
 	 */
 	@Override
 	public Page<T> findAll(@NonNull Pageable pageable) {
 
 		Assert.notNull(pageable, "Pageable must not be null");
 
+		String idPropertyName = resolveIdPropertyName();
+
+		if (getPagingMode() == PagingMode.SERVER && pageable.isPaged() && idPropertyName != null) {
+			return findPage(pageable, idPropertyName);
+		}
+
 		Iterable<T> results = findAll(pageable.getSort());
 
 		return toPage(results, pageable);
@@ -345,23 +535,30 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	 */
 	@Override
 	public void deleteAll(@NonNull Iterable<? extends T> entities) {
-		CollectionUtils.nullSafeIterable(entities).forEach(this::delete);
+
+		EntityInformation<T, ID> entityInformation = getEntityInformation();
+
+		deleteAllById(() -> StreamSupport.stream(CollectionUtils.nullSafeIterable(entities).spliterator(), false)
+			.filter(Objects::nonNull)
+			.map(entityInformation::getRequiredId)
+			.iterator());
 	}
 
 	/**
-	 * @inheritDoc
+	 * Deletes all entities with the given identifiers in batches of {@link #getBulkBatchSize()} keys,
+	 * each batch removed in a single {@link Region#removeAll(Collection)} operation.
+	 *
+	 * @throws BulkOperationException if any batch failed to be removed.
+	 * @see #setBulkBatchSize(int)
+	 * @see #setBulkConcurrency(int)
 	 */
 	@Override
 	public void deleteAllById(@NonNull Iterable<? extends ID> ids) {
 
-		Set<? extends ID> keys =
-			StreamSupport.stream(CollectionUtils.nullSafeIterable(ids).spliterator(), false)
-				.filter(Objects::nonNull)
-				.collect(Collectors.toSet());
+		BulkOperationPipeline pipeline = newBulkOperationPipeline();
 
-		if (!keys.isEmpty()) {
-			getTemplate().removeAll(keys);
-		}
+		pipeline.execute("remove", pipeline.setBatches(CollectionUtils.nullSafeIterable(ids).iterator()),
+			batch -> batch, batch -> getTemplate().removeAll(batch));
 	}
 
 	/**
@@ -372,6 +569,201 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 		getTemplate().remove(id);
 	}
 
+	@NonNull Page<T> findPage(@NonNull Pageable pageable, @NonNull String idPropertyName) {
+
+		long total = count();
+
+		if (pageable.getOffset() >= total) {
+			return new PageImpl<>(Collections.emptyList(), pageable, total);
+		}
+
+		Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : Sort.by(idPropertyName).ascending();
+
+		Sort.Order keyOrder = resolveKeyOrder(sort, idPropertyName);
+
+		PageCursorKey previousPageCursorKey = new PageCursorKey(sort, pageable.getPageSize(),
+			pageable.getPageNumber() - 1);
+
+		Object previousPageCursor = keyOrder != null && pageable.getPageNumber() > 0
+			? getPageCursor(previousPageCursorKey)
+			: null;
+
+		if (previousPageCursor != null && !isPageCursorAtOffset(keyOrder, previousPageCursor, pageable.getOffset())) {
+			previousPageCursor = null;
+		}
+
+		List<T> content = pageable.getOffset() == 0 ? findPageContent(sort, pageable.getPageSize())
+			: previousPageCursor != null ? findPageContentAfter(keyOrder, previousPageCursor, pageable.getPageSize())
+			: findPageContentByKeys(sort, pageable, idPropertyName);
+
+		if (keyOrder != null && !content.isEmpty()) {
+			putPageCursor(new PageCursorKey(sort, pageable.getPageSize(), pageable.getPageNumber()),
+				getEntityInformation().getId(content.get(content.size() - 1)));
+		}
+
+		return new PageImpl<>(content, pageable, total);
+	}
+
+	private @NonNull List<T> findPageContent(@NonNull Sort sort, int pageSize) {
+
+		QueryString query = QueryString.of("SELECT * FROM /RegionPlaceholder")
+			.fromRegion(getRegion(), getEntityInformation().getJavaType())
+			.orderBy(sort)
+			.withLimit(pageSize);
+
+		return toList(getTemplate().<T>find(query.toString()));
+	}
+
+	/**
+	 * Determines whether the given {@literal cursor} still ends the entities preceding the given {@literal offset},
+	 * i.e. whether exactly {@literal offset} entities are ordered before or at the {@literal cursor}.
+	 *
+	 * A cursor recorded for the previous page no longer marks the requested offset once entities ordered
+	 * before the cursor have been added or removed, in which case the page must not resume from the cursor.
+	 */
+	private boolean isPageCursorAtOffset(@NonNull Sort.Order keyOrder, @NonNull Object cursor, long offset) {
+
+		String query = String.format("SELECT count(*) FROM %1$s WHERE %2$s %3$s $1",
+			getRegion().getFullPath(), keyOrder.getProperty(), keyOrder.isAscending() ? "<=" : ">=");
+
+		SelectResults<Integer> results = getTemplate().find(query, cursor);
+
+		long count = Optional.ofNullable(results)
+			.map(SelectResults::iterator)
+			.filter(Iterator::hasNext)
+			.map(Iterator::next)
+			.map(Long::valueOf)
+			.orElse(0L);
+
+		return count == offset;
+	}
+
+	private @NonNull List<T> findPageContentAfter(@NonNull Sort.Order keyOrder, @NonNull Object cursor, int pageSize) {
+
+		String query = String.format("SELECT DISTINCT * FROM %1$s WHERE %2$s %3$s $1 ORDER BY %2$s %4$s LIMIT %5$d",
+			getRegion().getFullPath(), keyOrder.getProperty(), keyOrder.isAscending() ? ">" : "<",
+				keyOrder.getDirection(), pageSize);
+
+		return toList(getTemplate().<T>find(query, cursor));
+	}
+
+	@SuppressWarnings("unchecked")
+	private @NonNull List<T> findPageContentByKeys(@NonNull Sort sort, @NonNull Pageable pageable,
+			@NonNull String idPropertyName) {
+
+		Set<String> projection = new LinkedHashSet<>();
+
+		projection.add(idPropertyName);
+		sort.forEach(order -> projection.add(order.getProperty()));
+
+		QueryString query = QueryString.of(String.format("SELECT DISTINCT %1$s FROM /RegionPlaceholder",
+				StringUtils.collectionToDelimitedString(projection, ", ")))
+			.fromRegion(getRegion(), getEntityInformation().getJavaType())
+			.orderBy(sort)
+			.withLimit(PagingUtils.getQueryResultSetLimitForPage(pageable));
+
+		List<ID> keys = new ArrayList<>(pageable.getPageSize());
+
+		int index = 0;
+		int offset = PagingUtils.getQueryResultSetStartIndexForPage(pageable);
+
+		for (Object result : CollectionUtils.nullSafeIterable(getTemplate().find(query.toString()))) {
+			if (index++ >= offset) {
+				keys.add((ID) (result instanceof Struct ? ((Struct) result).getFieldValues()[0] : result));
+			}
+		}
+
+		return findAllByKeys(keys);
+	}
+
+	/**
+	 * Returns the {@link Region} keys of all entities stored in the {@link Region} in the given {@link Sort order}.
+	 *
+	 * Only the keys, along with the properties to sort by, are queried from the {@link Region}.
+	 *
+	 * @param sort {@link Sort} defining the order of the keys; must not be {@literal null}.
+	 * @return the ordered {@link List} of {@link Region} keys.
+	 * @see #findAllByKeys(List)
+	 */
+	@SuppressWarnings("unchecked")
+	@NonNull List<ID> findAllKeys(@NonNull Sort sort) {
+
+		Set<String> projection = new LinkedHashSet<>();
+		List<String> orders = new ArrayList<>();
+
+		projection.add("entry.key");
+
+		for (Sort.Order order : sort) {
+
+			String property = "entry.value.".concat(order.getProperty());
+
+			projection.add(property);
+			orders.add(String.format("%1$s %2$s", property, order.getDirection()));
+		}
+
+		String query = String.format("SELECT %1$s%2$s FROM %3$s.entrySet entry%4$s",
+			orders.isEmpty() ? "" : "DISTINCT ", StringUtils.collectionToDelimitedString(projection, ", "),
+			getRegion().getFullPath(),
+			orders.isEmpty() ? "" : " ORDER BY ".concat(StringUtils.collectionToDelimitedString(orders, ", ")));
+
+		List<ID> keys = new ArrayList<>();
+
+		for (Object result : CollectionUtils.nullSafeIterable(getTemplate().find(query))) {
+			keys.add((ID) (result instanceof Struct ? ((Struct) result).getFieldValues()[0] : result));
+		}
+
+		return keys;
+	}
+
+	/**
+	 * Returns the entities stored in the {@link Region} for the given {@link List} of {@link Region} keys,
+	 * in the order of the keys, using a single {@link Region#getAll(Collection)} operation.
+	 *
+	 * Keys without a value are skipped.
+	 *
+	 * @param keys ordered {@link List} of {@link Region} keys; must not be {@literal null}.
+	 * @return the {@link List} of entities in the order of the keys.
+	 */
+	@NonNull List<T> findAllByKeys(@NonNull List<ID> keys) {
+
+		Map<ID, T> keysValues = !keys.isEmpty() ? getTemplate().getAll(keys) : Collections.emptyMap();
+
+		return keys.stream()
+			.map(keysValues::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
+	private @Nullable Sort.Order resolveKeyOrder(@NonNull Sort sort, @NonNull String idPropertyName) {
+
+		List<Sort.Order> orders = sort.toList();
+
+		return orders.size() == 1 && idPropertyName.equals(orders.get(0).getProperty()) ? orders.get(0) : null;
+	}
+
+	private @Nullable String resolveIdPropertyName() {
+
+		return getEntityInformation() instanceof GemfireEntityInformation
+			? ((GemfireEntityInformation<T, ID>) getEntityInformation()).getIdPropertyName()
+			: null;
+	}
+
+	private @Nullable Object getPageCursor(@NonNull PageCursorKey pageCursorKey) {
+
+		synchronized (this.pageCursors) {
+			return this.pageCursors.get(pageCursorKey);
+		}
+	}
+
+	private void putPageCursor(@NonNull PageCursorKey pageCursorKey, @Nullable Object cursor) {
+
+		if (cursor != null) {
+			synchronized (this.pageCursors) {
+				this.pageCursors.put(pageCursorKey, cursor);
+			}
+		}
+	}
+
 	boolean isPartitioned(@Nullable Region<?, ?> region) {
 
 		return region != null
@@ -395,7 +787,29 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 	}
 
 	<K> void  doRegionClear(@NonNull Region<K, ?> region) {
-		region.removeAll(resolveRegionKeys(region));
+
+		Set<K> keys = resolveRegionKeys(region);
+
+		if (keys.size() <= getBulkBatchSize()) {
+			region.removeAll(keys);
+		}
+		else {
+
+			BulkOperationPipeline pipeline = newBulkOperationPipeline(region);
+
+			pipeline.execute("remove", pipeline.setBatches(keys.iterator()), batch -> batch, region::removeAll);
+		}
+	}
+
+	@NonNull BulkOperationPipeline newBulkOperationPipeline() {
+		return newBulkOperationPipeline(getRegion());
+	}
+
+	@NonNull BulkOperationPipeline newBulkOperationPipeline(@Nullable Region<?, ?> region) {
+
+		Executor executor = getBulkConcurrency() > 1 && !isTransactionPresent(region) ? getBulkExecutor() : null;
+
+		return new BulkOperationPipeline(getBulkBatchSize(), getBulkConcurrency(), executor);
 	}
 
 	@NonNull <K> Set<K> resolveRegionKeys(@NonNull Region<K, ?> region) {
@@ -427,4 +841,118 @@ public class SimpleGemfireRepository<T, ID> implements GemfireRepository<T, ID>
 
 		return PagingUtils.toPage(results, pageable);
 	}
+
+	/**
+	 * Enumeration of the strategies used to page the entities stored in the {@link Region}.
+	 *
+	 * @see #findAll(Pageable)
+	 */
+	public enum PagingMode {
+
+		/**
+		 * Queries all entities in the requested order and extracts the requested page on the client.
+		 */
+		CLIENT,
+
+		/**
+		 * Queries no more than a single page of entities from the {@link Region}.
+		 */
+		SERVER;
+
+		/**
+		 * Null-safe factory method used to resolve the {@link PagingMode} from the given, case-insensitive
+		 * {@link String name}, defaulting to {@link #CLIENT}.
+		 *
+		 * @param name {@link String} containing the name of the {@link PagingMode}.
+		 * @return the resolved {@link PagingMode}.
+		 */
+		public static @NonNull PagingMode from(@Nullable String name) {
+
+			for (PagingMode pagingMode : values()) {
+				if (pagingMode.name().equalsIgnoreCase(String.valueOf(name).trim())) {
+					return pagingMode;
+				}
+			}
+
+			return CLIENT;
+		}
+	}
+
+	/**
+	 * Key identifying the last entity identifier (i.e. {@literal cursor}) of a page by {@link Sort},
+	 * page size and page number.
+	 */
+	private static final class PageCursorKey {
+
+		private final Sort sort;
+
+		private final int pageNumber;
+		private final int pageSize;
+
+		private PageCursorKey(Sort sort, int pageSize, int pageNumber) {
+
+			this.sort = sort;
+			this.pageSize = pageSize;
+			this.pageNumber = pageNumber;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof PageCursorKey)) {
+				return false;
+			}
+
+			PageCursorKey that = (PageCursorKey) obj;
+
+			return this.pageNumber == that.pageNumber
+				&& this.pageSize == that.pageSize
+				&& this.sort.equals(that.sort);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(this.sort, this.pageSize, this.pageNumber);
+		}
+	}
+
+	/**
+	 * Lazily initialized, bounded {@link Executor} shared by all {@link GemfireRepository GemfireRepositories}
+	 * for which no bulk {@link Executor} was configured, keeping blocking {@link Region} bulk operations
+	 * off the {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+	 *
+	 * Batches that cannot be queued are applied on the calling {@link Thread}.
+	 */
+	static final class DefaultBulkExecutor {
+
+		static final int QUEUE_CAPACITY = 1024;
+
+		static final int THREAD_COUNT = Math.max(2, Runtime.getRuntime().availableProcessors());
+
+		static final Executor INSTANCE = newExecutor();
+
+		private static Executor newExecutor() {
+
+			AtomicInteger threadCount = new AtomicInteger(0);
+
+			ThreadPoolExecutor executor = new ThreadPoolExecutor(THREAD_COUNT, THREAD_COUNT, 60L, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+
+					Thread thread = new Thread(runnable,
+						String.format("GemfireRepository-bulk-%d", threadCount.incrementAndGet()));
+
+					thread.setDaemon(true);
+
+					return thread;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+
+			executor.allowCoreThreadTimeOut(true);
+
+			return executor;
+		}
+	}
 }
@@ -0,0 +1,307 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.geode.cache.Region;
+
+import org.reactivestreams.Publisher;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+import org.springframework.data.gemfire.repository.Wrapper;
+import org.springframework.data.gemfire.util.CollectionUtils;
+import org.springframework.data.repository.core.EntityInformation;
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implementation of the {@link ReactiveGemfireRepository} interface.
+ *
+ * Each data access operation is performed by a {@link SimpleGemfireRepository} on the {@link ReactiveGemfireTemplate}
+ * {@link ReactiveGemfireTemplate#getScheduler() Scheduler}. Entities and identifiers emitted by a {@link Publisher}
+ * are buffered into batches of {@link #getBulkBatchSize()} and each batch is applied to the {@link Region}
+ * in a single bulk operation before the next batch is requested.
+ *
+ * @param <T> {@link Class type} of the entity.
+ * @param <ID> {@link Class type} of the entity identifier.
+ * @author agent
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+ * @see reactor.core.publisher.Flux
+ * @see reactor.core.publisher.Mono
+ * @since 3.0.0
+ */
+public class SimpleReactiveGemfireRepository<T, ID> implements ReactiveGemfireRepository<T, ID> {
+
+	private final ReactiveGemfireTemplate template;
+
+	private final SimpleGemfireRepository<T, ID> repository;
+
+	/**
+	 * Constructs a new instance of {@link SimpleReactiveGemfireRepository} initialized with
+	 * the {@link ReactiveGemfireTemplate} and {@link EntityInformation}.
+	 *
+	 * @param template {@link ReactiveGemfireTemplate} used to perform data access operations;
+	 * must not be {@literal null}.
+	 * @param entityInformation {@link EntityInformation} that describes the entity; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link ReactiveGemfireTemplate} or {@link EntityInformation}
+	 * is {@literal null}.
+	 * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+	 * @see org.springframework.data.repository.core.EntityInformation
+	 */
+	public SimpleReactiveGemfireRepository(@NonNull ReactiveGemfireTemplate template,
+			@NonNull EntityInformation<T, ID> entityInformation) {
+
+		Assert.notNull(template, "ReactiveGemfireTemplate must not be null");
+
+		this.template = template;
+		this.repository = new SimpleGemfireRepository<>(template.getTemplate(), entityInformation);
+	}
+
+	/**
+	 * Sets the maximum number of entities or identifiers applied to the {@link Region} in a single bulk operation.
+	 *
+	 * @param bulkBatchSize maximum number of entities or identifiers in a batch; must be greater than {@literal 0}.
+	 * @see SimpleGemfireRepository#setBulkBatchSize(int)
+	 */
+	public void setBulkBatchSize(int bulkBatchSize) {
+		getRepository().setBulkBatchSize(bulkBatchSize);
+	}
+
+	/**
+	 * Returns the maximum number of entities or identifiers applied to the {@link Region} in a single bulk operation.
+	 *
+	 * @return the maximum number of entities or identifiers in a batch.
+	 * @see SimpleGemfireRepository#getBulkBatchSize()
+	 */
+	public int getBulkBatchSize() {
+		return getRepository().getBulkBatchSize();
+	}
+
+	/**
+	 * Returns the {@link EntityInformation} describing the entity managed by this {@link ReactiveGemfireRepository}.
+	 *
+	 * @return the {@link EntityInformation} describing the entity.
+	 * @see org.springframework.data.repository.core.EntityInformation
+	 */
+	public @NonNull EntityInformation<T, ID> getEntityInformation() {
+		return getRepository().getEntityInformation();
+	}
+
+	/**
+	 * Returns the blocking {@link SimpleGemfireRepository} performing the data access operations.
+	 *
+	 * @return the blocking {@link SimpleGemfireRepository} performing the data access operations.
+	 * @see org.springframework.data.gemfire.repository.support.SimpleGemfireRepository
+	 */
+	protected @NonNull SimpleGemfireRepository<T, ID> getRepository() {
+		return this.repository;
+	}
+
+	/**
+	 * Returns the {@link ReactiveGemfireTemplate} used to perform data access operations.
+	 *
+	 * @return the {@link ReactiveGemfireTemplate} used to perform data access operations.
+	 * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+	 */
+	public @NonNull ReactiveGemfireTemplate getTemplate() {
+		return this.template;
+	}
+
+	@Override
+	public <S extends T> Mono<S> save(@NonNull S entity) {
+		return toMono(() -> getRepository().save(entity));
+	}
+
+	@Override
+	public Mono<T> save(@NonNull Wrapper<T, ID> wrapper) {
+		return toMono(() -> getRepository().save(wrapper));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(@NonNull Iterable<S> entities) {
+		return saveAll(Flux.fromIterable(CollectionUtils.nullSafeIterable(entities)));
+	}
+
+	@Override
+	public <S extends T> Flux<S> saveAll(@NonNull Publisher<S> entities) {
+
+		Assert.notNull(entities, "Entities Publisher must not be null");
+
+		return Flux.from(entities)
+			.buffer(getBulkBatchSize())
+			.concatMap(batch -> toFlux(() -> getRepository().saveAll(batch)));
+	}
+
+	@Override
+	public Mono<Long> count() {
+		return toMono(getRepository()::count);
+	}
+
+	@Override
+	public Mono<Boolean> existsById(@NonNull ID id) {
+		return toMono(() -> getRepository().existsById(id));
+	}
+
+	@Override
+	public Mono<Boolean> existsById(@NonNull Publisher<ID> id) {
+
+		Assert.notNull(id, "ID Publisher must not be null");
+
+		return Mono.from(id).flatMap(this::existsById);
+	}
+
+	@Override
+	public Flux<T> findAll() {
+		return findAll(Sort.unsorted());
+	}
+
+	/**
+	 * Emits all entities stored in the {@link Region} in the given {@link Sort order}.
+	 *
+	 * Only the ordered {@link Region} keys are queried on subscription. The entities are then fetched
+	 * in windows of {@link #getBulkBatchSize()} keys with {@link Region#getAll(java.util.Collection)}
+	 * as they are requested by the {@link org.reactivestreams.Subscriber}, so that no more than a single window
+	 * of entities is held in memory at a time.
+	 *
+	 * @param sort {@link Sort} defining the order of the entities; must not be {@literal null}.
+	 * @return a {@link Flux} emitting all entities in order.
+	 */
+	@Override
+	public Flux<T> findAll(@NonNull Sort sort) {
+
+		Assert.notNull(sort, "Sort must not be null");
+
+		return Flux.defer(() -> {
+
+				List<ID> keys = getRepository().findAllKeys(sort);
+
+				int windowSize = getBulkBatchSize();
+
+				return Flux.<List<T>, Integer>generate(() -> 0, (index, sink) -> {
+
+					if (index < keys.size()) {
+
+						int toIndex = Math.min(keys.size(), index + windowSize);
+
+						sink.next(getRepository().findAllByKeys(keys.subList(index, toIndex)));
+
+						return toIndex;
+					}
+
+					sink.complete();
+
+					return index;
+				});
+			})
+			.subscribeOn(getTemplate().getScheduler())
+			.flatMapIterable(Function.identity(), 1);
+	}
+
+	@Override
+	public Flux<T> findAllById(@NonNull Iterable<ID> ids) {
+		return findAllById(Flux.fromIterable(CollectionUtils.nullSafeIterable(ids)));
+	}
+
+	@Override
+	public Flux<T> findAllById(@NonNull Publisher<ID> ids) {
+
+		Assert.notNull(ids, "IDs Publisher must not be null");
+
+		return Flux.from(ids)
+			.buffer(getBulkBatchSize())
+			.concatMap(batch -> toFlux(() -> getRepository().findAllById(batch)));
+	}
+
+	@Override
+	public Mono<T> findById(@NonNull ID id) {
+		return toMono(() -> getRepository().findById(id).orElse(null));
+	}
+
+	@Override
+	public Mono<T> findById(@NonNull Publisher<ID> id) {
+
+		Assert.notNull(id, "ID Publisher must not be null");
+
+		return Mono.from(id).flatMap(this::findById);
+	}
+
+	@Override
+	public Mono<Void> delete(@NonNull T entity) {
+		return toMono(() -> getRepository().delete(entity));
+	}
+
+	@Override
+	public Mono<Void> deleteAll() {
+		return toMono(() -> getRepository().deleteAll());
+	}
+
+	@Override
+	public Mono<Void> deleteAll(@NonNull Iterable<? extends T> entities) {
+		return toMono(() -> getRepository().deleteAll(entities));
+	}
+
+	@Override
+	public Mono<Void> deleteAll(@NonNull Publisher<? extends T> entities) {
+
+		Assert.notNull(entities, "Entities Publisher must not be null");
+
+		return Flux.from(entities)
+			.buffer(getBulkBatchSize())
+			.concatMap(batch -> toMono(() -> getRepository().deleteAll(batch)))
+			.then();
+	}
+
+	@Override
+	public Mono<Void> deleteAllById(@NonNull Iterable<? extends ID> ids) {
+		return toMono(() -> getRepository().deleteAllById(ids));
+	}
+
+	@Override
+	public Mono<Void> deleteById(@NonNull ID id) {
+		return toMono(() -> getRepository().deleteById(id));
+	}
+
+	@Override
+	public Mono<Void> deleteById(@NonNull Publisher<ID> id) {
+
+		Assert.notNull(id, "ID Publisher must not be null");
+
+		return Mono.from(id).flatMap(this::deleteById);
+	}
+
+	private <R> Mono<R> toMono(Callable<R> operation) {
+		return Mono.fromCallable(operation).subscribeOn(getTemplate().getScheduler());
+	}
+
+	private Mono<Void> toMono(Runnable operation) {
+		return Mono.fromRunnable(operation).subscribeOn(getTemplate().getScheduler()).then();
+	}
+
+	private <R> Flux<R> toFlux(Supplier<? extends Iterable<R>> operation) {
+		return Flux.defer(() -> Flux.fromIterable(operation.get())).subscribeOn(getTemplate().getScheduler());
+	}
+}
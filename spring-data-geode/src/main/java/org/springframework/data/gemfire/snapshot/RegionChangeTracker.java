@@ -0,0 +1,230 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionEvent;
+import org.apache.geode.cache.util.CacheListenerAdapter;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CacheListener} recording the keys of {@link Region} entries changed or destroyed since the changes were last
+ * {@link #drain() drained}, used to write incremental (delta) snapshots proportional to the churn in the {@link Region}
+ * rather than the size of the {@link Region}.
+ *
+ * Invalidated entries are recorded as destroyed since they are not included in a snapshot. A {@link Region#clear()}
+ * discards all previously recorded keys and is itself recorded. Changes made by a {@link Thread} while it
+ * {@link #runUntracked(Runnable) runs an untracked operation}, such as importing a snapshot, are not recorded.
+ *
+ * The {@link CacheListener} is only notified of all changes to a {@link Region} on every member when the data
+ * of the {@link Region} is held in full by the member, i.e. for {@literal LOCAL} and {@literal REPLICATE} Regions.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.CacheListener
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @since 3.0.0
+ */
+public class RegionChangeTracker<K, V> extends CacheListenerAdapter<K, V> {
+
+	private final Object lock = new Object();
+
+	private boolean cleared;
+
+	private final ThreadLocal<Boolean> untracked = new ThreadLocal<>();
+
+	private Set<K> changedKeys = new HashSet<>();
+	private Set<K> destroyedKeys = new HashSet<>();
+
+	@Override
+	public void afterCreate(EntryEvent<K, V> event) {
+		changed(event.getKey());
+	}
+
+	@Override
+	public void afterUpdate(EntryEvent<K, V> event) {
+		changed(event.getKey());
+	}
+
+	@Override
+	public void afterDestroy(EntryEvent<K, V> event) {
+		destroyed(event.getKey());
+	}
+
+	@Override
+	public void afterInvalidate(EntryEvent<K, V> event) {
+		destroyed(event.getKey());
+	}
+
+	@Override
+	public void afterRegionClear(RegionEvent<K, V> event) {
+
+		if (isUntracked()) {
+			return;
+		}
+
+		synchronized (this.lock) {
+			this.changedKeys.clear();
+			this.destroyedKeys.clear();
+			this.cleared = true;
+		}
+	}
+
+	private void changed(K key) {
+
+		if (isUntracked()) {
+			return;
+		}
+
+		synchronized (this.lock) {
+			this.destroyedKeys.remove(key);
+			this.changedKeys.add(key);
+		}
+	}
+
+	private void destroyed(K key) {
+
+		if (isUntracked()) {
+			return;
+		}
+
+		synchronized (this.lock) {
+			this.changedKeys.remove(key);
+			this.destroyedKeys.add(key);
+		}
+	}
+
+	private boolean isUntracked() {
+		return Boolean.TRUE.equals(this.untracked.get());
+	}
+
+	/**
+	 * Runs the given operation without recording the changes made to the {@link Region} by the current
+	 * {@link Thread} while the operation runs.  Changes made by other {@link Thread Threads} are still recorded.
+	 *
+	 * @param operation {@link Runnable} to run untracked; must not be {@literal null}.
+	 * @throws IllegalArgumentException if the {@link Runnable} is {@literal null}.
+	 */
+	public void runUntracked(@NonNull Runnable operation) {
+
+		Assert.notNull(operation, "Operation must not be null");
+
+		this.untracked.set(Boolean.TRUE);
+
+		try {
+			operation.run();
+		}
+		finally {
+			this.untracked.remove();
+		}
+	}
+
+	/**
+	 * Returns the {@link Changes} recorded so far and begins recording a new set of {@link Changes}.
+	 *
+	 * @return the {@link Changes} recorded since the last time the {@link Changes} were drained.
+	 * @see #restore(Changes)
+	 */
+	public @NonNull Changes<K> drain() {
+
+		synchronized (this.lock) {
+
+			Changes<K> changes = new Changes<>(this.changedKeys, this.destroyedKeys, this.cleared);
+
+			this.changedKeys = new HashSet<>();
+			this.destroyedKeys = new HashSet<>();
+			this.cleared = false;
+
+			return changes;
+		}
+	}
+
+	/**
+	 * Restores previously {@link #drain() drained} {@link Changes}, for instance when a snapshot failed to be written,
+	 * ahead of any {@link Changes} recorded since.
+	 *
+	 * @param changes previously {@link #drain() drained} {@link Changes} to restore; must not be {@literal null}.
+	 * @throws IllegalArgumentException if {@link Changes} is {@literal null}.
+	 * @see #drain()
+	 */
+	public void restore(@NonNull Changes<K> changes) {
+
+		Assert.notNull(changes, "Changes must not be null");
+
+		synchronized (this.lock) {
+			if (!this.cleared) {
+
+				Set<K> restoredChangedKeys = new HashSet<>(changes.getChangedKeys());
+				Set<K> restoredDestroyedKeys = new HashSet<>(changes.getDestroyedKeys());
+
+				restoredChangedKeys.removeAll(this.destroyedKeys);
+				restoredChangedKeys.addAll(this.changedKeys);
+				restoredDestroyedKeys.removeAll(this.changedKeys);
+				restoredDestroyedKeys.addAll(this.destroyedKeys);
+
+				this.changedKeys = restoredChangedKeys;
+				this.destroyedKeys = restoredDestroyedKeys;
+				this.cleared = changes.isCleared();
+			}
+		}
+	}
+
+	/**
+	 * Keys of the {@link Region} entries changed or destroyed, and whether the {@link Region} was cleared,
+	 * during an interval between snapshots.
+	 *
+	 * The changed and destroyed keys are disjoint.  When the {@link Region} was cleared, the keys are those
+	 * changed or destroyed after the {@link Region} was cleared.
+	 */
+	public static final class Changes<K> {
+
+		private final boolean cleared;
+
+		private final Set<K> changedKeys;
+		private final Set<K> destroyedKeys;
+
+		Changes(Set<K> changedKeys, Set<K> destroyedKeys, boolean cleared) {
+
+			this.changedKeys = Collections.unmodifiableSet(changedKeys);
+			this.destroyedKeys = Collections.unmodifiableSet(destroyedKeys);
+			this.cleared = cleared;
+		}
+
+		public @NonNull Set<K> getChangedKeys() {
+			return this.changedKeys;
+		}
+
+		public @NonNull Set<K> getDestroyedKeys() {
+			return this.destroyedKeys;
+		}
+
+		public boolean isCleared() {
+			return this.cleared;
+		}
+
+		public boolean isEmpty() {
+			return !isCleared() && getChangedKeys().isEmpty() && getDestroyedKeys().isEmpty();
+		}
+	}
+}
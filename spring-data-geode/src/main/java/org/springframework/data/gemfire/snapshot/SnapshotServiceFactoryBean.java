@@ -28,29 +28,61 @@ import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileFilter;
 import java.io.FileOutputStream;
+import java.io.FileInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 import java.util.jar.JarFile;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
+import org.apache.geode.DataSerializer;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryDestroyedException;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
+import org.apache.geode.internal.cache.InternalCache;
+import org.apache.geode.internal.cache.snapshot.GFSnapshot;
+import org.apache.geode.internal.cache.snapshot.SnapshotPacket;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgress;
 import org.springframework.data.gemfire.support.AbstractFactoryBeanSupport;
 import org.springframework.data.gemfire.util.CollectionUtils;
 import org.springframework.util.Assert;
@@ -63,28 +95,55 @@ import org.springframework.util.StringUtils;
  * of an appropriate GemFire Snapshot Service to perform data import and exports.  A CacheSnapshotService is created
  * if the Region is not specified, otherwise a RegionSnapshotService is used based on the configured Region.
  *
+ * When configured with a {@link #setParallelism(int) parallelism} greater than 1, independent Regions
+ * and snapshot files are exported and imported concurrently on a bounded pool of threads. The progress of each
+ * Region or snapshot file is published as an {@link ExportSnapshotApplicationEvent} or
+ * {@link ImportSnapshotApplicationEvent} carrying {@link SnapshotProgress}.
+ *
+ * When configured to take {@link #setIncremental(Boolean) incremental} snapshots of a Region, only the first export
+ * writes a full (base) snapshot.  Subsequent exports write the entries changed and the keys destroyed since
+ * the previous export as a delta linked to the base snapshot.  Imports replay the base snapshot and its deltas
+ * in order.
+ *
  * @author John Blum
  * @see org.springframework.beans.factory.DisposableBean
  * @see org.springframework.beans.factory.FactoryBean
  * @see org.springframework.beans.factory.InitializingBean
+ * @see org.springframework.context.ApplicationEventPublisherAware
  * @see org.springframework.context.ApplicationListener
+ * @see org.springframework.data.gemfire.snapshot.RegionChangeTracker
  * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
  * @see org.apache.geode.cache.snapshot.CacheSnapshotService
  * @see org.apache.geode.cache.snapshot.RegionSnapshotService
  * @since 1.7.0
  */
 @SuppressWarnings("unused")
 public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport<SnapshotServiceAdapter<K, V>>
-		implements InitializingBean, DisposableBean, ApplicationListener<SnapshotApplicationEvent<K, V>> {
+		implements InitializingBean, DisposableBean, ApplicationEventPublisherAware,
+			ApplicationListener<SnapshotApplicationEvent<K, V>> {
+
+	protected static final int DEFAULT_PARALLELISM = 1;
 
 	protected static final SnapshotMetadata[] EMPTY_ARRAY = new SnapshotMetadata[0];
 
+	protected static final String THREAD_NAME_PREFIX = "SnapshotService-";
+
+	private int parallelism = DEFAULT_PARALLELISM;
+
+	private Boolean incremental;
 	private Boolean suppressImportOnInit;
 
+	private ApplicationEventPublisher applicationEventPublisher;
+
 	private Cache cache;
 
+	private ExecutorService executor;
+
 	private Region<K, V> region;
 
+	private RegionChangeTracker<K, V> changeTracker;
+
 	private SnapshotMetadata<K, V>[] exports;
 	private SnapshotMetadata<K, V>[] imports;
 
@@ -106,13 +165,14 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
 	 * @see #getSuppressImportOnInit()
 	 * @see #getImports()
+	 * @see #configure(SnapshotServiceAdapter)
 	 * @see #create()
 	 */
 	@Override
 	@SuppressWarnings("unchecked")
 	public void afterPropertiesSet() throws Exception {
 
-		this.snapshotServiceAdapter = create();
+		this.snapshotServiceAdapter = configure(create());
 
 		if (!getSuppressImportOnInit()) {
 			this.snapshotServiceAdapter.doImport(getImports());
@@ -126,15 +186,74 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 *
 	 * @return a SnapshotServiceAdapter wrapping the appropriate GemFire Snapshot Service (either Cache or Region)
 	 * depending on the FactoryBean configuration.
+	 * @throws IllegalStateException if incremental snapshots are configured without a Region.
 	 * @see #wrap(CacheSnapshotService)
 	 * @see #wrap(RegionSnapshotService)
+	 * @see #wrapIncremental(Region)
 	 * @see #getRegion()
 	 */
 	protected SnapshotServiceAdapter create() {
 
 		return Optional.ofNullable(getRegion())
-			.<SnapshotServiceAdapter>map(region -> wrap(region.getSnapshotService()))
-			.orElseGet(() -> wrap(getCache().getSnapshotService()));
+			.<SnapshotServiceAdapter>map(region -> isIncremental()
+				? wrapIncremental(region)
+				: wrap(region.getSnapshotService()))
+			.orElseGet(() -> {
+
+				Assert.state(!isIncremental(), "Incremental snapshots require a Region");
+
+				return wrap(getCache().getSnapshotService());
+			});
+	}
+
+	/**
+	 * Configures the given SnapshotServiceAdapter with the ApplicationEventPublisher used to publish the progress
+	 * of imports and exports along with the bounded Executor used to run independent imports and exports
+	 * concurrently when the {@link #getParallelism() parallelism} is greater than 1.
+	 *
+	 * @param snapshotServiceAdapter the SnapshotServiceAdapter to configure.
+	 * @return the given, configured SnapshotServiceAdapter.
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport
+	 * @see #newExecutor(int)
+	 */
+	@SuppressWarnings("unchecked")
+	protected SnapshotServiceAdapter<K, V> configure(SnapshotServiceAdapter<K, V> snapshotServiceAdapter) {
+
+		if (snapshotServiceAdapter instanceof SnapshotServiceAdapterSupport) {
+
+			SnapshotServiceAdapterSupport<K, V> snapshotServiceAdapterSupport =
+				(SnapshotServiceAdapterSupport<K, V>) snapshotServiceAdapter;
+
+			snapshotServiceAdapterSupport.setApplicationEventPublisher(this.applicationEventPublisher);
+
+			if (getParallelism() > 1) {
+				this.executor = newExecutor(getParallelism());
+				snapshotServiceAdapterSupport.setExecutor(this.executor);
+			}
+		}
+
+		return snapshotServiceAdapter;
+	}
+
+	/**
+	 * Constructs a new, fixed-size pool of daemon threads used to run imports and exports concurrently.
+	 *
+	 * @param parallelism number of threads in the pool.
+	 * @return a new, bounded {@link ExecutorService}.
+	 * @see java.util.concurrent.ExecutorService
+	 */
+	protected ExecutorService newExecutor(int parallelism) {
+
+		AtomicInteger threadCount = new AtomicInteger(0);
+
+		return Executors.newFixedThreadPool(parallelism, runnable -> {
+
+			Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + threadCount.incrementAndGet());
+
+			thread.setDaemon(true);
+
+			return thread;
+		});
 	}
 
 	/**
@@ -148,7 +267,7 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * @see org.apache.geode.cache.snapshot.CacheSnapshotService
 	 */
 	protected SnapshotServiceAdapter<Object, Object> wrap(CacheSnapshotService cacheSnapshotService) {
-		return new CacheSnapshotServiceAdapter(cacheSnapshotService);
+		return new CacheSnapshotServiceAdapter(cacheSnapshotService, this.cache);
 	}
 
 	/**
@@ -162,7 +281,68 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 * @see org.apache.geode.cache.snapshot.RegionSnapshotService
 	 */
 	protected SnapshotServiceAdapter<K, V> wrap(RegionSnapshotService<K, V> regionSnapshotService) {
-		return new RegionSnapshotServiceAdapter<>(regionSnapshotService);
+		return new RegionSnapshotServiceAdapter<>(regionSnapshotService,
+			Optional.ofNullable(this.region).map(Region::getFullPath).orElse(null));
+	}
+
+	/**
+	 * Registers a RegionChangeTracker on the given Region and wraps GemFire's RegionSnapshotService into an Adapter
+	 * taking incremental snapshots of the Region using the changes tracked.
+	 *
+	 * @param region the GemFire Region to take incremental snapshots of.
+	 * @return a SnapshotServiceAdapter taking incremental snapshots of the Region.
+	 * @throws IllegalStateException if changes to the Region cannot be tracked on this member.
+	 * @see #isChangeTrackingSupported(Region)
+	 * @see SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter
+	 * @see org.springframework.data.gemfire.snapshot.RegionChangeTracker
+	 */
+	protected SnapshotServiceAdapter<K, V> wrapIncremental(Region<K, V> region) {
+
+		Assert.state(isChangeTrackingSupported(region), () -> String.format(
+			"Incremental snapshots require a LOCAL or REPLICATE Region; Region [%s] with DataPolicy [%s] is not supported",
+				region.getFullPath(), region.getAttributes().getDataPolicy()));
+
+		this.changeTracker = new RegionChangeTracker<>();
+
+		region.getAttributesMutator().addCacheListener(this.changeTracker);
+
+		return new IncrementalRegionSnapshotServiceAdapter<>(region, this.changeTracker);
+	}
+
+	/**
+	 * Determines whether a CacheListener registered on the given Region on this member is notified of every change
+	 * to the Region, which is the case only when this member holds all the data of the Region, i.e. for LOCAL
+	 * and REPLICATE Regions.  A PARTITION Region only notifies the CacheListener on the member hosting the primary
+	 * bucket of an entry and a client PROXY or CACHING_PROXY Region only of the changes made by, or sent to,
+	 * the client.
+	 *
+	 * @param region the GemFire Region to evaluate.
+	 * @return a boolean value indicating whether all changes to the Region can be tracked on this member.
+	 * @see org.apache.geode.cache.DataPolicy
+	 */
+	protected boolean isChangeTrackingSupported(Region<K, V> region) {
+
+		RegionAttributes<K, V> regionAttributes = region.getAttributes();
+
+		DataPolicy dataPolicy = regionAttributes != null ? regionAttributes.getDataPolicy() : null;
+
+		return dataPolicy != null
+			&& (dataPolicy.withReplication()
+				|| (dataPolicy.withStorage() && !dataPolicy.withPartitioning()
+					&& Scope.LOCAL.equals(regionAttributes.getScope())
+					&& !StringUtils.hasText(regionAttributes.getPoolName())));
+	}
+
+	/**
+	 * Sets the ApplicationEventPublisher used to publish the progress of each import and export.
+	 *
+	 * @param applicationEventPublisher the ApplicationEventPublisher used to publish SnapshotProgress.
+	 * @see org.springframework.context.ApplicationEventPublisher
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 */
+	@Override
+	public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+		this.applicationEventPublisher = applicationEventPublisher;
 	}
 
 	/**
@@ -235,6 +415,59 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		return nullSafeArray(imports, SnapshotMetadata.class);
 	}
 
+	/**
+	 * Sets a boolean condition to indicate whether exports of the Region write incremental (delta) snapshots
+	 * containing only the Region entries changed and destroyed since the previous export.
+	 *
+	 * Changes are tracked with a CacheListener registered on the Region, which is only notified of every change
+	 * on members holding all the data of the Region.  Therefore, incremental snapshots are limited to LOCAL
+	 * and REPLICATE Regions; PARTITION and client Regions are rejected.
+	 *
+	 * @param incremental a Boolean value to indicate whether exports of the Region are incremental.
+	 * @see #isIncremental()
+	 */
+	public void setIncremental(Boolean incremental) {
+		this.incremental = incremental;
+	}
+
+	/**
+	 * Determines whether exports of the Region write incremental (delta) snapshots.
+	 *
+	 * @return a boolean value indicating whether exports of the Region are incremental.
+	 * @see #setIncremental(Boolean)
+	 */
+	protected boolean isIncremental() {
+		return Boolean.TRUE.equals(this.incremental);
+	}
+
+	/**
+	 * Sets the number of independent Regions or snapshot files exported and imported concurrently.
+	 *
+	 * Defaults to 1, exporting and importing sequentially in the calling thread.  This is unrelated to
+	 * the {@link SnapshotMetadata#isParallel() parallel mode} of GemFire's snapshot service, which exports
+	 * PARTITION Region data on each member.
+	 *
+	 * @param parallelism number of Regions or snapshot files exported and imported concurrently.
+	 * @throws IllegalArgumentException if parallelism is less than 1.
+	 * @see #getParallelism()
+	 */
+	public void setParallelism(int parallelism) {
+
+		Assert.isTrue(parallelism > 0, String.format("Parallelism [%d] must be greater than 0", parallelism));
+
+		this.parallelism = parallelism;
+	}
+
+	/**
+	 * Gets the number of independent Regions or snapshot files exported and imported concurrently.
+	 *
+	 * @return the number of Regions or snapshot files exported and imported concurrently.
+	 * @see #setParallelism(int)
+	 */
+	protected int getParallelism() {
+		return this.parallelism;
+	}
+
 	/**
 	 * Sets a reference to the GemFire Region for which the snapshot will be taken.
 	 *
@@ -318,7 +551,8 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	}
 
 	/**
-	 * Performs an export of the GemFire Cache or Region if configured.
+	 * Performs an export of the GemFire Cache or Region if configured and then releases the threads used to
+	 * export and import concurrently along with the RegionChangeTracker used to export incrementally.
 	 *
 	 * @throws Exception if the Cache/Region data export operation fails.
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
@@ -328,12 +562,25 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	@Override
 	@SuppressWarnings("all")
 	public void destroy() throws Exception {
-		getObject().doExport(getExports());
+
+		try {
+			getObject().doExport(getExports());
+		}
+		finally {
+			Optional.ofNullable(this.executor).ifPresent(ExecutorService::shutdown);
+
+			Region<K, V> region = getRegion();
+
+			if (this.changeTracker != null && region != null && !region.isDestroyed()) {
+				region.getAttributesMutator().removeCacheListener(this.changeTracker);
+			}
+		}
 	}
 
 	/**
 	 * Listens for SnapshotApplicationEvents triggering a GemFire Cache-wide or Region data snapshot import/export
 	 * when details of the event match the criteria of this factory's constructed GemFire SnapshotService.
+	 * Events {@link SnapshotApplicationEvent#isProgressEvent() reporting progress} are ignored.
 	 *
 	 * @param event the SnapshotApplicationEvent triggering a GemFire Cache or Region data import/export.
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter
@@ -349,7 +596,7 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	public void onApplicationEvent(SnapshotApplicationEvent<K, V> event) {
 
 		try {
-			if (isMatch(event)) {
+			if (!event.isProgressEvent() && isMatch(event)) {
 				if (event instanceof ExportSnapshotApplicationEvent) {
 					getObject().doExport(resolveSnapshotMetadata(event));
 				}
@@ -435,10 +682,54 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 
 		protected final Logger logger = createLog();
 
+		private volatile ApplicationEventPublisher applicationEventPublisher;
+
+		private volatile Executor executor;
+
 		Logger createLog() {
 			return LoggerFactory.getLogger(getClass());
 		}
 
+		/**
+		 * Sets the ApplicationEventPublisher used to publish the progress of each import and export.
+		 *
+		 * @param applicationEventPublisher the ApplicationEventPublisher used to publish SnapshotProgress.
+		 */
+		public void setApplicationEventPublisher(ApplicationEventPublisher applicationEventPublisher) {
+			this.applicationEventPublisher = applicationEventPublisher;
+		}
+
+		protected Optional<ApplicationEventPublisher> getApplicationEventPublisher() {
+			return Optional.ofNullable(this.applicationEventPublisher);
+		}
+
+		/**
+		 * Sets the bounded Executor used to export and import independent Regions and snapshot files concurrently.
+		 *
+		 * @param executor the Executor used to export and import concurrently; sequential if {@literal null}.
+		 */
+		public void setExecutor(Executor executor) {
+			this.executor = executor;
+		}
+
+		protected Optional<Executor> getExecutor() {
+			return Optional.ofNullable(this.executor);
+		}
+
+		protected boolean isConcurrent() {
+			return getExecutor().isPresent();
+		}
+
+		/**
+		 * Gets the absolute pathname of the Region imported and exported by this adapter, if known.
+		 *
+		 * @return the absolute pathname of the Region, or {@literal null} if this adapter imports and exports
+		 * more than one Region.
+		 */
+		protected String getRegionPath() {
+			return null;
+		}
+
 		@Override
 		public SnapshotOptions<K, V> createOptions() {
 			throw new UnsupportedOperationException("not implemented");
@@ -456,16 +747,149 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		@SuppressWarnings("unchecked")
 		public void doExport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations, SnapshotMetadata.class)).forEach(configuration ->
-				save(configuration.getLocation(), configuration.getFormat(), createOptions(configuration)));
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations, SnapshotMetadata.class);
+
+			run(stream(resolvedConfigurations)
+				.flatMap(configuration -> newExportTasks(configuration).stream())
+				.collect(Collectors.toList()));
 		}
 
 		@Override
 		@SuppressWarnings("unchecked")
 		public void doImport(SnapshotMetadata<K, V>... configurations) {
 
-			stream(nullSafeArray(configurations, SnapshotMetadata.class)).forEach(configuration ->
-				load(configuration.getFormat(), createOptions(configuration), handleLocation(configuration)));
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations, SnapshotMetadata.class);
+
+			run(stream(resolvedConfigurations)
+				.flatMap(configuration -> newImportTasks(configuration).stream())
+				.collect(Collectors.toList()));
+		}
+
+		/**
+		 * Creates the SnapshotTasks exporting data to the location of the given SnapshotMetadata.
+		 *
+		 * @param configuration SnapshotMetadata describing the export.
+		 * @return the SnapshotTasks performing the export.
+		 */
+		protected List<SnapshotTask<K, V>> newExportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File location = configuration.getLocation();
+
+			return Collections.singletonList(SnapshotTask.newExportTask(configuration, getRegionPath(), location,
+				() -> save(location, configuration.getFormat(), createOptions(configuration))));
+		}
+
+		/**
+		 * Creates the SnapshotTasks importing data from the location of the given SnapshotMetadata.  Each snapshot
+		 * file is imported by a separate SnapshotTask when importing concurrently.
+		 *
+		 * @param configuration SnapshotMetadata describing the import.
+		 * @return the SnapshotTasks performing the import.
+		 */
+		protected List<SnapshotTask<K, V>> newImportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File[] snapshots = handleLocation(configuration);
+
+			SnapshotOptions<K, V> options = createOptions(configuration);
+
+			if (isConcurrent() && snapshots != null && snapshots.length > 1) {
+
+				return stream(snapshots)
+					.map(snapshot -> SnapshotTask.newImportTask(configuration, getRegionPath(), snapshot,
+						() -> load(configuration.getFormat(), options, snapshot)))
+					.collect(Collectors.toList());
+			}
+
+			return Collections.singletonList(SnapshotTask.newImportTask(configuration, getRegionPath(),
+				configuration.getLocation(), () -> load(configuration.getFormat(), options, snapshots)));
+		}
+
+		/**
+		 * Runs the given SnapshotTasks, concurrently if an Executor has been configured, publishing the progress
+		 * of each SnapshotTask.
+		 *
+		 * All SnapshotTasks are run to completion when running concurrently, after which the first failure
+		 * is rethrown with any subsequent failures added as suppressed exceptions.
+		 *
+		 * @param tasks the SnapshotTasks to run.
+		 */
+		protected void run(List<SnapshotTask<K, V>> tasks) {
+
+			int total = tasks.size();
+
+			AtomicInteger completed = new AtomicInteger(0);
+
+			List<Runnable> progressReportingTasks = tasks.stream()
+				.map(task -> (Runnable) () -> {
+
+					publishProgress(task, SnapshotProgress.started(task.getLocation(), completed.get(), total));
+
+					try {
+						task.run();
+						publishProgress(task,
+							SnapshotProgress.completed(task.getLocation(), completed.incrementAndGet(), total));
+					}
+					catch (RuntimeException cause) {
+						publishProgress(task,
+							SnapshotProgress.failed(task.getLocation(), completed.incrementAndGet(), total, cause));
+						throw cause;
+					}
+				})
+				.collect(Collectors.toList());
+
+			Executor executor = getExecutor().filter(it -> total > 1).orElse(null);
+
+			if (executor == null) {
+				progressReportingTasks.forEach(Runnable::run);
+			}
+			else {
+
+				List<CompletableFuture<Void>> futures = progressReportingTasks.stream()
+					.map(task -> CompletableFuture.runAsync(task, executor))
+					.collect(Collectors.toList());
+
+				RuntimeException failure = null;
+
+				for (CompletableFuture<Void> future : futures) {
+					try {
+						future.join();
+					}
+					catch (CompletionException cause) {
+
+						RuntimeException taskFailure = cause.getCause() instanceof RuntimeException
+							? (RuntimeException) cause.getCause()
+							: cause;
+
+						if (failure == null) {
+							failure = taskFailure;
+						}
+						else {
+							failure.addSuppressed(taskFailure);
+						}
+					}
+				}
+
+				if (failure != null) {
+					throw failure;
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		protected void publishProgress(SnapshotTask<K, V> task, SnapshotProgress progress) {
+
+			getApplicationEventPublisher().ifPresent(applicationEventPublisher -> {
+				try {
+					applicationEventPublisher.publishEvent(task.isExport()
+						? new ExportSnapshotApplicationEvent<>(this, task.getRegionPath(), progress,
+							task.getConfiguration())
+						: new ImportSnapshotApplicationEvent<>(this, task.getRegionPath(), progress,
+							task.getConfiguration()));
+				}
+				catch (RuntimeException cause) {
+					logDebug(cause, "Failed to publish snapshot progress [%s]", progress);
+				}
+			});
 		}
 
 		protected abstract File[] handleLocation(SnapshotMetadata<K, V> configuration);
@@ -519,6 +943,18 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 			return new File[] { file };
 		}
 
+		protected void deleteQuietly(File file) {
+
+			try {
+				if (file != null) {
+					Files.deleteIfExists(file.toPath());
+				}
+			}
+			catch (IOException cause) {
+				logDebug(cause, "Failed to delete [%s]", file);
+			}
+		}
+
 		protected boolean exceptionSuppressingClose(Closeable closeable) {
 
 			try {
@@ -565,6 +1001,70 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		}
 	}
 
+	/**
+	 * The SnapshotTask class is a unit of work, exporting or importing a single Region, snapshot file
+	 * or snapshot location, for which progress is published.
+	 *
+	 * @param <K> the class type of the Cache Region key.
+	 * @param <V> the class type of the Cache Region value.
+	 * @see SnapshotServiceFactoryBean.SnapshotServiceAdapterSupport#run(List)
+	 */
+	protected static final class SnapshotTask<K, V> implements Runnable {
+
+		private final boolean export;
+
+		private final File location;
+
+		private final Runnable operation;
+
+		private final SnapshotMetadata<K, V> configuration;
+
+		private final String regionPath;
+
+		static <K, V> SnapshotTask<K, V> newExportTask(SnapshotMetadata<K, V> configuration, String regionPath,
+				File location, Runnable operation) {
+
+			return new SnapshotTask<>(true, configuration, regionPath, location, operation);
+		}
+
+		static <K, V> SnapshotTask<K, V> newImportTask(SnapshotMetadata<K, V> configuration, String regionPath,
+				File location, Runnable operation) {
+
+			return new SnapshotTask<>(false, configuration, regionPath, location, operation);
+		}
+
+		private SnapshotTask(boolean export, SnapshotMetadata<K, V> configuration, String regionPath,
+				File location, Runnable operation) {
+
+			this.export = export;
+			this.configuration = configuration;
+			this.regionPath = regionPath;
+			this.location = location;
+			this.operation = operation;
+		}
+
+		protected SnapshotMetadata<K, V> getConfiguration() {
+			return this.configuration;
+		}
+
+		protected boolean isExport() {
+			return this.export;
+		}
+
+		protected File getLocation() {
+			return this.location;
+		}
+
+		protected String getRegionPath() {
+			return this.regionPath;
+		}
+
+		@Override
+		public void run() {
+			this.operation.run();
+		}
+	}
+
 	/**
 	 * The CacheSnapshotServiceAdapter is a SnapshotServiceAdapter adapting GemFire's CacheSnapshotService.
 	 *
@@ -572,17 +1072,158 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 	 */
 	protected static class CacheSnapshotServiceAdapter extends SnapshotServiceAdapterSupport<Object, Object> {
 
+		private final Cache cache;
+
 		private final CacheSnapshotService snapshotService;
 
 		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService) {
+			this(snapshotService, null);
+		}
+
+		public CacheSnapshotServiceAdapter(CacheSnapshotService snapshotService, Cache cache) {
 			Assert.notNull(snapshotService, "The backing CacheSnapshotService must not be null");
 			this.snapshotService = snapshotService;
+			this.cache = cache;
+		}
+
+		protected Optional<Cache> getCache() {
+			return Optional.ofNullable(this.cache);
 		}
 
 		protected CacheSnapshotService getSnapshotService() {
 			return this.snapshotService;
 		}
 
+		/**
+		 * Exports each Region in the Cache to a separate snapshot file, named like GemFire's CacheSnapshotService
+		 * names them, when exporting concurrently.
+		 */
+		@Override
+		protected List<SnapshotTask<Object, Object>> newExportTasks(SnapshotMetadata<Object, Object> configuration) {
+
+			Optional<Cache> cache = getCache().filter(it -> isConcurrent());
+
+			if (cache.isPresent()) {
+
+				File directory = configuration.getLocation();
+
+				Assert.state(directory.isDirectory() || directory.mkdirs(),
+					String.format("Failed to create directory [%s] in which to export snapshots", directory));
+
+				SnapshotOptions<Object, Object> options = createOptions(configuration);
+
+				List<SnapshotTask<Object, Object>> exportTasks = new ArrayList<>();
+
+				for (Region<?, ?> rootRegion : cache.get().rootRegions()) {
+
+					List<Region<?, ?>> regions = new ArrayList<>(rootRegion.subregions(true));
+
+					regions.add(rootRegion);
+
+					for (Region<?, ?> region : regions) {
+
+						File snapshot = new File(directory, String.format("snapshot%1$s%2$s",
+							region.getFullPath().replace(Region.SEPARATOR_CHAR, '-'),
+								RegionSnapshotService.SNAPSHOT_FILE_EXTENSION));
+
+						exportTasks.add(SnapshotTask.newExportTask(configuration, region.getFullPath(), snapshot,
+							() -> save(region, snapshot, configuration.getFormat(), options)));
+					}
+				}
+
+				return exportTasks;
+			}
+
+			return super.newExportTasks(configuration);
+		}
+
+		/**
+		 * Imports each entry of a ZIP or JAR archive separately, copying the entry to a short-lived file only
+		 * while the entry is loaded rather than extracting the whole archive up front.
+		 */
+		@Override
+		protected List<SnapshotTask<Object, Object>> newImportTasks(SnapshotMetadata<Object, Object> configuration) {
+
+			File location = configuration.getLocation();
+
+			if (configuration.isFile() && ArchiveFileFilter.INSTANCE.accept(location)) {
+
+				SnapshotOptions<Object, Object> options = createOptions(configuration);
+
+				return listArchiveEntries(location).stream()
+					.map(entryName -> SnapshotTask.newImportTask(configuration, getRegionPath(),
+						new File(location, entryName),
+							() -> loadArchiveEntry(location, entryName, configuration.getFormat(), options)))
+					.collect(Collectors.toList());
+			}
+
+			return super.newImportTasks(configuration);
+		}
+
+		protected List<String> listArchiveEntries(File archive) {
+
+			try (ZipFile zipFile = openArchive(archive)) {
+
+				return zipFile.stream()
+					.filter(entry -> !entry.isDirectory())
+					.map(ZipEntry::getName)
+					.collect(Collectors.toList());
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to read archive [%s] to import", archive),
+					cause);
+			}
+		}
+
+		protected void loadArchiveEntry(File archive, String entryName, SnapshotFormat format,
+				SnapshotOptions<Object, Object> options) {
+
+			File snapshot = null;
+
+			try (ZipFile zipFile = openArchive(archive);
+				 InputStream entryInputStream = zipFile.getInputStream(zipFile.getEntry(entryName))) {
+
+				snapshot = Files.createTempFile("snapshot-", "-" + toSimpleFilename(entryName)).toFile();
+
+				Files.copy(entryInputStream, snapshot.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (IOException cause) {
+
+				deleteQuietly(snapshot);
+
+				throw new ImportSnapshotException(String.format("Failed to read entry [%1$s] from archive [%2$s]",
+					entryName, archive), cause);
+			}
+
+			try {
+				load(format, options, snapshot);
+			}
+			finally {
+				deleteQuietly(snapshot);
+			}
+		}
+
+		private ZipFile openArchive(File archive) throws IOException {
+
+			return ArchiveFileFilter.INSTANCE.isJarFile(archive)
+				? new JarFile(archive, false, JarFile.OPEN_READ)
+				: new ZipFile(archive, ZipFile.OPEN_READ);
+		}
+
+		@SuppressWarnings("unchecked")
+		protected void save(Region<?, ?> region, File snapshot, SnapshotFormat format,
+				SnapshotOptions<Object, Object> options) {
+
+			try {
+				((RegionSnapshotService<Object, Object>) region.getSnapshotService()).save(snapshot, format, options);
+			}
+			catch (Throwable cause) {
+				throw new ExportSnapshotException(String.format(
+					"Failed to save snapshot of Region [%1$s] to file [%2$s] in format [%3$s] using options [%4$s]",
+						region.getFullPath(), snapshot, format, options), cause);
+			}
+		}
+
 		@Override
 		public SnapshotOptions<Object, Object> createOptions() {
 			return getSnapshotService().createOptions();
@@ -658,9 +1299,21 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 
 		private final RegionSnapshotService<K, V> snapshotService;
 
+		private final String regionPath;
+
 		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService) {
+			this(snapshotService, null);
+		}
+
+		public RegionSnapshotServiceAdapter(RegionSnapshotService<K, V> snapshotService, String regionPath) {
 			Assert.notNull(snapshotService, "The backing RegionSnapshotService must not be null");
 			this.snapshotService = snapshotService;
+			this.regionPath = regionPath;
+		}
+
+		@Override
+		protected String getRegionPath() {
+			return this.regionPath;
 		}
 
 		protected RegionSnapshotService<K, V> getSnapshotService() {
@@ -732,6 +1385,407 @@ public class SnapshotServiceFactoryBean<K, V> extends AbstractFactoryBeanSupport
 		}
 	}
 
+	/**
+	 * The IncrementalRegionSnapshotServiceAdapter is a RegionSnapshotServiceAdapter writing incremental snapshots
+	 * of a Region using the changes recorded by a RegionChangeTracker.
+	 *
+	 * The first export of each location by this adapter writes a full (base) snapshot, discarding any previous deltas,
+	 * unless the Region was last imported from that same location, in which case the existing base snapshot and deltas
+	 * are kept.  Each subsequent export writes a delta consisting of a GemFire snapshot file containing only the entries
+	 * changed since the previous export ({@literal <base>.delta-<n>.gfd}) along with a manifest recording the destroyed
+	 * keys, whether the Region was cleared, and the identifier of the base snapshot the delta applies to
+	 * ({@literal <base>.delta-<n>.manifest}).  Each base snapshot is identified by a random identifier written to
+	 * a sidecar file ({@literal <base>.id}) along with the base snapshot, so deltas still match their base snapshot
+	 * after the files are copied without preserving their timestamps.  A delta is only replayed once its manifest
+	 * has been written, and an import fails if a delta was taken against a different base snapshot.  Changes made
+	 * to the Region by an import are not tracked.
+	 *
+	 * Writing a delta costs time proportional to the number of entries changed since the previous export
+	 * rather than the size of the Region.
+	 *
+	 * @see SnapshotServiceFactoryBean.RegionSnapshotServiceAdapter
+	 * @see org.springframework.data.gemfire.snapshot.RegionChangeTracker
+	 */
+	protected static class IncrementalRegionSnapshotServiceAdapter<K, V> extends RegionSnapshotServiceAdapter<K, V> {
+
+		protected static final String BASE_SNAPSHOT_ID_FILE_EXTENSION = ".id";
+		protected static final String DELTA_FILE_INFIX = ".delta-";
+		protected static final String DELTA_MANIFEST_FILE_EXTENSION = ".manifest";
+
+		private final Region<K, V> region;
+
+		private final RegionChangeTracker<K, V> changeTracker;
+
+		private final Set<File> baseSnapshots = ConcurrentHashMap.newKeySet();
+
+		public IncrementalRegionSnapshotServiceAdapter(Region<K, V> region, RegionChangeTracker<K, V> changeTracker) {
+
+			super(requireRegion(region).getSnapshotService(), region.getFullPath());
+
+			Assert.notNull(changeTracker, "The RegionChangeTracker must not be null");
+
+			this.region = region;
+			this.changeTracker = changeTracker;
+		}
+
+		private static <K, V> Region<K, V> requireRegion(Region<K, V> region) {
+
+			Assert.notNull(region, "The Region must not be null");
+
+			return region;
+		}
+
+		protected RegionChangeTracker<K, V> getChangeTracker() {
+			return this.changeTracker;
+		}
+
+		protected Region<K, V> getRegion() {
+			return this.region;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public synchronized void doImport(SnapshotMetadata<K, V>... configurations) {
+
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations, SnapshotMetadata.class);
+
+			this.baseSnapshots.clear();
+
+			// the import, which is not tracked, becomes the state of the Region deltas are taken against
+			getChangeTracker().drain();
+
+			super.doImport(resolvedConfigurations);
+
+			// the Region now holds the base snapshot and deltas of a single location, to which deltas can be appended
+			if (resolvedConfigurations.length == 1) {
+				this.baseSnapshots.add(resolvedConfigurations[0].getLocation().getAbsoluteFile());
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public synchronized void doExport(SnapshotMetadata<K, V>... configurations) {
+
+			SnapshotMetadata<K, V>[] resolvedConfigurations = nullSafeArray(configurations, SnapshotMetadata.class);
+
+			RegionChangeTracker.Changes<K> changes = getChangeTracker().drain();
+
+			try {
+				run(stream(resolvedConfigurations)
+					.map(configuration -> newExportTask(configuration, changes))
+					.filter(Optional::isPresent)
+					.map(Optional::get)
+					.collect(Collectors.toList()));
+			}
+			catch (RuntimeException cause) {
+				getChangeTracker().restore(changes);
+				throw cause;
+			}
+		}
+
+		protected Optional<SnapshotTask<K, V>> newExportTask(SnapshotMetadata<K, V> configuration,
+				RegionChangeTracker.Changes<K> changes) {
+
+			File baseSnapshot = configuration.getLocation().getAbsoluteFile();
+
+			if (!this.baseSnapshots.contains(baseSnapshot) || !baseSnapshot.isFile()
+					|| readBaseSnapshotId(baseSnapshot) == null) {
+
+				return Optional.of(SnapshotTask.newExportTask(configuration, getRegionPath(), baseSnapshot, () -> {
+
+					// existing deltas no longer match the base snapshot once its identifier has been removed
+					deleteQuietly(toBaseSnapshotIdFile(baseSnapshot));
+					save(baseSnapshot, configuration.getFormat(), createOptions(configuration));
+					writeBaseSnapshotId(baseSnapshot, UUID.randomUUID().toString());
+					listDeltaFiles(baseSnapshot).forEach(this::deleteQuietly);
+					this.baseSnapshots.add(baseSnapshot);
+				}));
+			}
+
+			if (changes.isEmpty()) {
+				return Optional.empty();
+			}
+
+			int sequence = nextDeltaSequence(baseSnapshot);
+
+			File deltaSnapshot = newDeltaFile(baseSnapshot, sequence, RegionSnapshotService.SNAPSHOT_FILE_EXTENSION);
+			File deltaManifest = newDeltaFile(baseSnapshot, sequence, DELTA_MANIFEST_FILE_EXTENSION);
+
+			return Optional.of(SnapshotTask.newExportTask(configuration, getRegionPath(), deltaSnapshot, () -> {
+				try {
+					if (!changes.getChangedKeys().isEmpty()) {
+						saveChangedEntries(deltaSnapshot, configuration, changes.getChangedKeys());
+					}
+
+					writeDeltaManifest(deltaManifest, readBaseSnapshotId(baseSnapshot), changes);
+				}
+				catch (RuntimeException cause) {
+					deleteQuietly(deltaSnapshot);
+					deleteQuietly(deltaManifest);
+					throw cause;
+				}
+			}));
+		}
+
+		/**
+		 * Writes a GemFire snapshot file containing only the Region entries with the given changed keys, looking up
+		 * each entry by key rather than filtering an export of the entire Region.  Entries destroyed or invalidated
+		 * since the change was recorded are skipped, as are entries not accepted by the configured SnapshotFilter.
+		 *
+		 * @param deltaSnapshot the delta snapshot file to write.
+		 * @param configuration SnapshotMetadata describing the export.
+		 * @param changedKeys keys of the Region entries changed since the previous export.
+		 * @throws ExportSnapshotException if the delta snapshot cannot be written.
+		 */
+		protected void saveChangedEntries(File deltaSnapshot, SnapshotMetadata<K, V> configuration,
+				Set<K> changedKeys) {
+
+			SnapshotFilter<K, V> filter = configuration.getFilter();
+
+			try {
+
+				GFSnapshot.SnapshotWriter writer =
+					GFSnapshot.create(deltaSnapshot, getRegionPath(), (InternalCache) getRegion().getRegionService());
+
+				try {
+					for (K key : changedKeys) {
+
+						Region.Entry<K, V> entry = getRegion().getEntry(key);
+
+						if (isSnapshotEntry(entry, filter)) {
+							writer.snapshotEntry(new SnapshotPacket.SnapshotRecord(entry.getKey(), entry.getValue()));
+						}
+					}
+				}
+				finally {
+					writer.snapshotComplete();
+				}
+			}
+			catch (Throwable cause) {
+				throw new ExportSnapshotException(String.format(
+					"Failed to save delta snapshot to file [%1$s] in format [%2$s]",
+						deltaSnapshot, configuration.getFormat()), cause);
+			}
+		}
+
+		private boolean isSnapshotEntry(Region.Entry<K, V> entry, SnapshotFilter<K, V> filter) {
+
+			try {
+				return entry != null
+					&& entry.getValue() != null
+					&& (filter == null || filter.accept(new AbstractMap.SimpleImmutableEntry<>(entry.getKey(),
+						entry.getValue())));
+			}
+			catch (EntryDestroyedException ignore) {
+				return false;
+			}
+		}
+
+		@Override
+		protected List<SnapshotTask<K, V>> newImportTasks(SnapshotMetadata<K, V> configuration) {
+
+			File baseSnapshot = configuration.getLocation();
+
+			SnapshotOptions<K, V> options = createOptions(configuration);
+
+			return Collections.singletonList(SnapshotTask.newImportTask(configuration, getRegionPath(), baseSnapshot,
+				() -> getChangeTracker().runUntracked(() -> {
+
+					load(configuration.getFormat(), options, baseSnapshot);
+
+					for (File deltaManifest : listDeltaManifests(baseSnapshot)) {
+						replayDelta(baseSnapshot, deltaManifest, configuration.getFormat(), options);
+					}
+				})));
+		}
+
+		@SuppressWarnings("unchecked")
+		protected void replayDelta(File baseSnapshot, File deltaManifest, SnapshotFormat format,
+				SnapshotOptions<K, V> options) {
+
+			String baseSnapshotId = readBaseSnapshotId(baseSnapshot);
+
+			try (DataInputStream in = new DataInputStream(new FileInputStream(deltaManifest))) {
+
+				String deltaBaseSnapshotId = in.readUTF();
+
+				if (!deltaBaseSnapshotId.equals(baseSnapshotId)) {
+					throw new ImportSnapshotException(String.format("Delta [%1$s] was taken against base snapshot"
+						+ " [%2$s], but base snapshot [%3$s] is [%4$s]; remove the deltas that do not belong to"
+						+ " the base snapshot", deltaManifest, deltaBaseSnapshotId, baseSnapshot, baseSnapshotId));
+				}
+
+				boolean cleared = in.readBoolean();
+
+				int destroyedKeyCount = in.readInt();
+
+				List<K> destroyedKeys = new ArrayList<>(destroyedKeyCount);
+
+				for (int count = 0; count < destroyedKeyCount; count++) {
+					destroyedKeys.add(DataSerializer.readObject(in));
+				}
+
+				if (cleared) {
+					getRegion().removeAll(new ArrayList<>(getRegion().keySet()));
+				}
+
+				File deltaSnapshot = toDeltaSnapshot(deltaManifest);
+
+				if (deltaSnapshot.isFile()) {
+					load(format, options, deltaSnapshot);
+				}
+
+				if (!destroyedKeys.isEmpty()) {
+					getRegion().removeAll(destroyedKeys);
+				}
+			}
+			catch (IOException | ClassNotFoundException cause) {
+				throw new ImportSnapshotException(String.format("Failed to replay delta [%s]", deltaManifest), cause);
+			}
+		}
+
+		protected void writeDeltaManifest(File deltaManifest, String baseSnapshotId,
+				RegionChangeTracker.Changes<K> changes) {
+
+			Assert.hasText(baseSnapshotId, () -> String.format("The identifier of the base snapshot for delta [%s]"
+				+ " is required", deltaManifest));
+
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(deltaManifest))) {
+
+				out.writeUTF(baseSnapshotId);
+				out.writeBoolean(changes.isCleared());
+				out.writeInt(changes.getDestroyedKeys().size());
+
+				for (K key : changes.getDestroyedKeys()) {
+					DataSerializer.writeObject(key, out);
+				}
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format("Failed to write delta manifest [%s]", deltaManifest),
+					cause);
+			}
+		}
+
+		/**
+		 * Reads the identifier of the given base snapshot from its sidecar file.
+		 *
+		 * @param baseSnapshot the base snapshot file.
+		 * @return the identifier of the base snapshot, or {@literal null} if the base snapshot has no identifier.
+		 * @throws ImportSnapshotException if the identifier cannot be read.
+		 */
+		protected String readBaseSnapshotId(File baseSnapshot) {
+
+			File baseSnapshotIdFile = toBaseSnapshotIdFile(baseSnapshot);
+
+			if (!baseSnapshotIdFile.isFile()) {
+				return null;
+			}
+
+			try (DataInputStream in = new DataInputStream(new FileInputStream(baseSnapshotIdFile))) {
+				return in.readUTF();
+			}
+			catch (IOException cause) {
+				throw new ImportSnapshotException(String.format("Failed to read base snapshot identifier [%s]",
+					baseSnapshotIdFile), cause);
+			}
+		}
+
+		/**
+		 * Writes the identifier of the given base snapshot to its sidecar file, replacing any previous identifier.
+		 *
+		 * @param baseSnapshot the base snapshot file.
+		 * @param baseSnapshotId the identifier of the base snapshot.
+		 * @throws ExportSnapshotException if the identifier cannot be written.
+		 */
+		protected void writeBaseSnapshotId(File baseSnapshot, String baseSnapshotId) {
+
+			File baseSnapshotIdFile = toBaseSnapshotIdFile(baseSnapshot);
+
+			try {
+
+				File temporaryFile = File.createTempFile(baseSnapshotIdFile.getName(), ".tmp",
+					baseSnapshotIdFile.getParentFile());
+
+				try (DataOutputStream out = new DataOutputStream(new FileOutputStream(temporaryFile))) {
+					out.writeUTF(baseSnapshotId);
+				}
+				catch (IOException cause) {
+					deleteQuietly(temporaryFile);
+					throw cause;
+				}
+
+				Files.move(temporaryFile.toPath(), baseSnapshotIdFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+			}
+			catch (IOException cause) {
+				throw new ExportSnapshotException(String.format("Failed to write base snapshot identifier [%s]",
+					baseSnapshotIdFile), cause);
+			}
+		}
+
+		protected List<File> listDeltaManifests(File baseSnapshot) {
+
+			Pattern deltaFilePattern = newDeltaFilePattern(baseSnapshot);
+
+			return listDeltaFiles(baseSnapshot).stream()
+				.filter(file -> file.getName().endsWith(DELTA_MANIFEST_FILE_EXTENSION))
+				.sorted(Comparator.comparingInt(file -> toDeltaSequence(deltaFilePattern, file)))
+				.collect(Collectors.toList());
+		}
+
+		protected List<File> listDeltaFiles(File baseSnapshot) {
+
+			Pattern deltaFilePattern = newDeltaFilePattern(baseSnapshot);
+
+			File[] deltaFiles = Optional.ofNullable(baseSnapshot.getAbsoluteFile().getParentFile())
+				.map(directory -> directory.listFiles(file -> deltaFilePattern.matcher(file.getName()).matches()))
+				.orElse(null);
+
+			return Arrays.asList(nullSafeArray(deltaFiles, File.class));
+		}
+
+		protected int nextDeltaSequence(File baseSnapshot) {
+
+			Pattern deltaFilePattern = newDeltaFilePattern(baseSnapshot);
+
+			return listDeltaFiles(baseSnapshot).stream()
+				.mapToInt(file -> toDeltaSequence(deltaFilePattern, file))
+				.max()
+				.orElse(0) + 1;
+		}
+
+		private File toBaseSnapshotIdFile(File baseSnapshot) {
+			return new File(baseSnapshot.getAbsoluteFile().getParentFile(),
+				baseSnapshot.getName() + BASE_SNAPSHOT_ID_FILE_EXTENSION);
+		}
+
+		private File newDeltaFile(File baseSnapshot, int sequence, String fileExtension) {
+			return new File(baseSnapshot.getAbsoluteFile().getParentFile(),
+				baseSnapshot.getName() + DELTA_FILE_INFIX + sequence + fileExtension);
+		}
+
+		private Pattern newDeltaFilePattern(File baseSnapshot) {
+			return Pattern.compile(Pattern.quote(baseSnapshot.getName() + DELTA_FILE_INFIX) + "(\\d+)("
+				+ Pattern.quote(RegionSnapshotService.SNAPSHOT_FILE_EXTENSION) + "|"
+				+ Pattern.quote(DELTA_MANIFEST_FILE_EXTENSION) + ")");
+		}
+
+		private File toDeltaSnapshot(File deltaManifest) {
+
+			String deltaManifestName = deltaManifest.getName();
+
+			return new File(deltaManifest.getParentFile(), deltaManifestName.substring(0,
+				deltaManifestName.length() - DELTA_MANIFEST_FILE_EXTENSION.length())
+					+ RegionSnapshotService.SNAPSHOT_FILE_EXTENSION);
+		}
+
+		private int toDeltaSequence(Pattern deltaFilePattern, File deltaFile) {
+
+			Matcher matcher = deltaFilePattern.matcher(deltaFile.getName());
+
+			return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+		}
+	}
+
 	/**
 	 * The SnapshotMetadata class encapsulates details of the GemFire Cache or Region data snapshot
 	 * on either import or export.
@@ -54,4 +54,24 @@ public class ImportSnapshotApplicationEvent<K, V> extends SnapshotApplicationEve
 		super(source, regionPath, snapshotMetadata);
 	}
 
+	/**
+	 * Constructs an instance of ImportSnapshotApplicationEvent initialized with an event source, a pathname
+	 * of the Region which data is imported, the progress of the import along with meta-data describing
+	 * the details of the snapshot.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region; may be {@literal null} if unknown.
+	 * @param progress {@link SnapshotProgress} of the import in progress.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for the import.
+	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @since 3.0.0
+	 */
+	@SafeVarargs
+	public ImportSnapshotApplicationEvent(Object source, String regionPath, SnapshotProgress progress,
+			SnapshotMetadata<K, V>... snapshotMetadata) {
+
+		super(source, regionPath, progress, snapshotMetadata);
+	}
+
 }
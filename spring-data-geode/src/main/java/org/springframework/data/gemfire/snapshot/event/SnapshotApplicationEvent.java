@@ -37,6 +37,8 @@ public abstract class SnapshotApplicationEvent<K, V> extends ApplicationEvent {
 
 	private final SnapshotMetadata<K, V>[] snapshotMetadata;
 
+	private final SnapshotProgress progress;
+
 	private final String regionPath;
 
 	/**
@@ -61,8 +63,30 @@ public abstract class SnapshotApplicationEvent<K, V> extends ApplicationEvent {
 	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata
 	 */
 	public SnapshotApplicationEvent(Object source, String regionPath, SnapshotMetadata<K, V>... snapshotMetadata) {
+		this(source, regionPath, null, snapshotMetadata);
+	}
+
+	/**
+	 * Constructs an instance of SnapshotApplicationEvent initialized with an event source, a pathname of the Region
+	 * which data snapshots are imported/exported, the progress of the import/export along with meta-data describing
+	 * the details of the snapshot source.
+	 *
+	 * @param source the source of the ApplicationEvent.
+	 * @param regionPath absolute pathname of the Region.
+	 * @param progress {@link SnapshotProgress} of the import/export in progress; {@literal null} if this event
+	 * triggers an import/export.
+	 * @param snapshotMetadata an array of SnapshotMetadata containing details for each import/export.
+	 * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @since 3.0.0
+	 */
+	@SafeVarargs
+	protected SnapshotApplicationEvent(Object source, String regionPath, SnapshotProgress progress,
+			SnapshotMetadata<K, V>... snapshotMetadata) {
+
 		super(source);
 		this.snapshotMetadata = snapshotMetadata;
+		this.progress = progress;
 		this.regionPath = regionPath;
 	}
 
@@ -76,6 +100,19 @@ public abstract class SnapshotApplicationEvent<K, V> extends ApplicationEvent {
 		return regionPath;
 	}
 
+	/**
+	 * Gets the progress of a data import/export already in progress.
+	 *
+	 * @return the {@link SnapshotProgress} of the import/export, or {@literal null} if this event triggers
+	 * an import/export.
+	 * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+	 * @see #isProgressEvent()
+	 * @since 3.0.0
+	 */
+	public SnapshotProgress getProgress() {
+		return progress;
+	}
+
 	/**
 	 * Gets the meta-data used to perform the GemFire Cache Region data snapshots.
 	 *
@@ -96,6 +133,17 @@ public abstract class SnapshotApplicationEvent<K, V> extends ApplicationEvent {
 		return !isRegionSnapshotEvent();
 	}
 
+	/**
+	 * Determines whether this event reports the progress of a data import/export, rather than triggering one.
+	 *
+	 * @return a boolean value indicating whether this event reports the progress of a data import/export.
+	 * @see #getProgress()
+	 * @since 3.0.0
+	 */
+	public boolean isProgressEvent() {
+		return getProgress() != null;
+	}
+
 	/**
 	 * Determines whether this event indicates a Region-specific snapshot.
 	 *
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot.event;
+
+import java.io.File;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link SnapshotProgress} describes the progress of a single unit of work, such as one {@link File snapshot file}
+ * or one Region, performed during a data snapshot import or export.
+ *
+ * {@link SnapshotProgress} is carried by {@link ExportSnapshotApplicationEvent ExportSnapshotApplicationEvents}
+ * and {@link ImportSnapshotApplicationEvent ImportSnapshotApplicationEvents} published while the snapshot is taken,
+ * which are distinguished from the events triggering a snapshot by {@link SnapshotApplicationEvent#isProgressEvent()}.
+ *
+ * @author agent
+ * @see java.io.File
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent
+ * @since 3.0.0
+ */
+public class SnapshotProgress {
+
+	private final int completed;
+	private final int total;
+
+	private final File location;
+
+	private final Status status;
+
+	private final Throwable cause;
+
+	/**
+	 * Factory method used to construct a new {@link SnapshotProgress} signaling the unit of work has started.
+	 *
+	 * @param location {@link File} being imported or exported; must not be {@literal null}.
+	 * @param completed number of units of work completed so far.
+	 * @param total total number of units of work in the snapshot import or export.
+	 * @return a new {@link SnapshotProgress} in the {@link Status#STARTED} state.
+	 */
+	public static @NonNull SnapshotProgress started(@NonNull File location, int completed, int total) {
+		return new SnapshotProgress(location, Status.STARTED, completed, total, null);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link SnapshotProgress} signaling the unit of work has completed.
+	 *
+	 * @param location {@link File} that was imported or exported; must not be {@literal null}.
+	 * @param completed number of units of work completed so far, including this one.
+	 * @param total total number of units of work in the snapshot import or export.
+	 * @return a new {@link SnapshotProgress} in the {@link Status#COMPLETED} state.
+	 */
+	public static @NonNull SnapshotProgress completed(@NonNull File location, int completed, int total) {
+		return new SnapshotProgress(location, Status.COMPLETED, completed, total, null);
+	}
+
+	/**
+	 * Factory method used to construct a new {@link SnapshotProgress} signaling the unit of work has failed.
+	 *
+	 * @param location {@link File} that failed to be imported or exported; must not be {@literal null}.
+	 * @param completed number of units of work completed so far, including this one.
+	 * @param total total number of units of work in the snapshot import or export.
+	 * @param cause {@link Throwable} causing the failure.
+	 * @return a new {@link SnapshotProgress} in the {@link Status#FAILED} state.
+	 */
+	public static @NonNull SnapshotProgress failed(@NonNull File location, int completed, int total,
+			@Nullable Throwable cause) {
+
+		return new SnapshotProgress(location, Status.FAILED, completed, total, cause);
+	}
+
+	/**
+	 * Constructs a new instance of {@link SnapshotProgress}.
+	 *
+	 * @param location {@link File} being imported or exported; must not be {@literal null}.
+	 * @param status {@link Status} of the unit of work; must not be {@literal null}.
+	 * @param completed number of units of work completed so far.
+	 * @param total total number of units of work in the snapshot import or export.
+	 * @param cause {@link Throwable} causing the unit of work to fail, if any.
+	 * @throws IllegalArgumentException if the {@link File location} or {@link Status} is {@literal null}.
+	 */
+	protected SnapshotProgress(@NonNull File location, @NonNull Status status, int completed, int total,
+			@Nullable Throwable cause) {
+
+		Assert.notNull(location, "Location must not be null");
+		Assert.notNull(status, "Status must not be null");
+
+		this.location = location;
+		this.status = status;
+		this.completed = completed;
+		this.total = total;
+		this.cause = cause;
+	}
+
+	/**
+	 * Returns the {@link Throwable} causing the unit of work to fail.
+	 *
+	 * @return the {@link Throwable} causing the unit of work to fail, or {@literal null}
+	 * if the unit of work has not {@link Status#FAILED}.
+	 */
+	public @Nullable Throwable getCause() {
+		return this.cause;
+	}
+
+	/**
+	 * Returns the number of units of work completed so far.
+	 *
+	 * @return the number of units of work completed so far.
+	 */
+	public int getCompleted() {
+		return this.completed;
+	}
+
+	/**
+	 * Returns the {@link File} being imported or exported.
+	 *
+	 * @return the {@link File} being imported or exported.
+	 */
+	public @NonNull File getLocation() {
+		return this.location;
+	}
+
+	/**
+	 * Returns the {@link Status} of the unit of work.
+	 *
+	 * @return the {@link Status} of the unit of work.
+	 */
+	public @NonNull Status getStatus() {
+		return this.status;
+	}
+
+	/**
+	 * Returns the total number of units of work in the snapshot import or export.
+	 *
+	 * @return the total number of units of work in the snapshot import or export.
+	 */
+	public int getTotal() {
+		return this.total;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%1$s [%2$s] (%3$d of %4$d)", getStatus(), getLocation(), getCompleted(), getTotal());
+	}
+
+	/**
+	 * Status of a unit of work performed during a data snapshot import or export.
+	 */
+	public enum Status {
+		STARTED, COMPLETED, FAILED
+	}
+}
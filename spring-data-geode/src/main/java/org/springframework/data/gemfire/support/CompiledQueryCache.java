@@ -0,0 +1,254 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Bounded, {@literal Least Recently Used (LRU)} cache of compiled (parsed) Apache Geode {@link Query} objects
+ * keyed by the OQL {@link String query} and the {@link QueryService} that compiled the {@link Query}.
+ *
+ * When the cache reaches its configured {@link #getCapacity() capacity}, the least recently used {@link Query}
+ * is evicted. A {@link #getCapacity() capacity} of {@literal 0} disables caching altogether and every request
+ * compiles a new {@link Query}.
+ *
+ * Hit, miss and eviction counts are recorded and may be inspected at runtime.
+ *
+ * @author agent
+ * @see org.apache.geode.cache.query.Query
+ * @see org.apache.geode.cache.query.QueryService
+ * @since 3.0.0
+ */
+public class CompiledQueryCache {
+
+	public static final int DEFAULT_CAPACITY = 256;
+
+	private final AtomicLong evictionCount = new AtomicLong(0L);
+	private final AtomicLong hitCount = new AtomicLong(0L);
+	private final AtomicLong missCount = new AtomicLong(0L);
+
+	private final int capacity;
+
+	private final Map<QueryKey, Query> cache;
+
+	/**
+	 * Constructs a new instance of {@link CompiledQueryCache} initialized with the {@link #DEFAULT_CAPACITY}.
+	 *
+	 * @see #CompiledQueryCache(int)
+	 */
+	public CompiledQueryCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Constructs a new instance of {@link CompiledQueryCache} initialized with the given {@link Integer capacity}.
+	 *
+	 * @param capacity {@link Integer maximum number} of compiled {@link Query Queries} to keep;
+	 * must be greater than equal to {@literal 0}.
+	 * @throws IllegalArgumentException if {@link Integer capacity} is less than {@literal 0}.
+	 */
+	public CompiledQueryCache(int capacity) {
+
+		Assert.isTrue(capacity >= 0, String.format("Capacity [%d] must be greater than equal to 0", capacity));
+
+		this.capacity = capacity;
+
+		this.cache = new LinkedHashMap<QueryKey, Query>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<QueryKey, Query> eldest) {
+
+				boolean evict = size() > CompiledQueryCache.this.capacity;
+
+				if (evict) {
+					CompiledQueryCache.this.evictionCount.incrementAndGet();
+				}
+
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns the {@link Integer maximum number} of compiled {@link Query Queries} kept by this cache.
+	 *
+	 * @return the {@link Integer maximum number} of compiled {@link Query Queries} kept by this cache.
+	 */
+	public int getCapacity() {
+		return this.capacity;
+	}
+
+	/**
+	 * Determines whether caching is enabled.
+	 *
+	 * @return a boolean value indicating whether caching is enabled.
+	 * @see #getCapacity()
+	 */
+	public boolean isEnabled() {
+		return getCapacity() > 0;
+	}
+
+	/**
+	 * Returns the number of times a compiled {@link Query} was found in this cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHitCount() {
+		return this.hitCount.get();
+	}
+
+	/**
+	 * Returns the number of times a {@link Query} had to be compiled because it was not present in this cache.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMissCount() {
+		return this.missCount.get();
+	}
+
+	/**
+	 * Returns the number of compiled {@link Query Queries} evicted from this cache to stay within
+	 * the configured {@link #getCapacity() capacity}.
+	 *
+	 * @return the number of cache evictions.
+	 */
+	public long getEvictionCount() {
+		return this.evictionCount.get();
+	}
+
+	/**
+	 * Returns the number of compiled {@link Query Queries} currently held by this cache.
+	 *
+	 * @return the number of compiled {@link Query Queries} currently held by this cache.
+	 */
+	public synchronized int size() {
+		return this.cache.size();
+	}
+
+	/**
+	 * Removes all compiled {@link Query Queries} from this cache.
+	 *
+	 * Hit, miss and eviction counts are not reset.
+	 */
+	public synchronized void clear() {
+		this.cache.clear();
+	}
+
+	/**
+	 * Returns the compiled {@link Query} for the given OQL {@link String query} using the given {@link QueryService},
+	 * compiling and caching a new {@link Query} if one is not already present.
+	 *
+	 * The {@link Query} is compiled outside the cache lock, so concurrent misses for different
+	 * OQL {@link String queries} do not serialize behind one another.
+	 *
+	 * @param queryService {@link QueryService} used to compile the {@link Query}; must not be {@literal null}.
+	 * @param query OQL {@link String query} to compile; must not be {@literal null}.
+	 * @return the compiled {@link Query}.
+	 * @throws IllegalArgumentException if either the {@link QueryService} or OQL {@link String query}
+	 * is {@literal null}.
+	 * @see org.apache.geode.cache.query.QueryService#newQuery(String)
+	 */
+	public @NonNull Query getQuery(@NonNull QueryService queryService, @NonNull String query) {
+
+		Assert.notNull(queryService, "QueryService must not be null");
+		Assert.notNull(query, "Query must not be null");
+
+		if (!isEnabled()) {
+			this.missCount.incrementAndGet();
+			return queryService.newQuery(query);
+		}
+
+		QueryKey queryKey = new QueryKey(queryService, query);
+
+		Query compiledQuery;
+
+		synchronized (this) {
+			compiledQuery = this.cache.get(queryKey);
+		}
+
+		if (compiledQuery != null) {
+			this.hitCount.incrementAndGet();
+			return compiledQuery;
+		}
+
+		this.missCount.incrementAndGet();
+
+		Query newQuery = queryService.newQuery(query);
+
+		synchronized (this) {
+			compiledQuery = this.cache.putIfAbsent(queryKey, newQuery);
+		}
+
+		return compiledQuery != null ? compiledQuery : newQuery;
+	}
+
+	@Override
+	public String toString() {
+
+		return String.format("%1$s{capacity=%2$d, size=%3$d, hits=%4$d, misses=%5$d, evictions=%6$d}",
+			getClass().getSimpleName(), getCapacity(), size(), getHitCount(), getMissCount(), getEvictionCount());
+	}
+
+	/**
+	 * Cache key composed of the {@link QueryService} (by identity) and OQL {@link String query}.
+	 */
+	private static final class QueryKey {
+
+		private final QueryService queryService;
+
+		private final String query;
+
+		private final int hashCode;
+
+		private QueryKey(QueryService queryService, String query) {
+
+			this.queryService = queryService;
+			this.query = query;
+			this.hashCode = 31 * System.identityHashCode(queryService) + ObjectUtils.nullSafeHashCode(query);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof QueryKey)) {
+				return false;
+			}
+
+			QueryKey that = (QueryKey) obj;
+
+			return this.queryService == that.queryService
+				&& this.query.equals(that.query);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hashCode;
+		}
+	}
+}
@@ -187,6 +187,43 @@ public class GemfireTemplateUnitTests extends IntegrationTestsSupport {
 		verifyNoMoreInteractions(mockSelectResults);
 	}
 
+	@Test
+	public void findReusesCompiledQueryAndResolvedQueryService() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example WHERE name = $1";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		assertThat(template.find(expectedQuery, "one")).isEqualTo(mockSelectResults);
+		assertThat(template.find(expectedQuery, "two")).isEqualTo(mockSelectResults);
+		assertThat(template.getQueryCache().getHitCount()).isEqualTo(1L);
+		assertThat(template.getQueryCache().getMissCount()).isEqualTo(1L);
+
+		verify(mockRegionService, times(1)).getQueryService();
+		verify(mockQueryService, times(1)).newQuery(eq(expectedQuery));
+		verify(mockQuery, times(1)).execute(eq("one"));
+		verify(mockQuery, times(1)).execute(eq("two"));
+	}
+
+	@Test
+	public void findWithQueryCacheDisabledCompilesQueryOnEveryInvocation() throws Exception {
+
+		String expectedQuery = "SELECT * FROM /Example";
+
+		SelectResults<?> mockSelectResults = mock(SelectResults.class);
+
+		when(mockQuery.execute(any(Object.class))).thenReturn(mockSelectResults);
+
+		template.setQueryCacheSize(0);
+
+		template.find(expectedQuery, "arg");
+		template.find(expectedQuery, "arg");
+
+		verify(mockQueryService, times(2)).newQuery(eq(expectedQuery));
+	}
+
 	@Test(expected = InvalidDataAccessApiUsageException.class)
 	public void findWithSingleResultQueryThrowsInvalidDataAccessApiUsageException() throws Exception {
 
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit Tests for {@link ReactiveGemfireTemplate}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.GemfireTemplate
+ * @see org.springframework.data.gemfire.ReactiveGemfireTemplate
+ * @see reactor.core.scheduler.Scheduler
+ * @since 3.0.0
+ */
+@SuppressWarnings("unchecked")
+public class ReactiveGemfireTemplateUnitTests {
+
+	private static final String SCHEDULER_NAME = "test-reactive-template";
+
+	private GemfireTemplate mockTemplate;
+
+	private ReactiveGemfireTemplate template;
+
+	private Scheduler scheduler;
+
+	@Before
+	public void setup() {
+
+		this.mockTemplate = mock(GemfireTemplate.class);
+		this.scheduler = Schedulers.newSingle(SCHEDULER_NAME);
+		this.template = new ReactiveGemfireTemplate(this.mockTemplate, this.scheduler);
+	}
+
+	@After
+	public void tearDown() {
+		this.scheduler.dispose();
+	}
+
+	@Test
+	public void constructWithNullTemplateThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ReactiveGemfireTemplate((GemfireTemplate) null, this.scheduler))
+			.withMessage("GemfireTemplate must not be null");
+	}
+
+	@Test
+	public void constructWithNullSchedulerThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ReactiveGemfireTemplate(this.mockTemplate, null))
+			.withMessage("Scheduler must not be null");
+	}
+
+	@Test
+	public void constructWithTemplateUsesDefaultScheduler() {
+
+		ReactiveGemfireTemplate template = new ReactiveGemfireTemplate(this.mockTemplate);
+
+		assertThat(template.getTemplate()).isSameAs(this.mockTemplate);
+		assertThat(template.getScheduler()).isSameAs(ReactiveGemfireTemplate.getDefaultScheduler());
+	}
+
+	@Test
+	public void operationsAreLazyAndRunOnScheduler() {
+
+		AtomicReference<String> threadName = new AtomicReference<>();
+
+		when(this.mockTemplate.get("key")).thenAnswer(invocation -> {
+			threadName.set(Thread.currentThread().getName());
+			return "value";
+		});
+
+		Mono<String> value = this.template.get("key");
+
+		verifyNoInteractions(this.mockTemplate);
+
+		assertThat(value.block()).isEqualTo("value");
+		assertThat(threadName.get()).startsWith(SCHEDULER_NAME);
+	}
+
+	@Test
+	public void nullResultCompletesEmpty() {
+
+		assertThat(this.template.get("key").hasElement().block()).isFalse();
+		assertThat(this.template.remove("key").hasElement().block()).isFalse();
+
+		verify(this.mockTemplate).get("key");
+		verify(this.mockTemplate).remove("key");
+	}
+
+	@Test
+	public void voidOperationsComplete() {
+
+		Map<String, String> map = Collections.singletonMap("key", "value");
+
+		this.template.create("key", "value").block();
+		this.template.putAll(map).block();
+		this.template.removeAll(List.of("key")).block();
+
+		verify(this.mockTemplate).create("key", "value");
+		verify(this.mockTemplate).putAll(map);
+		verify(this.mockTemplate).removeAll(List.of("key"));
+	}
+
+	@Test
+	public void replaceEmitsResult() {
+
+		when(this.mockTemplate.replace("key", "old", "new")).thenReturn(true);
+
+		assertThat(this.template.replace("key", "old", "new").block()).isTrue();
+	}
+
+	@Test
+	public void findEmitsResults() {
+
+		SelectResults<Integer> mockSelectResults = mock(SelectResults.class);
+
+		when(mockSelectResults.asList()).thenReturn(Arrays.asList(1, 2, 3, 4, 5));
+		when(this.mockTemplate.<Integer>find("SELECT * FROM /Example WHERE id > $1", 0))
+			.thenReturn(mockSelectResults);
+
+		assertThat(this.template.<Integer>find("SELECT * FROM /Example WHERE id > $1", 0)
+			.limitRate(2).take(3).collectList().block()).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	public void queryWithNullResultsCompletesEmpty() {
+		assertThat(this.template.query("id > 0").collectList().block()).isEmpty();
+	}
+
+	@Test
+	public void findSignalsDataAccessException() {
+
+		when(this.mockTemplate.find(any(String.class), any()))
+			.thenThrow(new InvalidDataAccessApiUsageException("TEST"));
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class)
+			.isThrownBy(() -> this.template.find("SELECT * FROM /Example", 1).blockFirst())
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void executeRunsCallback() {
+
+		doAnswer(invocation -> Thread.currentThread().getName()).when(this.mockTemplate).execute(any());
+
+		assertThat(this.template.<String>execute(region -> null).block()).startsWith(SCHEDULER_NAME);
+	}
+
+	@Test
+	public void executeWithNullCallbackThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.template.execute(null))
+			.withMessage("GemfireCallback must not be null");
+	}
+}
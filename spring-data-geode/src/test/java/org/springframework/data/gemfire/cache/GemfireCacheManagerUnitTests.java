@@ -17,6 +17,8 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -29,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.Executor;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -36,8 +39,11 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.GemFireCache;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 
 import org.springframework.cache.Cache;
 
@@ -354,4 +360,44 @@ public class GemfireCacheManagerUnitTests {
 
 		assertThat(cacheManager.getRegions()).isNull();
 	}
+
+	@Test
+	public void newGemfireCacheAppliesAsyncExecutor() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		cacheManager.setAsyncExecutor(mockExecutor);
+
+		assertThat(cacheManager.newGemfireCache(mockRegion("Example")).getAsyncExecutor()).isSameAs(mockExecutor);
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void newGemfireCacheEnablesNearCacheForClientProxyRegionsOnly() {
+
+		Region<Object, Object> mockProxyRegion = mock(Region.class);
+		RegionAttributes<Object, Object> mockProxyRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockProxyRegion.getAttributes()).thenReturn(mockProxyRegionAttributes);
+		when(mockProxyRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class));
+		when(mockProxyRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockProxyRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.EMPTY);
+
+		Region<Object, Object> mockCachingProxyRegion = mock(Region.class);
+		RegionAttributes<Object, Object> mockCachingProxyRegionAttributes = mock(RegionAttributes.class);
+
+		when(mockCachingProxyRegion.getAttributes()).thenReturn(mockCachingProxyRegionAttributes);
+		when(mockCachingProxyRegionAttributes.getPoolName()).thenReturn("DEFAULT");
+		when(mockCachingProxyRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.NORMAL);
+
+		assertThat(cacheManager.newGemfireCache(mockProxyRegion).isNearCacheEnabled()).isFalse();
+
+		cacheManager.setNearCacheSize(100);
+
+		assertThat(cacheManager.newGemfireCache(mockProxyRegion).isNearCacheEnabled()).isTrue();
+		assertThat(cacheManager.newGemfireCache(mockCachingProxyRegion).isNearCacheEnabled()).isFalse();
+
+		verify(mockProxyRegion, times(1)).registerInterestForAllKeys(any(), anyBoolean(), anyBoolean());
+		verify(mockCachingProxyRegion, never()).registerInterestForAllKeys(any(), anyBoolean(), anyBoolean());
+	}
 }
@@ -17,24 +17,48 @@
 package org.springframework.data.gemfire.cache;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.cache.AttributesMutator;
+import org.apache.geode.cache.CacheListener;
+import org.apache.geode.cache.DataPolicy;
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.InterestResultPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
 
 import org.springframework.cache.Cache;
 
@@ -293,4 +317,450 @@ public class GemfireCacheUnitTests {
 
 		verify(mockRegion, times(1)).putIfAbsent(eq("key"), eq("mockValue"));
 	}
+
+	@SuppressWarnings("unchecked")
+	private Map<Object, Object> mockRegionData() {
+
+		Map<Object, Object> data = new ConcurrentHashMap<>();
+
+		lenient().doAnswer(invocation -> data.get(invocation.getArgument(0))).when(mockRegion).get(any());
+		lenient().doAnswer(invocation -> data.put(invocation.getArgument(0), invocation.getArgument(1)))
+			.when(mockRegion).put(any(), any());
+		lenient().doAnswer(invocation -> data.remove(invocation.getArgument(0))).when(mockRegion).remove(any());
+
+		return data;
+	}
+
+	@Test
+	public void getWithValueLoaderLoadsValueOnceForConcurrentCallersRequestingSameKey() throws Exception {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Callable<String> valueLoader = () -> {
+			loadCount.incrementAndGet();
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return "value";
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			Future<String> first = executor.submit(() -> cache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> second = executor.submit(() -> cache.get("key", valueLoader));
+			Future<String> third = executor.submit(() -> cache.get("key", valueLoader));
+
+			release.countDown();
+
+			assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			assertThat(third.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			assertThat(loadCount.get()).isEqualTo(1);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderLoadsValuesForDifferentKeysInParallel() throws Exception {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		// each value loader waits for the other to start, which would time out if loads were serialized
+		CountDownLatch bothLoading = new CountDownLatch(2);
+
+		Callable<Boolean> valueLoader = () -> {
+			bothLoading.countDown();
+			return bothLoading.await(5, TimeUnit.SECONDS);
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<Boolean> one = executor.submit(() -> cache.get("one", valueLoader));
+			Future<Boolean> two = executor.submit(() -> cache.get("two", valueLoader));
+
+			assertThat(one.get(10, TimeUnit.SECONDS)).isTrue();
+			assertThat(two.get(10, TimeUnit.SECONDS)).isTrue();
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderSupportsReentrantLoadOfSameKey() {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		assertThat(cache.get("key", () -> cache.get("key", () -> "inner") + "-outer")).isEqualTo("inner-outer");
+	}
+
+	@Test
+	public void getWithValueLoaderSharesValueRetrievalExceptionWithWaitingCallers() throws Exception {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Callable<String> valueLoader = () -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			throw new IllegalStateException("test");
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> first = executor.submit(() -> cache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> second = executor.submit(() -> cache.get("key", valueLoader));
+
+			release.countDown();
+
+			for (Future<String> future : Arrays.asList(first, second)) {
+				assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(Cache.ValueRetrievalException.class)
+					.hasRootCauseInstanceOf(IllegalStateException.class);
+			}
+
+			assertThat(cache.get("key", () -> "recovered")).isEqualTo("recovered");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void getWithValueLoaderSharesErrorWithWaitingCallers() throws Exception {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		Callable<String> valueLoader = () -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			throw new AssertionError("test");
+		};
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			Future<String> first = executor.submit(() -> cache.get("key", valueLoader));
+
+			assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+			Future<String> second = executor.submit(() -> cache.get("key", valueLoader));
+
+			release.countDown();
+
+			for (Future<String> future : Arrays.asList(first, second)) {
+				assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+					.isInstanceOf(ExecutionException.class)
+					.hasCauseInstanceOf(AssertionError.class);
+			}
+
+			assertThat(cache.get("key", () -> "recovered")).isEqualTo("recovered");
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void retrieveReturnsValueAsynchronously() throws Exception {
+
+		mockRegionData().put("key", "value");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setAsyncExecutor(Runnable::run);
+
+		assertThat(cache.retrieve("key").get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(cache.retrieve("missing").get(5, TimeUnit.SECONDS)).isNull();
+	}
+
+	@Test
+	public void retrieveWithValueLoaderLoadsAndCachesMissingValue() throws Exception {
+
+		Map<Object, Object> data = mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		AtomicInteger loadCount = new AtomicInteger(0);
+
+		CompletableFuture<String> loadedValue = new CompletableFuture<>();
+
+		CompletableFuture<String> first = cache.retrieve("key", () -> {
+			loadCount.incrementAndGet();
+			return loadedValue;
+		});
+
+		CompletableFuture<String> second = cache.retrieve("key", () -> {
+			loadCount.incrementAndGet();
+			return loadedValue;
+		});
+
+		loadedValue.complete("value");
+
+		assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(second.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+		assertThat(loadCount.get()).isLessThanOrEqualTo(2);
+		assertThat(data).containsEntry("key", "value");
+		assertThat(cache.retrieve("key", () -> CompletableFuture.completedFuture("other"))
+			.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+	}
+
+	@Test
+	public void retrieveWithValueLoaderPropagatesLoaderFailure() {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		CompletableFuture<String> value =
+			cache.retrieve("key", () -> CompletableFuture.failedFuture(new IllegalStateException("test")));
+
+		assertThatThrownBy(() -> value.get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	public void retrieveWithValueLoaderThrowingErrorCompletesInFlightLoad() throws Exception {
+
+		mockRegionData();
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		assertThatThrownBy(() -> cache.retrieve("key", () -> {
+			throw new AssertionError("test");
+		}).get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(AssertionError.class);
+
+		assertThat(cache.retrieve("key", () -> CompletableFuture.completedFuture("recovered"))
+			.get(5, TimeUnit.SECONDS)).isEqualTo("recovered");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void nearCacheServesRepeatedReadsAndIsInvalidatedByRegionEvents() {
+
+		Map<Object, Object> data = mockRegionData();
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("DEFAULT").when(mockRegionAttributes).getPoolName();
+		doReturn(DataPolicy.EMPTY).when(mockRegionAttributes).getDataPolicy();
+		doReturn(mockAttributesMutator).when(mockRegion).getAttributesMutator();
+
+		data.put("key", "one");
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion).withNearCache(10);
+
+		ArgumentCaptor<CacheListener<Object, Object>> listener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(listener.capture());
+		verify(mockRegion, times(1)).registerInterestForAllKeys(eq(InterestResultPolicy.NONE), eq(false), eq(false));
+
+		assertThat(cache.isNearCacheEnabled()).isTrue();
+		assertThat(cache.get("key", String.class)).isEqualTo("one");
+		assertThat(cache.get("key", String.class)).isEqualTo("one");
+		assertThat(cache.retrieve("key").join()).isEqualTo("one");
+
+		verify(mockRegion, times(1)).get(eq("key"));
+
+		data.put("key", "two");
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		doReturn("key").when(mockEntryEvent).getKey();
+
+		listener.getValue().afterUpdate(mockEntryEvent);
+
+		assertThat(cache.get("key", String.class)).isEqualTo("two");
+
+		verify(mockRegion, times(2)).get(eq("key"));
+
+		cache.evict("key");
+
+		assertThat(cache.get("key", String.class)).isNull();
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void withNearCacheForNonProxyRegionThrowsIllegalArgumentException() {
+		GemfireCache.wrap(mockRegion).withNearCache(10);
+	}
+
+	private void mockProxyRegionWithNearCache() {
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class);
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class);
+
+		doReturn(mockRegionAttributes).when(mockRegion).getAttributes();
+		doReturn("DEFAULT").when(mockRegionAttributes).getPoolName();
+		doReturn(DataPolicy.EMPTY).when(mockRegionAttributes).getDataPolicy();
+		doReturn(mockAttributesMutator).when(mockRegion).getAttributesMutator();
+	}
+
+	@SuppressWarnings("unchecked")
+	private CacheListener<Object, Object> captureNearCacheListener() {
+
+		ArgumentCaptor<CacheListener<Object, Object>> listener = ArgumentCaptor.forClass(CacheListener.class);
+
+		verify(mockRegion.getAttributesMutator(), times(1)).addCacheListener(listener.capture());
+
+		return listener.getValue();
+	}
+
+	@SuppressWarnings("unchecked")
+	private EntryEvent<Object, Object> mockEntryEvent(Object key, boolean originRemote) {
+
+		EntryEvent<Object, Object> mockEntryEvent = mock(EntryEvent.class);
+
+		lenient().doReturn(key).when(mockEntryEvent).getKey();
+		lenient().doReturn(originRemote).when(mockEntryEvent).isOriginRemote();
+
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void putWithNearCacheCachesWrittenValueDespiteItsOwnLocalRegionEvent() {
+
+		Map<Object, Object> data = new ConcurrentHashMap<>();
+
+		mockProxyRegionWithNearCache();
+		lenient().doAnswer(invocation -> data.get(invocation.getArgument(0))).when(mockRegion).get(any());
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion).withNearCache(10);
+
+		CacheListener<Object, Object> listener = captureNearCacheListener();
+
+		doAnswer(invocation -> {
+			data.put(invocation.getArgument(0), invocation.getArgument(1));
+			listener.afterCreate(mockEntryEvent(invocation.getArgument(0), false));
+			return null;
+		}).when(mockRegion).put(any(), any());
+
+		cache.put("key", "value");
+
+		assertThat(cache.get("key", String.class)).isEqualTo("value");
+
+		verify(mockRegion, never()).get(any());
+	}
+
+	@Test
+	public void putWithNearCacheDoesNotCacheValueInvalidatedByConcurrentRemoteUpdate() {
+
+		Map<Object, Object> data = new ConcurrentHashMap<>();
+
+		mockProxyRegionWithNearCache();
+		lenient().doAnswer(invocation -> data.get(invocation.getArgument(0))).when(mockRegion).get(any());
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion).withNearCache(10);
+
+		CacheListener<Object, Object> listener = captureNearCacheListener();
+
+		doAnswer(invocation -> {
+			// a remote update of the same key arrives while the put is in progress
+			data.put(invocation.getArgument(0), "remote");
+			listener.afterUpdate(mockEntryEvent(invocation.getArgument(0), true));
+			return null;
+		}).when(mockRegion).put(any(), any());
+
+		cache.put("key", "local");
+
+		assertThat(cache.get("key", String.class)).isEqualTo("remote");
+
+		verify(mockRegion, times(1)).get(eq("key"));
+	}
+
+	@Test
+	public void nearCacheInvalidationOfAnotherKeyDoesNotRejectPutIfValid() {
+
+		NearCache nearCache = new NearCache(10);
+
+		long stamp = nearCache.stamp(1);
+
+		nearCache.invalidate(2);
+		nearCache.putIfValid(1, "one", stamp);
+
+		assertThat(nearCache.get(1)).isEqualTo("one");
+
+		stamp = nearCache.stamp(1);
+
+		nearCache.invalidate(1);
+		nearCache.putIfValid(1, "uno", stamp);
+
+		assertThat(nearCache.get(1)).isNull();
+	}
+
+	@Test
+	public void nearCacheClearRejectsAllInFlightPutIfValid() {
+
+		NearCache nearCache = new NearCache(10);
+
+		long stamp = nearCache.stamp("key");
+
+		nearCache.clear();
+		nearCache.putIfValid("key", "value", stamp);
+
+		assertThat(nearCache.get("key")).isNull();
+	}
+
+	@Test
+	public void defaultAsyncExecutorRejectsTasksWhenSaturated() {
+
+		assertThat(GemfireCache.DefaultAsyncExecutor.INSTANCE).isInstanceOf(ThreadPoolExecutor.class);
+		assertThat(((ThreadPoolExecutor) GemfireCache.DefaultAsyncExecutor.INSTANCE).getRejectedExecutionHandler())
+			.isInstanceOf(ThreadPoolExecutor.AbortPolicy.class);
+	}
+
+	@Test
+	public void retrieveCompletesExceptionallyWhenAsyncExecutorRejectsTask() {
+
+		GemfireCache cache = GemfireCache.wrap(mockRegion);
+
+		cache.setAsyncExecutor(runnable -> {
+			throw new RejectedExecutionException("test");
+		});
+
+		assertThatThrownBy(() -> cache.retrieve("key").get(5, TimeUnit.SECONDS))
+			.isInstanceOf(ExecutionException.class)
+			.hasCauseInstanceOf(RejectedExecutionException.class);
+
+		verify(mockRegion, never()).get(any());
+	}
 }
@@ -27,6 +27,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Before;
@@ -155,4 +156,22 @@ public class CreateIndexFunctionUnitTests {
 		verify(this.mockQueryService, never()).createHashIndex(anyString(), anyString(), anyString(), anyString());
 		verify(this.mockQueryService, never()).createKeyIndex(anyString(), anyString(), anyString());
 	}
+
+	@Test
+	public void createIndexesCreatesOnlyNonExistingIndexes() throws QueryException {
+
+		when(this.mockIndex.getIndexedExpression()).thenReturn("id");
+		when(this.mockIndex.getFromClause()).thenReturn("/Customers");
+		when(this.mockIndex.getType()).thenReturn(IndexType.FUNCTIONAL.getGemfireIndexType());
+		when(this.mockQueryService.getIndexes()).thenReturn(Collections.singleton(this.mockIndex));
+
+		IndexDefinition existingIndexDefinition = IndexDefinition.from(this.mockIndex);
+		IndexDefinition newIndexDefinition = IndexDefinition.from(this.mockIndex).with("NewIndex");
+
+		assertThat(this.createIndexFunction
+			.createIndexes(Arrays.asList(existingIndexDefinition, null, newIndexDefinition))).isEqualTo(1);
+
+		verify(this.mockQueryService, times(1)).createIndex(eq("NewIndex"), eq("id"), eq("/Customers"));
+		verify(this.mockQueryService, never()).createIndex(eq("MockIndex"), anyString(), anyString());
+	}
 }
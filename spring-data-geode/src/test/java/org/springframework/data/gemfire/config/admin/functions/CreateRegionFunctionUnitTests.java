@@ -28,6 +28,8 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Arrays;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -103,4 +105,32 @@ public class CreateRegionFunctionUnitTests {
 		verify(this.mockCache, times(1)).getRegion(eq("MockRegion"));
 		verify(this.mockCache, never()).createRegionFactory();
 	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createRegionsCreatesOnlyNonExistingRegions() {
+
+		RegionDefinition existingRegionDefinition = RegionDefinition.from(this.mockRegion).with("Existing");
+		RegionDefinition newRegionDefinition = RegionDefinition.from(this.mockRegion).with("New");
+
+		RegionFactory<Object, Object> mockRegionFactory = mock(RegionFactory.class);
+
+		when(this.mockCache.getRegion(eq("Existing"))).thenReturn(this.mockRegion);
+		when(this.mockCache.getRegion(eq("New"))).thenReturn(null);
+		when(this.mockCache.createRegionFactory(any(RegionShortcut.class))).thenReturn(mockRegionFactory);
+
+		assertThat(this.createRegionFunction
+			.createRegions(Arrays.asList(existingRegionDefinition, null, newRegionDefinition))).isEqualTo(1);
+
+		verify(mockRegionFactory, times(1)).create(eq("New"));
+		verify(mockRegionFactory, never()).create(eq("Existing"));
+	}
+
+	@Test
+	public void createRegionsIsNullSafe() {
+
+		assertThat(this.createRegionFunction.createRegions(null)).isZero();
+
+		verify(this.mockCache, never()).getRegion(anyString());
+	}
 }
@@ -17,11 +17,13 @@
 package org.springframework.data.gemfire.config.admin.remote;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -29,6 +31,9 @@ import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.util.ArrayUtils.asArray;
 import static org.springframework.data.gemfire.util.CollectionUtils.asSet;
 
+import java.util.Arrays;
+import java.util.Collections;
+
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -40,7 +45,9 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionAttributes;
 import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.client.ServerOperationException;
 import org.apache.geode.cache.execute.Function;
+import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.query.Index;
 import org.apache.geode.management.internal.cli.domain.RegionInformation;
 import org.apache.geode.management.internal.cli.functions.GetRegionsFunction;
@@ -208,6 +215,124 @@ public class FunctionGemfireAdminTemplateUnitTests {
 			.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEX_FUNCTION_ID), eq(indexDefinition));
 	}
 
+	@Test
+	public void createRegionsCallsExecuteWithCreateRegionsFunctionIdAndAllRegionDefinitions() {
+
+		RegionDefinition regionDefinitionOne = RegionDefinition.from(this.mockRegion).with("RegionOne");
+		RegionDefinition regionDefinitionTwo = RegionDefinition.from(this.mockRegion).with("RegionTwo");
+
+		this.template.createRegions(Arrays.asList(regionDefinitionOne, null, regionDefinitionTwo));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateRegionFunction.CREATE_REGIONS_FUNCTION_ID),
+				eq(Arrays.asList(regionDefinitionOne, regionDefinitionTwo)));
+
+		verify(this.mockFunctionOperations, never())
+			.executeAndExtract(eq(CreateRegionFunction.CREATE_REGION_FUNCTION_ID), any(RegionDefinition.class));
+	}
+
+	@Test
+	public void createRegionsFallsBackToCreateRegionWhenCreateRegionsFunctionFails() {
+
+		RegionDefinition regionDefinitionOne = RegionDefinition.from(this.mockRegion).with("RegionOne");
+		RegionDefinition regionDefinitionTwo = RegionDefinition.from(this.mockRegion).with("RegionTwo");
+
+		when(this.mockFunctionOperations.executeAndExtract(eq(CreateRegionFunction.CREATE_REGIONS_FUNCTION_ID),
+			any(Object.class))).thenThrow(new FunctionException(new ServerOperationException(String.format(
+				"The function is not registered for function id %s", CreateRegionFunction.CREATE_REGIONS_FUNCTION_ID))));
+
+		this.template.createRegions(Arrays.asList(regionDefinitionOne, regionDefinitionTwo));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateRegionFunction.CREATE_REGION_FUNCTION_ID), eq(regionDefinitionOne));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateRegionFunction.CREATE_REGION_FUNCTION_ID), eq(regionDefinitionTwo));
+	}
+
+	@Test
+	public void createIndexesFallsBackToCreateIndexWhenCreateIndexesFunctionIsNotRegistered() {
+
+		IndexDefinition indexDefinitionOne = IndexDefinition.from(this.mockIndex).with("IndexOne");
+		IndexDefinition indexDefinitionTwo = IndexDefinition.from(this.mockIndex).with("IndexTwo");
+
+		when(this.mockFunctionOperations.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEXES_FUNCTION_ID),
+			any(Object.class))).thenThrow(new FunctionException(String.format(
+				"Function named %s is not registered to FunctionService", CreateIndexFunction.CREATE_INDEXES_FUNCTION_ID)));
+
+		this.template.createIndexes(Arrays.asList(indexDefinitionOne, indexDefinitionTwo));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEX_FUNCTION_ID), eq(indexDefinitionOne));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEX_FUNCTION_ID), eq(indexDefinitionTwo));
+	}
+
+	@Test
+	public void createIndexesRethrowsFailureOfRegisteredCreateIndexesFunction() {
+
+		IndexDefinition indexDefinitionOne = IndexDefinition.from(this.mockIndex).with("IndexOne");
+		IndexDefinition indexDefinitionTwo = IndexDefinition.from(this.mockIndex).with("IndexTwo");
+
+		FunctionException cause = new FunctionException("Invalid indexed expression");
+
+		when(this.mockFunctionOperations.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEXES_FUNCTION_ID),
+			any(Object.class))).thenThrow(cause);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> this.template.createIndexes(Arrays.asList(indexDefinitionOne, indexDefinitionTwo)))
+			.isSameAs(cause);
+
+		verify(this.mockFunctionOperations, never())
+			.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEX_FUNCTION_ID), any(IndexDefinition.class));
+	}
+
+	@Test
+	public void isFunctionNotRegisteredIgnoresOtherFunctionsAndExceptionTypes() {
+
+		assertThat(this.template.isFunctionNotRegistered(new FunctionException(String.format(
+			"Function named %s is not registered to FunctionService", "OtherFunction")), "TestFunction")).isFalse();
+
+		assertThat(this.template.isFunctionNotRegistered(new IllegalStateException(String.format(
+			"Function named %s is not registered to FunctionService", "TestFunction")), "TestFunction")).isFalse();
+
+		assertThat(this.template.isFunctionNotRegistered(new RuntimeException(new FunctionException(String.format(
+			"Function named %s is not registered to FunctionService", "TestFunction"))), "TestFunction")).isTrue();
+	}
+
+	@Test
+	public void createRegionsWithNoRegionDefinitionsDoesNothing() {
+
+		this.template.createRegions(Collections.emptyList());
+
+		verify(this.template, never()).newGemfireFunctionOperations();
+	}
+
+	@Test
+	public void createIndexesCallsExecuteWithCreateIndexesFunctionIdAndAllIndexDefinitions() {
+
+		IndexDefinition indexDefinitionOne = IndexDefinition.from(this.mockIndex).with("IndexOne");
+		IndexDefinition indexDefinitionTwo = IndexDefinition.from(this.mockIndex).with("IndexTwo");
+
+		this.template.createIndexes(Arrays.asList(indexDefinitionOne, indexDefinitionTwo));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEXES_FUNCTION_ID),
+				eq(Arrays.asList(indexDefinitionOne, indexDefinitionTwo)));
+	}
+
+	@Test
+	public void createIndexesWithSingleIndexDefinitionCallsExecuteWithCreateIndexFunctionId() {
+
+		IndexDefinition indexDefinition = IndexDefinition.from(this.mockIndex);
+
+		this.template.createIndexes(Collections.singletonList(indexDefinition));
+
+		verify(this.mockFunctionOperations, times(1))
+			.executeAndExtract(eq(CreateIndexFunction.CREATE_INDEX_FUNCTION_ID), eq(indexDefinition));
+	}
+
 	@Test
 	public void containsRegionInformationIsNullSafe() {
 		assertThat(this.template.containsRegionInformation(null)).isFalse();
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.admin.remote;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.Index;
+
+import org.springframework.data.gemfire.IndexType;
+import org.springframework.data.gemfire.config.schema.definitions.IndexDefinition;
+import org.springframework.data.gemfire.config.schema.definitions.RegionDefinition;
+import org.springframework.web.client.HttpServerErrorException;
+
+/**
+ * Integration Tests for {@link RestHttpGemfireAdminTemplate} sending Management REST API requests over HTTP
+ * to a {@link StubManagementRestApiServer}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.admin.remote.RestHttpGemfireAdminTemplate
+ * @see org.springframework.data.gemfire.config.admin.remote.StubManagementRestApiServer
+ * @since 3.0.0
+ */
+public class RestHttpGemfireAdminTemplateIntegrationTests {
+
+	private StubManagementRestApiServer server;
+
+	@Before
+	public void startServer() throws Exception {
+		this.server = StubManagementRestApiServer.start().withResponseDelay(100L);
+	}
+
+	@After
+	public void stopServer() throws Exception {
+		this.server.close();
+	}
+
+	private RestHttpGemfireAdminTemplate newTemplate(int parallelism) {
+
+		return new RestHttpGemfireAdminTemplate.Builder()
+			.with(mock(ClientCache.class))
+			.using("http")
+			.on("localhost")
+			.listenOn(this.server.getPort())
+			.withParallelism(parallelism)
+			.build();
+	}
+
+	private IndexDefinition newIndexDefinition(String name) {
+
+		Index mockIndex = mock(Index.class);
+
+		when(mockIndex.getName()).thenReturn(name);
+		when(mockIndex.getType()).thenReturn(IndexType.FUNCTIONAL.getGemfireIndexType());
+		when(mockIndex.getIndexedExpression()).thenReturn("id");
+		when(mockIndex.getFromClause()).thenReturn("/Example");
+
+		return IndexDefinition.from(mockIndex);
+	}
+
+	private List<RegionDefinition> newRegionDefinitions(int count) {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockRegion.getName()).thenReturn("MockRegion");
+
+		return IntStream.rangeClosed(1, count)
+			.mapToObj(index -> RegionDefinition.from(mockRegion).with(String.format("Region%d", index)))
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void createRegionsSendsConcurrentRequestsBoundedByParallelism() {
+
+		newTemplate(4).createRegions(newRegionDefinitions(8));
+
+		assertThat(this.server.getCreatedRegionNames()).containsExactlyInAnyOrder("Region1", "Region2",
+			"Region3", "Region4", "Region5", "Region6", "Region7", "Region8");
+
+		assertThat(this.server.getMaxConcurrentRequests()).isGreaterThan(1).isLessThanOrEqualTo(4);
+	}
+
+	@Test
+	public void createRegionsWithParallelismOfOneSendsRequestsSequentially() {
+
+		newTemplate(1).createRegions(newRegionDefinitions(3));
+
+		assertThat(this.server.getCreatedRegionNames()).containsExactlyInAnyOrder("Region1", "Region2", "Region3");
+		assertThat(this.server.getMaxConcurrentRequests()).isOne();
+	}
+
+	@Test
+	public void createIndexesSendsConcurrentRequests() {
+
+		newTemplate(2).createIndexes(List.of(newIndexDefinition("IndexOne"), newIndexDefinition("IndexTwo"),
+			newIndexDefinition("IndexThree")));
+
+		assertThat(this.server.getCreatedIndexNames()).containsExactlyInAnyOrder("IndexOne", "IndexTwo", "IndexThree");
+		assertThat(this.server.getMaxConcurrentRequests()).isEqualTo(2);
+	}
+
+	@Test
+	public void createRegionsCompletesRemainingRequestsAndThrowsFailure() {
+
+		this.server.failingFor("Region2");
+
+		assertThatExceptionOfType(HttpServerErrorException.class)
+			.isThrownBy(() -> newTemplate(4).createRegions(newRegionDefinitions(4)));
+
+		assertThat(this.server.getCreatedRegionNames()).containsExactlyInAnyOrder("Region1", "Region3", "Region4");
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.admin.remote;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * The {@link StubManagementRestApiServer} class is a local, in-process stand-in for the Apache Geode
+ * Management REST API used to test the {@link RestHttpGemfireAdminTemplate} over HTTP without a cluster.
+ *
+ * The stub records the {@literal name} of every Region and Index create request it receives along with
+ * the maximum number of requests it was processing concurrently.
+ *
+ * @author agent
+ * @see com.sun.net.httpserver.HttpServer
+ * @see org.springframework.data.gemfire.config.admin.remote.RestHttpGemfireAdminTemplate
+ * @since 3.0.0
+ */
+public class StubManagementRestApiServer implements AutoCloseable {
+
+	protected static final String INDEXES_PATH = "/gemfire/v1/indexes";
+	protected static final String REGIONS_PATH = "/gemfire/v1/regions";
+
+	private final AtomicInteger concurrentRequests = new AtomicInteger(0);
+	private final AtomicInteger maxConcurrentRequests = new AtomicInteger(0);
+
+	private final ExecutorService executorService = Executors.newCachedThreadPool();
+
+	private final HttpServer httpServer;
+
+	private final Set<String> createdIndexNames = ConcurrentHashMap.newKeySet();
+	private final Set<String> createdRegionNames = ConcurrentHashMap.newKeySet();
+	private final Set<String> failingNames = ConcurrentHashMap.newKeySet();
+
+	private volatile long responseDelayMillis;
+
+	/**
+	 * Starts a new {@link StubManagementRestApiServer} listening on an ephemeral port on {@literal localhost}.
+	 *
+	 * @return the started {@link StubManagementRestApiServer}.
+	 * @throws IOException if the HTTP server cannot be started.
+	 */
+	public static StubManagementRestApiServer start() throws IOException {
+		return new StubManagementRestApiServer();
+	}
+
+	private StubManagementRestApiServer() throws IOException {
+
+		this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+		this.httpServer.createContext(INDEXES_PATH, exchange -> handle(exchange, this.createdIndexNames));
+		this.httpServer.createContext(REGIONS_PATH, exchange -> handle(exchange, this.createdRegionNames));
+		this.httpServer.setExecutor(this.executorService);
+		this.httpServer.start();
+	}
+
+	public int getPort() {
+		return this.httpServer.getAddress().getPort();
+	}
+
+	public Set<String> getCreatedIndexNames() {
+		return Collections.unmodifiableSet(this.createdIndexNames);
+	}
+
+	public Set<String> getCreatedRegionNames() {
+		return Collections.unmodifiableSet(this.createdRegionNames);
+	}
+
+	public int getMaxConcurrentRequests() {
+		return this.maxConcurrentRequests.get();
+	}
+
+	public StubManagementRestApiServer failingFor(String name) {
+		this.failingNames.add(name);
+		return this;
+	}
+
+	public StubManagementRestApiServer withResponseDelay(long responseDelayMillis) {
+		this.responseDelayMillis = responseDelayMillis;
+		return this;
+	}
+
+	private void handle(HttpExchange exchange, Set<String> createdNames) throws IOException {
+
+		this.maxConcurrentRequests.accumulateAndGet(this.concurrentRequests.incrementAndGet(), Math::max);
+
+		try {
+
+			String name = parseFormParameters(exchange.getRequestBody()).get("name");
+
+			pause();
+
+			int status = "POST".equals(exchange.getRequestMethod()) && name != null && !this.failingNames.contains(name)
+				? 200
+				: 500;
+
+			if (status == 200) {
+				createdNames.add(name);
+			}
+
+			byte[] responseBody = (status == 200 ? "OK" : "ERROR").getBytes(StandardCharsets.UTF_8);
+
+			exchange.sendResponseHeaders(status, responseBody.length);
+
+			try (OutputStream out = exchange.getResponseBody()) {
+				out.write(responseBody);
+			}
+		}
+		finally {
+			this.concurrentRequests.decrementAndGet();
+			exchange.close();
+		}
+	}
+
+	private Map<String, String> parseFormParameters(InputStream in) throws IOException {
+
+		Map<String, String> formParameters = new HashMap<>();
+
+		String body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+
+		for (String parameter : body.split("&")) {
+
+			String[] nameValue = parameter.split("=", 2);
+
+			if (nameValue.length == 2) {
+				formParameters.put(URLDecoder.decode(nameValue[0], StandardCharsets.UTF_8),
+					URLDecoder.decode(nameValue[1], StandardCharsets.UTF_8));
+			}
+		}
+
+		return formParameters;
+	}
+
+	private void pause() {
+
+		long responseDelayMillis = this.responseDelayMillis;
+
+		if (responseDelayMillis > 0) {
+			try {
+				Thread.sleep(responseDelayMillis);
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	@Override
+	public void close() throws InterruptedException {
+
+		this.httpServer.stop(0);
+		this.executorService.shutdownNow();
+		this.executorService.awaitTermination(5, TimeUnit.SECONDS);
+	}
+}
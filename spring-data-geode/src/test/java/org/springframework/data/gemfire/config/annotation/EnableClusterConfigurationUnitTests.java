@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -41,18 +42,26 @@ import java.util.Map;
 import org.junit.After;
 import org.junit.Test;
 
+import org.mockito.InOrder;
+
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.Region;
 import org.apache.geode.cache.RegionShortcut;
 import org.apache.geode.cache.client.ClientCache;
+import org.apache.geode.cache.query.Index;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.core.env.Environment;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.core.type.AnnotationMetadata;
+import org.springframework.data.gemfire.IndexType;
 import org.springframework.data.gemfire.config.admin.GemfireAdminOperations;
 import org.springframework.data.gemfire.config.admin.remote.FunctionGemfireAdminTemplate;
 import org.springframework.data.gemfire.config.admin.remote.RestHttpGemfireAdminTemplate;
+import org.springframework.data.gemfire.config.schema.SchemaObjectDefinition;
+import org.springframework.data.gemfire.config.schema.definitions.IndexDefinition;
+import org.springframework.data.gemfire.config.schema.definitions.RegionDefinition;
 import org.springframework.data.gemfire.config.schema.support.ComposableSchemaObjectCollector;
 import org.springframework.data.gemfire.config.schema.support.ComposableSchemaObjectDefiner;
 import org.springframework.data.gemfire.tests.util.ReflectionUtils;
@@ -100,6 +109,7 @@ public class EnableClusterConfigurationUnitTests {
 
 		annotationAttributes.put("host", "skullbox");
 		annotationAttributes.put("port", 12345);
+		annotationAttributes.put("parallelism", 8);
 		annotationAttributes.put("enableInterceptors", true);
 		annotationAttributes.put("followRedirects", true);
 		annotationAttributes.put("requireHttps", false);
@@ -117,6 +127,7 @@ public class EnableClusterConfigurationUnitTests {
 
 		assertThat(configuration.getManagementHttpHost().orElse(null)).isEqualTo("skullbox");
 		assertThat(configuration.getManagementHttpPort().orElse(0)).isEqualTo(12345);
+		assertThat(configuration.getManagementHttpParallelism().orElse(0)).isEqualTo(8);
 		assertThat(configuration.getManagementHttpEnableInterceptors().orElse(false)).isTrue();
 		assertThat(configuration.getManagementHttpFollowRedirects().orElse(false)).isTrue();
 		assertThat(configuration.getManagementRequireHttps().orElse(true)).isFalse();
@@ -139,6 +150,7 @@ public class EnableClusterConfigurationUnitTests {
 
 		annotationAttributes.put("host", "skullbox");
 		annotationAttributes.put("port", 12345);
+		annotationAttributes.put("parallelism", 4);
 		annotationAttributes.put("enableInterceptors", false);
 		annotationAttributes.put("followRedirects", false);
 		annotationAttributes.put("requireHttps", true);
@@ -256,6 +268,7 @@ public class EnableClusterConfigurationUnitTests {
 
 		annotationAttributes.put("host", "postOfficeBox");
 		annotationAttributes.put("port", 10101);
+		annotationAttributes.put("parallelism", 4);
 		annotationAttributes.put("enableInterceptors", false);
 		annotationAttributes.put("followRedirects", false);
 		annotationAttributes.put("requireHttps", false);
@@ -542,6 +555,7 @@ public class EnableClusterConfigurationUnitTests {
 			(FollowRedirectsSimpleClientHttpRequestFactory) restTemplate.getRequestFactory();
 
 		assertThat(clientHttpRequestFactory.isFollowRedirects()).isFalse();
+		assertThat(template.getParallelism()).isEqualTo(RestHttpGemfireAdminTemplate.DEFAULT_PARALLELISM);
 
 		verify(configuration, times(1)).resolveClientHttpRequestInterceptors(eq(false));
 		verify(configuration, times(1)).resolveRestTemplateConfigurers();
@@ -549,6 +563,30 @@ public class EnableClusterConfigurationUnitTests {
 		verifyNoMoreInteractions(mockClientCache);
 	}
 
+	@Test
+	public void resolvesNewRestHttpGemfireAdminOperationsWithConfiguredParallelism() {
+
+		ClientCache mockClientCache = mock(ClientCache.class);
+
+		ClusterConfigurationConfiguration configuration = spy(new ClusterConfigurationConfiguration());
+
+		doReturn(Collections.emptyList()).when(configuration).resolveClientHttpRequestInterceptors(anyBoolean());
+		doReturn(Collections.emptyList()).when(configuration).resolveRestTemplateConfigurers();
+
+		configuration.setManagementHttpParallelism(16);
+		configuration.setManagementUseHttp(true);
+
+		assertThat(configuration.resolveManagementHttpParallelism()).isEqualTo(16);
+
+		GemfireAdminOperations operations =
+			configuration.resolveGemfireAdminOperations(spy(new StandardEnvironment()), mockClientCache);
+
+		assertThat(operations).isInstanceOf(RestHttpGemfireAdminTemplate.class);
+		assertThat(((RestHttpGemfireAdminTemplate) operations).getParallelism()).isEqualTo(16);
+
+		verifyNoMoreInteractions(mockClientCache);
+	}
+
 	@Test
 	public void resolvesNewRestHttpGemfireAdminOperationsSetsFollowRedirectsWithProperty() throws Exception {
 
@@ -677,4 +715,98 @@ public class EnableClusterConfigurationUnitTests {
 
 		verifyNoMoreInteractions(mockClientCache);
 	}
+
+	private IndexDefinition newIndexDefinition(String name) {
+
+		Index mockIndex = mock(Index.class);
+
+		when(mockIndex.getName()).thenReturn(name);
+		when(mockIndex.getType()).thenReturn(IndexType.FUNCTIONAL.getGemfireIndexType());
+		when(mockIndex.getIndexedExpression()).thenReturn("id");
+		when(mockIndex.getFromClause()).thenReturn("/Example");
+
+		return IndexDefinition.from(mockIndex);
+	}
+
+	private RegionDefinition newRegionDefinition(String name) {
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		when(mockRegion.getName()).thenReturn(name);
+
+		return RegionDefinition.from(mockRegion);
+	}
+
+	private ClusterSchemaObjectInitializer newClusterSchemaObjectInitializer(
+			GemfireAdminOperations gemfireAdminOperations) {
+
+		return new ClusterSchemaObjectInitializer(SchemaObjectContext.from(mock(ClientCache.class))
+			.with(gemfireAdminOperations));
+	}
+
+	@Test
+	public void clusterSchemaObjectInitializerPushesOnlyMissingSchemaObjectsInBulk() {
+
+		GemfireAdminOperations mockGemfireAdminOperations = mock(GemfireAdminOperations.class);
+
+		when(mockGemfireAdminOperations.getAvailableServerRegions()).thenReturn(Arrays.asList("RegionOne", "Other"));
+		when(mockGemfireAdminOperations.getAvailableServerRegionIndexes()).thenReturn(Collections.singleton("IndexOne"));
+
+		RegionDefinition regionOne = newRegionDefinition("RegionOne");
+		RegionDefinition regionTwo = newRegionDefinition("RegionTwo");
+		RegionDefinition regionThree = newRegionDefinition("RegionThree");
+		IndexDefinition indexOne = newIndexDefinition("IndexOne");
+		IndexDefinition indexTwo = newIndexDefinition("IndexTwo");
+
+		List<SchemaObjectDefinition> schemaObjectDefinitions =
+			Arrays.asList(regionOne, regionTwo, regionThree, indexOne, indexTwo);
+
+		newClusterSchemaObjectInitializer(mockGemfireAdminOperations)
+			.push(mockGemfireAdminOperations, schemaObjectDefinitions);
+
+		InOrder inOrder = inOrder(mockGemfireAdminOperations);
+
+		inOrder.verify(mockGemfireAdminOperations, times(1)).getAvailableServerRegions();
+		inOrder.verify(mockGemfireAdminOperations, times(1)).getAvailableServerRegionIndexes();
+		inOrder.verify(mockGemfireAdminOperations, times(1)).createRegions(eq(Arrays.asList(regionTwo, regionThree)));
+		inOrder.verify(mockGemfireAdminOperations, times(1)).createIndexes(eq(Collections.singletonList(indexTwo)));
+
+		verify(mockGemfireAdminOperations, never()).createRegion(any(RegionDefinition.class));
+		verify(mockGemfireAdminOperations, never()).createIndex(any(IndexDefinition.class));
+		verifyNoMoreInteractions(mockGemfireAdminOperations);
+	}
+
+	@Test
+	public void clusterSchemaObjectInitializerPushesNothingWhenAllSchemaObjectsExist() {
+
+		GemfireAdminOperations mockGemfireAdminOperations = mock(GemfireAdminOperations.class);
+
+		when(mockGemfireAdminOperations.getAvailableServerRegions()).thenReturn(Collections.singleton("RegionOne"));
+		when(mockGemfireAdminOperations.getAvailableServerRegionIndexes()).thenReturn(Collections.singleton("IndexOne"));
+
+		newClusterSchemaObjectInitializer(mockGemfireAdminOperations).push(mockGemfireAdminOperations,
+			Arrays.asList(newRegionDefinition("RegionOne"), newIndexDefinition("IndexOne")));
+
+		verify(mockGemfireAdminOperations, times(1)).getAvailableServerRegions();
+		verify(mockGemfireAdminOperations, times(1)).getAvailableServerRegionIndexes();
+		verifyNoMoreInteractions(mockGemfireAdminOperations);
+	}
+
+	@Test
+	public void clusterSchemaObjectInitializerPushesAllSchemaObjectsWhenClusterCannotBeQueried() {
+
+		GemfireAdminOperations mockGemfireAdminOperations = mock(GemfireAdminOperations.class);
+
+		when(mockGemfireAdminOperations.getAvailableServerRegions()).thenThrow(new RuntimeException("TEST"));
+		when(mockGemfireAdminOperations.getAvailableServerRegionIndexes()).thenReturn(null);
+
+		RegionDefinition regionOne = newRegionDefinition("RegionOne");
+		IndexDefinition indexOne = newIndexDefinition("IndexOne");
+
+		newClusterSchemaObjectInitializer(mockGemfireAdminOperations)
+			.push(mockGemfireAdminOperations, Arrays.asList(regionOne, indexOne));
+
+		verify(mockGemfireAdminOperations, times(1)).createRegions(eq(Collections.singletonList(regionOne)));
+		verify(mockGemfireAdminOperations, times(1)).createIndexes(eq(Collections.singletonList(indexOne)));
+	}
 }
@@ -54,6 +54,7 @@ import org.springframework.core.annotation.Order;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.gemfire.RegionAttributesFactoryBean;
 import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher;
 import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
@@ -118,11 +119,17 @@ public class EnableContinuousQueriesConfigurationUnitTests extends SpringApplica
 			getBean("continuousQueryListenerContainer", ContinuousQueryListenerContainer.class);
 
 		assertThat(container).isNotNull();
+		assertThat(container.getBackpressurePolicy()).isEqualTo(KeyOrderedEventDispatcher.BackpressurePolicy.DROP_OLDEST);
+		assertThat(container.getBatchInterval()).isEqualTo(250L);
+		assertThat(container.getBatchSize()).isEqualTo(50);
+		assertThat(container.isConflateBatches()).isTrue();
 		assertThat(container.getErrorHandler().orElse(null)).isEqualTo(mockErrorHandler);
 		assertThat(container.getPhase()).isEqualTo(1);
 		assertThat(container.getPoolName()).isEqualTo(mockPool.getName());
 		assertThat(container.getQueryService()).isEqualTo(mockQueryService);
+		assertThat(container.getQueueCapacity()).isEqualTo(64);
 		assertThat(container.getTaskExecutor()).isEqualTo(mockTaskExecutor);
+		assertThat(container.getWorkerCount()).isEqualTo(3);
 	}
 
 	private void testRegisterAndExecuteContinuousQuery(Class<?>... annotatedClasses) throws Exception {
@@ -173,8 +180,10 @@ public class EnableContinuousQueriesConfigurationUnitTests extends SpringApplica
 
 	@ClientCacheApplication
 	@EnableGemFireMockObjects
-	@EnableContinuousQueries(errorHandlerBeanName = "mockErrorHandler", phase = 1, poolName = "mockPool",
-		queryServiceBeanName = "mockQueryService", taskExecutorBeanName = "mockTaskExecutor")
+	@EnableContinuousQueries(backpressurePolicy = KeyOrderedEventDispatcher.BackpressurePolicy.DROP_OLDEST,
+		batchInterval = 250L, batchSize = 50, conflateBatches = true, errorHandlerBeanName = "mockErrorHandler",
+		phase = 1, poolName = "mockPool", queryServiceBeanName = "mockQueryService", queueCapacity = 64,
+		taskExecutorBeanName = "mockTaskExecutor", workerCount = 3)
 	@SuppressWarnings("unused")
 	static class TestContinuousQueryListenerContainerConfiguration {
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.client.ClientCacheFactoryBean;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.GemFireMetricsBeanPostProcessor;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.data.gemfire.tests.integration.SpringApplicationContextIntegrationTestsSupport;
+import org.springframework.data.gemfire.tests.mock.annotation.EnableGemFireMockObjects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Integration Tests for {@link EnableGemFireMetrics} and {@link GemFireMetricsConfiguration}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see io.micrometer.core.instrument.MeterRegistry
+ * @see org.springframework.data.gemfire.config.annotation.EnableGemFireMetrics
+ * @see org.springframework.data.gemfire.config.annotation.GemFireMetricsConfiguration
+ * @see org.springframework.data.gemfire.tests.integration.SpringApplicationContextIntegrationTestsSupport
+ * @see org.springframework.data.gemfire.tests.mock.annotation.EnableGemFireMockObjects
+ * @since 3.0.0
+ */
+public class EnableGemFireMetricsIntegrationTests extends SpringApplicationContextIntegrationTestsSupport {
+
+	@After
+	public void cleanupAfterTests() {
+		destroyAllGemFireMockObjects();
+	}
+
+	@Test
+	public void gemfireTemplateOperationsAreRecordedInMeterRegistryBean() {
+
+		newApplicationContext(EnableGemFireMetricsConfiguration.class);
+
+		MeterRegistry meterRegistry = getBean(MeterRegistry.class);
+
+		GemfireTemplate template = getBean("exampleTemplate", GemfireTemplate.class);
+
+		template.put(1, "one");
+
+		assertThat(template.<Integer, String>get(1)).isEqualTo("one");
+
+		assertThat(meterRegistry.get(GemFireMetricsBeanPostProcessor.TEMPLATE_OPERATION_METER_NAME)
+			.tags("operation", "get", "region", "Example").timer().count()).isEqualTo(1L);
+
+		assertThat(meterRegistry.get(GemFireMetricsBeanPostProcessor.TEMPLATE_OPERATION_METER_NAME)
+			.tags("operation", "put", "region", "Example").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	public void mappingPdxSerializerIsInstrumented() {
+
+		newApplicationContext(EnableGemFireMetricsConfiguration.class);
+
+		ClientCacheFactoryBean clientCacheFactoryBean = getBean("&gemfireCache", ClientCacheFactoryBean.class);
+
+		assertThat(clientCacheFactoryBean.getPdxSerializer()).isNotNull();
+		assertThat(clientCacheFactoryBean.getPdxSerializer()).isNotInstanceOf(MappingPdxSerializer.class);
+		assertThat(clientCacheFactoryBean.getPdxSerializer().getClass().getName())
+			.startsWith(GemFireMetricsBeanPostProcessor.class.getName());
+	}
+
+	@ClientCacheApplication
+	@EnableGemFireMockObjects
+	@EnablePdx
+	@EnableGemFireMetrics
+	@SuppressWarnings("unused")
+	static class EnableGemFireMetricsConfiguration {
+
+		@Bean
+		MeterRegistry meterRegistry() {
+			return new SimpleMeterRegistry();
+		}
+
+		@Bean("Example")
+		ClientRegionFactoryBean<Object, Object> exampleRegion(GemFireCache gemfireCache) {
+
+			ClientRegionFactoryBean<Object, Object> exampleRegion = new ClientRegionFactoryBean<>();
+
+			exampleRegion.setCache(gemfireCache);
+			exampleRegion.setShortcut(ClientRegionShortcut.LOCAL);
+
+			return exampleRegion;
+		}
+
+		@Bean
+		GemfireTemplate exampleTemplate(Region<Object, Object> example) {
+			return new GemfireTemplate(example);
+		}
+	}
+}
@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.After;
@@ -35,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics;
 import org.springframework.data.gemfire.config.annotation.support.RegionDataAccessTracingAspect;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
 import org.springframework.data.gemfire.tests.logging.slf4j.logback.TestAppender;
@@ -80,8 +82,17 @@ public class RegionDataAccessTracingAspectUnitTests extends IntegrationTestsSupp
 	@After
 	public void tearDown() {
 		TestAppender.getInstance().clear();
+		this.aspect.getStatistics().reset();
+		this.aspect.setRegionNames();
+		this.aspect.setSampleRate(1.0d);
 	}
 
+	@Autowired
+	private RegionDataAccessTracingAspect aspect;
+
+	@Autowired
+	private RegionDataAccessStatistics statistics;
+
 	@Autowired
 	@Qualifier("ClientRegion")
 	private Region<Object, Object> region;
@@ -531,6 +542,57 @@ public class RegionDataAccessTracingAspectUnitTests extends IntegrationTestsSupp
 			RegionDataAccessTracingAspectUnitTests.class.getName()));
 	}
 
+	@Test
+	public void recordsHottestCallSitesPerRegion() {
+
+		for (int count = 0; count < 3; count++) {
+			this.region.get("testKey");
+		}
+
+		this.region.put("testKey", "testValue");
+
+		assertThat(this.statistics).isSameAs(this.aspect.getStatistics());
+		assertThat(this.statistics.getRegionNames()).containsExactly("ClientRegion");
+		assertThat(this.statistics.getCount("ClientRegion")).isEqualTo(4L);
+
+		List<RegionDataAccessStatistics.CallSite> hottestCallSites =
+			this.statistics.getHottestCallSites("ClientRegion", 1);
+
+		assertThat(hottestCallSites).hasSize(1);
+		assertThat(hottestCallSites.get(0).getOperation()).isEqualTo("get");
+		assertThat(hottestCallSites.get(0).getCount()).isEqualTo(3L);
+		assertThat(hottestCallSites.get(0).getCallSite()).startsWith(String.format("%s.recordsHottestCallSitesPerRegion",
+			RegionDataAccessTracingAspectUnitTests.class.getName()));
+	}
+
+	@Test
+	public void doesNotTraceUnsampledRegionDataAccess() {
+
+		this.aspect.setSampleRate(0.0d);
+		this.region.get("testKey");
+
+		assertThat(TestAppender.getInstance().lastLogMessage()).isNull();
+		assertThat(this.statistics.getCount("ClientRegion")).isZero();
+	}
+
+	@Test
+	public void samplesOnePercentOfRegionDataAccessByDefault() {
+
+		assertThat(RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE).isEqualTo(0.01d);
+		assertThat(new RegionDataAccessTracingAspect().getSampleRate())
+			.isEqualTo(RegionDataAccessTracingAspect.DEFAULT_SAMPLE_RATE);
+	}
+
+	@Test
+	public void doesNotTraceFilteredRegionDataAccess() {
+
+		this.aspect.setRegionNames("OtherRegion");
+		this.region.get("testKey");
+
+		assertThat(TestAppender.getInstance().lastLogMessage()).isNull();
+		assertThat(this.statistics.getRegionNames()).isEmpty();
+	}
+
 	@Test
 	public void doesNotLogRegionGetName() {
 
@@ -541,7 +603,7 @@ public class RegionDataAccessTracingAspectUnitTests extends IntegrationTestsSupp
 
 	@ClientCacheApplication
 	@EnableGemFireMockObjects()
-	@EnableRegionDataAccessTracing
+	@EnableRegionDataAccessTracing(sampleRate = 1.0d)
 	static class TestConfiguration {
 
 		@Bean("ClientRegion")
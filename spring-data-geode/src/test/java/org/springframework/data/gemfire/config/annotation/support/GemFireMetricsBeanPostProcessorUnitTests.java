@@ -0,0 +1,363 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.CqEvent;
+import org.apache.geode.cache.query.CqQuery;
+import org.apache.geode.pdx.PdxReader;
+import org.apache.geode.pdx.PdxSerializer;
+import org.apache.geode.pdx.PdxWriter;
+
+import org.springframework.data.gemfire.CacheFactoryBean;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.function.execution.GemfireOnRegionFunctionTemplate;
+import org.springframework.data.gemfire.listener.ContinuousQueryDispatchObserver;
+import org.springframework.data.gemfire.listener.ContinuousQueryListenerContainer;
+import org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher;
+import org.springframework.data.gemfire.mapping.MappingPdxSerializer;
+import org.springframework.data.gemfire.repository.query.GemfireEntityInformation;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.RepositoryFactoryCustomizer;
+import org.springframework.data.repository.core.support.RepositoryFactorySupport;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocation;
+import org.springframework.data.repository.core.support.RepositoryMethodInvocationListener.RepositoryMethodInvocationResult;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit Tests for {@link GemFireMetricsBeanPostProcessor}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see io.micrometer.core.instrument.simple.SimpleMeterRegistry
+ * @see org.springframework.data.gemfire.config.annotation.support.GemFireMetricsBeanPostProcessor
+ * @since 3.0.0
+ */
+public class GemFireMetricsBeanPostProcessorUnitTests {
+
+	private GemFireMetricsBeanPostProcessor beanPostProcessor;
+
+	private MeterRegistry meterRegistry;
+
+	@Before
+	public void setup() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.beanPostProcessor = new GemFireMetricsBeanPostProcessor(this.meterRegistry);
+	}
+
+	@SuppressWarnings("unchecked")
+	private <K, V> Region<K, V> mockRegion(String name) {
+
+		Region<K, V> mockRegion = mock(Region.class);
+
+		when(mockRegion.getName()).thenReturn(name);
+
+		return mockRegion;
+	}
+
+	@Test
+	public void constructWithNullMeterRegistryThrowsIllegalArgumentException() {
+
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> new GemFireMetricsBeanPostProcessor((MeterRegistry) null))
+			.withMessage("MeterRegistry must not be null")
+			.withNoCause();
+	}
+
+	@Test
+	public void meterRegistryIsResolvedLazily() {
+
+		MeterRegistry[] resolved = new MeterRegistry[1];
+
+		GemFireMetricsBeanPostProcessor beanPostProcessor = new GemFireMetricsBeanPostProcessor(() -> {
+			resolved[0] = this.meterRegistry;
+			return this.meterRegistry;
+		});
+
+		assertThat(resolved[0]).isNull();
+		assertThat(beanPostProcessor.getMeterRegistry()).isSameAs(this.meterRegistry);
+		assertThat(resolved[0]).isSameAs(this.meterRegistry);
+	}
+
+	@Test
+	public void gemfireTemplateOperationsAreTimedByOperationAndRegion() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example");
+
+		when(mockRegion.get(eq("key"))).thenReturn("value");
+
+		Object bean = this.beanPostProcessor
+			.postProcessAfterInitialization(new GemfireTemplate(mockRegion), "exampleTemplate");
+
+		assertThat(bean).isInstanceOf(GemfireTemplate.class);
+
+		GemfireTemplate template = (GemfireTemplate) bean;
+
+		assertThat(template.<Object, Object>get("key")).isEqualTo("value");
+		assertThat(template.<Object, Object>get("key")).isEqualTo("value");
+		assertThat(template.<Object, Object>getRegion()).isSameAs(mockRegion);
+
+		Timer timer = this.meterRegistry.get(GemFireMetricsBeanPostProcessor.TEMPLATE_OPERATION_METER_NAME)
+			.tags("operation", "get", "region", "Example", "exception", "none")
+			.timer();
+
+		assertThat(timer.count()).isEqualTo(2L);
+		assertThat(this.meterRegistry.find(GemFireMetricsBeanPostProcessor.TEMPLATE_OPERATION_METER_NAME)
+			.tag("operation", "getRegion").timer()).isNull();
+	}
+
+	@Test
+	public void gemfireTemplateOperationFailuresAreTimedByException() {
+
+		Region<Object, Object> mockRegion = mockRegion("Example");
+
+		when(mockRegion.get(any())).thenThrow(new IllegalStateException("TEST"));
+
+		GemfireTemplate template = (GemfireTemplate) this.beanPostProcessor
+			.postProcessAfterInitialization(new GemfireTemplate(mockRegion), "exampleTemplate");
+
+		assertThatExceptionOfType(RuntimeException.class).isThrownBy(() -> template.get("key"));
+
+		assertThat(this.meterRegistry.find(GemFireMetricsBeanPostProcessor.TEMPLATE_OPERATION_METER_NAME)
+			.tags("operation", "get", "region", "Example", "exception", "none").timer()).isNull();
+
+		Timer timer = this.meterRegistry.get(GemFireMetricsBeanPostProcessor.TEMPLATE_OPERATION_METER_NAME)
+			.tags("operation", "get", "region", "Example")
+			.timer();
+
+		assertThat(timer.getId().getTag("exception")).isNotEqualTo("none");
+		assertThat(timer.count()).isEqualTo(1L);
+	}
+
+	@Test
+	public void functionExecutionsAreTimedByFunctionId() {
+
+		GemfireOnRegionFunctionTemplate functionTemplate = new GemfireOnRegionFunctionTemplate(mockRegion("Example")) {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> T executeAndExtract(String functionId, Object... args) {
+				return (T) "result";
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <T> CompletableFuture<Iterable<T>> executeAsync(String functionId, Object... args) {
+				return CompletableFuture.completedFuture((Iterable<T>) Collections.singletonList("result"));
+			}
+		};
+
+		GemfireOnRegionFunctionTemplate proxy = (GemfireOnRegionFunctionTemplate) this.beanPostProcessor
+			.postProcessAfterInitialization(functionTemplate, "functionTemplate");
+
+		assertThat(proxy.<String>executeAndExtract("TestFunction")).isEqualTo("result");
+		assertThat(proxy.executeAsync("AsyncFunction").join()).containsExactly("result");
+
+		assertThat(this.meterRegistry.get(GemFireMetricsBeanPostProcessor.FUNCTION_EXECUTION_METER_NAME)
+			.tags("function", "TestFunction", "exception", "none").timer().count()).isEqualTo(1L);
+
+		assertThat(this.meterRegistry.get(GemFireMetricsBeanPostProcessor.FUNCTION_EXECUTION_METER_NAME)
+			.tags("function", "AsyncFunction", "exception", "none").timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	public void repositoryMethodInvocationsAreTimedByRepositoryMethodAndRegion() throws Exception {
+
+		GemfireEntityInformation mockEntityInformation = mock(GemfireEntityInformation.class);
+
+		when(mockEntityInformation.getRegionName()).thenReturn("People");
+
+		GemfireRepositoryFactoryBean mockRepositoryFactoryBean = mock(GemfireRepositoryFactoryBean.class);
+
+		doReturn(mockEntityInformation).when(mockRepositoryFactoryBean).getEntityInformation();
+
+		this.beanPostProcessor.postProcessBeforeInitialization(mockRepositoryFactoryBean, "personRepository");
+
+		ArgumentCaptor<RepositoryFactoryCustomizer> customizer = ArgumentCaptor.forClass(RepositoryFactoryCustomizer.class);
+
+		verify(mockRepositoryFactoryBean, times(1)).addRepositoryFactoryCustomizer(customizer.capture());
+
+		RepositoryFactorySupport mockRepositoryFactory = mock(RepositoryFactorySupport.class);
+
+		customizer.getValue().customize(mockRepositoryFactory);
+
+		ArgumentCaptor<RepositoryMethodInvocationListener> listener =
+			ArgumentCaptor.forClass(RepositoryMethodInvocationListener.class);
+
+		verify(mockRepositoryFactory, times(1)).addInvocationListener(listener.capture());
+
+		Method findByName = PersonRepository.class.getMethod("findByName", String.class);
+
+		RepositoryMethodInvocationResult mockResult = mock(RepositoryMethodInvocationResult.class);
+
+		when(mockResult.getState()).thenReturn(RepositoryMethodInvocationResult.State.SUCCESS);
+
+		listener.getValue().afterInvocation(new RepositoryMethodInvocation(PersonRepository.class, findByName,
+			mockResult, TimeUnit.MILLISECONDS.toNanos(5L)));
+
+		Timer timer = this.meterRegistry.get(GemFireMetricsBeanPostProcessor.REPOSITORY_INVOCATION_METER_NAME)
+			.tags("repository", "PersonRepository", "method", "findByName", "region", "People",
+				"state", "SUCCESS", "exception", "none")
+			.timer();
+
+		assertThat(timer.count()).isEqualTo(1L);
+		assertThat(timer.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0d);
+	}
+
+	@Test
+	public void mappingPdxSerializerIsTimedByEntityType() {
+
+		MappingPdxSerializer mockPdxSerializer = mock(MappingPdxSerializer.class);
+
+		PdxReader mockReader = mock(PdxReader.class);
+		PdxWriter mockWriter = mock(PdxWriter.class);
+
+		when(mockPdxSerializer.toData(any(), any())).thenReturn(true);
+		when(mockPdxSerializer.fromData(eq(Person.class), any())).thenReturn(new Person());
+
+		CacheFactoryBean cacheFactoryBean = new CacheFactoryBean();
+
+		cacheFactoryBean.setPdxSerializer(mockPdxSerializer);
+
+		this.beanPostProcessor.postProcessAfterInitialization(cacheFactoryBean, "gemfireCache");
+
+		PdxSerializer pdxSerializer = cacheFactoryBean.getPdxSerializer();
+
+		assertThat(pdxSerializer).isInstanceOf(GemFireMetricsBeanPostProcessor.PdxSerializationMetricsPdxSerializer.class);
+		assertThat(pdxSerializer.toData(new Person(), mockWriter)).isTrue();
+		assertThat(pdxSerializer.fromData(Person.class, mockReader)).isInstanceOf(Person.class);
+
+		assertThat(this.meterRegistry.get(GemFireMetricsBeanPostProcessor.PDX_SERIALIZATION_METER_NAME)
+			.tags("operation", "serialize", "type", Person.class.getName()).timer().count()).isEqualTo(1L);
+
+		assertThat(this.meterRegistry.get(GemFireMetricsBeanPostProcessor.PDX_SERIALIZATION_METER_NAME)
+			.tags("operation", "deserialize", "type", Person.class.getName()).timer().count()).isEqualTo(1L);
+	}
+
+	@Test
+	public void nonMappingPdxSerializerIsNotInstrumented() {
+
+		PdxSerializer mockPdxSerializer = mock(PdxSerializer.class);
+
+		CacheFactoryBean cacheFactoryBean = new CacheFactoryBean();
+
+		cacheFactoryBean.setPdxSerializer(mockPdxSerializer);
+
+		this.beanPostProcessor.postProcessAfterInitialization(cacheFactoryBean, "gemfireCache");
+
+		assertThat(cacheFactoryBean.getPdxSerializer()).isSameAs(mockPdxSerializer);
+	}
+
+	@Test
+	public void continuousQueryDispatchIsTimedByQueryName() throws Exception {
+
+		KeyOrderedEventDispatcher dispatcher = new KeyOrderedEventDispatcher("TEST-");
+
+		try {
+
+			ContinuousQueryListenerContainer container = new ContinuousQueryListenerContainer();
+
+			container.setTaskExecutor(dispatcher);
+
+			this.beanPostProcessor.postProcessAfterInitialization(container, "cqListenerContainer");
+
+			ContinuousQueryDispatchObserver dispatchObserver = container.getDispatchObserver().orElse(null);
+
+			assertThat(dispatchObserver).isNotNull();
+
+			CqQuery mockQuery = mock(CqQuery.class);
+			CqEvent mockEvent = mock(CqEvent.class);
+
+			when(mockQuery.getName()).thenReturn("PeopleQuery");
+			when(mockEvent.getCq()).thenReturn(mockQuery);
+
+			dispatchObserver.onDispatched(mockEvent, TimeUnit.MILLISECONDS.toNanos(2L), null);
+			dispatchObserver.onDispatched(mockEvent, TimeUnit.MILLISECONDS.toNanos(2L), new RuntimeException("TEST"));
+
+			assertThat(this.meterRegistry.get(GemFireMetricsBeanPostProcessor.CQ_DISPATCH_METER_NAME)
+				.tags("query", "PeopleQuery", "exception", "none").timer().count()).isEqualTo(1L);
+
+			assertThat(this.meterRegistry.get(GemFireMetricsBeanPostProcessor.CQ_DISPATCH_METER_NAME)
+				.tags("query", "PeopleQuery", "exception", "RuntimeException").timer().count()).isEqualTo(1L);
+
+			assertThat(this.meterRegistry.get("gemfire.cq.dispatcher.queue.depth")
+				.tag("container", "cqListenerContainer").gauge().value()).isEqualTo(0.0d);
+
+			assertThat(this.meterRegistry.get("gemfire.cq.dispatcher.dispatched")
+				.tag("container", "cqListenerContainer").functionCounter().count()).isEqualTo(0.0d);
+		}
+		finally {
+			dispatcher.destroy();
+		}
+	}
+
+	@Test
+	public void configuredContinuousQueryDispatchObserverIsNotReplaced() {
+
+		ContinuousQueryDispatchObserver mockDispatchObserver = mock(ContinuousQueryDispatchObserver.class);
+
+		ContinuousQueryListenerContainer container = new ContinuousQueryListenerContainer();
+
+		container.setDispatchObserver(mockDispatchObserver);
+
+		this.beanPostProcessor.postProcessAfterInitialization(container, "cqListenerContainer");
+
+		assertThat(container.getDispatchObserver()).contains(mockDispatchObserver);
+	}
+
+	@Test
+	public void unrelatedBeansAreNotProxied() {
+
+		Object bean = new Object();
+
+		assertThat(this.beanPostProcessor.postProcessBeforeInitialization(bean, "bean")).isSameAs(bean);
+		assertThat(this.beanPostProcessor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+	}
+
+	static class Person { }
+
+	interface PersonRepository extends Repository<Person, Long> {
+
+		Person findByName(String name);
+
+	}
+}
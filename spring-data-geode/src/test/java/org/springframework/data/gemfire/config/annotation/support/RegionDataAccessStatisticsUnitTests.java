@@ -0,0 +1,115 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.config.annotation.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+/**
+ * Unit Tests for {@link RegionDataAccessStatistics}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.config.annotation.support.RegionDataAccessStatistics
+ * @since 3.0.0
+ */
+public class RegionDataAccessStatisticsUnitTests {
+
+	@Test
+	public void constructWithInvalidMaxCallSitesPerRegionThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new RegionDataAccessStatistics(0))
+			.withMessage("Max call sites per Region [0] must be greater than 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void hottestCallSitesAreOrderedByCountDescending() {
+
+		RegionDataAccessStatistics statistics = new RegionDataAccessStatistics();
+
+		statistics.record("People", "get", "example.PersonService.find(PersonService.java:10)");
+		statistics.record("People", "put", "example.PersonService.save(PersonService.java:20)");
+		statistics.record("People", "get", "example.PersonService.find(PersonService.java:10)");
+		statistics.record("People", "get", "example.PersonService.find(PersonService.java:10)");
+		statistics.record("People", "get", "example.PersonService.save(PersonService.java:18)");
+		statistics.record("People", "put", "example.PersonService.save(PersonService.java:20)");
+		statistics.record("Orders", "get", "example.OrderService.find(OrderService.java:5)");
+
+		assertThat(statistics.getRegionNames()).containsExactly("Orders", "People");
+		assertThat(statistics.getCount("People")).isEqualTo(6L);
+		assertThat(statistics.getCount("Orders")).isEqualTo(1L);
+		assertThat(statistics.getCount("NonExistingRegion")).isZero();
+
+		List<RegionDataAccessStatistics.CallSite> hottestCallSites = statistics.getHottestCallSites("People", 2);
+
+		assertThat(hottestCallSites).hasSize(2);
+		assertThat(hottestCallSites.get(0).getRegionName()).isEqualTo("People");
+		assertThat(hottestCallSites.get(0).getOperation()).isEqualTo("get");
+		assertThat(hottestCallSites.get(0).getCallSite()).isEqualTo("example.PersonService.find(PersonService.java:10)");
+		assertThat(hottestCallSites.get(0).getCount()).isEqualTo(3L);
+		assertThat(hottestCallSites.get(1).getOperation()).isEqualTo("put");
+		assertThat(hottestCallSites.get(1).getCount()).isEqualTo(2L);
+
+		Map<String, List<RegionDataAccessStatistics.CallSite>> allHottestCallSites = statistics.getHottestCallSites(1);
+
+		assertThat(allHottestCallSites).containsOnlyKeys("Orders", "People");
+		assertThat(allHottestCallSites.get("Orders")).hasSize(1);
+		assertThat(allHottestCallSites.get("People")).hasSize(1);
+		assertThat(statistics.toString()).contains("Region [People] - 6 sampled calls");
+	}
+
+	@Test
+	public void callSitesBeyondMaximumAreCountedAsOther() {
+
+		RegionDataAccessStatistics statistics = new RegionDataAccessStatistics(2);
+
+		statistics.record("People", "get", "callSiteOne");
+		statistics.record("People", "get", "callSiteTwo");
+		statistics.record("People", "get", "callSiteThree");
+		statistics.record("People", "get", "callSiteFour");
+		statistics.record("People", "get", "callSiteOne");
+
+		assertThat(statistics.getCount("People")).isEqualTo(5L);
+		assertThat(statistics.getHottestCallSites("People", 10))
+			.extracting(RegionDataAccessStatistics.CallSite::getCallSite)
+			.contains("callSiteOne", RegionDataAccessStatistics.OTHER_CALL_SITES)
+			.doesNotContain("callSiteThree", "callSiteFour");
+	}
+
+	@Test
+	public void hottestCallSitesForUnknownRegionIsEmpty() {
+		assertThat(new RegionDataAccessStatistics().getHottestCallSites("People", 10)).isEmpty();
+	}
+
+	@Test
+	public void resetClearsStatistics() {
+
+		RegionDataAccessStatistics statistics = new RegionDataAccessStatistics();
+
+		statistics.record("People", "get", "callSite");
+		statistics.reset();
+
+		assertThat(statistics.getRegionNames()).isEmpty();
+		assertThat(statistics.getCount("People")).isZero();
+	}
+}
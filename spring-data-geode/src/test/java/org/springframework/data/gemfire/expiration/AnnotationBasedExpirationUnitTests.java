@@ -18,10 +18,12 @@ package org.springframework.data.gemfire.expiration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -261,6 +263,104 @@ public class AnnotationBasedExpirationUnitTests {
 		assertThat(expiration.getExpiry(mockRegionEntry)).isEqualTo(expectedExpirationAttributes);
 	}
 
+	@Test
+	public void getExpiryCachesExpirationAttributesPerRegionEntryValueType() {
+
+		Region.Entry mockRegionEntryOne = mock(Region.Entry.class, "MockRegionEntryOne");
+		Region.Entry mockRegionEntryTwo = mock(Region.Entry.class, "MockRegionEntryTwo");
+		Region.Entry mockRegionEntryThree = mock(Region.Entry.class, "MockRegionEntryThree");
+
+		when(mockRegionEntryOne.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+		when(mockRegionEntryTwo.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+		when(mockRegionEntryThree.getValue()).thenReturn(new RegionEntryValueWithNoExpiration());
+
+		AnnotationBasedExpiration expiration = spy(new AnnotationBasedExpiration(ExpirationAttributes.DEFAULT));
+
+		ExpirationAttributes expirationAttributes = expiration.getExpiry(mockRegionEntryOne);
+
+		assertExpiration(expirationAttributes, 60, ExpirationAction.INVALIDATE);
+		assertThat(expiration.getExpiry(mockRegionEntryTwo)).isSameAs(expirationAttributes);
+		assertThat(expiration.getExpiry(mockRegionEntryThree)).isSameAs(ExpirationAttributes.DEFAULT);
+		assertThat(expiration.getExpiry(mockRegionEntryThree)).isSameAs(ExpirationAttributes.DEFAULT);
+
+		verify(expiration, times(1)).getExpirationMetaData(eq(mockRegionEntryOne));
+		verify(expiration, never()).getExpirationMetaData(eq(mockRegionEntryTwo));
+		verify(expiration, times(1)).getExpirationMetaData(eq(mockRegionEntryThree));
+	}
+
+	@Test
+	public void getExpiryCachesNullExpirationAttributes() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithNoExpiration());
+
+		AnnotationBasedExpiration expiration = spy(new AnnotationBasedExpiration());
+
+		assertThat(expiration.getExpiry(mockRegionEntry)).isNull();
+		assertThat(expiration.getExpiry(mockRegionEntry)).isNull();
+
+		verify(expiration, times(1)).getExpirationMetaData(eq(mockRegionEntry));
+	}
+
+	@Test
+	public void refreshReevaluatesExpirationAttributes() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithGenericExpiration());
+
+		AnnotationBasedExpiration expiration = spy(new AnnotationBasedExpiration());
+
+		expiration.getExpiry(mockRegionEntry);
+		expiration.getExpiry(mockRegionEntry);
+		expiration.refresh();
+		expiration.getExpiry(mockRegionEntry);
+
+		verify(expiration, times(2)).getExpirationMetaData(eq(mockRegionEntry));
+	}
+
+	@Test
+	public void setDefaultExpirationAttributesRefreshesCachedExpirationAttributes() {
+
+		ExpirationAttributes defaultExpirationAttributes = new ExpirationAttributes(120, ExpirationAction.DESTROY);
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		when(mockRegionEntry.getValue()).thenReturn(new RegionEntryValueWithNoExpiration());
+
+		AnnotationBasedExpiration expiration = new AnnotationBasedExpiration(ExpirationAttributes.DEFAULT);
+
+		assertThat(expiration.getExpiry(mockRegionEntry)).isSameAs(ExpirationAttributes.DEFAULT);
+
+		expiration.setDefaultExpirationAttributes(defaultExpirationAttributes);
+
+		assertThat(expiration.getExpiry(mockRegionEntry)).isSameAs(defaultExpirationAttributes);
+	}
+
+	@Test
+	public void getExpiryWithNullRegionEntryValueIsNotCached() {
+
+		Region.Entry mockRegionEntry = mock(Region.Entry.class, "MockRegionEntry");
+
+		AnnotationBasedExpiration expiration = spy(new AnnotationBasedExpiration(ExpirationAttributes.DEFAULT));
+
+		assertThat(expiration.getExpiry(mockRegionEntry)).isSameAs(ExpirationAttributes.DEFAULT);
+		assertThat(expiration.getExpiry(mockRegionEntry)).isSameAs(ExpirationAttributes.DEFAULT);
+
+		verify(expiration, times(2)).getExpirationMetaData(eq(mockRegionEntry));
+	}
+
+	@Test
+	public void parseExpressionParsesExpressionOnce() {
+
+		String expressionString = "T(java.lang.Math).max(30, 90)";
+
+		assertThat(ExpirationMetaData.parseExpression(expressionString))
+			.isSameAs(ExpirationMetaData.parseExpression(expressionString));
+		assertThat(ExpirationMetaData.parseExpression(expressionString).getValue(Integer.class)).isEqualTo(90);
+	}
+
 	@Test
 	public void isExpirationConfiguredWithGenericExpirationBasedRegionEntry() {
 
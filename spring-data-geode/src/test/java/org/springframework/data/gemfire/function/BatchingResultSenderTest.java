@@ -18,8 +18,11 @@ import static org.mockito.Mockito.mock;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import org.junit.Test;
@@ -168,6 +171,84 @@ public class BatchingResultSenderTest {
 		testBatchingResultSender(new TestListResultSender(),1000);
 	}
 
+	@Test
+	public void iteratorChunkingIsCorrect() {
+
+		testIteratorBatchingResultSender(0, 100);
+		testIteratorBatchingResultSender(0, 0);
+		testIteratorBatchingResultSender(1, 0);
+		testIteratorBatchingResultSender(1, 100);
+		testIteratorBatchingResultSender(10, 99);
+		testIteratorBatchingResultSender(10, 100);
+		testIteratorBatchingResultSender(10, 101);
+		testIteratorBatchingResultSender(1000, 100);
+	}
+
+	@Test
+	public void iteratorIsConsumedLazilyOneChunkAtATime() {
+
+		AtomicInteger consumed = new AtomicInteger(0);
+
+		List<Integer> consumedPerChunk = new ArrayList<>();
+
+		Iterator<Integer> results = new Iterator<>() {
+
+			@Override
+			public boolean hasNext() {
+				return consumed.get() < 25;
+			}
+
+			@Override
+			public Integer next() {
+				return consumed.getAndIncrement();
+			}
+		};
+
+		TestListResultSender resultSender = new TestListResultSender() {
+
+			@Override
+			public void sendResult(Object result) {
+				assertThat((Collection<?>) result).hasSize(10);
+				consumedPerChunk.add(consumed.get());
+				super.sendResult(result);
+			}
+		};
+
+		new BatchingResultSender(10, resultSender).sendResults(results);
+
+		assertThat(consumedPerChunk).containsExactly(10, 20);
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getResults()).hasSize(25);
+	}
+
+	@Test
+	public void sendStreamResultsClosesStream() {
+
+		AtomicBoolean closed = new AtomicBoolean(false);
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(3, resultSender)
+			.sendStreamResults(IntStream.range(0, 10).boxed().onClose(() -> closed.set(true)));
+
+		assertThat(closed).isTrue();
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getResults()).containsExactly(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+	}
+
+	private void testIteratorBatchingResultSender(int batchSize, int resultSetSize) {
+
+		TestListResultSender resultSender = new TestListResultSender();
+
+		new BatchingResultSender(batchSize, resultSender).sendResults(IntStream.range(0, resultSetSize).iterator());
+
+		assertThat(resultSender.isLastResultSent()).isTrue();
+		assertThat(resultSender.getResults()).hasSize(resultSetSize);
+
+		IntStream.range(0, resultSetSize).forEach(index ->
+			assertThat(resultSender.getResults().get(index)).isEqualTo(index));
+	}
+
     private void testBatchingResultSender(AbstractTestResultSender resultSender, int batchSize, int resultSetSize){
 
         BatchingResultSender batchResultSender = new BatchingResultSender(batchSize, resultSender);
@@ -13,6 +13,7 @@
 package org.springframework.data.gemfire.function;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
@@ -20,6 +21,7 @@ import java.lang.reflect.Method;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -27,6 +29,7 @@ import org.apache.geode.cache.Region;
 import org.apache.geode.cache.execute.FunctionContext;
 import org.apache.geode.cache.execute.RegionFunctionContext;
 import org.apache.geode.cache.execute.ResultSender;
+import org.apache.geode.pdx.PdxInstance;
 
 import org.springframework.data.gemfire.function.annotation.Filter;
 import org.springframework.data.gemfire.function.annotation.RegionData;
@@ -307,6 +310,88 @@ public class FunctionArgumentResolverUnitTests {
         assertThat(args[1]).isSameAs(resultSender);
     }
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void testMethodWithInjectedParametersDeclaredOutOfOrder() throws NoSuchMethodException {
+
+		RegionFunctionContext functionContext = mock(RegionFunctionContext.class);
+		Region<Object, Object> region = mock(Region.class);
+		ResultSender resultSender = mock(ResultSender.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithInjectedParametersDeclaredOutOfOrder",
+			ResultSender.class, String.class, FunctionContext.class, Map.class, Integer.class);
+
+		FunctionArgumentResolver far = new FunctionContextInjectingArgumentResolver(method);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { "hello", 1 });
+		when(functionContext.getDataSet()).thenReturn(region);
+		when(functionContext.getResultSender()).thenReturn(resultSender);
+
+		Object[] args = far.resolveFunctionArguments(functionContext);
+
+		assertThat(args).containsExactly(resultSender, "hello", functionContext, region, 1);
+	}
+
+	@Test
+	public void testMethodWithWrongNumberOfArguments() throws NoSuchMethodException {
+
+		FunctionContext functionContext = mock(FunctionContext.class);
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithNoSpecialArgs", String.class, int.class,
+			boolean.class);
+
+		FunctionArgumentResolver far = new FunctionContextInjectingArgumentResolver(method);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { "hello" });
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> far.resolveFunctionArguments(functionContext))
+			.withMessage("Wrong number of arguments for method [methodWithNoSpecialArgs]; Expected [3], but was [1]");
+	}
+
+	@Test
+	public void testPdxFunctionArgumentResolverCachesDeserializationDecision() throws NoSuchMethodException {
+
+		Method method = TestFunction.class.getDeclaredMethod("methodWithNoSpecialArgs", String.class, int.class,
+			boolean.class);
+
+		AtomicInteger classpathProbeCount = new AtomicInteger(0);
+
+		PdxFunctionArgumentResolver far = new PdxFunctionArgumentResolver() {
+
+			@Override
+			public Method getFunctionAnnotatedMethod() {
+				return method;
+			}
+
+			@Override
+			boolean isOnClasspath(String className) {
+				classpathProbeCount.incrementAndGet();
+				return true;
+			}
+
+			@Override
+			boolean isPdxSerializerConfigured() {
+				return true;
+			}
+		};
+
+		PdxInstance pdxInstance = mock(PdxInstance.class);
+
+		when(pdxInstance.getClassName()).thenReturn(String.class.getName());
+		when(pdxInstance.getObject()).thenReturn("hello");
+
+		FunctionContext functionContext = mock(FunctionContext.class);
+
+		when(functionContext.getArguments()).thenReturn(new Object[] { pdxInstance, 1, true });
+
+		for (int count = 0; count < 3; count++) {
+			assertThat(far.resolveFunctionArguments(functionContext)).containsExactly("hello", 1, true);
+		}
+
+		assertThat(classpathProbeCount.get()).isOne();
+	}
+
 	@SuppressWarnings("unused")
     static class TestFunction {
 
@@ -334,5 +419,8 @@ public class FunctionArgumentResolverUnitTests {
         public void methodWithMultipleFunctionContext(FunctionContext fc1, FunctionContext fc2) { }
 
         public void methodWithFunctionContextAndResultSender(FunctionContext fc1, ResultSender<?> rs) {  }
+
+        public void methodWithInjectedParametersDeclaredOutOfOrder(ResultSender<?> rs, String s1, FunctionContext fc,
+                @RegionData Map<?, ?> data, Integer i1) { }
     }
 }
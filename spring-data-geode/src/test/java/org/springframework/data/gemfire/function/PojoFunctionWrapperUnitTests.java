@@ -0,0 +1,281 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionContext;
+import org.apache.geode.cache.execute.ResultSender;
+
+import org.mockito.stubbing.Answer;
+
+import reactor.core.publisher.Flux;
+
+/**
+ * Unit Tests for {@link PojoFunctionWrapper}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.execute.FunctionContext
+ * @see org.springframework.data.gemfire.function.PojoFunctionWrapper
+ * @since 3.0.0
+ */
+@SuppressWarnings({ "rawtypes", "unchecked" })
+public class PojoFunctionWrapperUnitTests {
+
+	private final TestFunctions testFunctions = new TestFunctions();
+
+	private static Method getMethod(String name, Class<?>... parameterTypes) throws NoSuchMethodException {
+		return TestFunctions.class.getDeclaredMethod(name, parameterTypes);
+	}
+
+	private static FunctionContext newFunctionContext(ResultSender resultSender, Object... arguments) {
+
+		FunctionContext mockFunctionContext = mock(FunctionContext.class);
+
+		when(mockFunctionContext.getArguments()).thenReturn(arguments);
+		when(mockFunctionContext.getResultSender()).thenReturn(resultSender);
+
+		return mockFunctionContext;
+	}
+
+	@Test
+	public void executeInvokesMethodAndSendsResult() throws Exception {
+
+		ResultSender mockResultSender = mock(ResultSender.class);
+
+		PojoFunctionWrapper function =
+			new PojoFunctionWrapper(this.testFunctions, getMethod("concat", String.class, int.class));
+
+		function.execute(newFunctionContext(mockResultSender, "test", 2));
+
+		assertThat(function.hasResult()).isTrue();
+
+		verify(mockResultSender).lastResult("testtest");
+	}
+
+	@Test
+	public void executeInjectsFunctionContext() throws Exception {
+
+		ResultSender mockResultSender = mock(ResultSender.class);
+
+		FunctionContext functionContext = newFunctionContext(mockResultSender, "test");
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions,
+			getMethod("functionContextId", FunctionContext.class, String.class));
+
+		when(functionContext.getFunctionId()).thenReturn("TestFunction");
+
+		function.execute(functionContext);
+
+		verify(mockResultSender).lastResult("TestFunction:test");
+	}
+
+	@Test
+	public void executeInvokesNonPublicAndStaticMethods() throws Exception {
+
+		ResultSender mockResultSender = mock(ResultSender.class);
+
+		new PojoFunctionWrapper(this.testFunctions, getMethod("privateFunction", String.class))
+			.execute(newFunctionContext(mockResultSender, "test"));
+
+		new PojoFunctionWrapper(this.testFunctions, getMethod("staticFunction", String.class))
+			.execute(newFunctionContext(mockResultSender, "test"));
+
+		verify(mockResultSender).lastResult("private:test");
+		verify(mockResultSender).lastResult("static:test");
+	}
+
+	@Test
+	public void executeVoidMethodSendsNoResult() throws Exception {
+
+		ResultSender mockResultSender = mock(ResultSender.class);
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, getMethod("noResult", String.class));
+
+		function.execute(newFunctionContext(mockResultSender, "test"));
+
+		assertThat(function.hasResult()).isFalse();
+		assertThat(this.testFunctions.lastValue).isEqualTo("test");
+
+		verifyNoInteractions(mockResultSender);
+	}
+
+	@Test
+	public void executeRethrowsRuntimeException() throws Exception {
+
+		PojoFunctionWrapper function =
+			new PojoFunctionWrapper(this.testFunctions, getMethod("throwsRuntimeException"));
+
+		assertThatIllegalStateException()
+			.isThrownBy(() -> function.execute(newFunctionContext(mock(ResultSender.class))))
+			.withMessage("TEST");
+	}
+
+	@Test
+	public void executeWrapsCheckedException() throws Exception {
+
+		PojoFunctionWrapper function =
+			new PojoFunctionWrapper(this.testFunctions, getMethod("throwsCheckedException"));
+
+		assertThatExceptionOfType(UndeclaredThrowableException.class)
+			.isThrownBy(() -> function.execute(newFunctionContext(mock(ResultSender.class))))
+			.withCauseInstanceOf(IOException.class);
+	}
+
+	@Test
+	public void executeSendsStreamResultsInBatches() throws Exception {
+
+		List<Object> sentResults = new ArrayList<>();
+
+		ResultSender mockResultSender = newRecordingResultSender(sentResults);
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, getMethod("streamResults", int.class));
+
+		function.setBatchSize(4);
+		function.execute(newFunctionContext(mockResultSender, 10));
+
+		assertThat(sentResults).containsExactly(Arrays.asList(0, 1, 2, 3), Arrays.asList(4, 5, 6, 7),
+			Arrays.asList(8, 9));
+		assertThat(this.testFunctions.lastValue).isEqualTo(Boolean.TRUE);
+
+		verify(mockResultSender, times(2)).sendResult(any());
+		verify(mockResultSender).lastResult(any());
+	}
+
+	@Test
+	public void executeSendsIteratorResultsInBatches() throws Exception {
+
+		List<Object> sentResults = new ArrayList<>();
+
+		PojoFunctionWrapper function =
+			new PojoFunctionWrapper(this.testFunctions, getMethod("iteratorResults", int.class));
+
+		function.setBatchSize(5);
+		function.execute(newFunctionContext(newRecordingResultSender(sentResults), 10));
+
+		assertThat(sentResults).containsExactly(Arrays.asList(0, 1, 2, 3, 4), Arrays.asList(5, 6, 7, 8, 9));
+	}
+
+	@Test
+	public void executeSendsPublisherResultsInBatches() throws Exception {
+
+		List<Object> sentResults = new ArrayList<>();
+
+		PojoFunctionWrapper function =
+			new PojoFunctionWrapper(this.testFunctions, getMethod("publisherResults", int.class));
+
+		function.setBatchSize(3);
+		function.execute(newFunctionContext(newRecordingResultSender(sentResults), 5));
+
+		assertThat(sentResults).containsExactly(Arrays.asList(0, 1, 2), Arrays.asList(3, 4));
+	}
+
+	@Test
+	public void executeSendsStreamResultsAsSingleListWhenBatchingIsDisabled() throws Exception {
+
+		List<Object> sentResults = new ArrayList<>();
+
+		PojoFunctionWrapper function = new PojoFunctionWrapper(this.testFunctions, getMethod("streamResults", int.class));
+
+		function.execute(newFunctionContext(newRecordingResultSender(sentResults), 3));
+
+		assertThat(sentResults).containsExactly(Arrays.asList(0, 1, 2));
+	}
+
+	private static ResultSender newRecordingResultSender(List<Object> sentResults) {
+
+		ResultSender mockResultSender = mock(ResultSender.class);
+
+		Answer<Void> recordResult = invocation -> {
+			sentResults.add(new ArrayList<>(invocation.getArgument(0, Collection.class)));
+			return null;
+		};
+
+		doAnswer(recordResult).when(mockResultSender).sendResult(any());
+		doAnswer(recordResult).when(mockResultSender).lastResult(any());
+
+		return mockResultSender;
+	}
+
+	@SuppressWarnings("unused")
+	static class TestFunctions {
+
+		private volatile Object lastValue;
+
+		public String concat(String value, int count) {
+			return value.repeat(count);
+		}
+
+		public String functionContextId(FunctionContext functionContext, String value) {
+			return functionContext.getFunctionId() + ":" + value;
+		}
+
+		private String privateFunction(String value) {
+			return "private:" + value;
+		}
+
+		public static String staticFunction(String value) {
+			return "static:" + value;
+		}
+
+		public void noResult(String value) {
+			this.lastValue = value;
+		}
+
+		public Stream<Integer> streamResults(int count) {
+			return IntStream.range(0, count).boxed().onClose(() -> this.lastValue = Boolean.TRUE);
+		}
+
+		public Iterator<Integer> iteratorResults(int count) {
+			return IntStream.range(0, count).iterator();
+		}
+
+		public Flux<Integer> publisherResults(int count) {
+			return Flux.range(0, count);
+		}
+
+		public Object throwsRuntimeException() {
+			throw new IllegalStateException("TEST");
+		}
+
+		public Object throwsCheckedException() throws IOException {
+			throw new IOException("TEST");
+		}
+	}
+}
@@ -16,6 +16,8 @@
 package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -27,11 +29,18 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -42,6 +51,7 @@ import org.apache.geode.cache.execute.Execution;
 import org.apache.geode.cache.execute.Function;
 import org.apache.geode.cache.execute.FunctionException;
 import org.apache.geode.cache.execute.ResultCollector;
+import org.apache.geode.internal.cache.execute.NoResult;
 
 /**
  * The AbstractFunctionExecutionTest class is a test suite of test cases testing the contract and functionality
@@ -101,6 +111,212 @@ public class AbstractFunctionExecutionTest {
 		verify(mockResultCollector, never()).getResult();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void executeAsyncCollectsResultsUsingExecutor() {
+
+		Object[] args = { "one", "two", "three" };
+
+		List<Object> results = Arrays.asList(args);
+
+		AtomicInteger executorInvocationCount = new AtomicInteger(0);
+
+		Executor executor = runnable -> {
+			executorInvocationCount.incrementAndGet();
+			runnable.run();
+		};
+
+		ResultCollector mockResultCollector = mock(ResultCollector.class, "MockResultCollector");
+
+		when(mockExecution.setArguments(eq(args))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("TestFunction"))).thenReturn(mockResultCollector);
+		when(mockResultCollector.getResult()).thenReturn(results);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Iterable<Object>> actualResults = functionExecution.setFunctionId("TestFunction")
+			.setArguments(args).executeAsync(executor);
+
+		assertThat(actualResults).isCompletedWithValue(results);
+		assertThat(executorInvocationCount.get()).isOne();
+
+		verify(mockExecution, times(1)).execute(eq("TestFunction"));
+		verify(mockResultCollector, times(1)).getResult();
+	}
+
+	@Test
+	public void executeAsyncExecutesFunctionUsingExecutor() {
+
+		Function mockFunction = mock(Function.class, "MockFunction");
+
+		List<Runnable> tasks = new ArrayList<>();
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockFunction.hasResult()).thenReturn(false);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Iterable<Object>> results =
+			functionExecution.setFunction(mockFunction).executeAsync(tasks::add);
+
+		assertThat(results).isNotDone();
+		assertThat(tasks).hasSize(1);
+
+		verify(mockExecution, never()).execute(any(Function.class));
+
+		tasks.get(0).run();
+
+		assertThat(results).isCompletedWithValue(null);
+
+		verify(mockExecution, times(1)).execute(eq(mockFunction));
+	}
+
+	@Test
+	public void executeAsyncCompletesExceptionallyWhenExecutionFails() {
+
+		FunctionException cause = new FunctionException("TEST");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.execute(anyString())).thenThrow(cause);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Iterable<Object>> results =
+			functionExecution.setFunctionId("TestFunction").executeAsync(Runnable::run);
+
+		assertThat(results).isCompletedExceptionally();
+		assertThat(results.handle((value, exception) -> exception).join()).hasCause(cause);
+	}
+
+	@Test
+	public void executeAsyncCompletesExceptionallyWhenExecutorRejectsExecution() {
+
+		RejectedExecutionException cause = new RejectedExecutionException("TEST");
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		CompletableFuture<Iterable<Object>> results =
+			functionExecution.setFunctionId("TestFunction").executeAsync(task -> { throw cause; });
+
+		assertThat(results).isCompletedExceptionally();
+		assertThat(results.handle((value, exception) -> exception).join()).isSameAs(cause);
+
+		verify(mockExecution, never()).execute(anyString());
+	}
+
+	@Test
+	public void executeAsyncWithNullExecutorThrowsIllegalArgumentException() {
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> functionExecution.setFunctionId("TestFunction").executeAsync(null))
+			.withMessage("Executor must not be null");
+	}
+
+	@Test
+	public void executeAndStreamStreamsResultsFromExecutionUsingExecutor() throws Exception {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(1);
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(eq(resultCollector))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("TestFunction"))).thenAnswer(invocation -> {
+			resultCollector.addResult(null, Arrays.asList("one", "two"));
+			resultCollector.addResult(null, Collections.singletonList("three"));
+			resultCollector.endResults();
+			return resultCollector;
+		});
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		Thread[] executorThread = new Thread[1];
+
+		Stream<Object> results = functionExecution.setFunctionId("TestFunction")
+			.executeAndStream(resultCollector, runnable -> {
+				executorThread[0] = new Thread(runnable);
+				executorThread[0].start();
+			});
+
+		assertThat(results.collect(Collectors.toList())).containsExactly("one", "two", "three");
+
+		executorThread[0].join(5000L);
+
+		verify(mockExecution, times(1)).withCollector(eq(resultCollector));
+		verify(mockExecution, times(1)).execute(eq("TestFunction"));
+	}
+
+	@Test
+	public void executeAndStreamEndsStreamWhenFunctionExecutedByIdSendsNoResults() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(eq(resultCollector))).thenReturn(mockExecution);
+		when(mockExecution.execute(eq("TestFunction"))).thenReturn(new NoResult());
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		Stream<Object> results = functionExecution.setFunctionId("TestFunction")
+			.executeAndStream(resultCollector, Runnable::run);
+
+		assertThat(results.collect(Collectors.toList())).isEmpty();
+		assertThat(resultCollector.getBufferedResultCount()).isZero();
+	}
+
+	@Test
+	public void executeAndStreamFailsStreamWhenExecutionFails() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>();
+
+		FunctionException cause = new FunctionException("TEST");
+
+		when(mockExecution.setArguments(any())).thenReturn(mockExecution);
+		when(mockExecution.withCollector(any(ResultCollector.class))).thenReturn(mockExecution);
+		when(mockExecution.execute(anyString())).thenThrow(cause);
+
+		AbstractFunctionExecution functionExecution = new AbstractFunctionExecution() {
+			@Override protected Execution getExecution() {
+				return mockExecution;
+			}
+		};
+
+		Stream<Object> results = functionExecution.setFunctionId("TestFunction")
+			.executeAndStream(resultCollector, Runnable::run);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(() -> results.collect(Collectors.toList()))
+			.isSameAs(cause);
+	}
+
 	@Test
 	public void executeAndExtractWithSingleResult() {
 
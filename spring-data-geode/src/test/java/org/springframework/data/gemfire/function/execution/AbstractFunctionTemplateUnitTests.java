@@ -23,6 +23,10 @@ import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -233,4 +237,65 @@ public class AbstractFunctionTemplateUnitTests {
 		verify(mockFunctionExecution, times(1)).setTimeout(500);
 		verify(mockFunctionExecution, times(1)).execute(eq(false));
 	}
+
+	@Test
+	public void executeAsyncWithFunctionIdAndArgsUsesConfiguredExecutor() {
+
+		Object[] args = { "test", "testing", "tested" };
+
+		CompletableFuture<Iterable<Object>> results = CompletableFuture.completedFuture(Arrays.asList(args));
+
+		Executor executor = Runnable::run;
+
+		when(mockFunctionExecution.setArguments(args)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setFunctionId("TestFunction")).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setResultCollector(mockResultCollector)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.setTimeout(500)).thenReturn(mockFunctionExecution);
+		when(mockFunctionExecution.executeAsync(executor)).thenReturn((CompletableFuture) results);
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+
+			@Override
+			protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		functionTemplate.setExecutor(executor);
+		functionTemplate.setResultCollector(mockResultCollector);
+		functionTemplate.setTimeout(500);
+
+		CompletableFuture<Iterable<Object>> actualResults = functionTemplate.executeAsync("TestFunction", args);
+
+		assertThat(functionTemplate.getExecutor()).isSameAs(executor);
+		assertThat(actualResults).isSameAs(results);
+
+		verify(mockFunctionExecution, times(1)).setArguments(args);
+		verify(mockFunctionExecution, times(1)).setFunctionId("TestFunction");
+		verify(mockFunctionExecution, times(1)).setResultCollector(eq(mockResultCollector));
+		verify(mockFunctionExecution, times(1)).setTimeout(500);
+		verify(mockFunctionExecution, times(1)).executeAsync(executor);
+	}
+
+	@Test
+	public void executorDefaultsToBoundedExecutorDedicatedToFunctionExecutions() {
+
+		AbstractFunctionTemplate functionTemplate = new AbstractFunctionTemplate() {
+
+			@Override
+			protected AbstractFunctionExecution getFunctionExecution() {
+				return mockFunctionExecution;
+			}
+		};
+
+		assertThat(functionTemplate.getExecutor()).isNotSameAs(ForkJoinPool.commonPool());
+		assertThat(functionTemplate.getExecutor()).isSameAs(AbstractFunctionTemplate.DefaultExecutor.INSTANCE);
+		assertThat(functionTemplate.getExecutor()).isInstanceOf(ThreadPoolExecutor.class);
+
+		ThreadPoolExecutor executor = (ThreadPoolExecutor) functionTemplate.getExecutor();
+
+		assertThat(executor.getMaximumPoolSize()).isEqualTo(AbstractFunctionTemplate.DefaultExecutor.THREAD_COUNT);
+		assertThat(executor.getQueue().remainingCapacity() + executor.getQueue().size())
+			.isEqualTo(AbstractFunctionTemplate.DefaultExecutor.QUEUE_CAPACITY);
+	}
 }
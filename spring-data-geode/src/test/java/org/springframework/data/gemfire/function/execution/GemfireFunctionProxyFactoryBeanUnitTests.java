@@ -13,7 +13,10 @@
 package org.springframework.data.gemfire.function.execution;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -22,8 +25,12 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -32,6 +39,9 @@ import org.springframework.data.gemfire.function.annotation.FunctionId;
 
 import org.aopalliance.intercept.MethodInvocation;
 
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
 /**
  * Unit Tests for {@link GemfireFunctionProxyFactoryBean}.
  *
@@ -95,6 +105,134 @@ public class GemfireFunctionProxyFactoryBeanUnitTests {
 			.execute("oneArg", invocation.getArguments());
 	}
 
+	@Test
+	public void invokeAsyncReturningCompletableFuture() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("collectionsAsync", List.class);
+
+		when(this.functionOperations.executeAsync("collectionsAsync", invocation.getArguments()))
+			.thenReturn(CompletableFuture.completedFuture(Arrays.asList(1, 2, 3)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat(((CompletableFuture<?>) result).join()).isEqualTo(Arrays.asList(1, 2, 3));
+
+		verify(this.functionOperations, times(1))
+			.executeAsync("collectionsAsync", invocation.getArguments());
+		verify(this.functionOperations, never()).execute(anyString(), any());
+	}
+
+	@Test
+	public void invokeAsyncReturningCompletableFutureResolvesSingleResult() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("oneArgAsync", String.class);
+
+		when(this.functionOperations.executeAsync("oneArgAsync", invocation.getArguments()))
+			.thenReturn(CompletableFuture.completedFuture(Collections.singleton(1)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(CompletableFuture.class);
+		assertThat(((CompletableFuture<?>) result).join()).isEqualTo(1);
+	}
+
+	@Test
+	public void invokeAsyncReturningMono() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("oneArgMono", String.class);
+
+		when(this.functionOperations.executeAsync("oneArgMono", invocation.getArguments()))
+			.thenReturn(CompletableFuture.completedFuture(Collections.singleton(1)));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(Mono.class);
+
+		verify(this.functionOperations, never()).executeAsync(anyString(), any());
+
+		assertThat(((Mono<?>) result).block()).isEqualTo(1);
+
+		verify(this.functionOperations, times(1))
+			.executeAsync("oneArgMono", invocation.getArguments());
+	}
+
+	@Test
+	public void invokeAsyncReturningFlux() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("collectionsFlux", List.class);
+
+		when(this.functionOperations.executeAndStream("collectionsFlux", invocation.getArguments()))
+			.thenReturn(Stream.of(1, 2, 3));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(Flux.class);
+
+		verify(this.functionOperations, never()).executeAndStream(anyString(), any());
+
+		assertThat(((Flux<?>) result).collectList().block()).isEqualTo(Arrays.asList(1, 2, 3));
+	}
+
+	@Test
+	public void invokeStreamingReturningStream() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("collectionsStream", List.class);
+
+		when(this.functionOperations.executeAndStream("collectionsStream", invocation.getArguments()))
+			.thenReturn(Stream.of(1, 2, 3));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(Stream.class);
+		assertThat(((Stream<?>) result).collect(Collectors.toList())).isEqualTo(Arrays.asList(1, 2, 3));
+
+		verify(this.functionOperations, never()).execute(anyString(), any());
+	}
+
+	@Test
+	public void invokeStreamingReturningIterator() {
+
+		MethodInvocation invocation = new TestMethodInvocation(IFoo.class)
+			.withMethodNameAndArgTypes("collectionsIterator", List.class);
+
+		when(this.functionOperations.executeAndStream("collectionsIterator", invocation.getArguments()))
+			.thenReturn(Stream.of(1, 2));
+
+		GemfireFunctionProxyFactoryBean proxy =
+			new GemfireFunctionProxyFactoryBean(IFoo.class, this.functionOperations);
+
+		Object result = proxy.invoke(invocation);
+
+		assertThat(result).isInstanceOf(Iterator.class);
+
+		Iterator<?> iterator = (Iterator<?>) result;
+
+		assertThat(iterator.next()).isEqualTo(1);
+		assertThat(iterator.next()).isEqualTo(2);
+		assertThat(iterator.hasNext()).isFalse();
+	}
+
 	@SuppressWarnings("unused")
 	private static class TestMethodInvocation implements MethodInvocation {
 
@@ -169,5 +307,17 @@ public class GemfireFunctionProxyFactoryBeanUnitTests {
 
 		Map<String, Integer> getMapWithNoArgs();
 
+		CompletableFuture<Integer> oneArgAsync(String key);
+
+		CompletableFuture<List<Integer>> collectionsAsync(List<Integer> args);
+
+		Mono<Integer> oneArgMono(String key);
+
+		Flux<Integer> collectionsFlux(List<Integer> args);
+
+		Stream<Integer> collectionsStream(List<Integer> args);
+
+		Iterator<Integer> collectionsIterator(List<Integer> args);
+
 	}
 }
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.function.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.execute.FunctionException;
+
+import org.springframework.data.gemfire.function.ExecutionTimeoutFunctionException;
+
+/**
+ * Unit Tests for {@link StreamingResultCollector}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.function.execution.StreamingResultCollector
+ * @since 3.0.0
+ */
+public class StreamingResultCollectorUnitTests {
+
+	private static final long TIMEOUT_IN_SECONDS = 10L;
+
+	private static Thread startProducer(Runnable runnable) {
+
+		Thread producer = new Thread(runnable, "StreamingResultCollectorUnitTests-producer");
+
+		producer.setDaemon(true);
+		producer.start();
+
+		return producer;
+	}
+
+	@Test
+	public void constructWithInvalidCapacity() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new StreamingResultCollector<>(0))
+			.withMessage("Capacity [0] must be greater than 0");
+	}
+
+	@Test
+	public void streamsResultsInOrderFlatteningChunks() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(8);
+
+		resultCollector.addResult(null, Arrays.asList(1, 2, 3));
+		resultCollector.addResult(null, new Object[] { 4, 5 });
+		resultCollector.addResult(null, 6);
+		resultCollector.addResult(null, null);
+		resultCollector.endResults();
+
+		assertThat(resultCollector.getBufferedResultCount()).isEqualTo(5);
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly(1, 2, 3, 4, 5, 6, null);
+	}
+
+	@Test
+	public void streamsChunksWhenFlatteningIsDisabled() {
+
+		StreamingResultCollector<Object> resultCollector = new StreamingResultCollector<>(4, false);
+
+		resultCollector.addResult(null, Arrays.asList(1, 2));
+		resultCollector.addResult(null, Arrays.asList(3, 4));
+		resultCollector.endResults();
+
+		assertThat(resultCollector.isFlatten()).isFalse();
+		assertThat(resultCollector.stream().collect(Collectors.toList()))
+			.containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4));
+	}
+
+	@Test
+	public void consumesResultsWhileTheyArrive() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(2);
+
+		CountDownLatch firstResultConsumed = new CountDownLatch(1);
+
+		Thread producer = startProducer(() -> {
+
+			resultCollector.addResult(null, 1);
+
+			try {
+				assertThat(firstResultConsumed.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).isTrue();
+			}
+			catch (InterruptedException ignore) {
+				Thread.currentThread().interrupt();
+			}
+
+			resultCollector.addResult(null, 2);
+			resultCollector.endResults();
+		});
+
+		Iterator<Integer> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo(1);
+
+		firstResultConsumed.countDown();
+
+		assertThat(results.next()).isEqualTo(2);
+		assertThat(results.hasNext()).isFalse();
+
+		producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+	}
+
+	@Test
+	public void appliesBackpressureWhenBufferIsFull() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(2);
+
+		AtomicBoolean producerDone = new AtomicBoolean(false);
+
+		Thread producer = startProducer(() -> {
+			IntStream.range(0, 3).forEach(result -> resultCollector.addResult(null, result));
+			resultCollector.endResults();
+			producerDone.set(true);
+		});
+
+		producer.join(250L);
+
+		assertThat(producer.isAlive()).isTrue();
+		assertThat(producerDone).isFalse();
+		assertThat(resultCollector.getBufferedResultCount()).isEqualTo(2);
+
+		assertThat(resultCollector.stream().collect(Collectors.toList())).containsExactly(0, 1, 2);
+
+		producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+
+		assertThat(producerDone).isTrue();
+	}
+
+	@Test
+	public void closeReleasesBlockedProducerAndDiscardsResults() throws Exception {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(1);
+
+		Thread producer = startProducer(() -> {
+			IntStream.range(0, 100).forEach(result -> resultCollector.addResult(null, result));
+			resultCollector.endResults();
+		});
+
+		Stream<Integer> results = resultCollector.stream();
+
+		assertThat(results.findFirst()).hasValue(0);
+
+		results.close();
+
+		producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(resultCollector.isClosed()).isTrue();
+		assertThat(resultCollector.getBufferedResultCount()).isZero();
+	}
+
+	@Test
+	public void failureIsThrownAfterBufferedResults() {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(4);
+
+		RuntimeException cause = new RuntimeException("TEST");
+
+		resultCollector.addResult(null, 1);
+		resultCollector.fail(cause);
+
+		Iterator<Integer> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo(1);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withCause(cause);
+
+		assertThat(resultCollector.isClosed()).isTrue();
+	}
+
+	@Test
+	public void throwableResultIsThrownAsFunctionException() {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(4);
+
+		IllegalStateException cause = new IllegalStateException("TEST");
+
+		resultCollector.addResult(null, 1);
+		resultCollector.addResult(null, cause);
+		resultCollector.endResults();
+
+		Iterator<Integer> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo(1);
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withMessage("Execution of Function failed")
+			.withCause(cause);
+	}
+
+	@Test
+	public void timesOutWaitingForNextResult() {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<Integer>(4).withTimeout(200L);
+
+		Iterator<Integer> results = resultCollector.iterator();
+
+		assertThatExceptionOfType(ExecutionTimeoutFunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withMessage("Failed to receive the next Function result in the configured timeout [200 ms]");
+
+		assertThat(resultCollector.isClosed()).isTrue();
+	}
+
+	@Test
+	public void resultsCanOnlyBeConsumedOnce() {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>();
+
+		resultCollector.iterator();
+
+		assertThatIllegalStateException()
+			.isThrownBy(resultCollector::stream)
+			.withMessage("The results of a StreamingResultCollector can only be consumed once");
+	}
+
+	@Test
+	public void clearResultsBeforeConsumptionDiscardsBufferedResults() {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, 1);
+		resultCollector.clearResults();
+		resultCollector.addResult(null, 2);
+		resultCollector.endResults();
+
+		List<Integer> results = resultCollector.stream().collect(Collectors.toList());
+
+		assertThat(results).containsExactly(2);
+	}
+
+	@Test
+	public void clearResultsAfterConsumptionFailsExecution() {
+
+		StreamingResultCollector<Integer> resultCollector = new StreamingResultCollector<>(4);
+
+		resultCollector.addResult(null, 1);
+
+		Iterator<Integer> results = resultCollector.iterator();
+
+		assertThat(results.next()).isEqualTo(1);
+
+		resultCollector.clearResults();
+
+		assertThatExceptionOfType(FunctionException.class)
+			.isThrownBy(results::hasNext)
+			.withMessage("Function execution was retried after results were consumed");
+	}
+}
@@ -16,15 +16,20 @@
  */
 package org.springframework.data.gemfire.listener;
 
+import static java.util.Arrays.stream;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
@@ -33,9 +38,14 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -60,6 +70,7 @@ import org.springframework.data.gemfire.GemfireQueryException;
 import org.springframework.data.gemfire.GemfireUtils;
 import org.springframework.data.gemfire.client.PoolResolver;
 import org.springframework.data.gemfire.config.xml.GemfireConstants;
+import org.springframework.data.gemfire.listener.annotation.ContinuousQuery;
 import org.springframework.util.ErrorHandler;
 
 /**
@@ -797,6 +808,418 @@ public class ContinuousQueryListenerContainerUnitTests {
 		verify(mockErrorHandler, times(1)).handleError(eq(expectedCause));
 	}
 
+	@Test
+	public void dispatchEventNotifiesConfiguredDispatchObserver() {
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryDispatchObserver mockDispatchObserver = mock(ContinuousQueryDispatchObserver.class);
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		this.cqListenerContainer.setDispatchObserver(mockDispatchObserver);
+		this.cqListenerContainer.setTaskExecutor(mockExecutor);
+
+		assertThat(this.cqListenerContainer.getDispatchObserver()).contains(mockDispatchObserver);
+
+		this.cqListenerContainer.dispatchEvent(mockListener, mockEvent);
+
+		verify(mockListener, times(1)).onEvent(eq(mockEvent));
+		verify(mockDispatchObserver, times(1)).onDispatched(eq(mockEvent), anyLong(), isNull());
+	}
+
+	@Test
+	public void dispatchEventNotifiesConfiguredDispatchObserverOfListenerException() {
+
+		RuntimeException expectedCause = new RuntimeException("TEST");
+
+		Executor mockExecutor = mock(Executor.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(0).run();
+			return null;
+		}).when(mockExecutor).execute(any());
+
+		ContinuousQueryDispatchObserver mockDispatchObserver = mock(ContinuousQueryDispatchObserver.class);
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		doThrow(expectedCause).when(mockListener).onEvent(any());
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		this.cqListenerContainer.setDispatchObserver(mockDispatchObserver);
+		this.cqListenerContainer.setTaskExecutor(mockExecutor);
+		this.cqListenerContainer.dispatchEvent(mockListener, mockEvent);
+
+		verify(mockListener, times(1)).onEvent(eq(mockEvent));
+		verify(mockDispatchObserver, times(1)).onDispatched(eq(mockEvent), anyLong(), eq(expectedCause));
+	}
+
+	@Test
+	public void dispatchObserverIsNotConfiguredByDefault() {
+		assertThat(this.cqListenerContainer.getDispatchObserver()).isNotPresent();
+	}
+
+	@Test
+	public void createDefaultTaskExecutorReturnsKeyOrderedEventDispatcher() throws Exception {
+
+		Executor taskExecutor = this.cqListenerContainer.createDefaultTaskExecutor();
+
+		try {
+			assertThat(taskExecutor).isInstanceOf(KeyOrderedEventDispatcher.class);
+			assertThat(((KeyOrderedEventDispatcher) taskExecutor).isRunning()).isTrue();
+		}
+		finally {
+			((DisposableBean) taskExecutor).destroy();
+		}
+	}
+
+	@Test
+	public void createDefaultTaskExecutorUsesConfiguredDispatcherSettings() throws Exception {
+
+		this.cqListenerContainer.setBackpressurePolicy(KeyOrderedEventDispatcher.BackpressurePolicy.CONFLATE);
+		this.cqListenerContainer.setQueueCapacity(16);
+		this.cqListenerContainer.setWorkerCount(3);
+
+		assertThat(this.cqListenerContainer.getBackpressurePolicy())
+			.isEqualTo(KeyOrderedEventDispatcher.BackpressurePolicy.CONFLATE);
+		assertThat(this.cqListenerContainer.getQueueCapacity()).isEqualTo(16);
+		assertThat(this.cqListenerContainer.getWorkerCount()).isEqualTo(3);
+
+		Executor taskExecutor = this.cqListenerContainer.createDefaultTaskExecutor();
+
+		try {
+			assertThat(taskExecutor).isInstanceOf(KeyOrderedEventDispatcher.class);
+			assertThat(((KeyOrderedEventDispatcher) taskExecutor).getBackpressurePolicy())
+				.isEqualTo(KeyOrderedEventDispatcher.BackpressurePolicy.CONFLATE);
+			assertThat(((KeyOrderedEventDispatcher) taskExecutor).getWorkerCount()).isEqualTo(3);
+		}
+		finally {
+			((DisposableBean) taskExecutor).destroy();
+		}
+	}
+
+	@Test
+	public void setInvalidDispatcherSettingsThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cqListenerContainer.setBackpressurePolicy(null))
+			.withMessage("BackpressurePolicy must not be null");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cqListenerContainer.setQueueCapacity(0))
+			.withMessage("Queue capacity [0] must be greater than 0");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> this.cqListenerContainer.setWorkerCount(-1))
+			.withMessage("Worker count [-1] must be greater than 0");
+	}
+
+	@Test
+	public void dispatchEventWithKeyOrderedEventDispatcherDispatchesByListenerAndKey() {
+
+		KeyOrderedEventDispatcher mockDispatcher = mock(KeyOrderedEventDispatcher.class);
+
+		doAnswer(invocation -> {
+			invocation.<Runnable>getArgument(1).run();
+			return null;
+		}).when(mockDispatcher).execute(any(), any(Runnable.class));
+
+		ContinuousQueryListener mockListener = mock(ContinuousQueryListener.class);
+
+		CqEvent mockEvent = mock(CqEvent.class);
+
+		doReturn("testKey").when(mockEvent).getKey();
+
+		cqListenerContainer.setTaskExecutor(mockDispatcher);
+		cqListenerContainer.dispatchEvent(mockListener, mockEvent);
+
+		verify(mockDispatcher, times(1))
+			.execute(eq(new ContinuousQueryListenerContainer.DispatchKey(mockListener, "testKey")), isA(Runnable.class));
+		verify(mockDispatcher, never()).execute(isA(Runnable.class));
+		verify(mockListener, times(1)).onEvent(eq(mockEvent));
+	}
+
+	private CqEvent mockCqEvent(Object key) {
+
+		CqEvent mockEvent = mock(CqEvent.class, String.valueOf(key));
+
+		lenient().when(mockEvent.getKey()).thenReturn(key);
+
+		return mockEvent;
+	}
+
+	@Test
+	public void addBatchedContinuousQueryRegistersBatchingEventDispatcherAdapter() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean()))
+			.thenAnswer(invocation -> mockCqQuery(null, invocation.getArgument(0), invocation.getArgument(1),
+				invocation.getArgument(2)));
+
+		ContinuousQueryBatchListener mockListener = mock(ContinuousQueryBatchListener.class);
+
+		ContinuousQueryDefinition definition =
+			new ContinuousQueryDefinition("SELECT * FROM /Utilization u WHERE u.value > 100", mockListener)
+				.withBatchSize(10);
+
+		assertThat(definition.isBatched()).isTrue();
+
+		cqListenerContainer.setBatchInterval(500L);
+		cqListenerContainer.setConflateBatches(true);
+		cqListenerContainer.setQueryService(mockQueryService);
+
+		CqQuery query = cqListenerContainer.addContinuousQuery(definition);
+
+		assertThat(query.getCqAttributes().getCqListener())
+			.isInstanceOf(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter.class);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter batchingEventDispatcher =
+			(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter) query.getCqAttributes().getCqListener();
+
+		assertThat(batchingEventDispatcher.getListener()).isEqualTo(mockListener);
+		assertThat(batchingEventDispatcher.getBatchSize()).isEqualTo(10);
+		assertThat(batchingEventDispatcher.getBatchInterval()).isEqualTo(500L);
+		assertThat(batchingEventDispatcher.isConflate()).isTrue();
+	}
+
+	@Test
+	public void addBatchedContinuousQueryDisablingConflationOverridesContainerDefault() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean()))
+			.thenAnswer(invocation -> mockCqQuery(null, invocation.getArgument(0), invocation.getArgument(1),
+				invocation.getArgument(2)));
+
+		ContinuousQueryDefinition definition = new ContinuousQueryDefinition("SELECT * FROM /Example",
+			mock(ContinuousQueryBatchListener.class)).withConflation(false);
+
+		assertThat(definition.getConflation()).contains(false);
+
+		cqListenerContainer.setConflateBatches(true);
+		cqListenerContainer.setQueryService(mockQueryService);
+
+		CqQuery query = cqListenerContainer.addContinuousQuery(definition);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter batchingEventDispatcher =
+			(ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter) query.getCqAttributes().getCqListener();
+
+		assertThat(batchingEventDispatcher.isConflate()).isFalse();
+	}
+
+	@Test
+	public void batchingEventDispatcherDeliversBatchWhenFull() {
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		CqEvent[] events = { mockCqEvent(1), mockCqEvent(2), mockCqEvent(3), mockCqEvent(4) };
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter batchingEventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(batches::add, 3, 60000L, false);
+
+		stream(events).forEach(batchingEventDispatcher::onEvent);
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).containsExactly(events[0], events[1], events[2]);
+
+		batchingEventDispatcher.flush();
+
+		assertThat(batches).hasSize(2);
+		assertThat(batches.get(1)).containsExactly(events[3]);
+	}
+
+	@Test
+	public void batchingEventDispatcherDeliversBatchWhenIntervalElapses() throws Exception {
+
+		CountDownLatch delivered = new CountDownLatch(1);
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		CqEvent eventOne = mockCqEvent(1);
+		CqEvent eventTwo = mockCqEvent(2);
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter batchingEventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(events -> {
+				batches.add(events);
+				delivered.countDown();
+			}, 100, 50L, false);
+
+		try {
+			batchingEventDispatcher.onEvent(eventOne);
+			batchingEventDispatcher.onEvent(eventTwo);
+
+			assertThat(delivered.await(10L, TimeUnit.SECONDS)).isTrue();
+			assertThat(batches).containsExactly(Arrays.asList(eventOne, eventTwo));
+		}
+		finally {
+			cqListenerContainer.destroy();
+		}
+	}
+
+	@Test
+	public void batchingEventDispatcherConflatesEventsByKey() {
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		CqEvent eventOne = mockCqEvent("one");
+		CqEvent eventTwo = mockCqEvent("two");
+		CqEvent eventOneUpdated = mockCqEvent("one");
+		CqEvent errorEventOne = mockCqEvent("error");
+		CqEvent errorEventTwo = mockCqEvent("error");
+
+		when(errorEventOne.getThrowable()).thenReturn(new RuntimeException("TEST"));
+		when(errorEventTwo.getThrowable()).thenReturn(new RuntimeException("TEST"));
+
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter batchingEventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(batches::add, 100, 60000L, true);
+
+		batchingEventDispatcher.onEvent(eventOne);
+		batchingEventDispatcher.onEvent(eventTwo);
+		batchingEventDispatcher.onError(errorEventOne);
+		batchingEventDispatcher.onEvent(eventOneUpdated);
+		batchingEventDispatcher.onError(errorEventTwo);
+		batchingEventDispatcher.flush();
+
+		assertThat(batches).hasSize(1);
+		assertThat(batches.get(0)).containsExactly(eventTwo, errorEventOne, eventOneUpdated, errorEventTwo);
+	}
+
+	@Test
+	public void batchingEventDispatcherHandlesListenerErrors() {
+
+		RuntimeException expectedCause = new RuntimeException("TEST");
+
+		ErrorHandler mockErrorHandler = mock(ErrorHandler.class);
+
+		cqListenerContainer.setErrorHandler(mockErrorHandler);
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		doReturn(true).when(cqListenerContainer).isActive();
+
+		ContinuousQueryListenerContainer.BatchingEventDispatcherAdapter batchingEventDispatcher =
+			cqListenerContainer.new BatchingEventDispatcherAdapter(events -> { throw expectedCause; },
+				1, 60000L, false);
+
+		batchingEventDispatcher.onEvent(mockCqEvent(1));
+
+		verify(mockErrorHandler, times(1)).handleError(eq(expectedCause));
+	}
+
+	@Test
+	public void destroyDeliversPendingBatches() throws Exception {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newCq(anyString(), any(CqAttributes.class), anyBoolean()))
+			.thenAnswer(invocation -> mockCqQuery(null, invocation.getArgument(0), invocation.getArgument(1),
+				invocation.getArgument(2)));
+
+		List<List<CqEvent>> batches = new CopyOnWriteArrayList<>();
+
+		CqEvent mockEvent = mockCqEvent(1);
+
+		cqListenerContainer.setQueryService(mockQueryService);
+		cqListenerContainer.setTaskExecutor(Runnable::run);
+
+		CqQuery query = cqListenerContainer.addContinuousQuery(
+			new ContinuousQueryDefinition("SELECT * FROM /Example", (ContinuousQueryBatchListener) batches::add));
+
+		query.getCqAttributes().getCqListener().onEvent(mockEvent);
+
+		assertThat(batches).isEmpty();
+
+		cqListenerContainer.destroy();
+
+		assertThat(batches).containsExactly(Collections.singletonList(mockEvent));
+	}
+
+	@Test
+	public void continuousQueryDefinitionFromBatchListenerMethod() throws Exception {
+
+		BatchListener batchListener = new BatchListener();
+
+		ContinuousQueryDefinition definition = ContinuousQueryDefinition.from(batchListener,
+			BatchListener.class.getMethod("handleEvents", List.class));
+
+		assertThat(definition.isBatched()).isTrue();
+		assertThat(definition.getBatchSize()).isEqualTo(25);
+		assertThat(definition.getBatchInterval()).isEqualTo(100L);
+		assertThat(definition.isConflated()).isTrue();
+
+		CqEvent mockEvent = mockCqEvent(1);
+
+		((ContinuousQueryBatchListener) definition.getListener()).onEvents(Collections.singletonList(mockEvent));
+
+		assertThat(batchListener.events).containsExactly(mockEvent);
+	}
+
+	@Test
+	public void continuousQueryDefinitionFromMethodDeclaringConflation() throws Exception {
+
+		BatchListener batchListener = new BatchListener();
+
+		assertThat(ContinuousQueryDefinition.from(batchListener,
+			BatchListener.class.getMethod("handleEventsWithoutConflation", List.class)).getConflation())
+				.contains(false);
+
+		assertThat(ContinuousQueryDefinition.from(batchListener,
+			BatchListener.class.getMethod("handleEventsWithDefaultConflation", List.class)).getConflation())
+				.isNotPresent();
+
+		assertThatIllegalArgumentException().isThrownBy(() -> ContinuousQueryDefinition.from(batchListener,
+			BatchListener.class.getMethod("handleEventsWithInvalidConflation", List.class)))
+				.withMessageStartingWith("Conflate [yes] declared by method");
+	}
+
+	public static class BatchListener {
+
+		private final List<CqEvent> events = new ArrayList<>();
+
+		@ContinuousQuery(query = "SELECT * FROM /Example", batchSize = 25, batchInterval = 100L, conflate = "true")
+		public void handleEvents(List<CqEvent> events) {
+			this.events.addAll(events);
+		}
+
+		@ContinuousQuery(query = "SELECT * FROM /Example", conflate = "false")
+		public void handleEventsWithoutConflation(List<CqEvent> events) { }
+
+		@ContinuousQuery(query = "SELECT * FROM /Example")
+		public void handleEventsWithDefaultConflation(List<CqEvent> events) { }
+
+		@ContinuousQuery(query = "SELECT * FROM /Example", conflate = "yes")
+		public void handleEventsWithInvalidConflation(List<CqEvent> events) { }
+	}
+
+	@Test
+	public void dispatchKeysAreEqualForSameListenerAndKeyOnly() {
+
+		ContinuousQueryListener mockListenerOne = mock(ContinuousQueryListener.class);
+		ContinuousQueryListener mockListenerTwo = mock(ContinuousQueryListener.class);
+
+		ContinuousQueryListenerContainer.DispatchKey dispatchKey =
+			new ContinuousQueryListenerContainer.DispatchKey(mockListenerOne, "one");
+
+		assertThat(dispatchKey).isEqualTo(new ContinuousQueryListenerContainer.DispatchKey(mockListenerOne, "one"));
+		assertThat(dispatchKey).hasSameHashCodeAs(new ContinuousQueryListenerContainer.DispatchKey(mockListenerOne, "one"));
+		assertThat(dispatchKey).isNotEqualTo(new ContinuousQueryListenerContainer.DispatchKey(mockListenerOne, "two"));
+		assertThat(dispatchKey).isNotEqualTo(new ContinuousQueryListenerContainer.DispatchKey(mockListenerTwo, "one"));
+		assertThat(new ContinuousQueryListenerContainer.DispatchKey(mockListenerOne, null))
+			.isEqualTo(new ContinuousQueryListenerContainer.DispatchKey(mockListenerOne, null));
+	}
+
 	@Test
 	public void stopStopsCqsCallsRunnableHandlesExceptionsOnCqQueryStopWhenRunning() throws Exception {
 
@@ -0,0 +1,417 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.listener;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.After;
+import org.junit.Test;
+
+import org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher.BackpressurePolicy;
+
+/**
+ * Unit Tests for {@link KeyOrderedEventDispatcher}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.listener.KeyOrderedEventDispatcher
+ * @since 3.0.0
+ */
+public class KeyOrderedEventDispatcherUnitTests {
+
+	private static final long TIMEOUT_IN_SECONDS = 10L;
+
+	private static final ThreadFactory DAEMON_THREAD_FACTORY = runnable -> {
+
+		Thread thread = new Thread(runnable, "KeyOrderedEventDispatcherUnitTests-worker");
+
+		thread.setDaemon(true);
+
+		return thread;
+	};
+
+	private KeyOrderedEventDispatcher dispatcher;
+
+	@After
+	public void tearDown() {
+
+		if (this.dispatcher != null) {
+			this.dispatcher.destroy();
+		}
+	}
+
+	private KeyOrderedEventDispatcher newDispatcher(int workerCount, int queueCapacity, BackpressurePolicy policy) {
+		return this.dispatcher = new KeyOrderedEventDispatcher(workerCount, queueCapacity, policy, DAEMON_THREAD_FACTORY);
+	}
+
+	private void blockWorker(KeyOrderedEventDispatcher dispatcher, Object key, CountDownLatch running,
+			CountDownLatch release) {
+
+		dispatcher.execute(key, () -> {
+			running.countDown();
+			await(release);
+		});
+
+		await(running);
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			assertThat(latch.await(TIMEOUT_IN_SECONDS, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException cause) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	@Test
+	public void constructDispatcherWithDefaults() {
+
+		this.dispatcher = new KeyOrderedEventDispatcher("TestDispatcher-");
+
+		assertThat(this.dispatcher.getBackpressurePolicy()).isEqualTo(BackpressurePolicy.BLOCK);
+		assertThat(this.dispatcher.getWorkerCount()).isEqualTo(KeyOrderedEventDispatcher.DEFAULT_WORKER_COUNT);
+		assertThat(this.dispatcher.getQueueDepth()).isZero();
+		assertThat(this.dispatcher.getDispatchedCount()).isZero();
+		assertThat(this.dispatcher.getAverageDispatchLatency()).isEqualTo(Duration.ZERO);
+		assertThat(this.dispatcher.isRunning()).isTrue();
+	}
+
+	@Test
+	public void constructDispatcherWithInvalidArguments() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new KeyOrderedEventDispatcher(0, 1, BackpressurePolicy.BLOCK, DAEMON_THREAD_FACTORY))
+			.withMessage("Worker count [0] must be greater than 0");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new KeyOrderedEventDispatcher(1, 0, BackpressurePolicy.BLOCK, DAEMON_THREAD_FACTORY))
+			.withMessage("Queue capacity [0] must be greater than 0");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new KeyOrderedEventDispatcher(1, 1, null, DAEMON_THREAD_FACTORY))
+			.withMessage("BackpressurePolicy must not be null");
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new KeyOrderedEventDispatcher(1, 1, BackpressurePolicy.BLOCK, null))
+			.withMessage("ThreadFactory must not be null");
+	}
+
+	@Test
+	public void preservesOrderPerKey() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(4, 16, BackpressurePolicy.BLOCK);
+
+		int keyCount = 8;
+		int eventsPerKey = 500;
+
+		Map<Integer, List<Integer>> eventsByKey = new ConcurrentHashMap<>();
+
+		CountDownLatch done = new CountDownLatch(keyCount * eventsPerKey);
+
+		for (int event = 0; event < eventsPerKey; event++) {
+			for (int key = 0; key < keyCount; key++) {
+
+				int resolvedKey = key;
+				int resolvedEvent = event;
+
+				dispatcher.execute(resolvedKey, () -> {
+					eventsByKey.computeIfAbsent(resolvedKey, it -> Collections.synchronizedList(new ArrayList<>()))
+						.add(resolvedEvent);
+					done.countDown();
+				});
+			}
+		}
+
+		await(done);
+
+		List<Integer> expectedEvents = IntStream.range(0, eventsPerKey).boxed().collect(Collectors.toList());
+
+		assertThat(eventsByKey).hasSize(keyCount);
+		eventsByKey.values().forEach(events -> assertThat(events).containsExactlyElementsOf(expectedEvents));
+		assertThat(dispatcher.getDispatchedCount()).isEqualTo((long) keyCount * eventsPerKey);
+	}
+
+	@Test
+	public void runsTasksForDifferentWorkersConcurrently() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(2, 16, BackpressurePolicy.BLOCK);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch otherKeyRan = new CountDownLatch(1);
+
+		// keys 0 and 1 are assigned to different workers
+		blockWorker(dispatcher, 0, running, release);
+
+		dispatcher.execute(1, otherKeyRan::countDown);
+
+		await(otherKeyRan);
+
+		release.countDown();
+	}
+
+	@Test
+	public void dropOldestDropsQueuedTasksWhenFull() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 2, BackpressurePolicy.DROP_OLDEST);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		blockWorker(dispatcher, "blocker", running, release);
+
+		List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		dispatcher.execute("a", () -> ran.add("a"));
+		dispatcher.execute("b", () -> ran.add("b"));
+		dispatcher.execute("c", () -> {
+			ran.add("c");
+			done.countDown();
+		});
+
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(2);
+		assertThat(dispatcher.getDroppedCount()).isOne();
+
+		release.countDown();
+
+		await(done);
+
+		assertThat(ran).containsExactly("b", "c");
+	}
+
+	@Test
+	public void conflateReplacesQueuedTaskWithSameKeyWhenFull() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 3, BackpressurePolicy.CONFLATE);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		blockWorker(dispatcher, "blocker", running, release);
+
+		List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		dispatcher.execute("a", () -> ran.add("a1"));
+		dispatcher.execute("b", () -> ran.add("b1"));
+		dispatcher.execute("c", () -> {
+			ran.add("c1");
+			done.countDown();
+		});
+		dispatcher.execute("a", () -> ran.add("a2"));
+		dispatcher.execute("b", () -> ran.add("b2"));
+
+		assertThat(dispatcher.getQueueDepth()).isEqualTo(3);
+		assertThat(dispatcher.getConflatedCount()).isEqualTo(2);
+		assertThat(dispatcher.getDroppedCount()).isZero();
+
+		release.countDown();
+
+		await(done);
+
+		assertThat(ran).containsExactly("a2", "b2", "c1");
+	}
+
+	@Test
+	public void conflateDoesNotBlockWhenQueuedTaskWithSameKeyIsReplaced() throws Exception {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 1, BackpressurePolicy.CONFLATE);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		blockWorker(dispatcher, "blocker", running, release);
+
+		List<String> ran = Collections.synchronizedList(new ArrayList<>());
+
+		dispatcher.execute("a", () -> ran.add("a1"));
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> dispatcher.execute("a", () -> {
+			ran.add("a2");
+			done.countDown();
+		}));
+
+		producer.setDaemon(true);
+		producer.start();
+		producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+
+		assertThat(producer.isAlive()).isFalse();
+		assertThat(dispatcher.getQueueDepth()).isOne();
+		assertThat(dispatcher.getConflatedCount()).isOne();
+
+		release.countDown();
+
+		await(done);
+
+		assertThat(ran).containsExactly("a2");
+	}
+
+	@Test
+	public void conflateBlocksWhenNoQueuedTaskHasSameKey() throws Exception {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 1, BackpressurePolicy.CONFLATE);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		blockWorker(dispatcher, "blocker", running, release);
+
+		dispatcher.execute("a", () -> {});
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> dispatcher.execute("b", done::countDown));
+
+		producer.setDaemon(true);
+		producer.start();
+		producer.join(250L);
+
+		assertThat(producer.isAlive()).isTrue();
+		assertThat(dispatcher.getConflatedCount()).isZero();
+
+		release.countDown();
+
+		await(done);
+
+		assertThat(dispatcher.getDroppedCount()).isZero();
+	}
+
+	@Test
+	public void blockWaitsForSpaceWhenFull() throws Exception {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 1, BackpressurePolicy.BLOCK);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		blockWorker(dispatcher, "blocker", running, release);
+
+		dispatcher.execute("queued", () -> {});
+
+		AtomicBoolean dispatched = new AtomicBoolean(false);
+		CountDownLatch done = new CountDownLatch(1);
+
+		Thread producer = new Thread(() -> {
+			dispatcher.execute("blocked", done::countDown);
+			dispatched.set(true);
+		});
+
+		producer.setDaemon(true);
+		producer.start();
+		producer.join(250L);
+
+		assertThat(producer.isAlive()).isTrue();
+		assertThat(dispatched).isFalse();
+
+		release.countDown();
+
+		await(done);
+
+		producer.join(TimeUnit.SECONDS.toMillis(TIMEOUT_IN_SECONDS));
+
+		assertThat(dispatched).isTrue();
+		assertThat(dispatcher.getDroppedCount()).isZero();
+	}
+
+	@Test
+	public void recordsDispatchLatency() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 4, BackpressurePolicy.BLOCK);
+
+		CountDownLatch running = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(1);
+
+		blockWorker(dispatcher, "blocker", running, release);
+
+		dispatcher.execute("waiting", done::countDown);
+
+		assertThat(dispatcher.getQueueDepth()).isOne();
+
+		try {
+			Thread.sleep(50L);
+		}
+		catch (InterruptedException ignore) {
+			Thread.currentThread().interrupt();
+		}
+
+		release.countDown();
+
+		await(done);
+
+		assertThat(dispatcher.getDispatchedCount()).isEqualTo(2L);
+		assertThat(dispatcher.getMaxDispatchLatency()).isGreaterThanOrEqualTo(Duration.ofMillis(50L));
+		assertThat(dispatcher.getAverageDispatchLatency()).isPositive();
+	}
+
+	@Test
+	public void continuesAfterTaskFailure() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(1, 4, BackpressurePolicy.BLOCK);
+
+		CountDownLatch done = new CountDownLatch(1);
+
+		dispatcher.execute("key", () -> { throw new IllegalStateException("TEST"); });
+		dispatcher.execute("key", done::countDown);
+
+		await(done);
+
+		assertThat(dispatcher.getDispatchedCount()).isEqualTo(2L);
+	}
+
+	@Test
+	public void destroyRunsQueuedTasksAndRejectsNewTasks() {
+
+		KeyOrderedEventDispatcher dispatcher = newDispatcher(2, 16, BackpressurePolicy.BLOCK);
+
+		List<Integer> ran = Collections.synchronizedList(new ArrayList<>());
+
+		IntStream.range(0, 10).forEach(event -> dispatcher.execute(event, () -> ran.add(event)));
+
+		dispatcher.destroy();
+
+		assertThat(dispatcher.isRunning()).isFalse();
+		assertThat(ran).hasSize(10);
+
+		assertThatExceptionOfType(RejectedExecutionException.class)
+			.isThrownBy(() -> dispatcher.execute(() -> {}))
+			.withMessage("KeyOrderedEventDispatcher has been shutdown");
+	}
+}
@@ -16,17 +16,22 @@
 package org.springframework.data.gemfire.listener.adapter;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.same;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.Before;
 import org.junit.Test;
 
@@ -34,7 +39,10 @@ import org.apache.geode.cache.Operation;
 import org.apache.geode.cache.query.CqEvent;
 import org.apache.geode.cache.query.CqQuery;
 
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.data.gemfire.listener.ContinuousQueryListener;
+import org.springframework.data.gemfire.listener.GemfireListenerExecutionFailedException;
 
 /**
  * Unit Tests for {@link ContinuousQueryListenerAdapter}.
@@ -296,6 +304,81 @@ public class QueryListenerAdapterUnitTests {
 		}
 	}
 
+	@Test
+	public void handlesOverloadedMethods() {
+
+		OverloadedListener listener = new OverloadedListener();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(listener);
+
+		CqEvent event = event();
+
+		cqListenerAdapter.setDefaultListenerMethod("handle");
+		cqListenerAdapter.onEvent(event);
+		cqListenerAdapter.onEvent(event);
+
+		assertThat(listener.keys).containsExactly(event.getKey(), event.getKey());
+		assertThat(listener.values).containsExactly(event.getNewValue(), event.getNewValue());
+	}
+
+	@Test
+	public void handlesStaticMethod() {
+
+		StaticListener.events.clear();
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = new ContinuousQueryListenerAdapter(new StaticListener());
+
+		CqEvent event = event();
+
+		cqListenerAdapter.setDefaultListenerMethod("handle");
+		cqListenerAdapter.onEvent(event);
+
+		assertThat(StaticListener.events).containsExactly(event.getKey(), event.getNewValue());
+	}
+
+	@Test
+	public void wrapsExceptionThrownByListenerMethod() {
+
+		RuntimeException expectedCause = new IllegalStateException("TEST");
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		doThrow(expectedCause).when(mockDelegate).handleKey(any());
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = spy(new ContinuousQueryListenerAdapter(mockDelegate));
+
+		doAnswer(invocation -> { throw invocation.<Throwable>getArgument(0); })
+			.when(cqListenerAdapter).handleListenerException(isA(Throwable.class));
+
+		cqListenerAdapter.setDefaultListenerMethod("handleKey");
+
+		assertThatExceptionOfType(GemfireListenerExecutionFailedException.class)
+			.isThrownBy(() -> cqListenerAdapter.onEvent(event()))
+			.withMessage("Listener method [handleKey] threw Exception")
+			.withCause(expectedCause);
+	}
+
+	@Test
+	public void rethrowsDataAccessExceptionThrownByListenerMethod() {
+
+		DataAccessException expectedException = new DataRetrievalFailureException("TEST");
+
+		Delegate mockDelegate = mock(Delegate.class);
+
+		doThrow(expectedException).when(mockDelegate).handleKey(any());
+
+		ContinuousQueryListenerAdapter cqListenerAdapter = spy(new ContinuousQueryListenerAdapter(mockDelegate));
+
+		doAnswer(invocation -> { throw invocation.<Throwable>getArgument(0); })
+			.when(cqListenerAdapter).handleListenerException(isA(Throwable.class));
+
+		cqListenerAdapter.setDefaultListenerMethod("handleKey");
+
+		assertThatExceptionOfType(DataRetrievalFailureException.class)
+			.isThrownBy(() -> cqListenerAdapter.onEvent(event()))
+			.isSameAs(expectedException);
+	}
+
 	/**
 	 * @link https://jira.spring.io/browse/SGF-89
 	 */
@@ -312,4 +395,28 @@ public class QueryListenerAdapterUnitTests {
 		listenerAdapter.onEvent(event());
 		assertThat(listener.count).isEqualTo(1);
 	}
+
+	static class StaticListener {
+
+		static final List<Object> events = new ArrayList<>();
+
+		public static void handle(Object key, Object value) {
+			events.add(key);
+			events.add(value);
+		}
+	}
+
+	static class OverloadedListener {
+
+		final List<Object> keys = new ArrayList<>();
+		final List<Object> values = new ArrayList<>();
+
+		public void handle(Object key) {
+			this.keys.add(key);
+		}
+
+		public void handle(Object key, Object value) {
+			this.values.add(value);
+		}
+	}
 }
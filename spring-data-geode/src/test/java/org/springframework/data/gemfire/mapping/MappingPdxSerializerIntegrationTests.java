@@ -240,6 +240,31 @@ public class MappingPdxSerializerIntegrationTests {
 		assertThat(reference.getAddress()).isEqualTo(person.getAddress());
 	}
 
+	@Test
+	public void serializesAndDeserializesEntityWithPrimitiveProperties() {
+
+		Tick tick = new Tick(1_650_000_000_000L);
+
+		tick.setActive(true);
+		tick.setAsk(101.25f);
+		tick.setBid(101.125d);
+		tick.setFlags((byte) 0x7);
+		tick.setSide('B');
+		tick.setTier((short) 2);
+		tick.setVolume(5_000);
+		tick.setPrices(new double[] { 101.0d, 101.125d, 101.25d });
+		tick.setSizes(new long[] { 100L, 200L, 300L });
+		tick.setSymbol("VMW");
+
+		region.put(1L, tick);
+
+		Object result = region.get(1L);
+
+		assertThat(result).isInstanceOf(Tick.class);
+		assertThat(result).isNotSameAs(tick);
+		assertThat(result).isEqualTo(tick);
+	}
+
 	@Test
 	public void serializesAndDeserializesEntityWithDataSerializableProperty() {
 
@@ -458,6 +483,33 @@ public class MappingPdxSerializerIntegrationTests {
 		}
 	}
 
+	@Data
+	static class Tick {
+
+		private final long timestamp;
+
+		private boolean active;
+
+		private byte flags;
+
+		private char side;
+
+		private double bid;
+
+		private double[] prices;
+
+		private float ask;
+
+		private int volume;
+
+		private long[] sizes;
+
+		private short tier;
+
+		private String symbol;
+
+	}
+
 	@Getter
 	static class EntityWithReadOnlyProperty {
 
@@ -46,6 +46,7 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
 
+import org.apache.geode.pdx.PdxFieldTypeMismatchException;
 import org.apache.geode.pdx.PdxReader;
 import org.apache.geode.pdx.PdxSerializer;
 import org.apache.geode.pdx.PdxWriter;
@@ -886,6 +887,148 @@ public class MappingPdxSerializerUnitTests {
 		assertThat(this.pdxSerializer.toData(new ApplicationDomainType(), this.mockWriter)).isFalse();
 	}
 
+	@Test
+	public void toDataCompilesSerializationPlanOnce() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+		Person janeDoe = new Person(2L, "Jane", "Doe");
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		assertThat(this.pdxSerializer.toData(jonDoe, this.mockWriter)).isTrue();
+		assertThat(this.pdxSerializer.toData(janeDoe, this.mockWriter)).isTrue();
+
+		assertThat(this.pdxSerializer.getSerializationPlan(Person.class))
+			.isSameAs(this.pdxSerializer.getSerializationPlan(Person.class));
+
+		verify(this.pdxSerializer, times(1)).getTypeFilters();
+		verify(this.pdxSerializer, times(4)).resolveCustomPdxSerializer(isA(PersistentProperty.class));
+		verify(this.pdxSerializer, times(1)).getPersistentEntity(eq(Person.class));
+		verify(this.mockWriter, times(1)).writeField(eq("firstname"), eq("Jon"), eq(String.class));
+		verify(this.mockWriter, times(1)).writeField(eq("firstname"), eq("Jane"), eq(String.class));
+		verify(mockAddressSerializer, times(2)).toData(isNull(), eq(this.mockWriter));
+	}
+
+	@Test
+	public void setCustomPdxSerializersInvalidatesSerializationPlans() {
+
+		PdxSerializer mockAddressSerializer = mock(PdxSerializer.class);
+
+		Address address = new Address();
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		jonDoe.address = address;
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.toData(jonDoe, this.mockWriter)).isTrue();
+
+		this.pdxSerializer.setCustomPdxSerializers(Collections.singletonMap(Address.class, mockAddressSerializer));
+
+		assertThat(this.pdxSerializer.toData(jonDoe, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeField(eq("address"), eq(address), eq(Address.class));
+		verify(mockAddressSerializer, times(1)).toData(eq(address), eq(this.mockWriter));
+	}
+
+	@Test
+	public void registerInvalidatesSerializationPlans() {
+
+		PdxSerializer mockNamedSerializer = mock(PdxSerializer.class);
+
+		Person jonDoe = new Person(1L, "Jon", "Doe");
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.toData(jonDoe, this.mockWriter)).isTrue();
+
+		this.pdxSerializer.register((customPdxSerializers, property) ->
+			"firstname".equals(property.getName()) ? mockNamedSerializer : null);
+
+		assertThat(this.pdxSerializer.toData(jonDoe, this.mockWriter)).isTrue();
+
+		verify(this.mockWriter, times(1)).writeField(eq("firstname"), eq("Jon"), eq(String.class));
+		verify(mockNamedSerializer, times(1)).toData(eq("Jon"), eq(this.mockWriter));
+	}
+
+	@Test
+	public void setIncludeTypeFiltersInvalidatesTypeFilterVerdicts() {
+
+		assertThat(this.pdxSerializer.isSerializable(Person.class)).isFalse();
+		assertThat(this.pdxSerializer.isSerializable(Person.class)).isFalse();
+
+		verify(this.pdxSerializer, times(1)).getTypeFilters();
+
+		this.pdxSerializer.setIncludeTypeFilters(type -> Person.class.equals(type));
+
+		assertThat(this.pdxSerializer.isSerializable(Person.class)).isTrue();
+		assertThat(this.pdxSerializer.isSerializable(null)).isFalse();
+
+		verify(this.pdxSerializer, times(3)).getTypeFilters();
+	}
+
+	@Test
+	public void primitivePdxFieldResolvesPrimitiveAndPrimitiveArrayTypesOnly() {
+
+		assertThat(MappingPdxSerializer.PrimitivePdxField.from(Integer.TYPE))
+			.isEqualTo(MappingPdxSerializer.PrimitivePdxField.INT);
+		assertThat(MappingPdxSerializer.PrimitivePdxField.from(double[].class))
+			.isEqualTo(MappingPdxSerializer.PrimitivePdxField.DOUBLE_ARRAY);
+		assertThat(MappingPdxSerializer.PrimitivePdxField.from(Integer.class)).isNull();
+		assertThat(MappingPdxSerializer.PrimitivePdxField.from(Long[].class)).isNull();
+		assertThat(MappingPdxSerializer.PrimitivePdxField.from(String.class)).isNull();
+		assertThat(MappingPdxSerializer.PrimitivePdxField.from(null)).isNull();
+	}
+
+	@Test
+	public void primitivePdxFieldWritesWithTypeSpecificPdxWriterMethod() {
+
+		MappingPdxSerializer.PrimitivePdxField.LONG.write(this.mockWriter, "timestamp", 123L);
+		MappingPdxSerializer.PrimitivePdxField.DOUBLE.write(this.mockWriter, "price", null);
+		MappingPdxSerializer.PrimitivePdxField.INT_ARRAY.write(this.mockWriter, "sizes", new int[] { 1, 2 });
+
+		verify(this.mockWriter, times(1)).writeLong(eq("timestamp"), eq(123L));
+		verify(this.mockWriter, times(1)).writeDouble(eq("price"), eq(0.0d));
+		verify(this.mockWriter, times(1)).writeIntArray(eq("sizes"), eq(new int[] { 1, 2 }));
+		verify(this.mockWriter, never()).writeField(anyString(), any(), any(Class.class));
+	}
+
+	@Test
+	public void primitivePdxFieldReadsWithTypeSpecificPdxReaderMethod() {
+
+		when(this.mockReader.hasField(eq("volume"))).thenReturn(true);
+		when(this.mockReader.readInt(eq("volume"))).thenReturn(5000);
+
+		assertThat(MappingPdxSerializer.PrimitivePdxField.INT.read(this.mockReader, "volume")).isEqualTo(5000);
+
+		verify(this.mockReader, never()).readField(anyString());
+	}
+
+	@Test
+	public void primitivePdxFieldReadsNullForMissingField() {
+
+		when(this.mockReader.hasField(eq("volume"))).thenReturn(false);
+
+		assertThat(MappingPdxSerializer.PrimitivePdxField.INT.read(this.mockReader, "volume")).isNull();
+
+		verify(this.mockReader, never()).readInt(anyString());
+		verify(this.mockReader, never()).readField(anyString());
+	}
+
+	@Test
+	public void primitivePdxFieldFallsBackToReadFieldOnFieldTypeMismatch() {
+
+		when(this.mockReader.hasField(eq("volume"))).thenReturn(true);
+		when(this.mockReader.readInt(eq("volume"))).thenThrow(new PdxFieldTypeMismatchException("test"));
+		when(this.mockReader.readField(eq("volume"))).thenReturn(5000L);
+
+		assertThat(MappingPdxSerializer.PrimitivePdxField.INT.read(this.mockReader, "volume")).isEqualTo(5000L);
+	}
+
 	private static class ApplicationDomainType { }
 
 }
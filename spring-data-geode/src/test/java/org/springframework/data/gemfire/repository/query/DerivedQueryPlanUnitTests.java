@@ -0,0 +1,135 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.query.annotation.Limit;
+import org.springframework.data.gemfire.repository.query.annotation.Trace;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.core.support.DefaultRepositoryMetadata;
+import org.springframework.data.repository.query.parser.PartTree;
+
+/**
+ * Unit Tests for {@link DerivedQueryPlan}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.query.DerivedQueryPlan
+ * @since 3.0.0
+ */
+public class DerivedQueryPlanUnitTests {
+
+	private final GemfireMappingContext mappingContext = new GemfireMappingContext();
+
+	private DerivedQueryPlan compile(String methodName, Sort sort, Class<?>... parameterTypes) throws Exception {
+
+		GemfireQueryMethod queryMethod = new GemfireQueryMethod(PersonQueries.class.getMethod(methodName, parameterTypes),
+			new DefaultRepositoryMetadata(PersonQueries.class), new SpelAwareProxyProjectionFactory(),
+				this.mappingContext);
+
+		PartTree tree = new PartTree(queryMethod.getName(), Person.class);
+
+		Region<?, ?> mockRegion = mock(Region.class);
+
+		doReturn("/People").when(mockRegion).getFullPath();
+
+		return DerivedQueryPlan.compile(queryMethod, tree, sort, mockRegion);
+	}
+
+	@Test
+	public void compileResolvesFromClauseAndAppliesProvidedQueryPostProcessors() throws Exception {
+
+		DerivedQueryPlan queryPlan = compile("findByLastname", Sort.unsorted(), String.class);
+
+		assertThat(queryPlan.getQuery()).isEqualTo("<TRACE> SELECT * FROM /People x WHERE x.lastname = $1 LIMIT 10");
+		assertThat(queryPlan.getSort()).isEqualTo(Sort.unsorted());
+		assertThat(queryPlan.hasInParameters()).isFalse();
+		assertThat(queryPlan.prepareQuery(new Object[] { "Doe" })).isEqualTo(queryPlan.getQuery());
+	}
+
+	@Test
+	public void compileAppliesSort() throws Exception {
+
+		DerivedQueryPlan queryPlan =
+			compile("findByLastname", Sort.by("firstname"), String.class, Sort.class);
+
+		assertThat(queryPlan.getQuery())
+			.isEqualTo("SELECT DISTINCT * FROM /People x WHERE x.lastname = $1 ORDER BY firstname ASC");
+	}
+
+	@Test
+	public void bindArgumentsAddsWildcardsToLikeArguments() throws Exception {
+
+		DerivedQueryPlan queryPlan = compile("findByFirstnameContainingAndLastnameStartingWith",
+			Sort.unsorted(), String.class, String.class);
+
+		Object[] arguments = { "oh", "Do" };
+
+		assertThat(queryPlan.bindArguments(arguments)).containsExactly("%oh%", "Do%");
+		assertThat(arguments).containsExactly("oh", "Do");
+	}
+
+	@Test
+	public void bindArgumentsReturnsArgumentsAsIsWhenNoLikeArgumentsArePresent() throws Exception {
+
+		DerivedQueryPlan queryPlan = compile("findByLastname", Sort.unsorted(), String.class);
+
+		Object[] arguments = { "Doe" };
+
+		assertThat(queryPlan.bindArguments(arguments)).isSameAs(arguments);
+	}
+
+	@Test
+	public void prepareQueryBindsInParameters() throws Exception {
+
+		DerivedQueryPlan queryPlan = compile("findByFirstnameIn", Sort.unsorted(), Collection.class);
+
+		assertThat(queryPlan.hasInParameters()).isTrue();
+		assertThat(queryPlan.prepareQuery(new Object[] { Arrays.asList("Jon", "Jane") }))
+			.isEqualTo("SELECT * FROM /People x WHERE x.firstname IN SET ('Jon', 'Jane')");
+		assertThat(queryPlan.prepareQuery(new Object[] { Arrays.asList("Pie") }))
+			.isEqualTo("SELECT * FROM /People x WHERE x.firstname IN SET ('Pie')");
+	}
+
+	interface PersonQueries extends Repository<Person, Long> {
+
+		@Limit(10)
+		@Trace
+		List<Person> findByLastname(String lastname);
+
+		List<Person> findByLastname(String lastname, Sort sort);
+
+		List<Person> findByFirstnameContainingAndLastnameStartingWith(String firstname, String lastname);
+
+		List<Person> findByFirstnameIn(Collection<String> firstnames);
+
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for {@link Stream} and {@link Slice} Repository query methods, which fetch the query results
+ * incrementally in windows.
+ *
+ * @author agent
+ * @see java.util.stream.Stream
+ * @see org.junit.Test
+ * @see org.springframework.data.domain.Slice
+ * @see org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 3.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class StreamAndSliceQueryIntegrationTests extends IntegrationTestsSupport {
+
+	private static final int PEOPLE_COUNT = 250;
+
+	@Autowired
+	@Qualifier("simple")
+	private Region<Long, Person> people;
+
+	@Autowired
+	private StreamingPersonRepository repository;
+
+	@BeforeClass
+	public static void configureStreamFetchSize() {
+		System.setProperty(StringBasedGemfireRepositoryQuery.QUERY_STREAM_FETCH_SIZE_PROPERTY, "20");
+	}
+
+	@AfterClass
+	public static void clearStreamFetchSize() {
+		System.clearProperty(StringBasedGemfireRepositoryQuery.QUERY_STREAM_FETCH_SIZE_PROPERTY);
+	}
+
+	@Before
+	public void setup() {
+
+		if (this.people.isEmpty()) {
+			LongStream.rangeClosed(1, PEOPLE_COUNT).forEach(id -> this.people.put(id,
+				new Person(id, String.format("Person%03d", PEOPLE_COUNT - id), id % 2 == 0 ? "Doe" : "Smith")));
+		}
+
+		assertThat(this.people).hasSize(PEOPLE_COUNT);
+	}
+
+	private Stream<Person> peopleWithLastname(String lastname) {
+		return this.people.values().stream().filter(person -> lastname.equals(person.getLastname()));
+	}
+
+	private List<Long> idsOf(Stream<Person> people) {
+		return people.map(Person::getId).collect(Collectors.toList());
+	}
+
+	private List<String> firstnamesOf(List<Person> people) {
+		return people.stream().map(Person::getFirstname).collect(Collectors.toList());
+	}
+
+	@Test
+	public void streamsAllResultsInIdentifierOrderUsingKeyCursor() {
+
+		try (Stream<Person> results = this.repository.findByLastname("Doe")) {
+			assertThat(idsOf(results))
+				.containsExactlyElementsOf(idsOf(peopleWithLastname("Doe").sorted(Comparator.comparing(Person::getId))));
+		}
+	}
+
+	@Test
+	public void streamsAllResultsInDescendingIdentifierOrderUsingKeyCursor() {
+
+		try (Stream<Person> results = this.repository.findByLastnameOrderByIdDesc("Smith")) {
+			assertThat(idsOf(results)).containsExactlyElementsOf(idsOf(peopleWithLastname("Smith")
+				.sorted(Comparator.comparing(Person::getId).reversed())));
+		}
+	}
+
+	@Test
+	public void streamsAllResultsInPropertyOrderUsingKeys() {
+
+		try (Stream<Person> results = this.repository.findByLastnameOrderByFirstnameAsc("Doe")) {
+			assertThat(idsOf(results)).containsExactlyElementsOf(idsOf(peopleWithLastname("Doe")
+				.sorted(Comparator.comparing(Person::getFirstname))));
+		}
+	}
+
+	@Test
+	public void streamsUserDefinedQueryResults() {
+
+		try (Stream<Person> results = this.repository.streamPeopleWithIdGreaterThan(200L)) {
+			assertThat(idsOf(results)).containsExactlyElementsOf(LongStream.rangeClosed(201, PEOPLE_COUNT).boxed()
+				.collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void streamsProjectionQueryResults() {
+
+		try (Stream<String> results = this.repository.streamFirstnamesWithLastname("Doe")) {
+			assertThat(results.collect(Collectors.toList()))
+				.containsExactlyInAnyOrderElementsOf(peopleWithLastname("Doe").map(Person::getFirstname)
+					.collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void streamIsConsumedLazily() {
+
+		try (Stream<Person> results = this.repository.findByLastname("Doe")) {
+			assertThat(idsOf(results.limit(3))).containsExactly(2L, 4L, 6L);
+		}
+	}
+
+	@Test
+	public void findsSlices() {
+
+		List<String> expectedFirstnames = peopleWithLastname("Doe")
+			.map(Person::getFirstname)
+			.sorted(Comparator.reverseOrder())
+			.collect(Collectors.toList());
+
+		Slice<Person> firstSlice = this.repository.findByLastnameOrderByFirstnameDesc("Doe", PageRequest.of(0, 50));
+
+		assertThat(firstnamesOf(firstSlice.getContent())).containsExactlyElementsOf(expectedFirstnames.subList(0, 50));
+		assertThat(firstSlice.hasNext()).isTrue();
+
+		Slice<Person> lastSlice = this.repository.findByLastnameOrderByFirstnameDesc("Doe", PageRequest.of(2, 50));
+
+		assertThat(firstnamesOf(lastSlice.getContent())).containsExactlyElementsOf(expectedFirstnames.subList(100, 125));
+		assertThat(lastSlice.hasNext()).isFalse();
+
+		Slice<Person> exactSlice = this.repository.findByLastnameOrderByFirstnameDesc("Doe", PageRequest.of(4, 25));
+
+		assertThat(exactSlice.getContent()).hasSize(25);
+		assertThat(exactSlice.hasNext()).isFalse();
+	}
+
+	@Test
+	public void streamsAndSlicesIncludeEntitiesAddedAfterPreviousQuery() {
+
+		try (Stream<Person> results = this.repository.findByLastnameOrderByFirstnameAsc("Doe")) {
+			assertThat(idsOf(results)).doesNotContain(1000L);
+		}
+
+		assertThat(this.repository.findByLastnameOrderByFirstnameDesc("Doe", PageRequest.of(0, 10)).getContent())
+			.extracting(Person::getId)
+			.doesNotContain(1000L);
+
+		this.people.put(1000L, new Person(1000L, "Zed", "Doe"));
+
+		try {
+
+			try (Stream<Person> results = this.repository.findByLastnameOrderByFirstnameAsc("Doe")) {
+				assertThat(idsOf(results)).endsWith(1000L);
+			}
+
+			assertThat(this.repository.findByLastnameOrderByFirstnameDesc("Doe", PageRequest.of(0, 10)).getContent())
+				.extracting(Person::getId)
+				.startsWith(1000L);
+		}
+		finally {
+			this.people.remove(1000L);
+		}
+	}
+
+	public interface StreamingPersonRepository extends CrudRepository<Person, Long> {
+
+		Stream<Person> findByLastname(String lastname);
+
+		Stream<Person> findByLastnameOrderByIdDesc(String lastname);
+
+		Stream<Person> findByLastnameOrderByFirstnameAsc(String lastname);
+
+		Slice<Person> findByLastnameOrderByFirstnameDesc(String lastname, Pageable pageable);
+
+		@Query("SELECT * FROM /simple p WHERE p.id > $1")
+		Stream<Person> streamPeopleWithIdGreaterThan(Long id);
+
+		@Query("SELECT p.firstname FROM /simple p WHERE p.lastname = $1")
+		Stream<String> streamFirstnamesWithLastname(String lastname);
+
+	}
+
+	@ClientCacheApplication
+	static class TestConfiguration {
+
+		@Bean("simple")
+		ClientRegionFactoryBean<Long, Person> peopleRegion(GemFireCache cache) {
+
+			ClientRegionFactoryBean<Long, Person> people = new ClientRegionFactoryBean<>();
+
+			people.setCache(cache);
+			people.setShortcut(ClientRegionShortcut.LOCAL);
+
+			return people;
+		}
+
+		@Bean
+		GemfireRepositoryFactoryBean<StreamingPersonRepository, Person, Long> personRepository(GemFireCache cache) {
+
+			GemfireRepositoryFactoryBean<StreamingPersonRepository, Person, Long> personRepository =
+				new GemfireRepositoryFactoryBean<>(StreamingPersonRepository.class);
+
+			personRepository.setCache(cache);
+			personRepository.setGemfireMappingContext(new GemfireMappingContext());
+
+			return personRepository;
+		}
+	}
+}
@@ -16,21 +16,39 @@
 package org.springframework.data.gemfire.repository.query;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
 
 import org.junit.Test;
 
 import org.apache.geode.cache.query.SelectResults;
 
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.mapping.GemfirePersistentProperty;
+import org.springframework.data.gemfire.repository.query.support.UnsupportedQueryExecutionException;
+import org.springframework.data.mapping.IdentifierAccessor;
+
 /**
  * Unit Tests for {@link StringBasedGemfireRepositoryQuery}
  *
@@ -201,4 +219,231 @@ public class StringBasedGemfireRepositoryQueryUnitTests {
 		verify(mockQueryMethod, never()).getLimit();
 		verify(mockQueryMethod, times(1)).hasTrace();
 	}
+
+	private GemfireQueryMethod mockQueryMethodWithIdProperty(String idPropertyName) {
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		GemfirePersistentEntity<?> mockEntity = mock(GemfirePersistentEntity.class);
+
+		GemfirePersistentProperty mockIdProperty = mock(GemfirePersistentProperty.class);
+
+		doReturn(idPropertyName).when(mockIdProperty).getName();
+		doReturn(mockIdProperty).when(mockEntity).getIdProperty();
+		doReturn(mockEntity).when(mockQueryMethod).getPersistentEntity();
+
+		return mockQueryMethod;
+	}
+
+	@Test
+	public void twoPhasePagedQueryExecutorConvertsQueryToKeysQuery() {
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mock(GemfireTemplate.class));
+
+		GemfireQueryMethod mockQueryMethod = mockQueryMethodWithIdProperty("id");
+
+		assertThat(queryExecutor.toKeysQuery(mockQueryMethod, "SELECT * FROM /People"))
+			.isEqualTo("SELECT entry.key FROM /People.entrySet entry");
+
+		assertThat(queryExecutor.toKeysQuery(mockQueryMethod, "SELECT * FROM /People p WHERE p.age > $1"))
+			.isEqualTo("SELECT entry.key FROM /People.entrySet entry WHERE entry.value.age > $1");
+
+		assertThat(queryExecutor.toKeysQuery(mockQueryMethod,
+			"<TRACE> SELECT DISTINCT * FROM /People x WHERE x.lastname = $1 ORDER BY firstname ASC, x.age DESC LIMIT 500"))
+				.isEqualTo("<TRACE> SELECT DISTINCT entry.key, entry.value.firstname, entry.value.age"
+					+ " FROM /People.entrySet entry WHERE entry.value.lastname = $1"
+					+ " ORDER BY entry.value.firstname ASC, entry.value.age DESC LIMIT 500");
+	}
+
+	@Test
+	public void twoPhasePagedQueryExecutorQualifiesWhereClauseExpressions() {
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mock(GemfireTemplate.class));
+
+		assertThat(queryExecutor.toKeysQuery(mock(GemfireQueryMethod.class),
+			"SELECT * FROM /People p WHERE p.name LIKE 'p.%' AND nvl(p.age, 0) >= 21 OR IS_DEFINED(nickname)"))
+				.isEqualTo("SELECT entry.key FROM /People.entrySet entry WHERE entry.value.name LIKE 'p.%'"
+					+ " AND nvl(entry.value.age, 0) >= 21 OR IS_DEFINED(entry.value.nickname)");
+	}
+
+	@Test
+	public void twoPhasePagedQueryExecutorCannotConvertQueryOrderedByFunction() {
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mock(GemfireTemplate.class));
+
+		assertThatExceptionOfType(UnsupportedQueryExecutionException.class)
+			.isThrownBy(() -> queryExecutor.toKeysQuery(mockQueryMethodWithIdProperty("id"),
+				"SELECT DISTINCT * FROM /People p ORDER BY nvl(p.nickname, p.firstname) ASC, p.age DESC"));
+	}
+
+	@Test
+	public void twoPhasePagedQueryExecutorCannotConvertQueryWithNestedQuery() {
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mock(GemfireTemplate.class));
+
+		assertThatExceptionOfType(UnsupportedQueryExecutionException.class)
+			.isThrownBy(() -> queryExecutor.toKeysQuery(mockQueryMethodWithIdProperty("id"),
+				"SELECT * FROM /People p WHERE p.id IN (SELECT c.personId FROM /Customers c)"));
+	}
+
+	@Test
+	public void twoPhasePagedQueryExecutorCannotConvertProjectionQuery() {
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mock(GemfireTemplate.class));
+
+		assertThatExceptionOfType(UnsupportedQueryExecutionException.class)
+			.isThrownBy(() -> queryExecutor.toKeysQuery(mockQueryMethodWithIdProperty("id"),
+				"SELECT p.name FROM /People p"));
+	}
+
+	@Test
+	public void twoPhasePagedQueryExecutorDoesNotRequireIdProperty() {
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mock(GemfireTemplate.class));
+
+		GemfireQueryMethod mockQueryMethod = mock(GemfireQueryMethod.class);
+
+		doReturn(mock(GemfirePersistentEntity.class)).when(mockQueryMethod).getPersistentEntity();
+
+		assertThat(queryExecutor.toKeysQuery(mockQueryMethod, "SELECT * FROM /People"))
+			.isEqualTo("SELECT entry.key FROM /People.entrySet entry");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void twoPhasePagedQueryExecutorCachesKeysAndFetchesPageWithGetAll() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		SelectResults<Object> mockKeys = mock(SelectResults.class);
+
+		List<Object> keys = Arrays.asList(5L, 4L, 3L, 2L, 1L);
+
+		String keysQuery = "SELECT entry.key FROM /People.entrySet entry WHERE entry.value.age > $1";
+
+		when(mockKeys.size()).thenReturn(keys.size());
+		when(mockKeys.iterator()).thenAnswer(invocation -> keys.iterator());
+		doReturn(mockKeys).when(mockTemplate).find(eq(keysQuery), any());
+
+		Map<Object, Object> pageOne = new HashMap<>();
+
+		pageOne.put(5L, "five");
+		pageOne.put(4L, "four");
+
+		Map<Object, Object> pageTwo = new HashMap<>();
+
+		pageTwo.put(3L, "three");
+
+		doReturn(pageOne).when(mockTemplate).getAll(eq(Arrays.asList(5L, 4L)));
+		doReturn(pageTwo).when(mockTemplate).getAll(eq(Arrays.asList(3L, 2L)));
+
+		StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor queryExecutor =
+			new StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor(mockTemplate, 60000L);
+
+		GemfireQueryMethod mockQueryMethod = mockQueryMethodWithIdProperty("id");
+
+		String query = "SELECT * FROM /People x WHERE x.age > $1";
+
+		SelectResults<Object> resultsOne =
+			queryExecutor.doExecute(PageRequest.of(0, 2), mockQueryMethod, query, 18, PageRequest.of(0, 2));
+
+		SelectResults<Object> resultsTwo =
+			queryExecutor.doExecute(PageRequest.of(1, 2), mockQueryMethod, query, 18, PageRequest.of(1, 2));
+
+		assertThat(resultsOne.asList()).containsExactly("five", "four");
+		assertThat(resultsTwo.asList()).containsExactly("three");
+
+		verify(mockTemplate, times(1)).find(eq(keysQuery), any());
+		verify(mockTemplate, times(1)).getAll(eq(Arrays.asList(5L, 4L)));
+		verify(mockTemplate, times(1)).getAll(eq(Arrays.asList(3L, 2L)));
+	}
+
+	private StringBasedGemfireRepositoryQuery.KeyCursorQueryWindows newKeyCursorQueryWindows(GemfireTemplate template,
+			GemfirePersistentEntity<?> entity, String query, String keyExpression, boolean ascending,
+			Object... arguments) {
+
+		Matcher matcher = StringBasedGemfireRepositoryQuery.TwoPhasePagedOqlQueryExecutor.PAGEABLE_QUERY_PATTERN
+			.matcher(query);
+
+		assertThat(matcher.matches()).isTrue();
+
+		return new StringBasedGemfireRepositoryQuery.KeyCursorQueryWindows(template, entity, matcher, keyExpression,
+			ascending, 2, arguments);
+	}
+
+	@Test
+	public void keyCursorQueryWindowsResumeAfterLastIdentifier() {
+
+		StringBasedGemfireRepositoryQuery.KeyCursorQueryWindows windows = newKeyCursorQueryWindows(
+			mock(GemfireTemplate.class), mock(GemfirePersistentEntity.class),
+			"SELECT * FROM /People x WHERE x.lastname = $1", "x.id", true, "Doe");
+
+		assertThat(windows.getFirstWindowQuery())
+			.isEqualTo("SELECT DISTINCT * FROM /People x WHERE x.lastname = $1 ORDER BY x.id ASC LIMIT 2");
+
+		assertThat(windows.getNextWindowQuery())
+			.isEqualTo("SELECT DISTINCT * FROM /People x WHERE (x.lastname = $1) AND x.id > $2 ORDER BY x.id ASC LIMIT 2");
+
+		StringBasedGemfireRepositoryQuery.KeyCursorQueryWindows descendingWindows = newKeyCursorQueryWindows(
+			mock(GemfireTemplate.class), mock(GemfirePersistentEntity.class),
+			"<TRACE> SELECT * FROM /People", "id", false);
+
+		assertThat(descendingWindows.getFirstWindowQuery())
+			.isEqualTo("<TRACE> SELECT DISTINCT * FROM /People ORDER BY id DESC LIMIT 2");
+
+		assertThat(descendingWindows.getNextWindowQuery())
+			.isEqualTo("<TRACE> SELECT DISTINCT * FROM /People WHERE id < $1 ORDER BY id DESC LIMIT 2");
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void keyCursorQueryWindowsFetchResultsLazily() {
+
+		GemfireTemplate mockTemplate = mock(GemfireTemplate.class);
+
+		GemfirePersistentEntity<Object> mockEntity = mock(GemfirePersistentEntity.class);
+
+		doAnswer(invocation -> (IdentifierAccessor) () -> invocation.getArgument(0))
+			.when(mockEntity).getIdentifierAccessor(any());
+
+		SelectResults<Object> firstWindow = mock(SelectResults.class);
+		SelectResults<Object> secondWindow = mock(SelectResults.class);
+
+		doReturn(Arrays.asList(1L, 2L)).when(firstWindow).asList();
+		doReturn(Collections.singletonList(3L)).when(secondWindow).asList();
+
+		StringBasedGemfireRepositoryQuery.KeyCursorQueryWindows windows = newKeyCursorQueryWindows(mockTemplate,
+			mockEntity, "SELECT * FROM /People", "id", true);
+
+		doReturn(firstWindow).when(mockTemplate).find(eq(windows.getFirstWindowQuery()), any());
+		doReturn(secondWindow).when(mockTemplate).find(eq(windows.getNextWindowQuery()), any());
+
+		Iterator<Object> results = new StringBasedGemfireRepositoryQuery.WindowedResultsIterator(windows);
+
+		assertThat(results.next()).isEqualTo(1L);
+		assertThat(results.next()).isEqualTo(2L);
+
+		verify(mockTemplate, times(1)).find(eq(windows.getFirstWindowQuery()), any());
+		verify(mockTemplate, never()).find(eq(windows.getNextWindowQuery()), any());
+
+		assertThat(results.next()).isEqualTo(3L);
+		assertThat(results.hasNext()).isFalse();
+
+		verify(mockTemplate, times(1)).find(eq(windows.getNextWindowQuery()), eq(2L));
+		verifyNoMoreInteractions(mockTemplate);
+	}
+
+	@Test
+	public void withStreamFetchSizeOfZeroThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.repositoryQuery.withStreamFetchSize(0))
+			.withMessage("Stream fetch size [0] must be greater than 0");
+	}
 }
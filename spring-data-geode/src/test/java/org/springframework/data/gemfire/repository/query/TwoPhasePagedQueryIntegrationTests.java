@@ -0,0 +1,194 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.mapping.GemfireMappingContext;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.support.GemfireRepositoryFactoryBean;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for {@link Page paged} Repository query methods requesting pages beyond the page limiting
+ * threshold, which are executed by the 2-phase (keys, then values) paged OQL query executor.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.domain.Page
+ * @see org.springframework.data.gemfire.repository.query.StringBasedGemfireRepositoryQuery
+ * @see org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 3.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class TwoPhasePagedQueryIntegrationTests extends IntegrationTestsSupport {
+
+	private static final int PEOPLE_COUNT = 500;
+
+	@Autowired
+	@Qualifier("simple")
+	private Region<Long, Person> people;
+
+	@Autowired
+	private PagedPersonRepository repository;
+
+	@Before
+	public void setup() {
+
+		if (this.people.isEmpty()) {
+			LongStream.rangeClosed(1, PEOPLE_COUNT).forEach(id -> this.people.put(id,
+				new Person(id, String.format("Person%03d", PEOPLE_COUNT - id), id % 2 == 0 ? "Doe" : "Smith")));
+		}
+
+		assertThat(this.people).hasSize(PEOPLE_COUNT);
+	}
+
+	private List<String> firstnamesOf(Page<Person> page) {
+		return page.getContent().stream().map(Person::getFirstname).collect(Collectors.toList());
+	}
+
+	private List<String> expectedFirstnames(String lastname, int offset, int size) {
+
+		return this.people.values().stream()
+			.filter(person -> lastname.equals(person.getLastname()))
+			.map(Person::getFirstname)
+			.sorted()
+			.skip(offset)
+			.limit(size)
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void findsFirstPage() {
+
+		Page<Person> page = this.repository.findByLastnameOrderByFirstnameAsc("Doe", PageRequest.of(0, 20));
+
+		assertThat(page).isNotNull();
+		assertThat(firstnamesOf(page)).containsExactlyElementsOf(expectedFirstnames("Doe", 0, 20));
+	}
+
+	@Test
+	public void findsDeepPages() {
+
+		Page<Person> pageTwenty = this.repository.findByLastnameOrderByFirstnameAsc("Doe", PageRequest.of(20, 10));
+
+		assertThat(pageTwenty).isNotNull();
+		assertThat(firstnamesOf(pageTwenty)).containsExactlyElementsOf(expectedFirstnames("Doe", 200, 10));
+
+		Page<Person> pageTwentyOne = this.repository.findByLastnameOrderByFirstnameAsc("Doe", PageRequest.of(21, 10));
+
+		assertThat(firstnamesOf(pageTwentyOne)).containsExactlyElementsOf(expectedFirstnames("Doe", 210, 10));
+
+		Page<Person> smithPageTwenty = this.repository.findByLastnameOrderByFirstnameAsc("Smith", PageRequest.of(20, 10));
+
+		assertThat(firstnamesOf(smithPageTwenty)).containsExactlyElementsOf(expectedFirstnames("Smith", 200, 10));
+	}
+
+	@Test
+	public void findsPartialLastPage() {
+
+		Page<Person> page = this.repository.findByLastnameOrderByFirstnameAsc("Doe", PageRequest.of(12, 20));
+
+		assertThat(firstnamesOf(page)).containsExactlyElementsOf(expectedFirstnames("Doe", 240, 20));
+		assertThat(page.getContent()).hasSize(10);
+	}
+
+	@Test
+	public void findsEmptyPageBeyondResults() {
+
+		Page<Person> page = this.repository.findByLastnameOrderByFirstnameAsc("Doe", PageRequest.of(50, 10));
+
+		assertThat(page.getContent()).isEmpty();
+	}
+
+	@Test
+	public void findsDeepPagesWhenRegionKeyIsNotTheIdentifier() {
+
+		LongStream.rangeClosed(1, 200).forEach(id -> this.people.put(id + 100000L,
+			new Person(id, String.format("Person%03d", id), "Jones")));
+
+		try {
+
+			Page<Person> page = this.repository.findByLastnameOrderByFirstnameAsc("Jones", PageRequest.of(15, 10));
+
+			assertThat(firstnamesOf(page)).containsExactlyElementsOf(expectedFirstnames("Jones", 150, 10));
+		}
+		finally {
+			LongStream.rangeClosed(1, 200).forEach(id -> this.people.remove(id + 100000L));
+		}
+	}
+
+	public interface PagedPersonRepository extends CrudRepository<Person, Long> {
+
+		Page<Person> findByLastnameOrderByFirstnameAsc(String lastname, Pageable pageable);
+
+	}
+
+	@ClientCacheApplication
+	static class TestConfiguration {
+
+		@Bean("simple")
+		ClientRegionFactoryBean<Long, Person> peopleRegion(GemFireCache cache) {
+
+			ClientRegionFactoryBean<Long, Person> people = new ClientRegionFactoryBean<>();
+
+			people.setCache(cache);
+			people.setShortcut(ClientRegionShortcut.LOCAL);
+
+			return people;
+		}
+
+		@Bean
+		GemfireRepositoryFactoryBean<PagedPersonRepository, Person, Long> personRepository(GemFireCache cache) {
+
+			GemfireRepositoryFactoryBean<PagedPersonRepository, Person, Long> personRepository =
+				new GemfireRepositoryFactoryBean<>(PagedPersonRepository.class);
+
+			personRepository.setCache(cache);
+			personRepository.setGemfireMappingContext(new GemfireMappingContext());
+
+			return personRepository;
+		}
+	}
+}
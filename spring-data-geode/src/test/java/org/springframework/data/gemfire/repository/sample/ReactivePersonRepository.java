@@ -0,0 +1,49 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.sample;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.repository.Query;
+import org.springframework.data.gemfire.repository.ReactiveGemfireRepository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Sample {@literal Reactive} Repository for {@link Person Persons}.
+ *
+ * @author agent
+ * @see org.springframework.data.gemfire.repository.ReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.repository.sample.Person
+ * @since 3.0.0
+ */
+public interface ReactivePersonRepository extends ReactiveGemfireRepository<Person, Long> {
+
+	Mono<Person> findByFirstname(String firstname);
+
+	Flux<Person> findByLastname(String lastname);
+
+	Flux<Person> findByLastname(String lastname, Sort sort);
+
+	Flux<Person> findByLastnameOrderByFirstnameDesc(String lastname);
+
+	@Query("SELECT * FROM /simple p WHERE p.id > $1")
+	Flux<Person> findPeopleWithIdGreaterThan(Long id);
+
+	@Query("SELECT count(*) FROM /simple p WHERE p.lastname = $1")
+	Mono<Integer> countPeopleWithLastname(String lastname);
+
+}
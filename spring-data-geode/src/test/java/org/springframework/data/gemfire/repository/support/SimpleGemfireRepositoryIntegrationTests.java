@@ -19,7 +19,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -42,6 +45,7 @@ import org.springframework.data.gemfire.LocalRegionFactoryBean;
 import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
 import org.springframework.data.gemfire.mapping.GemfireMappingContext;
 import org.springframework.data.gemfire.mapping.GemfirePersistentEntity;
+import org.springframework.data.gemfire.repository.query.DefaultGemfireEntityInformation;
 import org.springframework.data.gemfire.repository.sample.Person;
 import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
 import org.springframework.data.repository.core.EntityInformation;
@@ -175,6 +179,117 @@ public class SimpleGemfireRepositoryIntegrationTests extends IntegrationTestsSup
 		assertThat(pageTwo.getContent()).containsExactly(people.get(3), people.get(4));
 	}
 
+	private SimpleGemfireRepository<Person, Long> newServerPagingRepository(int count) {
+
+		LongStream.rangeClosed(1, count).forEach(id -> this.template.put(id,
+			new Person(id, String.format("Person%03d", count - id), "Doe")));
+
+		GemfirePersistentEntity<Person> personEntity = (GemfirePersistentEntity<Person>)
+			new GemfireMappingContext().getPersistentEntity(Person.class);
+
+		SimpleGemfireRepository<Person, Long> repository =
+			new SimpleGemfireRepository<>(this.template, new DefaultGemfireEntityInformation<>(personEntity));
+
+		assertThat(repository.getPagingMode()).isEqualTo(SimpleGemfireRepository.PagingMode.CLIENT);
+
+		repository.setPagingMode(SimpleGemfireRepository.PagingMode.SERVER);
+
+		return repository;
+	}
+
+	private List<Long> expectedIds(Comparator<Person> order, int offset, int size) {
+
+		return this.template.<Long, Person>getRegion().values().stream()
+			.sorted(order)
+			.skip(offset)
+			.limit(size)
+			.map(Person::getId)
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void findAllPagedServerSideOrdersUnsortedPagesByIdentifier() {
+
+		SimpleGemfireRepository<Person, Long> repository = newServerPagingRepository(250);
+
+		Comparator<Person> orderById = Comparator.comparing(Person::getId);
+
+		for (int pageNumber = 0; pageNumber < 25; pageNumber++) {
+
+			Page<Person> page = repository.findAll(PageRequest.of(pageNumber, 10));
+
+			assertThat(page.getNumber()).isEqualTo(pageNumber);
+			assertThat(page.getTotalElements()).isEqualTo(250L);
+			assertThat(page.getTotalPages()).isEqualTo(25);
+			assertThat(page.getContent()).extracting(Person::getId)
+				.containsExactlyElementsOf(expectedIds(orderById, pageNumber * 10, 10));
+		}
+
+		// jump directly to a deep page without a cursor for the previous page
+		assertThat(repository.findAll(PageRequest.of(17, 7)).getContent()).extracting(Person::getId)
+			.containsExactlyElementsOf(expectedIds(orderById, 119, 7));
+	}
+
+	@Test
+	public void findAllPagedServerSideIgnoresPreviousPageCursorAfterEntitiesBeforeItWereRemoved() {
+
+		SimpleGemfireRepository<Person, Long> repository = newServerPagingRepository(100);
+
+		Comparator<Person> orderById = Comparator.comparing(Person::getId);
+
+		repository.findAll(PageRequest.of(0, 10));
+		repository.findAll(PageRequest.of(1, 10));
+
+		LongStream.rangeClosed(1, 5).forEach(this.template::remove);
+
+		Page<Person> page = repository.findAll(PageRequest.of(2, 10));
+
+		assertThat(page.getTotalElements()).isEqualTo(95L);
+		assertThat(page.getContent()).extracting(Person::getId)
+			.containsExactlyElementsOf(expectedIds(orderById, 20, 10));
+	}
+
+	@Test
+	public void findAllPagedServerSideWithSortByIdentifierDescending() {
+
+		SimpleGemfireRepository<Person, Long> repository = newServerPagingRepository(100);
+
+		Sort orderByIdDescending = Sort.by("id").descending();
+
+		Comparator<Person> orderById = Comparator.comparing(Person::getId);
+
+		for (int pageNumber = 0; pageNumber < 4; pageNumber++) {
+			assertThat(repository.findAll(PageRequest.of(pageNumber, 30, orderByIdDescending)).getContent())
+				.extracting(Person::getId)
+				.containsExactlyElementsOf(expectedIds(orderById.reversed(), pageNumber * 30, 30));
+		}
+	}
+
+	@Test
+	public void findAllPagedServerSideWithSortByProperty() {
+
+		SimpleGemfireRepository<Person, Long> repository = newServerPagingRepository(200);
+
+		Sort orderByFirstname = Sort.by("firstname").ascending();
+
+		Page<Person> page = repository.findAll(PageRequest.of(15, 9, orderByFirstname));
+
+		assertThat(page.getTotalElements()).isEqualTo(200L);
+		assertThat(page.getContent()).extracting(Person::getId)
+			.containsExactlyElementsOf(expectedIds(Comparator.comparing(Person::getFirstname), 135, 9));
+	}
+
+	@Test
+	public void findAllPagedServerSideBeyondLastPageIsEmpty() {
+
+		SimpleGemfireRepository<Person, Long> repository = newServerPagingRepository(20);
+
+		Page<Person> page = repository.findAll(PageRequest.of(2, 10));
+
+		assertThat(page.getContent()).isEmpty();
+		assertThat(page.getTotalElements()).isEqualTo(20L);
+	}
+
 	@Test
 	public void findAllWithIds() {
 
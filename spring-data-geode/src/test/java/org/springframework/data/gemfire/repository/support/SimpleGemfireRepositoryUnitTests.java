@@ -16,6 +16,7 @@
 package org.springframework.data.gemfire.repository.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -43,6 +44,10 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -62,6 +67,7 @@ import org.apache.geode.cache.query.SelectResults;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.gemfire.GemfireTemplate;
@@ -690,6 +696,47 @@ public class SimpleGemfireRepositoryUnitTests {
 		assertThat(pageThree).isEmpty();
 	}
 
+	@Test
+	public void findAllPagedWithoutGemfireEntityInformationQueriesAllEntities() {
+
+		Region mockRegion = mockRegion();
+
+		SimpleGemfireRepository repository =
+			spy(new SimpleGemfireRepository(newGemfireTemplate(mockRegion), mockEntityInformation()));
+
+		doReturn(Arrays.asList(User.newUser("Jon Doe"), User.newUser("Jane Doe"))).when(repository)
+			.findAll(eq(Sort.unsorted()));
+
+		Page page = repository.findAll(PageRequest.of(0, 1));
+
+		assertThat(page.getContent()).containsExactly(User.newUser("Jon Doe"));
+		assertThat(page.getTotalElements()).isEqualTo(2L);
+
+		verify(repository, never()).count();
+	}
+
+	@Test
+	public void pagingModeFromName() {
+
+		assertThat(SimpleGemfireRepository.PagingMode.from("client")).isEqualTo(SimpleGemfireRepository.PagingMode.CLIENT);
+		assertThat(SimpleGemfireRepository.PagingMode.from(" SERVER ")).isEqualTo(SimpleGemfireRepository.PagingMode.SERVER);
+		assertThat(SimpleGemfireRepository.PagingMode.from("invalid")).isEqualTo(SimpleGemfireRepository.PagingMode.CLIENT);
+		assertThat(SimpleGemfireRepository.PagingMode.from(null)).isEqualTo(SimpleGemfireRepository.PagingMode.CLIENT);
+	}
+
+	@Test
+	public void pagingModeDefaultsToClientAndCanBeSetToServer() {
+
+		SimpleGemfireRepository<?, ?> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation());
+
+		assertThat(repository.getPagingMode()).isEqualTo(SimpleGemfireRepository.PagingMode.CLIENT);
+
+		repository.setPagingMode(SimpleGemfireRepository.PagingMode.SERVER);
+
+		assertThat(repository.getPagingMode()).isEqualTo(SimpleGemfireRepository.PagingMode.SERVER);
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void findAllPagedWithNullPageableThrowsIllegalArgumentException() {
 
@@ -888,12 +935,256 @@ public class SimpleGemfireRepositoryUnitTests {
 			newAnimal(3L, "dog")
 		));
 
-		verify(mockRegion, times(1)).remove(eq(1L));
-		verify(mockRegion, times(1)).remove(eq(2L));
-		verify(mockRegion, times(1)).remove(eq(3L));
+		verify(mockRegion, times(1)).removeAll(eq(new HashSet<>(Arrays.asList(1L, 2L, 3L))));
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void saveAllEntitiesInBatches() {
+
+		List<Animal> animals = new ArrayList<>();
+
+		for (long id = 1L; id <= 5L; id++) {
+			animals.add(newAnimal(id, "animal" + id));
+		}
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBulkBatchSize(2);
+
+		Iterable<Animal> savedAnimals = repository.saveAll(animals);
+
+		assertThat(savedAnimals).containsExactlyElementsOf(animals);
+
+		InOrder inOrder = inOrder(mockRegion);
+
+		inOrder.verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(0, 2))));
+		inOrder.verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(2, 4))));
+		inOrder.verify(mockRegion, times(1)).putAll(eq(asMap(animals.subList(4, 5))));
+		verifyNoMoreInteractions(mockRegion);
+	}
+
+	@Test
+	public void saveAllEntitiesConcurrentlyInBatches() {
+
+		List<Animal> animals = new ArrayList<>();
+
+		for (long id = 1L; id <= 10L; id++) {
+			animals.add(newAnimal(id, "animal" + id));
+		}
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+
+		doAnswer(invocation -> threadNames.add(Thread.currentThread().getName()))
+			.when(mockRegion).putAll(any(Map.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			repository.setBulkBatchSize(3);
+			repository.setBulkConcurrency(2);
+			repository.setBulkExecutor(executor);
+
+			assertThat(repository.saveAll(animals)).hasSize(10);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		assertThat(threadNames).doesNotContain(Thread.currentThread().getName());
+
+		verify(mockRegion, times(4)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void saveAllAppliesBatchesConcurrentlyUsingDefaultBulkExecutor() {
+
+		List<Animal> animals = new ArrayList<>();
+
+		for (long id = 1L; id <= 10L; id++) {
+			animals.add(newAnimal(id, "animal" + id));
+		}
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		Set<String> threadNames = Collections.synchronizedSet(new HashSet<>());
+
+		doAnswer(invocation -> threadNames.add(Thread.currentThread().getName()))
+			.when(mockRegion).putAll(any(Map.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBulkBatchSize(3);
+		repository.setBulkConcurrency(2);
+
+		assertThat(repository.getBulkExecutor()).isSameAs(SimpleGemfireRepository.DefaultBulkExecutor.INSTANCE);
+		assertThat(repository.getBulkExecutor()).isNotSameAs(ForkJoinPool.commonPool());
+		assertThat(repository.saveAll(animals)).hasSize(10);
+		assertThat(threadNames).isNotEmpty().allMatch(threadName -> threadName.startsWith("GemfireRepository-bulk-"));
+
+		verify(mockRegion, times(4)).putAll(any(Map.class));
+	}
+
+	@Test(expected = BulkOperationException.class)
+	public void saveAllReportsFailedBatches() {
+
+		List<Animal> animals = new ArrayList<>();
+
+		for (long id = 1L; id <= 5L; id++) {
+			animals.add(newAnimal(id, "animal" + id));
+		}
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		RuntimeException cause = new IllegalStateException("TEST");
+
+		doThrow(cause).when(mockRegion).putAll(eq(asMap(animals.subList(2, 4))));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBulkBatchSize(2);
+
+		try {
+			repository.saveAll(animals);
+		}
+		catch (BulkOperationException expected) {
+
+			assertThat(expected).hasMessage("Failed to save [1] of [3] batches");
+			assertThat(expected.getBatchCount()).isEqualTo(3);
+			assertThat(expected.getFailures()).hasSize(1);
+			assertThat(expected.getFailures().get(0).getBatchIndex()).isEqualTo(1);
+			assertThat(expected.getFailures().get(0).getKeys()).isEqualTo(new HashSet<>(Arrays.asList(3L, 4L)));
+			assertThat(expected.getFailures().get(0).getCause()).isNotNull();
+
+			throw expected;
+		}
+		finally {
+			verify(mockRegion, times(3)).putAll(any(Map.class));
+		}
+	}
+
+	@Test
+	public void saveAllWaitsForConcurrentBatchesAndReportsFailedBatchesWhenCreatingBatchFails() {
+
+		List<Animal> animals = new ArrayList<>();
+
+		for (long id = 1L; id <= 6L; id++) {
+			animals.add(newAnimal(id, "animal" + id));
+		}
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		RuntimeException batchFailure = new IllegalStateException("TEST");
+		RuntimeException identifierFailure = new IllegalArgumentException("Required identifier not found");
+
+		AtomicBoolean secondBatchApplied = new AtomicBoolean(false);
+
+		doThrow(batchFailure).when(mockRegion).putAll(eq(asMap(animals.subList(0, 2))));
+
+		doAnswer(invocation -> {
+			Thread.sleep(100L);
+			secondBatchApplied.set(true);
+			return null;
+		}).when(mockRegion).putAll(eq(asMap(animals.subList(2, 4))));
+
+		EntityInformation<Animal, Long> mockEntityInformation = mock(EntityInformation.class);
+
+		doAnswer(invocation -> {
+
+			Animal animal = invocation.getArgument(0);
+
+			if (animal.getId() == 5L) {
+				throw identifierFailure;
+			}
+
+			return animal.getId();
+
+		}).when(mockEntityInformation).getRequiredId(any(Animal.class));
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+
+			repository.setBulkBatchSize(2);
+			repository.setBulkConcurrency(2);
+			repository.setBulkExecutor(executor);
+
+			assertThatThrownBy(() -> repository.saveAll(animals))
+				.isSameAs(identifierFailure)
+				.satisfies(cause -> {
+
+					assertThat(secondBatchApplied).isTrue();
+					assertThat(cause.getSuppressed()).hasSize(1);
+					assertThat(cause.getSuppressed()[0]).isInstanceOf(BulkOperationException.class);
+
+					BulkOperationException bulkOperationException = (BulkOperationException) cause.getSuppressed()[0];
+
+					assertThat(bulkOperationException.getBatchCount()).isEqualTo(2);
+					assertThat(bulkOperationException.getFailures()).hasSize(1);
+					assertThat(bulkOperationException.getFailures().get(0).getBatchIndex()).isEqualTo(0);
+					assertThat(bulkOperationException.getFailures().get(0).getCause()).isSameAs(batchFailure);
+				});
+
+			// all permits were returned, so a subsequent bulk operation is not blocked
+			assertThat(repository.saveAll(animals.subList(2, 4))).hasSize(2);
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(mockRegion, times(3)).putAll(any(Map.class));
+	}
+
+	@Test
+	public void deleteAllByIdInBatches() {
+
+		Region<Long, Animal> mockRegion = mockRegion();
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion), mockEntityInformation());
+
+		repository.setBulkBatchSize(2);
+		repository.deleteAllById(Arrays.asList(1L, null, 2L, 3L));
+
+		InOrder inOrder = inOrder(mockRegion);
+
+		inOrder.verify(mockRegion, times(1)).removeAll(eq(new HashSet<>(Arrays.asList(1L, 2L))));
+		inOrder.verify(mockRegion, times(1)).removeAll(eq(Collections.singleton(3L)));
 		verifyNoMoreInteractions(mockRegion);
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void setBulkBatchSizeToZeroThrowsIllegalArgumentException() {
+
+		SimpleGemfireRepository<Animal, Long> repository =
+			new SimpleGemfireRepository<>(newGemfireTemplate(mockRegion()), mockEntityInformation());
+
+		try {
+			repository.setBulkBatchSize(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Bulk batch size [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test
 	public void deleteAllWithClear() {
 
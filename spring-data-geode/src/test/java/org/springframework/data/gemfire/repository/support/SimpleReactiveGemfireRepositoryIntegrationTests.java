@@ -0,0 +1,242 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.client.ClientRegionShortcut;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.client.ClientRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.ClientCacheApplication;
+import org.springframework.data.gemfire.repository.config.EnableGemfireRepositories;
+import org.springframework.data.gemfire.repository.config.EnableReactiveGemfireRepositories;
+import org.springframework.data.gemfire.repository.sample.Person;
+import org.springframework.data.gemfire.repository.sample.PersonRepository;
+import org.springframework.data.gemfire.repository.sample.ReactivePersonRepository;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Integration Tests for {@link SimpleReactiveGemfireRepository} and {@literal Reactive} Repository query methods
+ * configured with {@link EnableReactiveGemfireRepositories}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.repository.config.EnableReactiveGemfireRepositories
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @see org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 3.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class SimpleReactiveGemfireRepositoryIntegrationTests extends IntegrationTestsSupport {
+
+	private static final int PEOPLE_COUNT = 100;
+
+	private static final String SCHEDULER_NAME = "test-reactive-geode";
+
+	@Autowired
+	@Qualifier("simple")
+	private Region<Long, Person> people;
+
+	@Autowired
+	private PersonRepository blockingRepository;
+
+	@Autowired
+	private ReactivePersonRepository repository;
+
+	@Before
+	public void setup() {
+
+		this.people.clear();
+
+		LongStream.rangeClosed(1, PEOPLE_COUNT).forEach(id -> this.people.put(id,
+			new Person(id, String.format("Person%03d", id), id % 2 == 0 ? "Doe" : "Smith")));
+	}
+
+	private List<Long> idsOf(Flux<Person> people) {
+		return people.map(Person::getId).collectList().block();
+	}
+
+	@Test
+	public void registersReactiveAndBlockingRepositories() {
+
+		assertThat(this.repository).isNotNull();
+		assertThat(this.blockingRepository).isNotNull();
+		assertThat(this.blockingRepository.count()).isEqualTo(PEOPLE_COUNT);
+	}
+
+	@Test
+	public void saveIsLazyAndRunsOnScheduler() {
+
+		Person jonDoe = new Person(1000L, "Jon", "Doe");
+
+		Mono<String> save = this.repository.save(jonDoe).map(person -> Thread.currentThread().getName());
+
+		assertThat(this.people.containsKey(1000L)).isFalse();
+		assertThat(save.block()).startsWith(SCHEDULER_NAME);
+		assertThat(this.blockingRepository.findById(1000L)).contains(jonDoe);
+	}
+
+	@Test
+	public void findByIdAndExistsById() {
+
+		assertThat(this.repository.findById(42L).map(Person::getFirstname).block()).isEqualTo("Person042");
+		assertThat(this.repository.findById(Mono.just(43L)).map(Person::getFirstname).block()).isEqualTo("Person043");
+		assertThat(this.repository.findById(4200L).block()).isNull();
+		assertThat(this.repository.existsById(42L).block()).isTrue();
+		assertThat(this.repository.existsById(Mono.just(4200L)).block()).isFalse();
+	}
+
+	@Test
+	public void saveAllFromPublisherAndCount() {
+
+		List<Long> savedIds = idsOf(this.repository.saveAll(Flux.range(1001, 50)
+			.map(id -> new Person(id.longValue(), "Jane", "Doe"))));
+
+		assertThat(savedIds).hasSize(50);
+		assertThat(this.repository.count().block()).isEqualTo(PEOPLE_COUNT + 50);
+	}
+
+	@Test
+	public void findAllAndFindAllById() {
+
+		assertThat(idsOf(this.repository.findAll())).hasSize(PEOPLE_COUNT);
+
+		assertThat(idsOf(this.repository.findAll(Sort.by(Sort.Direction.DESC, "id")).take(3)))
+			.containsExactly(100L, 99L, 98L);
+
+		assertThat(idsOf(this.repository.findAll(Sort.by("lastname").ascending().and(Sort.by("id").descending()))))
+			.hasSize(PEOPLE_COUNT)
+			.startsWith(100L, 98L, 96L)
+			.endsWith(3L, 1L);
+
+		assertThat(idsOf(this.repository.findAllById(Flux.just(1L, 2L, 3L, 4000L))))
+			.containsExactlyInAnyOrder(1L, 2L, 3L);
+	}
+
+	@Test
+	public void deleteOperations() {
+
+		this.repository.deleteById(1L).block();
+		this.repository.deleteAll(Flux.just(new Person(2L), new Person(3L))).block();
+		this.repository.deleteAllById(List.of(4L, 5L)).block();
+
+		assertThat(this.repository.count().block()).isEqualTo(PEOPLE_COUNT - 5);
+
+		this.repository.deleteAll().block();
+
+		assertThat(this.people).isEmpty();
+	}
+
+	@Test
+	public void derivedMultiValueQueryStreamsResultsOnScheduler() {
+
+		List<String> threadNames = this.repository.findByLastname("Doe")
+			.map(person -> Thread.currentThread().getName())
+			.distinct()
+			.collectList()
+			.block();
+
+		assertThat(threadNames).isNotEmpty().allMatch(threadName -> threadName.startsWith(SCHEDULER_NAME));
+
+		assertThat(idsOf(this.repository.findByLastname("Doe"))).containsExactlyElementsOf(LongStream
+			.rangeClosed(1, PEOPLE_COUNT).filter(id -> id % 2 == 0).boxed().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void derivedQueriesWithOrdering() {
+
+		assertThat(idsOf(this.repository.findByLastnameOrderByFirstnameDesc("Smith").take(2)))
+			.containsExactly(99L, 97L);
+
+		assertThat(idsOf(this.repository.findByLastname("Doe", Sort.by(Sort.Direction.DESC, "firstname")).take(2)))
+			.containsExactly(100L, 98L);
+	}
+
+	@Test
+	public void derivedSingleValueQuery() {
+
+		assertThat(this.repository.findByFirstname("Person007").map(Person::getId).block()).isEqualTo(7L);
+		assertThat(this.repository.findByFirstname("Nobody").block()).isNull();
+	}
+
+	@Test
+	public void userDefinedQueries() {
+
+		assertThat(idsOf(this.repository.findPeopleWithIdGreaterThan(95L)))
+			.containsExactlyInAnyOrder(96L, 97L, 98L, 99L, 100L);
+
+		assertThat(this.repository.countPeopleWithLastname("Smith").block()).isEqualTo(PEOPLE_COUNT / 2);
+	}
+
+	@Test
+	public void multiValueQueryHonorsDemand() {
+
+		assertThat(idsOf(this.repository.findByLastname("Smith").limitRate(2).take(3)))
+			.containsExactly(1L, 3L, 5L);
+	}
+
+	@ClientCacheApplication
+	@EnableGemfireRepositories(basePackageClasses = Person.class, includeFilters =
+		@ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = PersonRepository.class))
+	@EnableReactiveGemfireRepositories(basePackageClasses = Person.class, schedulerRef = "testScheduler",
+		includeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE,
+			classes = ReactivePersonRepository.class))
+	static class TestConfiguration {
+
+		@Bean("simple")
+		ClientRegionFactoryBean<Long, Person> peopleRegion(GemFireCache cache) {
+
+			ClientRegionFactoryBean<Long, Person> people = new ClientRegionFactoryBean<>();
+
+			people.setCache(cache);
+			people.setShortcut(ClientRegionShortcut.LOCAL);
+
+			return people;
+		}
+
+		@Bean(destroyMethod = "dispose")
+		Scheduler testScheduler() {
+			return Schedulers.newBoundedElastic(2, 100, SCHEDULER_NAME);
+		}
+	}
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.repository.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.apache.geode.cache.Region;
+import org.apache.geode.cache.query.SelectResults;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.gemfire.GemfireTemplate;
+import org.springframework.data.gemfire.ReactiveGemfireTemplate;
+import org.springframework.data.repository.core.EntityInformation;
+
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Unit Tests for {@link SimpleReactiveGemfireRepository}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.springframework.data.gemfire.repository.support.SimpleReactiveGemfireRepository
+ * @since 3.0.0
+ */
+public class SimpleReactiveGemfireRepositoryUnitTests {
+
+	private GemfireTemplate mockTemplate;
+
+	private SimpleReactiveGemfireRepository<String, Integer> repository;
+
+	@Before
+	@SuppressWarnings("unchecked")
+	public void setup() {
+
+		Region<Integer, String> mockRegion = mock(Region.class);
+
+		doReturn("/Example").when(mockRegion).getFullPath();
+
+		this.mockTemplate = mock(GemfireTemplate.class);
+
+		doReturn(mockRegion).when(this.mockTemplate).getRegion();
+
+		this.repository = new SimpleReactiveGemfireRepository<>(
+			new ReactiveGemfireTemplate(this.mockTemplate, Schedulers.immediate()),
+			mock(EntityInformation.class));
+
+		this.repository.getRepository().setBulkBatchSize(2);
+	}
+
+	@SuppressWarnings("unchecked")
+	private void mockKeysQuery(String query, Integer... keys) {
+
+		SelectResults<Object> mockSelectResults = mock(SelectResults.class);
+
+		doReturn(Arrays.asList((Object[]) keys).iterator()).when(mockSelectResults).iterator();
+		doReturn(mockSelectResults).when(this.mockTemplate).find(query);
+	}
+
+	private void mockGetAll(Integer... keys) {
+
+		Map<Integer, String> values = Arrays.stream(keys)
+			.collect(Collectors.toMap(key -> key, key -> String.format("value%d", key)));
+
+		doReturn(values).when(this.mockTemplate).getAll(Arrays.asList(keys));
+	}
+
+	@Test
+	public void findAllFetchesEntitiesInWindowsAsRequested() {
+
+		mockKeysQuery("SELECT entry.key FROM /Example.entrySet entry", 3, 1, 2, 5, 4);
+		mockGetAll(3, 1);
+		mockGetAll(2, 5);
+		mockGetAll(4);
+
+		assertThat(this.repository.findAll().take(2).collectList().block()).containsExactly("value3", "value1");
+
+		verify(this.mockTemplate, times(1)).getAll(Arrays.asList(3, 1));
+		verify(this.mockTemplate, never()).getAll(Arrays.asList(2, 5));
+		verify(this.mockTemplate, never()).getAll(Arrays.asList(4));
+	}
+
+	@Test
+	public void findAllSortedQueriesOrderedKeysAndFetchesAllWindowsInOrder() {
+
+		mockKeysQuery("SELECT DISTINCT entry.key, entry.value.name, entry.value.age"
+			+ " FROM /Example.entrySet entry ORDER BY entry.value.name ASC, entry.value.age DESC", 4, 2, 5);
+		mockGetAll(4, 2);
+		mockGetAll(5);
+
+		List<String> values = this.repository.findAll(Sort.by("name").ascending().and(Sort.by("age").descending()))
+			.collectList().block();
+
+		assertThat(values).containsExactly("value4", "value2", "value5");
+
+		verify(this.mockTemplate, times(1)).find(anyString());
+		verify(this.mockTemplate, times(2)).getAll(any());
+	}
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.gemfire.LocalRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.data.gemfire.tests.util.FileSystemUtils;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for {@link SnapshotServiceFactoryBean} writing incremental (delta) snapshots of a {@link Region}
+ * and replaying the base snapshot along with its deltas on import.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.snapshot.RegionChangeTracker
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @see org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 3.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class IncrementalSnapshotServiceIntegrationTests extends IntegrationTestsSupport {
+
+	private static File snapshotsDirectory;
+
+	@Autowired
+	@Qualifier("Example")
+	private Region<Object, Object> example;
+
+	@Autowired
+	private SnapshotServiceAdapter<Object, Object> snapshotService;
+
+	@BeforeClass
+	public static void createSnapshotsDirectory() throws Exception {
+		snapshotsDirectory = Files.createTempDirectory("incremental-snapshots").toFile();
+	}
+
+	@AfterClass
+	public static void deleteSnapshotsDirectory() {
+		FileSystemUtils.deleteRecursive(snapshotsDirectory);
+	}
+
+	private File file(String name) {
+		return new File(snapshotsDirectory, name);
+	}
+
+	@Test
+	public void exportsDeltasAndImportsBaseSnapshotWithDeltasInOrder() {
+
+		SnapshotMetadata<Object, Object> snapshot = new SnapshotMetadata<>(file("example.gfd"));
+
+		for (int key = 1; key <= 100; key++) {
+			this.example.put(key, "value-" + key);
+		}
+
+		this.snapshotService.doExport(snapshot);
+
+		assertThat(file("example.gfd")).isFile();
+
+		this.example.put(1, "updated");
+		this.example.put(101, "created");
+		this.example.remove(2);
+
+		this.snapshotService.doExport(snapshot);
+
+		assertThat(file("example.gfd.delta-1.gfd")).isFile();
+		assertThat(file("example.gfd.delta-1.manifest")).isFile();
+		assertThat(file("example.gfd.delta-1.gfd").length()).isLessThan(file("example.gfd").length());
+
+		this.snapshotService.doExport(snapshot);
+
+		assertThat(file("example.gfd.delta-2.manifest")).doesNotExist();
+
+		this.example.remove(101);
+		this.example.put(2, "recreated");
+		this.example.remove(3);
+
+		this.snapshotService.doExport(snapshot);
+
+		assertThat(file("example.gfd.delta-2.gfd")).isFile();
+		assertThat(file("example.gfd.delta-2.manifest")).isFile();
+
+		this.example.clear();
+
+		assertThat(this.example).isEmpty();
+
+		this.snapshotService.doImport(snapshot);
+
+		assertThat(this.example).hasSize(99);
+		assertThat(this.example.get(1)).isEqualTo("updated");
+		assertThat(this.example.get(2)).isEqualTo("recreated");
+		assertThat(this.example.containsKey(3)).isFalse();
+		assertThat(this.example.get(4)).isEqualTo("value-4");
+		assertThat(this.example.containsKey(101)).isFalse();
+
+		this.snapshotService.doExport(snapshot);
+
+		assertThat(file("example.gfd.delta-3.manifest")).doesNotExist();
+	}
+
+	@Test
+	public void exportsDeltasAgainstBaseSnapshotImportedAfterRestart() {
+
+		SnapshotMetadata<Object, Object> snapshot = new SnapshotMetadata<>(file("restart.gfd"));
+
+		this.example.clear();
+
+		for (int key = 1; key <= 10; key++) {
+			this.example.put(key, "value-" + key);
+		}
+
+		this.snapshotService.doExport(snapshot);
+
+		this.example.put(1, "updated");
+
+		this.snapshotService.doExport(snapshot);
+
+		long baseSnapshotLastModified = file("restart.gfd").lastModified();
+		long baseSnapshotLength = file("restart.gfd").length();
+
+		this.example.clear();
+
+		RegionChangeTracker<Object, Object> restartedChangeTracker = new RegionChangeTracker<>();
+
+		this.example.getAttributesMutator().addCacheListener(restartedChangeTracker);
+
+		try {
+			SnapshotServiceAdapter<Object, Object> restartedSnapshotService =
+				new SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter<>(this.example,
+					restartedChangeTracker);
+
+			restartedSnapshotService.doImport(snapshot);
+
+			assertThat(this.example).hasSize(10);
+			assertThat(this.example.get(1)).isEqualTo("updated");
+			assertThat(restartedChangeTracker.drain().isEmpty()).isTrue();
+
+			this.example.put(2, "updated");
+
+			restartedSnapshotService.doExport(snapshot);
+
+			assertThat(file("restart.gfd").lastModified()).isEqualTo(baseSnapshotLastModified);
+			assertThat(file("restart.gfd").length()).isEqualTo(baseSnapshotLength);
+			assertThat(file("restart.gfd.delta-1.manifest")).isFile();
+			assertThat(file("restart.gfd.delta-2.gfd")).isFile();
+			assertThat(file("restart.gfd.delta-2.manifest")).isFile();
+
+			this.example.clear();
+
+			restartedSnapshotService.doImport(snapshot);
+
+			assertThat(this.example).hasSize(10);
+			assertThat(this.example.get(1)).isEqualTo("updated");
+			assertThat(this.example.get(2)).isEqualTo("updated");
+			assertThat(this.example.get(3)).isEqualTo("value-3");
+		}
+		finally {
+			this.example.getAttributesMutator().removeCacheListener(restartedChangeTracker);
+		}
+	}
+
+	@Test
+	public void importsDeltasAfterBaseSnapshotWasCopiedWithoutPreservingTimestamps() {
+
+		SnapshotMetadata<Object, Object> snapshot = new SnapshotMetadata<>(file("copied.gfd"));
+
+		this.example.clear();
+
+		try {
+			for (int key = 1; key <= 10; key++) {
+				this.example.put(key, "value-" + key);
+			}
+
+			this.snapshotService.doExport(snapshot);
+
+			assertThat(file("copied.gfd.id")).isFile();
+
+			this.example.put(1, "updated");
+			this.example.remove(2);
+
+			this.snapshotService.doExport(snapshot);
+
+			assertThat(file("copied.gfd.delta-1.manifest")).isFile();
+			assertThat(file("copied.gfd").setLastModified(file("copied.gfd").lastModified() - 3_600_000L)).isTrue();
+
+			this.example.clear();
+			this.snapshotService.doImport(snapshot);
+
+			assertThat(this.example).hasSize(9);
+			assertThat(this.example.get(1)).isEqualTo("updated");
+			assertThat(this.example.containsKey(2)).isFalse();
+		}
+		finally {
+			this.example.clear();
+		}
+	}
+
+	@Test
+	public void importFailsWhenDeltaWasTakenAgainstDifferentBaseSnapshot() throws Exception {
+
+		SnapshotMetadata<Object, Object> snapshot = new SnapshotMetadata<>(file("mismatched.gfd"));
+
+		this.example.clear();
+
+		try {
+			this.example.put(1, "value-1");
+
+			this.snapshotService.doExport(snapshot);
+
+			this.example.put(1, "updated");
+
+			this.snapshotService.doExport(snapshot);
+
+			assertThat(file("mismatched.gfd.delta-1.manifest")).isFile();
+
+			try (DataOutputStream out = new DataOutputStream(new FileOutputStream(file("mismatched.gfd.id")))) {
+				out.writeUTF("another-base-snapshot");
+			}
+
+			this.example.clear();
+
+			assertThatThrownBy(() -> this.snapshotService.doImport(snapshot))
+				.hasStackTraceContaining("was taken against base snapshot")
+				.hasStackTraceContaining("another-base-snapshot");
+		}
+		finally {
+			this.example.clear();
+		}
+	}
+
+	@PeerCacheApplication(name = "IncrementalSnapshotServiceIntegrationTests")
+	static class TestConfiguration {
+
+		@Bean("Example")
+		LocalRegionFactoryBean<Object, Object> exampleRegion(GemFireCache gemfireCache) {
+
+			LocalRegionFactoryBean<Object, Object> exampleRegion = new LocalRegionFactoryBean<>();
+
+			exampleRegion.setCache(gemfireCache);
+			exampleRegion.setPersistent(false);
+
+			return exampleRegion;
+		}
+
+		@Bean
+		SnapshotServiceFactoryBean<Object, Object> snapshotService(
+				@Qualifier("Example") Region<Object, Object> example) {
+
+			SnapshotServiceFactoryBean<Object, Object> snapshotService = new SnapshotServiceFactoryBean<>();
+
+			snapshotService.setIncremental(true);
+			snapshotService.setRegion(example);
+
+			return snapshotService;
+		}
+	}
+}
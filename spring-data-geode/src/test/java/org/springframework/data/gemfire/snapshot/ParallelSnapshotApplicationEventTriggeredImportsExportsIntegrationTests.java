@@ -0,0 +1,57 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.ContextConfiguration;
+
+/**
+ * Integration Tests running the {@link SnapshotApplicationEventTriggeredImportsExportsIntegrationTests}
+ * with a {@link SnapshotServiceFactoryBean} configured with a {@literal parallelism} greater than 1
+ * in the {@literal snapshot-service} XML namespace element.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.SnapshotApplicationEventTriggeredImportsExportsIntegrationTests
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @see org.springframework.test.context.ContextConfiguration
+ * @since 3.0.0
+ */
+@ContextConfiguration(inheritLocations = false)
+@SuppressWarnings("unused")
+public class ParallelSnapshotApplicationEventTriggeredImportsExportsIntegrationTests
+		extends SnapshotApplicationEventTriggeredImportsExportsIntegrationTests {
+
+	@Autowired
+	@Qualifier("&doeSnapshotService")
+	private SnapshotServiceFactoryBean<?, ?> doeSnapshotService;
+
+	@Autowired
+	@Qualifier("&peopleSnapshotService")
+	private SnapshotServiceFactoryBean<?, ?> peopleSnapshotService;
+
+	@Test
+	public void snapshotServiceParallelismIsConfigured() {
+
+		assertThat(this.doeSnapshotService.getParallelism()).isEqualTo(2);
+		assertThat(this.peopleSnapshotService.getParallelism()).isEqualTo(1);
+	}
+}
@@ -0,0 +1,237 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.AfterClass;
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.GemFireCache;
+import org.apache.geode.cache.Region;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.gemfire.LocalRegionFactoryBean;
+import org.springframework.data.gemfire.config.annotation.PeerCacheApplication;
+import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgress;
+import org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport;
+import org.springframework.data.gemfire.tests.util.FileSystemUtils;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Integration Tests for {@link SnapshotServiceFactoryBean} exporting and importing independent {@link Region Regions}
+ * concurrently, importing directly from an archive and publishing {@link SnapshotProgress}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.apache.geode.cache.Region
+ * @see org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean
+ * @see org.springframework.data.gemfire.snapshot.event.SnapshotProgress
+ * @see org.springframework.data.gemfire.tests.integration.IntegrationTestsSupport
+ * @see org.springframework.test.context.ContextConfiguration
+ * @see org.springframework.test.context.junit4.SpringRunner
+ * @since 3.0.0
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+@SuppressWarnings("unused")
+public class ParallelSnapshotServiceIntegrationTests extends IntegrationTestsSupport {
+
+	private static final List<SnapshotApplicationEvent<?, ?>> progressEvents = new CopyOnWriteArrayList<>();
+
+	private static final Set<String> progressThreadNames = ConcurrentHashMap.newKeySet();
+
+	private static File snapshotsDirectory;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired
+	@Qualifier("Cats")
+	private Region<Object, Object> cats;
+
+	@Autowired
+	@Qualifier("Dogs")
+	private Region<Object, Object> dogs;
+
+	@Autowired
+	private SnapshotServiceAdapter<Object, Object> snapshotService;
+
+	@BeforeClass
+	public static void createSnapshotsDirectory() throws Exception {
+		snapshotsDirectory = Files.createTempDirectory("parallel-snapshots").toFile();
+	}
+
+	@AfterClass
+	public static void deleteSnapshotsDirectory() {
+		FileSystemUtils.deleteRecursive(snapshotsDirectory);
+	}
+
+	@Before
+	public void setup() {
+		progressEvents.clear();
+		progressThreadNames.clear();
+	}
+
+	private void zip(File archive, File... files) throws Exception {
+
+		try (ZipOutputStream zipOutputStream = new ZipOutputStream(new FileOutputStream(archive))) {
+			for (File file : files) {
+				zipOutputStream.putNextEntry(new ZipEntry(file.getName()));
+				Files.copy(file.toPath(), zipOutputStream);
+				zipOutputStream.closeEntry();
+			}
+		}
+	}
+
+	private List<SnapshotProgress> progressOf(Class<?> eventType, String regionPath) {
+
+		return progressEvents.stream()
+			.filter(eventType::isInstance)
+			.filter(event -> event.matches(regionPath))
+			.map(SnapshotApplicationEvent::getProgress)
+			.collect(Collectors.toList());
+	}
+
+	@Test
+	public void exportsRegionsConcurrentlyAndImportsFromArchive() throws Exception {
+
+		this.cats.put(1, "Grumpy");
+		this.cats.put(2, "Tom");
+		this.dogs.put(1, "Lassie");
+
+		File exportDirectory = new File(snapshotsDirectory, "export");
+
+		this.snapshotService.doExport(new SnapshotMetadata<>(exportDirectory));
+
+		File catsSnapshot = new File(exportDirectory, "snapshot-Cats.gfd");
+		File dogsSnapshot = new File(exportDirectory, "snapshot-Dogs.gfd");
+
+		assertThat(catsSnapshot).isFile();
+		assertThat(dogsSnapshot).isFile();
+
+		assertThat(progressOf(ExportSnapshotApplicationEvent.class, "/Cats"))
+			.extracting(SnapshotProgress::getStatus)
+			.containsExactly(SnapshotProgress.Status.STARTED, SnapshotProgress.Status.COMPLETED);
+
+		assertThat(progressOf(ExportSnapshotApplicationEvent.class, "/Dogs"))
+			.extracting(SnapshotProgress::getStatus)
+			.containsExactly(SnapshotProgress.Status.STARTED, SnapshotProgress.Status.COMPLETED);
+
+		assertThat(progressThreadNames).allMatch(threadName -> threadName.startsWith("SnapshotService-"));
+
+		File archive = new File(snapshotsDirectory, "snapshots.zip");
+
+		zip(archive, catsSnapshot, dogsSnapshot);
+
+		this.cats.clear();
+		this.dogs.clear();
+		progressEvents.clear();
+
+		this.eventPublisher.publishEvent(new ImportSnapshotApplicationEvent<>(this, new SnapshotMetadata<>(archive)));
+
+		assertThat(this.cats).hasSize(2);
+		assertThat(this.cats.get(1)).isEqualTo("Grumpy");
+		assertThat(this.cats.get(2)).isEqualTo("Tom");
+		assertThat(this.dogs).hasSize(1);
+		assertThat(this.dogs.get(1)).isEqualTo("Lassie");
+
+		List<SnapshotProgress> importProgress = progressEvents.stream()
+			.filter(ImportSnapshotApplicationEvent.class::isInstance)
+			.map(SnapshotApplicationEvent::getProgress)
+			.filter(progress -> SnapshotProgress.Status.COMPLETED.equals(progress.getStatus()))
+			.collect(Collectors.toList());
+
+		assertThat(importProgress).hasSize(2);
+		assertThat(importProgress).extracting(progress -> progress.getLocation().getName())
+			.containsExactlyInAnyOrder(catsSnapshot.getName(), dogsSnapshot.getName());
+		assertThat(importProgress).allMatch(progress -> progress.getTotal() == 2);
+	}
+
+	@PeerCacheApplication(name = "ParallelSnapshotServiceIntegrationTests")
+	static class TestConfiguration {
+
+		@Bean("Cats")
+		LocalRegionFactoryBean<Object, Object> catsRegion(GemFireCache gemfireCache) {
+
+			LocalRegionFactoryBean<Object, Object> catsRegion = new LocalRegionFactoryBean<>();
+
+			catsRegion.setCache(gemfireCache);
+			catsRegion.setPersistent(false);
+
+			return catsRegion;
+		}
+
+		@Bean("Dogs")
+		LocalRegionFactoryBean<Object, Object> dogsRegion(GemFireCache gemfireCache) {
+
+			LocalRegionFactoryBean<Object, Object> dogsRegion = new LocalRegionFactoryBean<>();
+
+			dogsRegion.setCache(gemfireCache);
+			dogsRegion.setPersistent(false);
+
+			return dogsRegion;
+		}
+
+		@Bean
+		SnapshotServiceFactoryBean<Object, Object> snapshotService(GemFireCache gemfireCache) {
+
+			SnapshotServiceFactoryBean<Object, Object> snapshotService = new SnapshotServiceFactoryBean<>();
+
+			snapshotService.setCache((Cache) gemfireCache);
+			snapshotService.setParallelism(2);
+
+			return snapshotService;
+		}
+
+		@Bean
+		ApplicationListener<SnapshotApplicationEvent<?, ?>> snapshotProgressListener() {
+
+			return event -> {
+				if (event.isProgressEvent()) {
+					progressEvents.add(event);
+					progressThreadNames.add(Thread.currentThread().getName());
+				}
+			};
+		}
+	}
+}
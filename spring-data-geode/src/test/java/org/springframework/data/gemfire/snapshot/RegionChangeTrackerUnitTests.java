@@ -0,0 +1,161 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.snapshot;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.EntryEvent;
+import org.apache.geode.cache.RegionEvent;
+
+/**
+ * Unit Tests for {@link RegionChangeTracker}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.springframework.data.gemfire.snapshot.RegionChangeTracker
+ * @since 3.0.0
+ */
+@SuppressWarnings("unchecked")
+public class RegionChangeTrackerUnitTests {
+
+	private final RegionChangeTracker<Integer, String> changeTracker = new RegionChangeTracker<>();
+
+	private EntryEvent<Integer, String> mockEntryEvent(Integer key) {
+
+		EntryEvent<Integer, String> mockEntryEvent = mock(EntryEvent.class);
+
+		when(mockEntryEvent.getKey()).thenReturn(key);
+
+		return mockEntryEvent;
+	}
+
+	@Test
+	public void tracksChangedAndDestroyedKeysDisjointly() {
+
+		this.changeTracker.afterCreate(mockEntryEvent(1));
+		this.changeTracker.afterCreate(mockEntryEvent(2));
+		this.changeTracker.afterUpdate(mockEntryEvent(3));
+		this.changeTracker.afterDestroy(mockEntryEvent(2));
+		this.changeTracker.afterInvalidate(mockEntryEvent(4));
+		this.changeTracker.afterDestroy(mockEntryEvent(5));
+		this.changeTracker.afterCreate(mockEntryEvent(5));
+
+		RegionChangeTracker.Changes<Integer> changes = this.changeTracker.drain();
+
+		assertThat(changes.getChangedKeys()).containsExactlyInAnyOrder(1, 3, 5);
+		assertThat(changes.getDestroyedKeys()).containsExactlyInAnyOrder(2, 4);
+		assertThat(changes.isCleared()).isFalse();
+		assertThat(changes.isEmpty()).isFalse();
+	}
+
+	@Test
+	public void drainBeginsRecordingNewChanges() {
+
+		this.changeTracker.afterCreate(mockEntryEvent(1));
+		this.changeTracker.drain();
+
+		assertThat(this.changeTracker.drain().isEmpty()).isTrue();
+
+		this.changeTracker.afterUpdate(mockEntryEvent(2));
+
+		assertThat(this.changeTracker.drain().getChangedKeys()).containsExactly(2);
+	}
+
+	@Test
+	public void clearDiscardsPreviouslyRecordedKeys() {
+
+		this.changeTracker.afterCreate(mockEntryEvent(1));
+		this.changeTracker.afterDestroy(mockEntryEvent(2));
+		this.changeTracker.afterRegionClear(mock(RegionEvent.class));
+		this.changeTracker.afterCreate(mockEntryEvent(3));
+
+		RegionChangeTracker.Changes<Integer> changes = this.changeTracker.drain();
+
+		assertThat(changes.isCleared()).isTrue();
+		assertThat(changes.getChangedKeys()).containsExactly(3);
+		assertThat(changes.getDestroyedKeys()).isEmpty();
+		assertThat(changes.isEmpty()).isFalse();
+	}
+
+	@Test
+	public void restoreAppliesNewerChangesOverRestoredChanges() {
+
+		this.changeTracker.afterCreate(mockEntryEvent(1));
+		this.changeTracker.afterCreate(mockEntryEvent(2));
+		this.changeTracker.afterDestroy(mockEntryEvent(3));
+
+		RegionChangeTracker.Changes<Integer> changes = this.changeTracker.drain();
+
+		this.changeTracker.afterDestroy(mockEntryEvent(1));
+		this.changeTracker.afterCreate(mockEntryEvent(3));
+		this.changeTracker.restore(changes);
+
+		RegionChangeTracker.Changes<Integer> restoredChanges = this.changeTracker.drain();
+
+		assertThat(restoredChanges.getChangedKeys()).containsExactlyInAnyOrder(2, 3);
+		assertThat(restoredChanges.getDestroyedKeys()).containsExactly(1);
+	}
+
+	@Test
+	public void restoreAfterClearKeepsNewerChangesOnly() {
+
+		this.changeTracker.afterCreate(mockEntryEvent(1));
+
+		RegionChangeTracker.Changes<Integer> changes = this.changeTracker.drain();
+
+		this.changeTracker.afterRegionClear(mock(RegionEvent.class));
+		this.changeTracker.afterCreate(mockEntryEvent(2));
+		this.changeTracker.restore(changes);
+
+		RegionChangeTracker.Changes<Integer> restoredChanges = this.changeTracker.drain();
+
+		assertThat(restoredChanges.isCleared()).isTrue();
+		assertThat(restoredChanges.getChangedKeys()).containsExactly(2);
+	}
+
+	@Test
+	public void runUntrackedIgnoresChangesMadeByTheCurrentThread() throws Exception {
+
+		this.changeTracker.runUntracked(() -> {
+			this.changeTracker.afterCreate(mockEntryEvent(1));
+			this.changeTracker.afterDestroy(mockEntryEvent(2));
+			this.changeTracker.afterRegionClear(mock(RegionEvent.class));
+		});
+
+		assertThat(this.changeTracker.drain().isEmpty()).isTrue();
+
+		Thread otherThread = new Thread(() -> this.changeTracker.afterCreate(mockEntryEvent(3)));
+
+		this.changeTracker.runUntracked(() -> {
+			otherThread.start();
+
+			try {
+				otherThread.join();
+			}
+			catch (InterruptedException cause) {
+				Thread.currentThread().interrupt();
+			}
+		});
+
+		this.changeTracker.afterCreate(mockEntryEvent(4));
+
+		assertThat(this.changeTracker.drain().getChangedKeys()).containsExactlyInAnyOrder(3, 4);
+	}
+}
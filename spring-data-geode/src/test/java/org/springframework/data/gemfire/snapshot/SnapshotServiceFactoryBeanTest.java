@@ -17,6 +17,7 @@ package org.springframework.data.gemfire.snapshot;
 
 import static org.apache.geode.cache.snapshot.SnapshotOptions.SnapshotFormat;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.Assumptions.assumeThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
@@ -29,6 +30,7 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.ArchiveFileFilter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.CacheSnapshotServiceAdapter;
+import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.IncrementalRegionSnapshotServiceAdapter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.RegionSnapshotServiceAdapter;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotMetadata;
 import static org.springframework.data.gemfire.snapshot.SnapshotServiceFactoryBean.SnapshotServiceAdapter;
@@ -38,23 +40,32 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.After;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
 
+import org.apache.geode.cache.AttributesMutator;
 import org.apache.geode.cache.Cache;
+import org.apache.geode.cache.DataPolicy;
 import org.apache.geode.cache.Region;
+import org.apache.geode.cache.RegionAttributes;
+import org.apache.geode.cache.Scope;
 import org.apache.geode.cache.snapshot.CacheSnapshotService;
 import org.apache.geode.cache.snapshot.RegionSnapshotService;
 import org.apache.geode.cache.snapshot.SnapshotFilter;
 import org.apache.geode.cache.snapshot.SnapshotOptions;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.gemfire.snapshot.event.ExportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.ImportSnapshotApplicationEvent;
 import org.springframework.data.gemfire.snapshot.event.SnapshotApplicationEvent;
+import org.springframework.data.gemfire.snapshot.event.SnapshotProgress;
 import org.springframework.data.gemfire.tests.util.FileSystemUtils;
 
 import org.slf4j.Logger;
@@ -390,6 +401,116 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockRegion, times(1)).getSnapshotService();
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	public void createIncrementalRegionSnapshotServiceRegistersRegionChangeTracker() throws Exception {
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class, "MockAttributesMutator");
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class, "MockRegionAttributes");
+
+		RegionSnapshotService mockRegionSnapshotService = mock(RegionSnapshotService.class, "MockRegionSnapshotService");
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getSnapshotService()).thenReturn(mockRegionSnapshotService);
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.REPLICATE);
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setIncremental(true);
+		factoryBean.setRegion(mockRegion);
+		factoryBean.afterPropertiesSet();
+
+		assertThat(factoryBean.getObject()).isInstanceOf(IncrementalRegionSnapshotServiceAdapter.class);
+
+		verify(mockAttributesMutator, times(1)).addCacheListener(any(RegionChangeTracker.class));
+
+		factoryBean.destroy();
+
+		verify(mockAttributesMutator, times(1)).removeCacheListener(any(RegionChangeTracker.class));
+	}
+
+	@Test
+	public void createIncrementalLocalRegionSnapshotService() throws Exception {
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class, "MockRegionAttributes");
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getAttributesMutator()).thenReturn(mock(AttributesMutator.class, "MockAttributesMutator"));
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegion.getSnapshotService()).thenReturn(mock(RegionSnapshotService.class));
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.NORMAL);
+		when(mockRegionAttributes.getScope()).thenReturn(Scope.LOCAL);
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setIncremental(true);
+		factoryBean.setRegion(mockRegion);
+		factoryBean.afterPropertiesSet();
+
+		assertThat(factoryBean.getObject()).isInstanceOf(IncrementalRegionSnapshotServiceAdapter.class);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void createIncrementalPartitionRegionSnapshotServiceThrowsIllegalStateException() throws Exception {
+
+		Region mockRegion = mock(Region.class, "MockRegion");
+
+		AttributesMutator mockAttributesMutator = mock(AttributesMutator.class, "MockAttributesMutator");
+
+		RegionAttributes mockRegionAttributes = mock(RegionAttributes.class, "MockRegionAttributes");
+
+		when(mockRegion.getAttributes()).thenReturn(mockRegionAttributes);
+		when(mockRegion.getAttributesMutator()).thenReturn(mockAttributesMutator);
+		when(mockRegion.getFullPath()).thenReturn("/Example");
+		when(mockRegionAttributes.getDataPolicy()).thenReturn(DataPolicy.PARTITION);
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setIncremental(true);
+		factoryBean.setRegion(mockRegion);
+
+		try {
+			factoryBean.afterPropertiesSet();
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Incremental snapshots require a LOCAL or REPLICATE Region;"
+				+ " Region [/Example] with DataPolicy [PARTITION] is not supported");
+
+			throw expected;
+		}
+		finally {
+			verify(mockAttributesMutator, never()).addCacheListener(any());
+		}
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void createIncrementalCacheSnapshotServiceThrowsIllegalStateException() {
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean();
+
+		factoryBean.setCache(mock(Cache.class, "MockCache"));
+		factoryBean.setIncremental(true);
+
+		try {
+			factoryBean.create();
+		}
+		catch (IllegalStateException expected) {
+
+			assertThat(expected).hasMessage("Incremental snapshots require a Region");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
 	@Test(expected = IllegalArgumentException.class)
 	public void wrapNullCacheSnapshotService() {
 
@@ -553,6 +674,33 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockSnapshotService, never()).doExport(any(SnapshotMetadata.class));
 	}
 
+	@Test
+	public void onApplicationEventIgnoresProgressEvents() {
+
+		SnapshotApplicationEvent mockSnapshotEvent = mock(ImportSnapshotApplicationEvent.class,
+			"MockImportSnapshotApplicationEvent");
+
+		when(mockSnapshotEvent.isProgressEvent()).thenReturn(true);
+		when(mockSnapshotEvent.isCacheSnapshotEvent()).thenReturn(true);
+
+		SnapshotServiceAdapter mockSnapshotService =
+			mock(SnapshotServiceAdapter.class, "MockSnapshotServiceAdapter");
+
+		SnapshotServiceFactoryBean factoryBean = new SnapshotServiceFactoryBean() {
+
+			@Override
+			public SnapshotServiceAdapter getObject() {
+				return mockSnapshotService;
+			}
+		};
+
+		factoryBean.onApplicationEvent(mockSnapshotEvent);
+
+		verify(mockSnapshotEvent, times(1)).isProgressEvent();
+		verify(mockSnapshotEvent, never()).isCacheSnapshotEvent();
+		verify(mockSnapshotService, never()).doImport(any(SnapshotMetadata.class));
+	}
+
 	@Test
 	public void onApplicationEventWhenNoMatchDoesNotPerformImport() {
 
@@ -960,6 +1108,101 @@ public class SnapshotServiceFactoryBeanTest {
 		verify(mockSnapshotOptionsTwo, times(1)).setParallelMode(eq(false));
 	}
 
+	@Test(expected = IllegalArgumentException.class)
+	public void setParallelismToZeroThrowsIllegalArgumentException() {
+
+		try {
+			new SnapshotServiceFactoryBean<>().setParallelism(0);
+		}
+		catch (IllegalArgumentException expected) {
+
+			assertThat(expected).hasMessage("Parallelism [0] must be greater than 0");
+			assertThat(expected).hasNoCause();
+
+			throw expected;
+		}
+	}
+
+	@Test
+	public void configureWithDefaultParallelismIsSequential() {
+
+		SnapshotServiceAdapterSupport<Object, Object> adapter = new TestSnapshotServiceAdapter();
+
+		new SnapshotServiceFactoryBean<Object, Object>().configure(adapter);
+
+		assertThat(adapter.isConcurrent()).isFalse();
+	}
+
+	@Test
+	public void configureWithParallelismConfiguresExecutor() throws Exception {
+
+		SnapshotServiceAdapterSupport<Object, Object> adapter = new TestSnapshotServiceAdapter();
+
+		SnapshotServiceFactoryBean<Object, Object> factoryBean = new SnapshotServiceFactoryBean<Object, Object>() {
+
+			@Override
+			public SnapshotServiceAdapter<Object, Object> getObject() {
+				return adapter;
+			}
+		};
+
+		factoryBean.setParallelism(4);
+		factoryBean.configure(adapter);
+
+		assertThat(adapter.isConcurrent()).isTrue();
+
+		factoryBean.destroy();
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	public void doExportConcurrentlyRunsAllTasksAndRethrowsFirstFailureWithSuppressedFailures() {
+
+		SnapshotServiceAdapterSupport<Object, Object> adapter = new TestSnapshotServiceAdapter() {
+
+			@Override
+			public void save(File location, SnapshotFormat format, SnapshotOptions<Object, Object> options) {
+				throw new ExportSnapshotException(location.getName());
+			}
+
+			@Override
+			protected SnapshotOptions<Object, Object> createOptions(SnapshotMetadata<Object, Object> metadata) {
+				return null;
+			}
+		};
+
+		ApplicationEventPublisher mockEventPublisher = mock(ApplicationEventPublisher.class);
+
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		try {
+			adapter.setApplicationEventPublisher(mockEventPublisher);
+			adapter.setExecutor(executor);
+
+			ExportSnapshotException expected = catchThrowableOfType(() -> adapter.doExport(
+				newSnapshotMetadata(new File("one")), newSnapshotMetadata(new File("two"))),
+					ExportSnapshotException.class);
+
+			assertThat(expected).hasMessage("one");
+			assertThat(expected.getSuppressed()).hasSize(1);
+			assertThat(expected.getSuppressed()[0]).hasMessage("two");
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		ArgumentCaptor<ExportSnapshotApplicationEvent> eventCaptor =
+			ArgumentCaptor.forClass(ExportSnapshotApplicationEvent.class);
+
+		verify(mockEventPublisher, times(4)).publishEvent(eventCaptor.capture());
+
+		assertThat(eventCaptor.getAllValues()).allMatch(SnapshotApplicationEvent::isProgressEvent);
+		assertThat(eventCaptor.getAllValues().stream()
+			.map(event -> event.getProgress().getStatus())
+			.filter(SnapshotProgress.Status.FAILED::equals)
+			.count()).isEqualTo(2);
+	}
+
 	@Test
 	public void createOptionsWithParallelModeInvokeCallbacksAndFilterOnSnapshotServiceAdapterSupport() {
 
@@ -0,0 +1,154 @@
+/*
+ * Copyright 2022 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.gemfire.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Test;
+
+import org.apache.geode.cache.query.Query;
+import org.apache.geode.cache.query.QueryService;
+
+/**
+ * Unit Tests for {@link CompiledQueryCache}.
+ *
+ * @author agent
+ * @see org.junit.Test
+ * @see org.mockito.Mockito
+ * @see org.apache.geode.cache.query.Query
+ * @see org.apache.geode.cache.query.QueryService
+ * @see org.springframework.data.gemfire.support.CompiledQueryCache
+ * @since 3.0.0
+ */
+public class CompiledQueryCacheUnitTests {
+
+	private QueryService mockQueryService() {
+
+		QueryService mockQueryService = mock(QueryService.class);
+
+		when(mockQueryService.newQuery(anyString())).thenAnswer(invocation -> mock(Query.class));
+
+		return mockQueryService;
+	}
+
+	@Test
+	public void constructWithNegativeCapacityThrowsIllegalArgumentException() {
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CompiledQueryCache(-1))
+			.withMessage("Capacity [-1] must be greater than equal to 0")
+			.withNoCause();
+	}
+
+	@Test
+	public void getQueryCachesCompiledQuery() {
+
+		QueryService mockQueryService = mockQueryService();
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		Query query = queryCache.getQuery(mockQueryService, "SELECT * FROM /Example");
+
+		assertThat(query).isNotNull();
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /Example")).isSameAs(query);
+		assertThat(queryCache.getHitCount()).isEqualTo(1L);
+		assertThat(queryCache.getMissCount()).isEqualTo(1L);
+		assertThat(queryCache.getEvictionCount()).isZero();
+		assertThat(queryCache.size()).isEqualTo(1);
+
+		verify(mockQueryService, times(1)).newQuery(eq("SELECT * FROM /Example"));
+	}
+
+	@Test
+	public void getQueryKeysCompiledQueryByQueryService() {
+
+		QueryService mockQueryServiceOne = mockQueryService();
+		QueryService mockQueryServiceTwo = mockQueryService();
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		Query queryOne = queryCache.getQuery(mockQueryServiceOne, "SELECT * FROM /Example");
+		Query queryTwo = queryCache.getQuery(mockQueryServiceTwo, "SELECT * FROM /Example");
+
+		assertThat(queryOne).isNotSameAs(queryTwo);
+		assertThat(queryCache.getMissCount()).isEqualTo(2L);
+		assertThat(queryCache.size()).isEqualTo(2);
+	}
+
+	@Test
+	public void getQueryEvictsLeastRecentlyUsedCompiledQuery() {
+
+		QueryService mockQueryService = mockQueryService();
+
+		CompiledQueryCache queryCache = new CompiledQueryCache(2);
+
+		Query queryOne = queryCache.getQuery(mockQueryService, "SELECT * FROM /One");
+		Query queryTwo = queryCache.getQuery(mockQueryService, "SELECT * FROM /Two");
+
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /One")).isSameAs(queryOne);
+
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /Three");
+
+		assertThat(queryCache.size()).isEqualTo(2);
+		assertThat(queryCache.getEvictionCount()).isEqualTo(1L);
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /One")).isSameAs(queryOne);
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /Two")).isNotSameAs(queryTwo);
+
+		verify(mockQueryService, times(2)).newQuery(eq("SELECT * FROM /Two"));
+	}
+
+	@Test
+	public void getQueryWithZeroCapacityDoesNotCache() {
+
+		QueryService mockQueryService = mockQueryService();
+
+		CompiledQueryCache queryCache = new CompiledQueryCache(0);
+
+		assertThat(queryCache.isEnabled()).isFalse();
+
+		Query query = queryCache.getQuery(mockQueryService, "SELECT * FROM /Example");
+
+		assertThat(queryCache.getQuery(mockQueryService, "SELECT * FROM /Example")).isNotSameAs(query);
+		assertThat(queryCache.getHitCount()).isZero();
+		assertThat(queryCache.getMissCount()).isEqualTo(2L);
+		assertThat(queryCache.size()).isZero();
+	}
+
+	@Test
+	public void clearRemovesAllCompiledQueries() {
+
+		QueryService mockQueryService = mockQueryService();
+
+		CompiledQueryCache queryCache = new CompiledQueryCache();
+
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /One");
+		queryCache.getQuery(mockQueryService, "SELECT * FROM /Two");
+
+		assertThat(queryCache.size()).isEqualTo(2);
+
+		queryCache.clear();
+
+		assertThat(queryCache.size()).isZero();
+		assertThat(queryCache.getMissCount()).isEqualTo(2L);
+	}
+}